@@ -0,0 +1,44 @@
+package com.murilloskills.core.io;
+
+import com.murilloskills.core.data.PlayerSkillDataCore;
+import com.murilloskills.core.platform.SkillStoragePort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Stores one pretty-printed JSON file per player under a directory.
+ * {@link #load(UUID)} returns {@code null} when the player has no save file yet.
+ */
+public final class JsonFileSkillStorage implements SkillStoragePort {
+    private final Path directory;
+
+    public JsonFileSkillStorage(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Path path(UUID playerId) {
+        return directory.resolve(playerId.toString() + ".json");
+    }
+
+    public boolean exists(UUID playerId) {
+        return Files.exists(path(playerId));
+    }
+
+    @Override
+    public PlayerSkillDataCore load(UUID playerId) throws IOException {
+        Path path = path(playerId);
+        return Files.exists(path) ? PlayerSkillJsonCodec.read(path) : null;
+    }
+
+    @Override
+    public void save(UUID playerId, PlayerSkillDataCore data) throws IOException {
+        PlayerSkillJsonCodec.write(path(playerId), data);
+    }
+}
@@ -10,8 +10,10 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -29,9 +31,20 @@ public final class PlayerSkillJsonCodec {
             Files.createDirectories(path.getParent());
         }
 
-        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            GSON.toJson(fromCore(data), writer);
+        SaveFile saveFile = fromCore(data);
+        Path temp = path.resolveSibling(path.getFileName().toString() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            GSON.toJson(saveFile, writer);
         }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static PlayerSkillDataCore copy(PlayerSkillDataCore data) {
+        return toCore(fromCore(data));
     }
 
     public static PlayerSkillDataCore read(Path path) throws IOException {
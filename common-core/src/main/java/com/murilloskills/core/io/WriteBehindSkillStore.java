@@ -0,0 +1,166 @@
+package com.murilloskills.core.io;
+
+import com.murilloskills.core.data.PlayerSkillDataCore;
+import com.murilloskills.core.platform.SkillStoragePort;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind wrapper around another {@link SkillStoragePort}.
+ * <p>
+ * {@link #save(UUID, PlayerSkillDataCore)} only records the snapshot; a single
+ * background thread hands it to the delegate. Saves for a player that is still
+ * waiting to be written replace the older snapshot, so a burst of saves costs
+ * one write. Callers must pass a detached snapshot that the game thread no
+ * longer mutates.
+ */
+public final class WriteBehindSkillStore implements SkillStoragePort {
+    public interface FailureListener {
+        void onSaveFailed(UUID playerId, IOException error);
+    }
+
+    private final SkillStoragePort delegate;
+    private final FailureListener failureListener;
+    private final ConcurrentMap<UUID, PlayerSkillDataCore> pending = new ConcurrentHashMap<UUID, PlayerSkillDataCore>();
+    private final ExecutorService executor;
+    private final AtomicLong requestedSaves = new AtomicLong();
+    private final AtomicLong completedWrites = new AtomicLong();
+    private volatile boolean closed;
+
+    public WriteBehindSkillStore(SkillStoragePort delegate, final String threadName, FailureListener failureListener) {
+        this.delegate = delegate;
+        this.failureListener = failureListener;
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    @Override
+    public PlayerSkillDataCore load(UUID playerId) throws IOException {
+        PlayerSkillDataCore unwritten = pending.get(playerId);
+        if (unwritten != null) {
+            return PlayerSkillJsonCodec.copy(unwritten);
+        }
+        return delegate.load(playerId);
+    }
+
+    @Override
+    public void save(final UUID playerId, PlayerSkillDataCore snapshot) throws IOException {
+        requestedSaves.incrementAndGet();
+        if (closed) {
+            delegate.save(playerId, snapshot);
+            completedWrites.incrementAndGet();
+            return;
+        }
+
+        // A queued or running writer for this player picks up the newer snapshot.
+        if (pending.put(playerId, snapshot) != null) {
+            return;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    drain(playerId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            drain(playerId);
+        }
+    }
+
+    public boolean hasPending(UUID playerId) {
+        return pending.containsKey(playerId);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getRequestedSaves() {
+        return requestedSaves.get();
+    }
+
+    public long getCompletedWrites() {
+        return completedWrites.get();
+    }
+
+    /**
+     * Blocks until every snapshot recorded before this call has been written.
+     */
+    public void flush() {
+        if (!executor.isShutdown()) {
+            try {
+                Future<?> barrier = executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                    }
+                });
+                barrier.get();
+            } catch (RejectedExecutionException ignored) {
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Flushes all pending snapshots and stops the writer thread. Saves issued
+     * after closing are written synchronously.
+     */
+    public void close() {
+        closed = true;
+        flush();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (UUID playerId : pending.keySet()) {
+            drain(playerId);
+        }
+    }
+
+    private void drain(UUID playerId) {
+        while (true) {
+            PlayerSkillDataCore snapshot = pending.get(playerId);
+            if (snapshot == null) {
+                return;
+            }
+            try {
+                delegate.save(playerId, snapshot);
+                completedWrites.incrementAndGet();
+            } catch (IOException e) {
+                if (failureListener != null) {
+                    failureListener.onSaveFailed(playerId, e);
+                }
+            } catch (RuntimeException e) {
+                if (failureListener != null) {
+                    failureListener.onSaveFailed(playerId, new IOException(e));
+                }
+            }
+            // Keep the entry visible to load() until the file is on disk; loop if a newer one arrived.
+            if (pending.remove(playerId, snapshot)) {
+                return;
+            }
+        }
+    }
+}
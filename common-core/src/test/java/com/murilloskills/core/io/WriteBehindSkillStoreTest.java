@@ -0,0 +1,91 @@
+package com.murilloskills.core.io;
+
+import com.murilloskills.core.config.SkillType;
+import com.murilloskills.core.data.PlayerSkillDataCore;
+import com.murilloskills.core.platform.SkillStoragePort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteBehindSkillStoreTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void coalescesSavesQueuedWhileTheWriterIsBusy() throws Exception {
+        final CountDownLatch writerEntered = new CountDownLatch(1);
+        final CountDownLatch releaseWriter = new CountDownLatch(1);
+        final AtomicInteger writes = new AtomicInteger();
+        final JsonFileSkillStorage files = new JsonFileSkillStorage(tempDir);
+        SkillStoragePort blocking = new SkillStoragePort() {
+            @Override
+            public PlayerSkillDataCore load(UUID playerId) throws IOException {
+                return files.load(playerId);
+            }
+
+            @Override
+            public void save(UUID playerId, PlayerSkillDataCore data) throws IOException {
+                writerEntered.countDown();
+                try {
+                    releaseWriter.await(5L, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                writes.incrementAndGet();
+                files.save(playerId, data);
+            }
+        };
+
+        WriteBehindSkillStore store = new WriteBehindSkillStore(blocking, "test-writer", null);
+        UUID player = UUID.randomUUID();
+        store.save(player, withMinerLevel(1));
+        assertTrue(writerEntered.await(5L, TimeUnit.SECONDS));
+        for (int level = 2; level <= 10; level++) {
+            store.save(player, withMinerLevel(level));
+        }
+        assertEquals(10, store.load(player).getSkill(SkillType.MINER).getLevel());
+
+        releaseWriter.countDown();
+        store.close();
+
+        assertEquals(2, writes.get());
+        assertFalse(store.hasPending(player));
+        assertEquals(10, files.load(player).getSkill(SkillType.MINER).getLevel());
+    }
+
+    @Test
+    void flushWritesEveryPendingPlayerAtomically() throws Exception {
+        JsonFileSkillStorage files = new JsonFileSkillStorage(tempDir);
+        WriteBehindSkillStore store = new WriteBehindSkillStore(files, "test-writer", null);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        assertNull(store.load(first));
+
+        store.save(first, withMinerLevel(5));
+        store.save(second, withMinerLevel(7));
+        store.flush();
+
+        assertEquals(5, files.load(first).getSkill(SkillType.MINER).getLevel());
+        assertEquals(7, files.load(second).getSkill(SkillType.MINER).getLevel());
+        assertFalse(Files.exists(tempDir.resolve(first + ".json.tmp")));
+        store.close();
+    }
+
+    private static PlayerSkillDataCore withMinerLevel(int level) {
+        PlayerSkillDataCore data = new PlayerSkillDataCore();
+        data.setSkill(SkillType.MINER, level, 0.0, -1L, 0);
+        return data;
+    }
+}
@@ -10,6 +10,7 @@ import com.murilloskills.network.UltPlacePreviewRequestC2SPayload;
 import com.murilloskills.network.UltPlacePreviewS2CPayload;
 import com.murilloskills.network.UltPlaceUndoC2SPayload;
 import com.murilloskills.network.UltminePreviewS2CPayload;
+import com.murilloskills.network.UltminePreviewUnchangedS2CPayload;
 import com.murilloskills.network.UltmineRequestC2SPayload;
 import com.murilloskills.network.UltmineResultS2CPayload;
 import com.murilloskills.network.UltmineUseC2SPayload;
@@ -18,6 +19,8 @@ import com.murilloskills.network.UltmineShapeSelectC2SPayload;
 import com.murilloskills.network.StepAssistToggleC2SPayload;
 import com.murilloskills.network.RainDanceS2CPayload;
 import com.murilloskills.network.SkillAbilityC2SPayload;
+import com.murilloskills.network.SkillsDeltaS2CPayload;
+import com.murilloskills.network.SkillsResyncC2SPayload;
 import com.murilloskills.network.SkillsSyncPayload;
 import com.murilloskills.network.TreasureHunterS2CPayload;
 import com.murilloskills.network.SpeedBoostToggleC2SPayload;
@@ -53,6 +56,7 @@ import com.murilloskills.render.VeinMinerPreview;
 import com.murilloskills.render.XpToastRenderer;
 import com.murilloskills.skills.MurilloSkillsList;
 import com.murilloskills.skills.UltPlacePlanner;
+import com.murilloskills.skills.UltmineShape;
 import com.murilloskills.tooltip.SkillTooltipAppender;
 import com.murilloskills.utils.SkillConfig;
 import net.fabricmc.api.ClientModInitializer;
@@ -63,6 +67,7 @@ import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderEvents;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
+import net.minecraft.block.Block;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.util.InputUtil;
@@ -78,6 +83,7 @@ import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 import org.lwjgl.glfw.GLFW;
 
@@ -116,6 +122,11 @@ public class MurilloSkillsClient implements ClientModInitializer {
     private static long nextUltPlaceRequestKey = 1L;
     private static long lastUltPlaceRequestTick = Long.MIN_VALUE;
     private static long lastUltPlaceFallbackSignature = Long.MIN_VALUE;
+    private static final int ULTMINE_PREVIEW_KEEPALIVE_TICKS = 20;
+    private static long lastUltmineSentSignature = Long.MIN_VALUE;
+    // Never reset, so a late reply can not match a request key reused after a reset
+    private static long nextUltmineRequestKey = 1L;
+    private static long lastUltmineRequestTick = Long.MIN_VALUE;
     private static final double ULTPLACE_PREVIEW_RANGE_PADDING = 1.0D;
 
     /**
@@ -137,20 +148,13 @@ public class MurilloSkillsClient implements ClientModInitializer {
                 com.murilloskills.data.ClientSkillData.update(payload.skills());
 
                 // Update Paragon Status in Client Data
-                MurilloSkillsList paragon = null;
-                if (payload.paragonSkillName() != null && !payload.paragonSkillName().isEmpty()
-                        && !payload.paragonSkillName().equals("null")) {
-                    try {
-                        paragon = MurilloSkillsList.valueOf(payload.paragonSkillName());
-                    } catch (Exception ignored) {
-                    }
-                }
-                com.murilloskills.data.ClientSkillData.setParagonSkill(paragon);
-                com.murilloskills.data.ClientSkillData.setParagonSkills(payload.paragonSkills());
+                com.murilloskills.data.ClientSkillData.setParagonState(payload.paragonSkillName(),
+                        payload.paragonSkills());
 
                 // Update Selected Skills and max in Client Data
                 com.murilloskills.data.ClientSkillData.setSelectedSkills(payload.selectedSkills());
                 com.murilloskills.data.ClientSkillData.setMaxSelectedSkills(payload.maxSelectedSkills());
+                com.murilloskills.data.ClientSkillData.setSkillSyncVersion(payload.version());
 
                 // Refresh SkillsScreen if open (to update buttons/layout)
                 if (context.client().currentScreen instanceof com.murilloskills.gui.SkillsScreen screen) {
@@ -159,11 +163,30 @@ public class MurilloSkillsClient implements ClientModInitializer {
             });
         });
 
+        // 1b. Skill deltas: only the changed fields, built on the last synced version
+        ClientPlayNetworking.registerGlobalReceiver(SkillsDeltaS2CPayload.ID, (payload, context) -> {
+            context.client().execute(() -> {
+                if (!com.murilloskills.data.ClientSkillData.applySkillDelta(payload)) {
+                    ClientPlayNetworking.send(new SkillsResyncC2SPayload(
+                            com.murilloskills.data.ClientSkillData.getSkillSyncVersion()));
+                    return;
+                }
+
+                if (context.client().currentScreen instanceof com.murilloskills.gui.SkillsScreen screen) {
+                    screen.init(context.client(), screen.width, screen.height);
+                }
+            });
+        });
+
         // 2. Scan Result (Habilidade Miner)
         ClientPlayNetworking.registerGlobalReceiver(MinerScanResultPayload.ID, (payload, context) -> {
             context.client().execute(() -> {
                 OreFilterConfig.rememberScannedOres(payload.ores());
-                OreHighlighter.setHighlights(payload.ores(), payload.remainingDurationTicks());
+                if (payload.delta()) {
+                    OreHighlighter.applyDelta(payload.ores(), payload.removed(), payload.remainingDurationTicks());
+                } else {
+                    OreHighlighter.setHighlights(payload.ores(), payload.remainingDurationTicks());
+                }
             });
         });
 
@@ -220,7 +243,12 @@ public class MurilloSkillsClient implements ClientModInitializer {
 
         // 8. Ultmine preview sync
         ClientPlayNetworking.registerGlobalReceiver(UltminePreviewS2CPayload.ID, (payload, context) -> {
-            context.client().execute(() -> UltmineClientState.updatePreview(payload.positions()));
+            context.client().execute(() -> UltmineClientState.applyPreview(payload.requestKey(),
+                    payload.previewId(), payload.positions()));
+        });
+
+        // Server still agrees with the preview we hold; nothing to redraw
+        ClientPlayNetworking.registerGlobalReceiver(UltminePreviewUnchangedS2CPayload.ID, (payload, context) -> {
         });
 
         ClientPlayNetworking.registerGlobalReceiver(UltPlacePreviewS2CPayload.ID, (payload, context) -> {
@@ -542,18 +570,33 @@ public class MurilloSkillsClient implements ClientModInitializer {
                 if (hitResult instanceof BlockHitResult blockHit) {
                     if (client.world == null || client.world.getBlockState(blockHit.getBlockPos()).isAir()) {
                         UltmineClientState.clearPreview();
+                        resetUltminePreviewTracking();
                         return;
                     }
-                    int interval = SkillConfig.getUltminePreviewRequestIntervalTicks();
-                    if (client.world != null && client.world.getTime() % interval == 0) {
+                    // Only ask when something the preview depends on changed, or as a keepalive
+                    long signature = computeUltminePreviewSignature(client, blockHit);
+                    int interval = Math.max(1, SkillConfig.getUltminePreviewRequestIntervalTicks());
+                    long currentTick = client.world.getTime();
+                    long sinceLastRequest = currentTick - lastUltmineRequestTick;
+                    boolean firstRequest = lastUltmineRequestTick == Long.MIN_VALUE || sinceLastRequest < 0;
+                    boolean due = signature != lastUltmineSentSignature
+                            || sinceLastRequest >= Math.max(interval, ULTMINE_PREVIEW_KEEPALIVE_TICKS);
+                    if (firstRequest || (due && sinceLastRequest >= interval)) {
+                        long requestKey = nextUltmineRequestKey++;
+                        lastUltmineSentSignature = signature;
+                        lastUltmineRequestTick = currentTick;
+                        UltmineClientState.beginRequest(requestKey);
                         ClientPlayNetworking.send(
-                                new UltmineRequestC2SPayload(blockHit.getBlockPos(), blockHit.getSide()));
+                                new UltmineRequestC2SPayload(blockHit.getBlockPos(), blockHit.getSide(),
+                                        UltmineClientState.getPreviewId(), requestKey));
                     }
                 } else {
                     UltmineClientState.clearPreview();
+                    resetUltminePreviewTracking();
                 }
             } else {
                 UltmineClientState.clearPreview();
+                resetUltminePreviewTracking();
             }
 
             while (ultPlaceUndoKey.wasPressed()) {
@@ -798,6 +841,45 @@ public class MurilloSkillsClient implements ClientModInitializer {
         return signature;
     }
 
+    private static long computeUltminePreviewSignature(MinecraftClient client, BlockHitResult blockHit) {
+        BlockPos target = blockHit.getBlockPos();
+        long signature = 17L;
+        signature = mixSignature(signature, target.asLong());
+        signature = mixSignature(signature, blockHit.getSide().ordinal());
+
+        UltmineShape shape = UltmineClientState.getSelectedShape();
+        signature = mixSignature(signature, shape.ordinal());
+        signature = mixSignature(signature, UltmineClientState.getDepth());
+        signature = mixSignature(signature, UltmineClientState.getLength());
+        signature = mixSignature(signature, UltmineClientState.getVariant());
+        if ((shape == UltmineShape.LINE || shape == UltmineShape.STAIRS) && client.player != null) {
+            // These follow the look direction; one-degree steps are enough
+            signature = mixSignature(signature, Math.round(client.player.getYaw()));
+            signature = mixSignature(signature, Math.round(client.player.getPitch()));
+        }
+
+        if (client.player != null) {
+            ItemStack stack = client.player.getMainHandStack();
+            signature = mixSignature(signature, Registries.ITEM.getId(stack.getItem()).hashCode());
+            signature = mixSignature(signature, stack.getComponents().hashCode());
+        }
+        if (client.world != null) {
+            signature = mixSignature(signature, client.world.getRegistryKey().getValue().hashCode());
+            // Target and its neighbours; changes further away are caught by the keepalive
+            signature = mixSignature(signature, Block.getRawIdFromState(client.world.getBlockState(target)));
+            for (Direction direction : Direction.values()) {
+                signature = mixSignature(signature,
+                        Block.getRawIdFromState(client.world.getBlockState(target.offset(direction))));
+            }
+        }
+        return signature;
+    }
+
+    private static void resetUltminePreviewTracking() {
+        lastUltmineSentSignature = Long.MIN_VALUE;
+        lastUltmineRequestTick = Long.MIN_VALUE;
+    }
+
     private static long quantizeHitOffset(BlockPos pos, Vec3d hitPos) {
         int qx = quantizeHitComponent(hitPos.x - pos.getX());
         int qy = quantizeHitComponent(hitPos.y - pos.getY());
@@ -1,5 +1,6 @@
 package com.murilloskills.data;
 
+import com.murilloskills.network.SkillsDeltaS2CPayload;
 import com.murilloskills.skills.MurilloSkillsList;
 import com.murilloskills.utils.SkillConfig;
 
@@ -17,6 +18,8 @@ public class ClientSkillData {
     private static final Set<MurilloSkillsList> paragonSkills = EnumSet.noneOf(MurilloSkillsList.class);
     private static List<MurilloSkillsList> selectedSkills = new ArrayList<>();
     private static int maxSelectedSkills = 3;
+    // Server skill state version mirrored above; deltas only apply on top of it
+    private static int skillSyncVersion = 0;
 
     // Daily Challenges data
     private static List<ChallengeInfo> dailyChallenges = new ArrayList<>();
@@ -28,6 +31,60 @@ public class ClientSkillData {
         skills.putAll(newSkills);
     }
 
+    public static int getSkillSyncVersion() {
+        return skillSyncVersion;
+    }
+
+    public static void setSkillSyncVersion(int version) {
+        skillSyncVersion = version;
+    }
+
+    /**
+     * Applies a skill delta from the server.
+     *
+     * @return false if the delta was built on another version; nothing is
+     *         changed and a full sync should be requested
+     */
+    public static boolean applySkillDelta(SkillsDeltaS2CPayload delta) {
+        if (delta.baseVersion() != skillSyncVersion) {
+            return false;
+        }
+        for (SkillsDeltaS2CPayload.SkillChange change : delta.skills()) {
+            PlayerSkillData.SkillStats old = skills.get(change.skill());
+            int level = change.has(SkillsDeltaS2CPayload.LEVEL) ? change.level() : old != null ? old.level : 0;
+            double xp = change.has(SkillsDeltaS2CPayload.XP) ? change.xp() : old != null ? old.xp : 0.0;
+            long lastUse = change.has(SkillsDeltaS2CPayload.LAST_ABILITY_USE) ? change.lastAbilityUse()
+                    : old != null ? old.lastAbilityUse : -1L;
+            int prestige = change.has(SkillsDeltaS2CPayload.PRESTIGE) ? change.prestige()
+                    : old != null ? old.prestige : 0;
+            skills.put(change.skill(), new PlayerSkillData.SkillStats(level, xp, lastUse, prestige));
+        }
+        if (delta.paragonSkills() != null) {
+            setParagonState(delta.paragonSkillName(), delta.paragonSkills());
+        }
+        if (delta.selectedSkills() != null) {
+            setSelectedSkills(delta.selectedSkills());
+        }
+        if (delta.maxSelectedSkills() >= 0) {
+            setMaxSelectedSkills(delta.maxSelectedSkills());
+        }
+        skillSyncVersion = delta.version();
+        return true;
+    }
+
+    /** Applies the synced active paragon name ("null" for none) and paragon set. */
+    public static void setParagonState(String paragonSkillName, List<MurilloSkillsList> skills) {
+        MurilloSkillsList paragon = null;
+        if (paragonSkillName != null && !paragonSkillName.isEmpty() && !paragonSkillName.equals("null")) {
+            try {
+                paragon = MurilloSkillsList.valueOf(paragonSkillName);
+            } catch (Exception ignored) {
+            }
+        }
+        setParagonSkill(paragon);
+        setParagonSkills(skills);
+    }
+
     public static void setParagonSkill(MurilloSkillsList skill) {
         paragonSkill = skill;
         if (skill != null) {
@@ -18,6 +18,8 @@ public final class UltmineClientState {
     private static int length = SkillConfig.getUltmineShapeDefaultLength(UltmineShape.S_3x3);
     private static int variant = 0;
     private static List<BlockPos> preview = List.of();
+    private static int previewId = 0;
+    private static long activeRequestKey = 0L;
 
     private UltmineClientState() {
     }
@@ -66,7 +68,21 @@ public final class UltmineClientState {
         applyShapeDefaults(UltmineClientConfig.getSelectedShape());
     }
 
-    public static void updatePreview(List<BlockPos> positions) {
+    /** Marks {@code requestKey} as the newest preview request; replies to older ones are dropped. */
+    public static void beginRequest(long requestKey) {
+        activeRequestKey = requestKey;
+    }
+
+    /** Applies a server preview unless it answers a request that has since been superseded. */
+    public static void applyPreview(long requestKey, int id, List<BlockPos> positions) {
+        if (requestKey != activeRequestKey) {
+            return;
+        }
+        updatePreview(id, positions);
+    }
+
+    public static void updatePreview(int id, List<BlockPos> positions) {
+        previewId = id;
         if (positions == null || positions.isEmpty()) {
             preview = List.of();
             return;
@@ -78,7 +94,14 @@ public final class UltmineClientState {
         return preview;
     }
 
+    /** Server id of the preview shown, 0 when none; sent back with each request. */
+    public static int getPreviewId() {
+        return previewId;
+    }
+
     public static void clearPreview() {
+        previewId = 0;
+        activeRequestKey = 0L;
         preview = List.of();
     }
 }
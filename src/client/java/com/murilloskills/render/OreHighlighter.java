@@ -13,8 +13,9 @@ import net.minecraft.util.math.Vec3d;
 import org.lwjgl.opengl.GL11;
 
 import java.util.Comparator;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -30,7 +31,7 @@ import java.util.stream.Collectors;
  */
 public class OreHighlighter {
 
-    private static List<MinerScanResultPayload.OreEntry> highlightedOres = null;
+    private static Map<BlockPos, MinerScanResultPayload.OreEntry> highlightedOres = null;
     private static long highlightStartTime = 0;
     private static long highlightEndTime = 0;
     // Distance thresholds for visual hierarchy
@@ -50,7 +51,37 @@ public class OreHighlighter {
             highlightStartTime = now;
         }
 
-        highlightedOres = new ArrayList<>(ores);
+        highlightedOres = new LinkedHashMap<>();
+        for (MinerScanResultPayload.OreEntry entry : ores) {
+            highlightedOres.put(entry.pos(), entry);
+        }
+        highlightEndTime = now + remainingDurationTicks;
+    }
+
+    /**
+     * Applies an incremental update from the server: removed positions first,
+     * then new (or changed) ores.
+     */
+    public static void applyDelta(List<MinerScanResultPayload.OreEntry> added, List<BlockPos> removed,
+            int remainingDurationTicks) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (remainingDurationTicks <= 0 || client.world == null) {
+            clearHighlights();
+            return;
+        }
+
+        long now = client.world.getTime();
+        if (highlightedOres == null || now >= highlightEndTime) {
+            highlightStartTime = now;
+            highlightedOres = new LinkedHashMap<>();
+        }
+
+        for (BlockPos pos : removed) {
+            highlightedOres.remove(pos);
+        }
+        for (MinerScanResultPayload.OreEntry entry : added) {
+            highlightedOres.put(entry.pos(), entry);
+        }
         highlightEndTime = now + remainingDurationTicks;
     }
 
@@ -97,7 +128,7 @@ public class OreHighlighter {
         int maxOres = OreFilterConfig.getMaxOres();
 
         // Filter ores based on user preferences and sort by distance
-        List<MinerScanResultPayload.OreEntry> toRender = highlightedOres.stream()
+        List<MinerScanResultPayload.OreEntry> toRender = highlightedOres.values().stream()
                 .filter(OreFilterConfig::isOreEnabled)
                 .sorted(Comparator.comparingDouble(e -> e.pos().getSquaredDistance(playerBlockPos)))
                 .limit(maxOres)
@@ -281,7 +312,7 @@ public class OreHighlighter {
             return;
         }
 
-        highlightedOres.removeIf(entry -> !isStillOre(entry.pos(), client));
+        highlightedOres.values().removeIf(entry -> !isStillOre(entry.pos(), client));
         if (highlightedOres.isEmpty()) {
             clearHighlights();
         }
@@ -292,6 +323,11 @@ public class OreHighlighter {
             return false;
         }
 
+        // Server only sends removals as deltas; keep entries whose chunk the client has not loaded.
+        if (!client.world.isChunkLoaded(pos)) {
+            return true;
+        }
+
         return MinerXpGetter.isDetectableOreBlock(client.world.getBlockState(pos).getBlock());
     }
 }
@@ -147,7 +147,11 @@ public class SkillAdminCommands {
                                 .executes(context -> {
                                     String target = StringArgumentType.getString(context, "target");
                                     return executeMaxAll(context.getSource(), target);
-                                }))));
+                                })))
+
+                // /skill autosave - Show staggered autosave counters
+                .then(CommandManager.literal("autosave")
+                        .executes(context -> executeAutosaveStats(context.getSource()))));
 
         LOGGER.info("Skill admin commands registered");
     }
@@ -171,6 +175,7 @@ public class SkillAdminCommands {
 
             stats.level = level;
             stats.xp = 0; // Reset XP when setting level
+            playerData.markDirty();
 
             // Sync
             com.murilloskills.utils.SkillAttributes.updateAllStats(player, playerData);
@@ -207,6 +212,7 @@ public class SkillAdminCommands {
             var stats = playerData.getSkill(skill);
 
             stats.prestige = prestige;
+            playerData.markDirty();
 
             // Sync
             com.murilloskills.utils.SkillAttributes.updateAllStats(player, playerData);
@@ -365,6 +371,7 @@ public class SkillAdminCommands {
             stats.prestige = 0;
             stats.lastAbilityUse = -1;
             playerData.clearParagonSkill(skill);
+            playerData.markDirty();
 
             // Sync
             com.murilloskills.utils.SkillAttributes.updateAllStats(player, playerData);
@@ -400,10 +407,12 @@ public class SkillAdminCommands {
                 stats.prestige = 0;
                 stats.lastAbilityUse = -1;
             }
+            playerData.markDirty();
 
             // Clear paragon and selected skills
             playerData.clearAllParagonSkills();
             playerData.selectedSkills.clear();
+            playerData.markDirty();
 
             // Sync
             com.murilloskills.utils.SkillAttributes.updateAllStats(player, playerData);
@@ -450,6 +459,7 @@ public class SkillAdminCommands {
             }
 
             playerData.selectedSkills.add(skill);
+            playerData.markDirty();
 
             // Sync
             com.murilloskills.utils.SkillAttributes.updateAllStats(player, playerData);
@@ -550,6 +560,7 @@ public class SkillAdminCommands {
                     return 0;
                 }
                 playerData.selectedSkills.add(skill);
+                playerData.markDirty();
             }
 
             if (!playerData.activateParagonSkill(skill)) {
@@ -624,6 +635,7 @@ public class SkillAdminCommands {
                 stats.level = 100;
                 stats.xp = 0;
             }
+            playerData.markDirty();
 
             // Persistence handled automatically by attachments
 
@@ -647,6 +659,20 @@ public class SkillAdminCommands {
         }
     }
 
+    private static int executeAutosaveStats(ServerCommandSource source) {
+        long performed = com.murilloskills.data.PlayerDataAutosaveScheduler.getSavesPerformed();
+        long skipped = com.murilloskills.data.PlayerDataAutosaveScheduler.getSavesSkipped();
+        long requested = com.murilloskills.data.PlayerSkillJsonStorage.getRequestedSaves();
+        long written = com.murilloskills.data.PlayerSkillJsonStorage.getCompletedWrites();
+
+        source.sendFeedback(() -> Text.literal("=== Player data autosave ===").formatted(Formatting.GOLD), false);
+        source.sendFeedback(() -> Text.literal("Autosave: " + performed + " saved | " + skipped + " skipped (unchanged)")
+                .formatted(Formatting.YELLOW), false);
+        source.sendFeedback(() -> Text.literal("Writer: " + requested + " saves requested | " + written + " files written")
+                .formatted(Formatting.GRAY), false);
+        return 1;
+    }
+
     /**
      * Resolves a player name or UUID string to a UUID.
      */
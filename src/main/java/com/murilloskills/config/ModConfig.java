@@ -19,6 +19,7 @@ public class ModConfig {
     private static final String CONFIG_FILE = "murilloskills.json";
 
     private static ConfigData config;
+    private static volatile int generation;
 
     /**
      * Main configuration data class.
@@ -70,6 +71,8 @@ public class ModConfig {
         public int maxLevel = 100;
         public float cooldownReductionPerLevel = 0.005f;
         public int maxSelectedSkills = 3;
+        public int autosaveIntervalTicks = 6000;
+        public int autosaveMaxPlayersPerTick = 4;
     }
 
     public static class XpConfig {
@@ -228,6 +231,7 @@ public class ModConfig {
         public int brushMaxDistance = 6;
         public int highBuildYThreshold = 100;
         public int builderMaxFillBlocks = 1000;
+        public int fillBlocksPerTick = 128;
     }
 
     public static class ExplorerConfig {
@@ -300,6 +304,7 @@ public class ModConfig {
     public static class BuilderUltPlaceConfig {
         public boolean enabled = true;
         public int maxBlocksPerUse = 200;
+        public int blocksPerTick = 64;
         public int undoHistorySize = 5;
         public int previewRequestIntervalTicks = 4;
         public UltmineShapeSettings plane = new UltmineShapeSettings(3, 15, 1, 1);
@@ -534,6 +539,8 @@ public class ModConfig {
             config = new ConfigData();
             save();
         }
+        generation++;
+        com.murilloskills.utils.MinerBlockTable.onConfigReloaded();
     }
 
     /**
@@ -558,6 +565,14 @@ public class ModConfig {
         MurilloSkills.LOGGER.info("Config reloaded");
     }
 
+    /**
+     * Bumped on every load so values derived from the config can tell they
+     * are stale.
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
     /**
      * Gets the config data. Load must be called first.
      */
@@ -1,6 +1,7 @@
 package com.murilloskills.data;
 
 import com.murilloskills.MurilloSkills;
+import com.murilloskills.utils.FarmerTreeTracker;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -21,6 +22,13 @@ public class ModAttachments {
             .copyOnDeath()
             .buildAndRegister(Identifier.of(MurilloSkills.MOD_ID, "player_skills"));
 
+    // Sapling-generated logs still eligible for the Farmer double harvest, per
+    // chunk. Saved with the chunk and dropped with it on unload.
+    public static final AttachmentType<FarmerTreeTracker.ChunkLogs> GENERATED_LOGS = AttachmentRegistry
+            .<FarmerTreeTracker.ChunkLogs>builder()
+            .persistent(FarmerTreeTracker.ChunkLogs.CODEC)
+            .buildAndRegister(Identifier.of(MurilloSkills.MOD_ID, "farmer_generated_logs"));
+
     public static void register() {
         // Just referencing the static field to ensure class loading/registration
         // happens
@@ -0,0 +1,94 @@
+package com.murilloskills.data;
+
+import com.murilloskills.MurilloSkills;
+import com.murilloskills.utils.SkillConfig;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.UUID;
+
+/**
+ * Spreads player autosaves across the autosave window instead of saving every
+ * online player in the same tick. Each window visits every player once, a few
+ * per tick, and only players whose {@link PlayerSkillData} is dirty are saved.
+ */
+public final class PlayerDataAutosaveScheduler {
+    private static final LinkedHashSet<UUID> pendingVisits = new LinkedHashSet<>();
+    private static int windowTick = 0;
+    private static int windowPlayers = 0;
+    private static long visitCredit = 0;
+
+    private static long savesPerformed = 0;
+    private static long savesSkipped = 0;
+
+    private PlayerDataAutosaveScheduler() {
+    }
+
+    public static void tick(MinecraftServer server) {
+        int windowTicks = SkillConfig.getAutosaveIntervalTicks();
+        if (windowTick == 0) {
+            startWindow(server);
+        }
+        windowTick++;
+
+        // windowPlayers * windowTicks credit accrues per window: one visit per queued player.
+        visitCredit += windowPlayers;
+        int visits = (int) Math.min(visitCredit / windowTicks, SkillConfig.getAutosaveMaxPlayersPerTick());
+        visitCredit -= (long) visits * windowTicks;
+
+        Iterator<UUID> iterator = pendingVisits.iterator();
+        while (visits > 0 && iterator.hasNext()) {
+            UUID uuid = iterator.next();
+            iterator.remove();
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
+            if (player == null) {
+                // Disconnected players were already saved on their way out.
+                continue;
+            }
+            visit(player, server);
+            visits--;
+        }
+
+        if (windowTick >= windowTicks) {
+            MurilloSkills.LOGGER.debug("MurilloSkills autosave window done: {} saved, {} skipped (totals), {} carried over",
+                    savesPerformed, savesSkipped, pendingVisits.size());
+            windowTick = 0;
+        }
+    }
+
+    public static long getSavesPerformed() {
+        return savesPerformed;
+    }
+
+    public static long getSavesSkipped() {
+        return savesSkipped;
+    }
+
+    public static void reset() {
+        pendingVisits.clear();
+        windowTick = 0;
+        windowPlayers = 0;
+        visitCredit = 0;
+    }
+
+    private static void startWindow(MinecraftServer server) {
+        // Players still queued (per-tick cap reached) keep their place at the front.
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            pendingVisits.add(player.getUuid());
+        }
+        windowPlayers = pendingVisits.size();
+        visitCredit = 0;
+    }
+
+    private static void visit(ServerPlayerEntity player, MinecraftServer server) {
+        PlayerSkillData data = player.getAttachedOrCreate(ModAttachments.PLAYER_SKILLS);
+        if (!data.isDirty()) {
+            savesSkipped++;
+            return;
+        }
+        PlayerSkillJsonStorage.save(player, server);
+        savesPerformed++;
+    }
+}
@@ -102,6 +102,7 @@ public final class PlayerSkillCoreAdapter {
         target.achievementStats.putAll(source.achievementStats);
         target.dailyChallenges = source.dailyChallenges;
         target.normalizeParagonState();
+        target.invalidateModifiers();
     }
 
     private static SkillType toCoreSkill(MurilloSkillsList skill) {
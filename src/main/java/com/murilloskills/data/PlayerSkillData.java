@@ -27,6 +27,13 @@ public class PlayerSkillData {
     // Daily Challenges persistence
     public com.murilloskills.utils.DailyChallengeManager.PlayerChallengeData dailyChallenges = null;
 
+    // Runtime-only: set by every mutation so the autosave scheduler can skip
+    // players whose data has not changed since their last save.
+    private transient boolean dirty = false;
+    // Runtime-only: bumped with every change so derived modifiers know when to rebuild.
+    private transient int revision = 0;
+    private transient SkillModifiers modifiers;
+
     public PlayerSkillData() {
         for (MurilloSkillsList skill : MurilloSkillsList.values()) {
             skills.put(skill, new SkillStats(0, 0.0, -1, 0)); // -1 = nunca usou, 0 = sem prestige
@@ -77,6 +84,7 @@ public class PlayerSkillData {
 
         // Apply Update
         this.selectedSkills = new ArrayList<>(potentialSelection);
+        markDirty();
         return true;
     }
 
@@ -154,6 +162,7 @@ public class PlayerSkillData {
             paragonSkill = skill;
         }
         normalizeParagonState();
+        markDirty();
         return true;
     }
 
@@ -166,11 +175,60 @@ public class PlayerSkillData {
         if (paragonSkill == skill) {
             paragonSkill = chooseActiveParagonSkill();
         }
+        markDirty();
     }
 
     public void clearAllParagonSkills() {
         paragonSkills.clear();
         paragonSkill = null;
+        markDirty();
+    }
+
+    /**
+     * Flags this data as changed since the last save. Mutators on this class
+     * call it themselves; code that writes fields such as {@link SkillStats#level}
+     * or {@link #achievementStats} directly must call it too.
+     */
+    public void markDirty() {
+        dirty = true;
+        revision++;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    /**
+     * Drops the cached {@link SkillModifiers} without marking the data for
+     * saving, for callers that replace the fields wholesale (e.g. a reload
+     * from storage).
+     */
+    public void invalidateModifiers() {
+        revision++;
+    }
+
+    /** Changes on every {@link #markDirty()}; lets callers cache values derived from this data. */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Passive modifiers derived from the current levels, selection and
+     * paragon state. Rebuilt lazily after {@link #markDirty()} or a config
+     * reload, so mixin hot paths read plain fields instead of recomputing them.
+     */
+    public SkillModifiers getModifiers() {
+        int configGeneration = com.murilloskills.config.ModConfig.getGeneration();
+        SkillModifiers current = modifiers;
+        if (current == null || !current.isCurrent(revision, configGeneration)) {
+            current = SkillModifiers.compute(this, revision, configGeneration);
+            modifiers = current;
+        }
+        return current;
     }
 
     /**
@@ -195,7 +253,10 @@ public class PlayerSkillData {
      */
     public void setToggle(MurilloSkillsList skill, String toggleName, boolean value) {
         String key = skill.name() + "." + toggleName;
-        skillToggles.put(key, value);
+        Boolean previous = skillToggles.put(key, value);
+        if (previous == null || previous != value) {
+            markDirty();
+        }
     }
 
     /**
@@ -225,7 +286,11 @@ public class PlayerSkillData {
             maxLevelAllowed = com.murilloskills.utils.SkillConfig.getMaxLevel();
         }
 
-        return stats.addXp(adjustedAmount, maxLevelAllowed);
+        XpAddResult result = stats.addXp(adjustedAmount, maxLevelAllowed);
+        if (result != XpAddResult.NO_CHANGE) {
+            markDirty();
+        }
+        return result;
     }
 
     public void setSkill(MurilloSkillsList skill, int level, double xp) {
@@ -238,6 +303,7 @@ public class PlayerSkillData {
 
     public void setSkill(MurilloSkillsList skill, int level, double xp, long lastAbilityUse, int prestige) {
         skills.put(skill, new SkillStats(level, xp, lastAbilityUse, prestige));
+        markDirty();
     }
 
     public SkillStats getSkill(MurilloSkillsList skill) {
@@ -2,29 +2,44 @@ package com.murilloskills.data;
 
 import com.murilloskills.MurilloSkills;
 import com.murilloskills.core.data.PlayerSkillDataCore;
-import com.murilloskills.core.io.PlayerSkillJsonCodec;
+import com.murilloskills.core.io.JsonFileSkillStorage;
+import com.murilloskills.core.io.WriteBehindSkillStore;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.WorldSavePath;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.UUID;
 
+/**
+ * Per-player JSON persistence. Saves snapshot the attachment on the server
+ * thread and hand it to a {@link WriteBehindSkillStore}, which serializes and
+ * writes on a background thread. {@link #shutdown()} must run when the server
+ * stops so every pending snapshot reaches disk. A player is marked clean when
+ * the save is queued; a failed write marks them dirty again so the next
+ * autosave retries.
+ */
 public final class PlayerSkillJsonStorage {
     private static final String SAVE_DIR = "murilloskills/players";
+    private static final String WRITER_THREAD_NAME = "MurilloSkills-PlayerData-IO";
+
+    private static JsonFileSkillStorage fileStorage;
+    private static WriteBehindSkillStore store;
 
     private PlayerSkillJsonStorage() {
     }
 
     public static boolean loadIfPresent(ServerPlayerEntity player, MinecraftServer server) {
-        Path path = playerPath(server, player);
-        if (!Files.exists(path)) {
+        if (server == null) {
             return false;
         }
-
+        Path path = playerPath(server, player);
         try {
-            PlayerSkillDataCore core = PlayerSkillJsonCodec.read(path);
+            PlayerSkillDataCore core = storeFor(server).load(player.getUuid());
+            if (core == null) {
+                return false;
+            }
             PlayerSkillData current = player.getAttachedOrCreate(ModAttachments.PLAYER_SKILLS);
             PlayerSkillCoreAdapter.copyInto(PlayerSkillCoreAdapter.fromCore(core), current);
             MurilloSkills.LOGGER.debug("Loaded MurilloSkills JSON data for {} from {}",
@@ -38,7 +53,11 @@ public final class PlayerSkillJsonStorage {
     }
 
     public static boolean exists(ServerPlayerEntity player, MinecraftServer server) {
-        return Files.exists(playerPath(server, player));
+        if (server == null) {
+            return false;
+        }
+        storeFor(server);
+        return store.hasPending(player.getUuid()) || fileStorage.exists(player.getUuid());
     }
 
     public static void save(ServerPlayerEntity player, MinecraftServer server) {
@@ -47,17 +66,71 @@ public final class PlayerSkillJsonStorage {
         }
         try {
             PlayerSkillData data = player.getAttachedOrCreate(ModAttachments.PLAYER_SKILLS);
-            data.normalizeParagonState();
-            PlayerSkillJsonCodec.write(playerPath(server, player), PlayerSkillCoreAdapter.toCore(data));
+            // toCore builds a detached copy, so the writer thread never sees live attachment state.
+            storeFor(server).save(player.getUuid(), PlayerSkillCoreAdapter.toCore(data));
+            data.clearDirty();
         } catch (IOException e) {
             MurilloSkills.LOGGER.error("Failed to save MurilloSkills JSON data for {}",
                     player.getName().getString(), e);
         }
     }
 
+    /**
+     * Blocks until all saves queued so far are on disk.
+     */
+    public static void flush() {
+        if (store != null) {
+            store.flush();
+        }
+    }
+
+    /**
+     * Writes every pending snapshot and stops the writer thread.
+     */
+    public static void shutdown() {
+        if (store != null) {
+            store.close();
+            MurilloSkills.LOGGER.debug("MurilloSkills player data writer stopped ({} saves requested, {} written)",
+                    store.getRequestedSaves(), store.getCompletedWrites());
+            store = null;
+            fileStorage = null;
+        }
+    }
+
+    public static long getRequestedSaves() {
+        return store == null ? 0 : store.getRequestedSaves();
+    }
+
+    public static long getCompletedWrites() {
+        return store == null ? 0 : store.getCompletedWrites();
+    }
+
     public static Path playerPath(MinecraftServer server, ServerPlayerEntity player) {
-        return server.getSavePath(WorldSavePath.ROOT)
-                .resolve(SAVE_DIR)
-                .resolve(player.getUuidAsString() + ".json");
+        return saveDirectory(server).resolve(player.getUuidAsString() + ".json");
+    }
+
+    private static WriteBehindSkillStore storeFor(MinecraftServer server) {
+        Path directory = saveDirectory(server);
+        if (store == null || !directory.equals(fileStorage.getDirectory())) {
+            shutdown();
+            fileStorage = new JsonFileSkillStorage(directory);
+            store = new WriteBehindSkillStore(fileStorage, WRITER_THREAD_NAME, (playerId, error) -> {
+                MurilloSkills.LOGGER.error("Failed to write MurilloSkills JSON data for {}", playerId, error);
+                // Runs on the writer thread; the attachment belongs to the server thread
+                server.execute(() -> markUnsaved(server, playerId));
+            });
+        }
+        return store;
+    }
+
+    private static void markUnsaved(MinecraftServer server, UUID playerId) {
+        ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerId);
+        if (player != null) {
+            player.getAttachedOrCreate(ModAttachments.PLAYER_SKILLS).markDirty();
+        }
+    }
+
+    private static Path saveDirectory(MinecraftServer server) {
+        return server.getSavePath(WorldSavePath.ROOT).resolve(SAVE_DIR);
     }
 }
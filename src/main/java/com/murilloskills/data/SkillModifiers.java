@@ -0,0 +1,168 @@
+package com.murilloskills.data;
+
+import com.murilloskills.impl.BuilderSkill;
+import com.murilloskills.impl.ExplorerSkill;
+import com.murilloskills.skills.MurilloSkillsList;
+import com.murilloskills.utils.PrestigeManager;
+import com.murilloskills.utils.SkillConfig;
+import com.murilloskills.utils.SkillSynergyManager;
+
+/**
+ * Passive modifiers derived from one player's skill data, worked out once
+ * instead of on every mixin call. Mining speed, looting, durability, damage
+ * and reach hooks run many times per tick and used to look the skills up,
+ * normalize the paragon state and recompute the prestige multipliers each
+ * time. A snapshot is tied to the data revision and the config generation it
+ * was built from; {@link PlayerSkillData#getModifiers()} rebuilds it after a
+ * level-up, prestige, selection or paragon change, or a config reload.
+ * Effects that depend on live player state (Berserk, Titanium Aura, random
+ * rolls) are still checked by the callers.
+ */
+public final class SkillModifiers {
+    private final int revision;
+    private final int configGeneration;
+
+    private final float miningSpeedMultiplier;
+    private final int lootingBonus;
+    private final boolean minerDurability;
+    private final int warriorLevel;
+    private final boolean blacksmithSelected;
+    private final int blacksmithLevel;
+    private final int blacksmithPrestige;
+    private final float builderFallMultiplier;
+    private final float explorerFallMultiplier;
+    private final float archerPenetration;
+    private final double builderReachBonus;
+    private final int selectedSkillMask;
+
+    private SkillModifiers(PlayerSkillData data, int revision, int configGeneration) {
+        this.revision = revision;
+        this.configGeneration = configGeneration;
+
+        PlayerSkillData.SkillStats miner = data.getSkill(MurilloSkillsList.MINER);
+        boolean minerActive = data.isSkillSelected(MurilloSkillsList.MINER)
+                || data.isParagonSkill(MurilloSkillsList.MINER);
+        this.miningSpeedMultiplier = minerActive ? miningSpeedMultiplier(miner.level, miner.prestige) : 1.0f;
+        this.minerDurability = miner.level >= SkillConfig.MINER_DURABILITY_LEVEL;
+
+        int looting = 0;
+        PlayerSkillData.SkillStats warrior = data.getSkill(MurilloSkillsList.WARRIOR);
+        if (data.isSkillSelected(MurilloSkillsList.WARRIOR)) {
+            looting += (int) (warrior.level * SkillConfig.getWarriorLootingPerLevel()
+                    * PrestigeManager.getPassiveMultiplier(warrior.prestige));
+        }
+        PlayerSkillData.SkillStats archer = data.getSkill(MurilloSkillsList.ARCHER);
+        boolean archerSelected = data.isSkillSelected(MurilloSkillsList.ARCHER);
+        if (archerSelected) {
+            looting += (int) (archer.level * SkillConfig.getArcherLootingPerLevel()
+                    * PrestigeManager.getPassiveMultiplier(archer.prestige));
+        }
+        this.lootingBonus = looting;
+        this.warriorLevel = warrior.level;
+
+        PlayerSkillData.SkillStats blacksmith = data.getSkill(MurilloSkillsList.BLACKSMITH);
+        this.blacksmithSelected = data.isSkillSelected(MurilloSkillsList.BLACKSMITH);
+        this.blacksmithLevel = blacksmith.level;
+        this.blacksmithPrestige = blacksmith.prestige;
+
+        PlayerSkillData.SkillStats builder = data.getSkill(MurilloSkillsList.BUILDER);
+        boolean builderSelected = data.isSkillSelected(MurilloSkillsList.BUILDER);
+        this.builderFallMultiplier = builderSelected && BuilderSkill.shouldReduceFallDamage(builder.level)
+                ? BuilderSkill.getFallDamageMultiplier(builder.level)
+                : 1.0f;
+        this.builderReachBonus = builderSelected && builder.level > 0
+                ? BuilderSkill.getReachBonus(builder.level, builder.prestige)
+                : 0.0D;
+        this.selectedSkillMask = SkillSynergyManager.selectionMask(data.getSelectedSkills());
+
+        int explorerLevel = data.getSkill(MurilloSkillsList.EXPLORER).level;
+        this.explorerFallMultiplier = data.isSkillSelected(MurilloSkillsList.EXPLORER)
+                && ExplorerSkill.hasFeatherFeet(explorerLevel)
+                        ? ExplorerSkill.getFallDamageMultiplier(explorerLevel)
+                        : 1.0f;
+
+        int penetrationLevel = SkillConfig.getArcherPenetrationLevel();
+        if (archerSelected && archer.level >= penetrationLevel) {
+            // Scale penetration: 50% at the unlock level, 100% at max level
+            float scaleFactor = (float) (archer.level - penetrationLevel)
+                    / (float) (SkillConfig.getMaxLevel() - penetrationLevel);
+            this.archerPenetration = SkillConfig.getArcherArmorPenetrationPercent() * (0.5f + 0.5f * scaleFactor);
+        } else {
+            this.archerPenetration = 0.0f;
+        }
+    }
+
+    static SkillModifiers compute(PlayerSkillData data, int revision, int configGeneration) {
+        return new SkillModifiers(data, revision, configGeneration);
+    }
+
+    boolean isCurrent(int revision, int configGeneration) {
+        return this.revision == revision && this.configGeneration == configGeneration;
+    }
+
+    /**
+     * Miner break speed multiplier for the given level and prestige, also used
+     * for the block break speed attribute.
+     */
+    public static float miningSpeedMultiplier(int level, int prestige) {
+        int safeLevel = Math.max(0, level);
+        float prestigeMultiplier = PrestigeManager.getPassiveMultiplier(Math.max(0, prestige));
+        return 1.0f + (safeLevel * SkillConfig.getMinerSpeedPerLevel() * prestigeMultiplier);
+    }
+
+    /** Break speed multiplier, 1 when Miner is neither selected nor paragon. */
+    public float miningSpeedMultiplier() {
+        return miningSpeedMultiplier;
+    }
+
+    /** Extra looting levels from selected Warrior and Archer. */
+    public int lootingBonus() {
+        return lootingBonus;
+    }
+
+    /** Whether tool damage gets the Miner durability roll. */
+    public boolean hasMinerDurability() {
+        return minerDurability;
+    }
+
+    public int warriorLevel() {
+        return warriorLevel;
+    }
+
+    public boolean isBlacksmithSelected() {
+        return blacksmithSelected;
+    }
+
+    public int blacksmithLevel() {
+        return blacksmithLevel;
+    }
+
+    public int blacksmithPrestige() {
+        return blacksmithPrestige;
+    }
+
+    /** Fall damage multiplier from Builder, 1 when it does not apply. */
+    public float builderFallMultiplier() {
+        return builderFallMultiplier;
+    }
+
+    /** Fall damage multiplier from Explorer Feather Feet, 1 when it does not apply. */
+    public float explorerFallMultiplier() {
+        return explorerFallMultiplier;
+    }
+
+    /** Share of the armor reduction this player's arrows undo, 0 when locked. */
+    public float archerPenetration() {
+        return archerPenetration;
+    }
+
+    /** Extra block reach from Builder, 0 when it does not apply. */
+    public double builderReachBonus() {
+        return builderReachBonus;
+    }
+
+    /** Selected skills as a {@link SkillSynergyManager#selectionMask} bitmask. */
+    public int selectedSkillMask() {
+        return selectedSkillMask;
+    }
+}
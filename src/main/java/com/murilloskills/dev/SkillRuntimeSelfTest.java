@@ -104,6 +104,7 @@ public final class SkillRuntimeSelfTest {
                 data.paragonSkill = skill;
                 data.paragonSkills.clear();
                 data.paragonSkills.add(skill);
+                data.markDirty();
 
                 verifyParagonState(log, data, skill);
                 verifyPerkCoverage(log, skill);
@@ -58,10 +58,13 @@ public final class BlockPlacementHandler {
             }
 
             if (BuilderSkill.isCreativeBrushActive(serverPlayer)) {
-                int extraBlocks = BuilderSkill.handleCreativeBrushPlacement(serverPlayer, world, placementPos, block);
-                if (extraBlocks > 0 && xpResult.didGainXp()) {
-                    awardCreativeBrushXp(serverPlayer, playerData, xpResult.getXpAmount(), extraBlocks);
-                }
+                // The fill runs over several ticks; XP is granted as each slice places blocks
+                int xpPerBlock = xpResult.didGainXp() ? xpResult.getXpAmount() : 0;
+                BuilderSkill.handleCreativeBrushPlacement(serverPlayer, world, placementPos, block, extraBlocks -> {
+                    if (xpPerBlock > 0) {
+                        awardCreativeBrushXp(serverPlayer, playerData, xpPerBlock, extraBlocks);
+                    }
+                });
             }
 
             if (!ultminePlacedExtraBlocks) {
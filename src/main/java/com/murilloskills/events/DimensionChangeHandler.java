@@ -58,6 +58,7 @@ public class DimensionChangeHandler {
             // Add new dimension to mask
             int newMask = currentMask | bit;
             data.achievementStats.put(com.murilloskills.utils.AchievementTracker.KEY_DIMENSIONS_VISITED, newMask);
+            data.markDirty();
 
             LOGGER.debug("Player {} dimension mask updated: {} -> {}", player.getName().getString(), currentMask,
                     newMask);
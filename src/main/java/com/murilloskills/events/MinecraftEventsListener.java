@@ -12,6 +12,7 @@ import com.murilloskills.skills.VeinMinerHandler;
 import com.murilloskills.utils.FabricEventCompat;
 import com.murilloskills.utils.SkillsNetworkUtils;
 import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
 import net.minecraft.entity.player.PlayerEntity;
@@ -22,8 +23,6 @@ import org.slf4j.LoggerFactory;
 public class MinecraftEventsListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger("MurilloSkills-Events");
-    private static final int PLAYER_DATA_AUTOSAVE_INTERVAL_TICKS = 6000;
-    private static int autosaveTicks = 0;
 
     public static void initAllListeners() {
         blockBreakedListen();
@@ -31,6 +30,8 @@ public class MinecraftEventsListener {
         playerJoinListen();
         playerRespawnListen();
         playerTickListen();
+        serverStartListen();
+        serverStopListen();
     }
 
     public static void blockBreakedListen() {
@@ -67,6 +68,7 @@ public class MinecraftEventsListener {
     public static void playerJoinListen() {
         net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD
                 .register((player, origin, destination) -> {
+                    com.murilloskills.skills.PlacementJobQueue.cancel(player);
                     handlePlayerJoin(player);
                 });
 
@@ -80,8 +82,8 @@ public class MinecraftEventsListener {
             }
 
             handlePlayerJoin(handler.getPlayer());
-            // Sincroniza as skills ao entrar
-            SkillsNetworkUtils.syncSkills(handler.getPlayer());
+            // Sincroniza as skills ao entrar (snapshot completo)
+            com.murilloskills.utils.SkillSyncTracker.requestFullSync(handler.getPlayer());
             com.murilloskills.skills.MeltingTouchHandler.sync(handler.getPlayer());
             // Sincroniza os desafios diários ao entrar
             com.murilloskills.utils.DailyChallengeManager.syncChallenges(handler.getPlayer());
@@ -100,7 +102,11 @@ public class MinecraftEventsListener {
             com.murilloskills.impl.WarriorSkill.cleanupPlayerState(uuid);
             com.murilloskills.skills.VeinMinerHandler.cleanupPlayerState(uuid);
             com.murilloskills.skills.UltPlaceHandler.cleanupPlayerState(uuid);
+            com.murilloskills.skills.PlacementJobQueue.cleanupPlayerState(uuid);
+            com.murilloskills.skills.ArcherHomingTargets.cleanupPlayerState(uuid);
             com.murilloskills.integration.TerminalBulkCraftService.cancel(uuid);
+            com.murilloskills.utils.SkillSyncTracker.cleanupPlayerState(uuid);
+            com.murilloskills.utils.BatchSkillUpdateContext.cleanupPlayerState(uuid);
         });
     }
 
@@ -111,6 +117,8 @@ public class MinecraftEventsListener {
      */
     public static void playerRespawnListen() {
         ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> {
+            // Queued Builder fills and UltPlace jobs do not survive death
+            com.murilloskills.skills.PlacementJobQueue.cancel(newPlayer);
             try {
                 LOGGER.debug("Player {} respawned (alive={}), reapplying skill attributes...",
                         newPlayer.getName().getString(), alive);
@@ -151,19 +159,50 @@ public class MinecraftEventsListener {
                 for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                     handlePlayerTick(player);
                 }
-                autosaveTicks++;
-                if (autosaveTicks >= PLAYER_DATA_AUTOSAVE_INTERVAL_TICKS) {
-                    autosaveTicks = 0;
-                    for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                        com.murilloskills.data.PlayerSkillJsonStorage.save(player, server);
-                    }
-                }
+                // Blacksmith machines: one pass per boost interval for all Blacksmiths together
+                com.murilloskills.skills.BlacksmithGenericMachineTicker.tick(server);
+                // Staggered autosave: a few players per tick, unchanged players skipped
+                com.murilloskills.data.PlayerDataAutosaveScheduler.tick(server);
+                // S2C updates queued this tick: one skill delta, toast per skill and challenge sync per player
+                com.murilloskills.utils.BatchSkillUpdateContext.flushTick(server);
+                // Homing candidates are only valid for the tick they were gathered in
+                com.murilloskills.skills.ArcherHomingTargets.endTick();
             } catch (Exception e) {
                 LOGGER.error("Erro crítico no loop de Player Tick", e);
             }
         });
     }
 
+    /**
+     * Registries are frozen by the time the server starts, so the per-block
+     * Miner table is built here instead of on the first break.
+     */
+    public static void serverStartListen() {
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> {
+            try {
+                com.murilloskills.utils.MinerBlockTable.rebuild();
+            } catch (Exception e) {
+                LOGGER.error("Erro ao montar a tabela de blocos do Minerador", e);
+            }
+        });
+    }
+
+    /**
+     * Flushes queued player saves once every player has disconnected, so the
+     * background writer never outlives the server.
+     */
+    public static void serverStopListen() {
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            try {
+                com.murilloskills.data.PlayerSkillJsonStorage.shutdown();
+                com.murilloskills.data.PlayerDataAutosaveScheduler.reset();
+                com.murilloskills.utils.BlacksmithBoostRegistry.reset();
+            } catch (Exception e) {
+                LOGGER.error("Erro ao finalizar o salvamento dos dados dos jogadores", e);
+            }
+        });
+    }
+
     /**
      * Handles player join events using the new skill system
      */
@@ -206,8 +245,6 @@ public class MinecraftEventsListener {
                         skillObj.onTick(player, level);
                         if (skillEnum == MurilloSkillsList.FARMER) {
                             com.murilloskills.skills.FarmerGenericGrowthTicker.tick(player, level);
-                        } else if (skillEnum == MurilloSkillsList.BLACKSMITH) {
-                            com.murilloskills.skills.BlacksmithGenericMachineTicker.tick(player, level);
                         }
                     }
                 }
@@ -219,6 +256,9 @@ public class MinecraftEventsListener {
             // Ultmine: drain large queued breaks in bounded server-side batches.
             VeinMinerHandler.tickUltmineJob(player);
 
+            // Builder fill / UltPlace: place queued blocks in bounded batches.
+            com.murilloskills.skills.PlacementJobQueue.tick(player);
+
             // Tom's Storage: drain bulk crafting jobs in small batches.
             com.murilloskills.integration.TerminalBulkCraftService.tick(player);
 
@@ -3,6 +3,8 @@ package com.murilloskills.impl;
 import com.murilloskills.api.AbstractSkill;
 
 import com.murilloskills.skills.MurilloSkillsList;
+import com.murilloskills.skills.PlacementJobQueue;
+import com.murilloskills.utils.InventorySlotIndex;
 import com.murilloskills.utils.MinecraftVersionCompat;
 import com.murilloskills.utils.SkillConfig;
 import net.minecraft.block.Block;
@@ -24,6 +26,7 @@ import net.minecraft.util.math.BlockPos;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.IntConsumer;
 
 /**
  * Builder skill implementation with focus on construction and architecture.
@@ -346,12 +349,14 @@ public class BuilderSkill extends AbstractSkill {
 
     /**
      * Handle block placement during Creative Brush - WorldEdit style area fill.
-     * First placement marks corner 1, second placement fills the entire area.
+     * First placement marks corner 1, second placement queues a fill of the
+     * entire area on the {@link PlacementJobQueue}. {@code onBlocksPlaced}
+     * receives the number of blocks placed by each slice of the fill.
      */
-    public static int handleCreativeBrushPlacement(ServerPlayerEntity player, ServerWorld world, BlockPos pos,
-            Block block) {
+    public static void handleCreativeBrushPlacement(ServerPlayerEntity player, ServerWorld world, BlockPos pos,
+            Block block, IntConsumer onBlocksPlaced) {
         if (!isCreativeBrushActive(player)) {
-            return 0;
+            return;
         }
 
         UUID uuid = player.getUuid();
@@ -366,7 +371,13 @@ public class BuilderSkill extends AbstractSkill {
                     true);
             player.sendMessage(Text.translatable("murilloskills.builder.place_second")
                     .formatted(Formatting.YELLOW), false);
-            return 0;
+            return;
+        }
+
+        // Keep corner 1 while the queue is full so the player can retry
+        if (PlacementJobQueue.isFull(player)) {
+            player.sendMessage(Text.translatable("murilloskills.placement_job.busy").formatted(Formatting.RED), true);
+            return;
         }
 
         // Second placement - fill the entire area
@@ -387,59 +398,21 @@ public class BuilderSkill extends AbstractSkill {
                     Text.translatable("murilloskills.builder.area_too_large", maxBlocks, totalBlocks)
                             .formatted(Formatting.RED),
                     true);
-            return 0;
+            return;
         }
 
-        int blocksPlaced = 0;
         ItemStack heldStack = player.getMainHandStack();
 
         if (!(heldStack.getItem() instanceof BlockItem blockItem)) {
-            return 0;
-        }
-
-        boolean hollow = isHollowModeEnabled(player);
-        BuilderFillMode fillMode = getFillMode(player);
-        boolean isHorizontalCylinder = isCylinderHorizontal(player);
-
-        for (int x = minX; x <= maxX; x++) {
-            for (int y = minY; y <= maxY; y++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    BlockPos fillPos = new BlockPos(x, y, z);
-
-                    if (fillPos.equals(firstCorner)) {
-                        continue;
-                    }
-
-                    // Check if this position should have a block based on the selected shape
-                    if (!shouldPlaceBlock(fillMode, hollow, fillPos, minX, minY, minZ, maxX, maxY, maxZ,
-                            isHorizontalCylinder)) {
-                        continue; // Skip this position
-                    }
-
-                    int slot = findBlockInInventory(player, blockItem.getBlock());
-                    if (slot == -1) {
-                        player.sendMessage(Text.translatable("murilloskills.builder.not_enough_blocks", blocksPlaced)
-                                .formatted(Formatting.YELLOW), true);
-                        return blocksPlaced;
-                    }
-
-                    BlockState currentState = world.getBlockState(fillPos);
-                    if (currentState.isAir() || currentState.isReplaceable()) {
-                        world.setBlockState(fillPos, block.getDefaultState());
-                        player.getInventory().getStack(slot).decrement(1);
-                        blocksPlaced++;
-                    }
-                }
-            }
-        }
-
-        if (blocksPlaced > 0) {
-            world.playSound(null, pos, SoundEvents.BLOCK_BEACON_POWER_SELECT, SoundCategory.BLOCKS, 1.0f, 1.5f);
-            player.sendMessage(Text.translatable("murilloskills.builder.area_filled", blocksPlaced)
-                    .formatted(Formatting.GREEN, Formatting.BOLD), true);
+            return;
         }
 
-        return blocksPlaced;
+        Block fillBlock = blockItem.getBlock();
+        InventorySlotIndex blockSlots = InventorySlotIndex.of(player,
+                stack -> stack.getItem() instanceof BlockItem candidate && candidate.getBlock() == fillBlock);
+        PlacementJobQueue.start(player, new AreaFillJob(world, pos, firstCorner, minX, minY, minZ, maxX, maxY, maxZ,
+                getFillMode(player), isHollowModeEnabled(player), isCylinderHorizontal(player),
+                block.getDefaultState(), blockSlots, onBlocksPlaced));
     }
 
     /**
@@ -580,19 +553,6 @@ public class BuilderSkill extends AbstractSkill {
         }
     }
 
-    private static int findBlockInInventory(ServerPlayerEntity player, Block block) {
-
-        for (int i = 0; i < player.getInventory().size(); i++) {
-            ItemStack stack = player.getInventory().getStack(i);
-            if (stack.getItem() instanceof BlockItem blockItem) {
-                if (blockItem.getBlock() == block && stack.getCount() > 0) {
-                    return i;
-                }
-            }
-        }
-        return -1;
-    }
-
     public static boolean shouldReduceFallDamage(int level) {
         return level >= SkillConfig.BUILDER_SAFE_LANDING_LEVEL;
     }
@@ -633,6 +593,136 @@ public class BuilderSkill extends AbstractSkill {
         return 0f;
     }
 
+    /**
+     * Creative Brush fill of one box, walked in x/y/z order a budget of cells
+     * per tick. Stops early when the player runs out of blocks.
+     */
+    private static final class AreaFillJob implements PlacementJobQueue.Job {
+        private final ServerWorld world;
+        private final BlockPos soundPos;
+        private final BlockPos firstCorner;
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int maxX;
+        private final int maxY;
+        private final int maxZ;
+        private final BuilderFillMode fillMode;
+        private final boolean hollow;
+        private final boolean horizontalCylinder;
+        private final BlockState fillState;
+        private final InventorySlotIndex blockSlots;
+        private final IntConsumer onBlocksPlaced;
+        private final BlockPos.Mutable cursor = new BlockPos.Mutable();
+        private final int totalCells;
+        private int visitedCells;
+        private int blocksPlaced;
+        private boolean outOfBlocks;
+
+        private AreaFillJob(ServerWorld world, BlockPos soundPos, BlockPos firstCorner, int minX, int minY, int minZ,
+                int maxX, int maxY, int maxZ, BuilderFillMode fillMode, boolean hollow, boolean horizontalCylinder,
+                BlockState fillState, InventorySlotIndex blockSlots, IntConsumer onBlocksPlaced) {
+            this.world = world;
+            this.soundPos = soundPos;
+            this.firstCorner = firstCorner;
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+            this.fillMode = fillMode;
+            this.hollow = hollow;
+            this.horizontalCylinder = horizontalCylinder;
+            this.fillState = fillState;
+            this.blockSlots = blockSlots;
+            this.onBlocksPlaced = onBlocksPlaced;
+            this.totalCells = (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        }
+
+        @Override
+        public ServerWorld world() {
+            return world;
+        }
+
+        @Override
+        public int blocksPerTick() {
+            return SkillConfig.getBuilderFillBlocksPerTick();
+        }
+
+        @Override
+        public boolean run(ServerPlayerEntity player, int budget) {
+            int placedBefore = blocksPlaced;
+            int processed = 0;
+            while (processed < budget && visitedCells < totalCells) {
+                // Same x, then y, then z nesting as the original triple loop
+                int cell = visitedCells++;
+                int sizeY = maxY - minY + 1;
+                int sizeZ = maxZ - minZ + 1;
+                cursor.set(minX + cell / (sizeY * sizeZ), minY + (cell / sizeZ) % sizeY, minZ + cell % sizeZ);
+
+                if (cursor.equals(firstCorner)) {
+                    continue;
+                }
+
+                // Check if this position should have a block based on the selected shape
+                if (!shouldPlaceBlock(fillMode, hollow, cursor, minX, minY, minZ, maxX, maxY, maxZ,
+                        horizontalCylinder)) {
+                    continue; // Skip this position
+                }
+                processed++;
+
+                int slot = blockSlots.nextSlot();
+                if (slot == -1) {
+                    outOfBlocks = true;
+                    break;
+                }
+
+                BlockState currentState = world.getBlockState(cursor);
+                if (currentState.isAir() || currentState.isReplaceable()) {
+                    world.setBlockState(cursor, fillState);
+                    player.getInventory().getStack(slot).decrement(1);
+                    blocksPlaced++;
+                }
+            }
+
+            if (blocksPlaced > placedBefore) {
+                onBlocksPlaced.accept(blocksPlaced - placedBefore);
+            }
+            return !outOfBlocks && visitedCells < totalCells;
+        }
+
+        @Override
+        public int placed() {
+            return blocksPlaced;
+        }
+
+        @Override
+        public int progressPercent() {
+            return (int) (100L * visitedCells / totalCells);
+        }
+
+        @Override
+        public void finish(ServerPlayerEntity player, boolean cancelled) {
+            if (cancelled) {
+                player.sendMessage(Text.translatable("murilloskills.builder.fill_cancelled", blocksPlaced)
+                        .formatted(Formatting.YELLOW), true);
+                return;
+            }
+            if (outOfBlocks) {
+                player.sendMessage(Text.translatable("murilloskills.builder.not_enough_blocks", blocksPlaced)
+                        .formatted(Formatting.YELLOW), true);
+                return;
+            }
+            if (blocksPlaced > 0) {
+                world.playSound(null, soundPos, SoundEvents.BLOCK_BEACON_POWER_SELECT, SoundCategory.BLOCKS, 1.0f,
+                        1.5f);
+                player.sendMessage(Text.translatable("murilloskills.builder.area_filled", blocksPlaced)
+                        .formatted(Formatting.GREEN, Formatting.BOLD), true);
+            }
+        }
+    }
+
     /**
      * Cleanup player state when they disconnect to prevent memory leaks.
      */
@@ -8,6 +8,7 @@ import com.murilloskills.utils.MinecraftVersionCompat;
 import com.murilloskills.utils.SkillConfig;
 import com.murilloskills.utils.SkillNotifier;
 import com.murilloskills.utils.SkillsNetworkUtils;
+import com.murilloskills.utils.TreasureScanJob;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.ChestBlockEntity;
@@ -16,10 +17,12 @@ import net.minecraft.entity.attribute.EntityAttributeModifier;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
 
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +60,8 @@ public class ExplorerSkill extends AbstractSkill {
 
     // Map to track Treasure Hunter ability state (UUID → end time in world ticks)
     private static final Map<UUID, Long> treasureHunterActive = new HashMap<>();
+    // Treasure Hunter scans in progress, advanced a few chunks per tick
+    private static final Map<UUID, ActiveTreasureScan> treasureScans = new HashMap<>();
 
     // Duration for Treasure Hunter ability
     private static final int TREASURE_HUNTER_DURATION_SECONDS = 60;
@@ -136,6 +141,7 @@ public class ExplorerSkill extends AbstractSkill {
         try {
             // Execute every tick to track movement accurately, but logic is gated
             handleMovementXp(player);
+            tickTreasureScan(player);
 
             if (player.age % 20 != 0)
                 return; // Execute other logic only once per second
@@ -464,62 +470,72 @@ public class ExplorerSkill extends AbstractSkill {
     }
 
     /**
-     * Scans for treasure chests in a large radius around the player.
-     * Limited to 10000 blocks per scan to prevent lag.
+     * Handles the Treasure Hunter passive - finds and highlights chests/spawners.
+     * Starts a scan over the block entities of loaded chunks in the full
+     * treasure radius; large radii are finished over the next few ticks.
      */
-    private List<BlockPos> scanForTreasures(ServerPlayerEntity player) {
-        List<BlockPos> treasures = new ArrayList<>();
-        BlockPos center = player.getBlockPos();
-        int radius = SkillConfig.EXPLORER_TREASURE_RADIUS;
-
-        // Limit blocks scanned to prevent lag
-        int maxBlocksToScan = 10000;
-        int blocksScanned = 0;
-        int maxTreasuresFound = 100; // Also limit results
-
-        // Scan in shells from center outward (finds nearby treasures first)
-        for (int r = 0; r <= radius && blocksScanned < maxBlocksToScan && treasures.size() < maxTreasuresFound; r++) {
-            for (int dx = -r; dx <= r && blocksScanned < maxBlocksToScan
-                    && treasures.size() < maxTreasuresFound; dx++) {
-                for (int dy = -r; dy <= r && blocksScanned < maxBlocksToScan
-                        && treasures.size() < maxTreasuresFound; dy++) {
-                    for (int dz = -r; dz <= r && blocksScanned < maxBlocksToScan
-                            && treasures.size() < maxTreasuresFound; dz++) {
-                        // Only check blocks at current shell radius
-                        if (Math.abs(dx) == r || Math.abs(dy) == r || Math.abs(dz) == r) {
-                            BlockPos pos = center.add(dx, dy, dz);
-                            blocksScanned++;
-
-                            if (isChest(pos, player)) {
-                                treasures.add(pos.toImmutable());
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        if (blocksScanned >= maxBlocksToScan) {
-            LOGGER.debug("Explorer scan hit block limit ({} blocks scanned, {} treasures found)",
-                    blocksScanned, treasures.size());
+    private void handleTreasureHunter(ServerPlayerEntity player) {
+        if (treasureScans.containsKey(player.getUuid())) {
+            return; // Previous scan still running
         }
-
-        return treasures;
+        ServerWorld world = MinecraftVersionCompat.serverWorld(player);
+        BlockPos center = player.getBlockPos();
+        treasureScans.put(player.getUuid(), new ActiveTreasureScan(world,
+                new TreasureScanJob(center.getX(), center.getY(), center.getZ(),
+                        SkillConfig.getExplorerTreasureRadius(), SkillConfig.EXPLORER_TREASURE_MAX_RESULTS)
+                        .startedAt(world.getTime())));
+        advanceTreasureScan(player);
     }
 
     /**
-     * Helper to check if a block position contains a chest or spawner.
+     * Per-tick step of a running scan. A scan started earlier this tick (by the
+     * ability key) has already used this tick's chunk budget. A player who
+     * changed dimension drops the scan: its chunks belong to the old world.
      */
-    private boolean isChest(BlockPos pos, ServerPlayerEntity player) {
-        BlockEntity blockEntity = player.getEntityWorld().getBlockEntity(pos);
-        return blockEntity instanceof ChestBlockEntity || blockEntity instanceof MobSpawnerBlockEntity;
+    private void tickTreasureScan(ServerPlayerEntity player) {
+        ActiveTreasureScan scan = treasureScans.get(player.getUuid());
+        if (scan == null) {
+            return;
+        }
+        if (scan.world != player.getEntityWorld()) {
+            treasureScans.remove(player.getUuid());
+            return;
+        }
+        if (scan.job.wasStartedIn(scan.world.getTime())) {
+            return;
+        }
+        advanceTreasureScan(player);
     }
 
-    /**
-     * Handles the Treasure Hunter passive - finds and highlights chests/spawners
-     */
-    private void handleTreasureHunter(ServerPlayerEntity player) {
-        List<BlockPos> treasurePositions = scanForTreasures(player);
+    private void advanceTreasureScan(ServerPlayerEntity player) {
+        ActiveTreasureScan scan = treasureScans.get(player.getUuid());
+        if (scan == null) {
+            return;
+        }
+
+        TreasureScanJob job = scan.job;
+        ServerWorld world = scan.world;
+        boolean done = job.advance(SkillConfig.EXPLORER_TREASURE_CHUNKS_PER_TICK, (chunkX, chunkZ, sink) -> {
+            // Loaded chunks only: scanning must never force chunk generation.
+            WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+            if (chunk == null) {
+                return;
+            }
+            for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+                if (blockEntity instanceof ChestBlockEntity || blockEntity instanceof MobSpawnerBlockEntity) {
+                    BlockPos pos = blockEntity.getPos();
+                    sink.accept(pos.getX(), pos.getY(), pos.getZ());
+                }
+            }
+        });
+        if (!done) {
+            return;
+        }
+
+        treasureScans.remove(player.getUuid());
+        List<BlockPos> treasurePositions = job.getResults();
+        LOGGER.debug("Explorer treasure scan: {} treasures from {} candidates in {}/{} chunks",
+                treasurePositions.size(), job.getCandidatesSeen(), job.getChunksVisited(), job.getChunkCount());
 
         // Send to client for rendering
         if (!treasurePositions.isEmpty()) {
@@ -527,6 +543,16 @@ public class ExplorerSkill extends AbstractSkill {
         }
     }
 
+    private static final class ActiveTreasureScan {
+        private final ServerWorld world;
+        private final TreasureScanJob job;
+
+        private ActiveTreasureScan(ServerWorld world, TreasureScanJob job) {
+            this.world = world;
+            this.job = job;
+        }
+    }
+
     // =====================================================
     // STATIC HELPER METHODS FOR MIXINS
     // =====================================================
@@ -636,6 +662,7 @@ public class ExplorerSkill extends AbstractSkill {
      */
     public static void cleanupPlayerState(java.util.UUID playerUuid) {
         treasureHunterActive.remove(playerUuid);
+        treasureScans.remove(playerUuid);
         lastPositions.remove(playerUuid);
         accumulatedDistance.remove(playerUuid);
     }
@@ -4,14 +4,17 @@ import com.murilloskills.api.AbstractSkill;
 
 import com.murilloskills.network.MinerScanResultPayload;
 import com.murilloskills.skills.MurilloSkillsList;
+import com.murilloskills.utils.MasterVisionSession;
 import com.murilloskills.utils.MinecraftVersionCompat;
 import com.murilloskills.utils.MinerXpGetter;
+import com.murilloskills.utils.OreSectionScanner;
 import com.murilloskills.utils.SkillConfig;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.entity.attribute.EntityAttributeModifier;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.registry.Registries;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.sound.SoundEvents;
@@ -19,6 +22,7 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 
 import java.util.*;
 
@@ -34,14 +38,14 @@ public class MinerSkill extends AbstractSkill {
 
     private static final Identifier MINER_SPEED_ID = Identifier.of("murilloskills", "miner_speed_bonus");
     private static final Map<UUID, Long> masterVisionActiveUntil = new HashMap<>();
+    // Último conjunto de minérios enviado a cada jogador com a visão ativa
+    private static final Map<UUID, ActiveMasterVision> masterVisionSessions = new HashMap<>();
 
     // Toggle key name for persistent storage
     private static final String TOGGLE_AUTO_TORCH = "autoTorch";
 
     public static float getMiningSpeedMultiplier(int level, int prestige) {
-        int safeLevel = Math.max(0, level);
-        float prestigeMultiplier = com.murilloskills.utils.PrestigeManager.getPassiveMultiplier(Math.max(0, prestige));
-        return 1.0f + (safeLevel * SkillConfig.getMinerSpeedPerLevel() * prestigeMultiplier);
+        return com.murilloskills.data.SkillModifiers.miningSpeedMultiplier(level, prestige);
     }
 
     @Override
@@ -81,7 +85,10 @@ public class MinerSkill extends AbstractSkill {
             int durationTicks = SkillConfig.toTicks(SkillConfig.getMinerAbilityDurationSeconds());
             masterVisionActiveUntil.put(player.getUuid(), worldTime + durationTicks);
 
-            List<MinerScanResultPayload.OreEntry> ores = scanForOres(player);
+            ActiveMasterVision vision = new ActiveMasterVision(player.getEntityWorld());
+            masterVisionSessions.put(player.getUuid(), vision);
+            updateMasterVision(player, vision);
+            List<MinerScanResultPayload.OreEntry> ores = vision.session.getVisible();
 
             // Envia pacote para o cliente renderizar, mesmo se a lista vier vazia.
             ServerPlayNetworking.send(player, new MinerScanResultPayload(ores, durationTicks));
@@ -148,12 +155,61 @@ public class MinerSkill extends AbstractSkill {
         int remainingTicks = (int) Math.max(0L, endTime - worldTime);
         if (remainingTicks <= 0) {
             masterVisionActiveUntil.remove(playerUuid);
+            masterVisionSessions.remove(playerUuid);
             ServerPlayNetworking.send(player, new MinerScanResultPayload(List.of(), 0));
             return;
         }
 
-        List<MinerScanResultPayload.OreEntry> ores = scanForOres(player);
-        ServerPlayNetworking.send(player, new MinerScanResultPayload(ores, remainingTicks));
+        ActiveMasterVision vision = masterVisionSessions.get(playerUuid);
+        if (vision == null || vision.world != player.getEntityWorld()) {
+            // Mudou de dimensão: recomeça do zero e substitui a lista inteira no cliente
+            vision = new ActiveMasterVision(player.getEntityWorld());
+            masterVisionSessions.put(playerUuid, vision);
+            updateMasterVision(player, vision);
+            ServerPlayNetworking.send(player,
+                    new MinerScanResultPayload(vision.session.getVisible(), remainingTicks));
+            return;
+        }
+
+        MasterVisionSession.Delta<MinerScanResultPayload.OreEntry> delta = updateMasterVision(player, vision);
+        if (delta.isEmpty()) {
+            // Nada mudou: o cliente já sabe quando a visão termina
+            return;
+        }
+        List<BlockPos> removed = new ArrayList<>(delta.removed().length);
+        for (long pos : delta.removed()) {
+            removed.add(BlockPos.fromLong(pos));
+        }
+        ServerPlayNetworking.send(player, MinerScanResultPayload.delta(delta.added(), removed, remainingTicks));
+    }
+
+    /**
+     * Called for every block change in a loaded chunk. Only changes that make
+     * or remove an ore mark the section for a rescan.
+     */
+    public static void onBlockChanged(World world, BlockPos pos, BlockState oldState, BlockState newState) {
+        // Client worlds first: in singleplayer the session map belongs to the server thread
+        if (world.isClient() || masterVisionSessions.isEmpty() || oldState.getBlock() == newState.getBlock()) {
+            return;
+        }
+        if (!OreSectionScanner.isDetectableOre(oldState.getBlock())
+                && !OreSectionScanner.isDetectableOre(newState.getBlock())) {
+            return;
+        }
+        for (ActiveMasterVision vision : masterVisionSessions.values()) {
+            if (vision.world == world) {
+                vision.session.markBlockChanged(pos.getX(), pos.getY(), pos.getZ());
+            }
+        }
+    }
+
+    private static final class ActiveMasterVision {
+        private final World world;
+        private final MasterVisionSession<MinerScanResultPayload.OreEntry> session = new MasterVisionSession<>();
+
+        private ActiveMasterVision(World world) {
+            this.world = world;
+        }
     }
 
     @Override
@@ -204,55 +260,68 @@ public class MinerSkill extends AbstractSkill {
 
         BlockPos playerPos = player.getBlockPos();
         int radius = 5;
-        boolean foundRareOre = false;
+        boolean[] foundRareOre = { false };
 
-        // Escaneia área pequena
-        for (BlockPos pos : BlockPos.iterate(playerPos.add(-radius, -radius, -radius),
-                playerPos.add(radius, radius, radius))) {
-            net.minecraft.block.Block block = player.getEntityWorld().getBlockState(pos).getBlock();
-            var result = MinerXpGetter.isMinerXpBlock(block, false, true);
-
-            boolean knownValuableOre = result.didGainXp() && result.getXpAmount() > 5;
-            boolean moddedOre = !result.didGainXp() && MinerXpGetter.isDetectableOreBlock(block);
-
-            // Só apita para minérios vanilla valiosos ou minérios de outros mods.
-            if (knownValuableOre || moddedOre) {
-                foundRareOre = true;
-                break;
-            }
-        }
+        // Escaneia área pequena; seções sem minério na paleta são puladas
+        OreSectionScanner.forEachMatch(player.getEntityWorld(), playerPos, radius, RADAR_ORE, (pos, state) -> {
+            foundRareOre[0] = true;
+            return false;
+        });
 
-        if (foundRareOre) {
+        if (foundRareOre[0]) {
             // Toca um som sutil "Geiger Counter"
             player.playSound(SoundEvents.BLOCK_NOTE_BLOCK_BIT.value());
         }
     }
 
+    /**
+     * Radar only beeps for valuable vanilla ores (more than 5 XP) or ores from
+     * other mods.
+     */
+    private static final java.util.function.Predicate<net.minecraft.block.BlockState> RADAR_ORE = state -> {
+        Block block = state.getBlock();
+        if (!OreSectionScanner.isDetectableOre(block)) {
+            return false;
+        }
+        var result = MinerXpGetter.isMinerXpBlock(block, false, true);
+        return !result.didGainXp() || result.getXpAmount() > 5;
+    };
+
     /**
      * Scans for ores in a large radius around the player, identifying ore types for
      * color-coded display.
-     * Uses optimized scanning with early exit to prevent lag spikes.
+     * Only sections that came into range or had an ore added/removed since the
+     * last update are walked again; each walk skips sections whose palette
+     * holds no ore.
      */
-    private List<MinerScanResultPayload.OreEntry> scanForOres(ServerPlayerEntity player) {
-        List<MinerScanResultPayload.OreEntry> ores = new ArrayList<>();
+    private MasterVisionSession.Delta<MinerScanResultPayload.OreEntry> updateMasterVision(ServerPlayerEntity player,
+            ActiveMasterVision vision) {
+        World world = vision.world;
         BlockPos center = player.getBlockPos();
         int radius = SkillConfig.getMinerAbilityRadius();
-
-        // Full volume scan — iterate every block in the cube
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dy = -radius; dy <= radius; dy++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    BlockPos pos = center.add(dx, dy, dz);
-                    Block block = player.getEntityWorld().getBlockState(pos).getBlock();
-                    if (MinerXpGetter.isDetectableOreBlock(block)) {
-                        ores.add(createOreEntry(pos.toImmutable(), block));
-                    }
-                }
-            }
-        }
-
-        LOGGER.debug("Miner scan completed: {} ores found in radius {}", ores.size(), radius);
-        return ores;
+        int bottomSectionY = world.getBottomSectionCoord();
+        int topSectionY = bottomSectionY + world.countVerticalSections() - 1;
+
+        MasterVisionSession.Delta<MinerScanResultPayload.OreEntry> delta = vision.session.update(
+                center.getX(), center.getY(), center.getZ(), radius, bottomSectionY, topSectionY,
+                (sectionX, sectionY, sectionZ, sink) -> {
+                    // Loaded chunks only: scanning must never force chunk generation.
+                    if (!world.getChunkManager().isChunkLoaded(sectionX, sectionZ)) {
+                        return false;
+                    }
+                    OreSectionScanner.forEachMatchInSection(world, sectionX, sectionY, sectionZ,
+                            OreSectionScanner.DETECTABLE_ORE, (pos, state) -> {
+                                sink.accept(pos.getX(), pos.getY(), pos.getZ(),
+                                        createOreEntry(pos.toImmutable(), state.getBlock()));
+                                return true;
+                            });
+                    return true;
+                });
+
+        LOGGER.debug("Miner vision update: {} sections rescanned, +{} -{} ores ({} sections remembered)",
+                delta.sectionsScanned(), delta.added().size(), delta.removed().length,
+                vision.session.getRememberedSectionCount());
+        return delta;
     }
 
     // Map instead of long if-else chain for O(1) lookup and cleaner code
@@ -455,5 +524,6 @@ public class MinerSkill extends AbstractSkill {
 
     public static void cleanupPlayerState(UUID playerUuid) {
         masterVisionActiveUntil.remove(playerUuid);
+        masterVisionSessions.remove(playerUuid);
     }
 }
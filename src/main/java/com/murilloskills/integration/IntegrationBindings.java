@@ -0,0 +1,211 @@
+package com.murilloskills.integration;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Looks up members of optional mods once and binds them as
+ * {@link MethodHandle}s of a fixed, erased type, so callers can use
+ * {@code invokeExact} with no boxing, varargs arrays or per-call access
+ * checks. Every lookup returns {@code null} when the class or member is
+ * missing (mod not installed, or its internals changed); callers keep the
+ * null as their "unavailable" state instead of retrying the lookup.
+ */
+public final class IntegrationBindings {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private IntegrationBindings() {
+    }
+
+    public static Class<?> findClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * The method {@code name(parameterTypes)} of {@code owner}, public or
+     * declared anywhere in its class hierarchy, adapted to {@code type}.
+     * The receiver is the first parameter of {@code type}, usually
+     * {@code Object}.
+     */
+    public static MethodHandle method(Class<?> owner, String name, MethodType type, Class<?>... parameterTypes) {
+        if (owner == null) {
+            return null;
+        }
+        Method method = findMethod(owner, name, parameterTypes);
+        return method == null ? null : bind(method, type);
+    }
+
+    /**
+     * Like {@link #method} but matches the first method named {@code name}
+     * whose parameters accept {@code argumentTypes}, for members whose exact
+     * declared parameter types vary between mod versions.
+     */
+    public static MethodHandle compatibleMethod(Class<?> owner, String name, MethodType type,
+            Class<?>... argumentTypes) {
+        for (Class<?> c = owner; c != null; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.getName().equals(name) && accepts(method.getParameterTypes(), argumentTypes)) {
+                    return bind(method, type);
+                }
+            }
+        }
+        return null;
+    }
+
+    public static MethodHandle constructor(Class<?> owner, MethodType type, Class<?>... parameterTypes) {
+        if (owner == null) {
+            return null;
+        }
+        try {
+            Constructor<?> constructor;
+            try {
+                constructor = owner.getConstructor(parameterTypes);
+            } catch (NoSuchMethodException e) {
+                constructor = owner.getDeclaredConstructor(parameterTypes);
+            }
+            constructor.setAccessible(true);
+            return MethodHandles.explicitCastArguments(LOOKUP.unreflectConstructor(constructor), type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Getter for a static field as {@code ()Object}. */
+    public static MethodHandle staticGetter(Class<?> owner, String name) {
+        Field field = findField(owner, name);
+        return field == null ? null : bindGetter(field, MethodType.methodType(Object.class));
+    }
+
+    /** Getter for an instance field as {@code (Object)Object}. */
+    public static MethodHandle getter(Class<?> owner, String name) {
+        Field field = findField(owner, name);
+        return field == null ? null : bindGetter(field, MethodType.methodType(Object.class, Object.class));
+    }
+
+    /** An {@code int} instance field, or {@code null} when missing or of another type. */
+    public static IntField intField(Class<?> owner, String name) {
+        Field field = findField(owner, name);
+        if (field == null || field.getType() != int.class) {
+            return null;
+        }
+        try {
+            field.setAccessible(true);
+            MethodHandle getter = LOOKUP.unreflectGetter(field)
+                    .asType(MethodType.methodType(int.class, Object.class));
+            MethodHandle setter = LOOKUP.unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, int.class));
+            return new IntField(getter, setter);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Rethrows what a bound handle threw, wrapping checked exceptions so
+     * callers only deal with unchecked ones.
+     */
+    public static RuntimeException propagate(Throwable t) {
+        if (t instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(t);
+    }
+
+    /** A bound {@code int} field. */
+    public static final class IntField {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private IntField(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public int get(Object owner) {
+            try {
+                return (int) getter.invokeExact(owner);
+            } catch (Throwable t) {
+                throw propagate(t);
+            }
+        }
+
+        public void set(Object owner, int value) {
+            try {
+                setter.invokeExact(owner, value);
+            } catch (Throwable t) {
+                throw propagate(t);
+            }
+        }
+    }
+
+    private static Method findMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            return owner.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException | RuntimeException ignored) {
+        }
+        for (Class<?> c = owner; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(name, parameterTypes);
+            } catch (NoSuchMethodException | RuntimeException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private static Field findField(Class<?> owner, String name) {
+        for (Class<?> c = owner; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(name);
+            } catch (NoSuchFieldException | RuntimeException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle bind(Method method, MethodType type) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.explicitCastArguments(LOOKUP.unreflect(method), type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle bindGetter(Field field, MethodType type) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.explicitCastArguments(LOOKUP.unreflectGetter(field), type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean accepts(Class<?>[] parameterTypes, Class<?>[] argumentTypes) {
+        if (parameterTypes.length != argumentTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> parameterType = parameterTypes[i];
+            Class<?> argumentType = argumentTypes[i];
+            if (parameterType.isPrimitive() || argumentType.isPrimitive()) {
+                if (parameterType != argumentType) {
+                    return false;
+                }
+            } else if (!parameterType.isAssignableFrom(argumentType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
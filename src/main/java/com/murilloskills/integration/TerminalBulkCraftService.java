@@ -9,9 +9,8 @@ import net.minecraft.text.Text;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -29,6 +28,12 @@ public final class TerminalBulkCraftService {
     private static final String TOM_CRAFTING_TERMINAL_MENU = "com.tom.storagemod.menu.CraftingTerminalMenu";
     private static final int CRAFTS_PER_TICK = 16;
     private static final Map<UUID, BulkCraftJob> JOBS = new HashMap<>();
+    private static final ClassValue<MenuBindings> MENU_BINDINGS = new ClassValue<>() {
+        @Override
+        protected MenuBindings computeValue(Class<?> menuClass) {
+            return new MenuBindings(menuClass);
+        }
+    };
 
     private TerminalBulkCraftService() {
     }
@@ -205,106 +210,50 @@ public final class TerminalBulkCraftService {
     }
 
     private static Slot getCraftingResultSlot(ScreenHandler handler) throws ReflectiveOperationException {
-        Object slot = invoke(handler, "getCraftingResultSlot");
-        return slot instanceof Slot resultSlot ? resultSlot : null;
-    }
-
-    private static int getSlotId(Slot slot) throws ReflectiveOperationException {
-        try {
-            Object id = readField(slot, "id");
-            return id instanceof Number number ? number.intValue() : -1;
-        } catch (NoSuchFieldException ignored) {
-            Object id = readField(slot, "field_7874");
-            return id instanceof Number number ? number.intValue() : -1;
+        MethodHandle getter = MENU_BINDINGS.get(handler.getClass()).getCraftingResultSlot;
+        if (getter == null) {
+            throw new NoSuchMethodException("getCraftingResultSlot");
         }
-    }
-
-    private static ItemStack invokeShiftClick(ScreenHandler handler, PlayerEntity player, int slotId)
-            throws ReflectiveOperationException {
-        Object result = invoke(handler, "shiftClickItems", player, slotId);
-        return result instanceof ItemStack stack ? stack : ItemStack.EMPTY;
-    }
-
-    private static Object readField(Object owner, String fieldName) throws ReflectiveOperationException {
-        Field field = findField(owner.getClass(), fieldName);
-        field.setAccessible(true);
-        return field.get(owner);
-    }
-
-    private static Field findField(Class<?> type, String fieldName) throws NoSuchFieldException {
-        Class<?> current = type;
-        while (current != null) {
-            try {
-                return current.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException ignored) {
-                current = current.getSuperclass();
-            }
-        }
-        throw new NoSuchFieldException(fieldName);
-    }
-
-    private static Object invoke(Object owner, String methodName, Object... args)
-            throws ReflectiveOperationException {
-        Method method = findMethod(owner.getClass(), methodName, args);
-        method.setAccessible(true);
         try {
-            return method.invoke(owner, args);
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof ReflectiveOperationException reflective) {
-                throw reflective;
-            }
-            if (cause instanceof RuntimeException runtime) {
-                throw runtime;
-            }
-            throw e;
+            return (Slot) getter.invokeExact((Object) handler);
+        } catch (Throwable t) {
+            throw IntegrationBindings.propagate(t);
         }
     }
 
-    private static Method findMethod(Class<?> type, String methodName, Object... args)
-            throws NoSuchMethodException {
-        Class<?> current = type;
-        while (current != null) {
-            for (Method method : current.getDeclaredMethods()) {
-                if (method.getName().equals(methodName) && accepts(method.getParameterTypes(), args)) {
-                    return method;
-                }
-            }
-            current = current.getSuperclass();
-        }
-        throw new NoSuchMethodException(methodName);
+    private static int getSlotId(Slot slot) {
+        return slot.id;
     }
 
-    private static boolean accepts(Class<?>[] parameterTypes, Object[] args) {
-        if (parameterTypes.length != args.length) {
-            return false;
+    private static ItemStack invokeShiftClick(ScreenHandler handler, PlayerEntity player, int slotId)
+            throws ReflectiveOperationException {
+        MethodHandle shiftClick = MENU_BINDINGS.get(handler.getClass()).shiftClickItems;
+        if (shiftClick == null) {
+            throw new NoSuchMethodException("shiftClickItems");
         }
-        for (int i = 0; i < parameterTypes.length; i++) {
-            if (args[i] == null) {
-                continue;
-            }
-            Class<?> parameterType = wrap(parameterTypes[i]);
-            if (!parameterType.isAssignableFrom(args[i].getClass())) {
-                return false;
-            }
+        ItemStack result;
+        try {
+            result = (ItemStack) shiftClick.invokeExact((Object) handler, player, slotId);
+        } catch (Throwable t) {
+            throw IntegrationBindings.propagate(t);
         }
-        return true;
+        return result != null ? result : ItemStack.EMPTY;
     }
 
-    private static Class<?> wrap(Class<?> type) {
-        if (!type.isPrimitive()) {
-            return type;
-        }
-        if (type == int.class) {
-            return Integer.class;
-        }
-        if (type == long.class) {
-            return Long.class;
-        }
-        if (type == boolean.class) {
-            return Boolean.class;
+    /** Crafting-terminal menu methods, looked up once per menu class. */
+    private static final class MenuBindings {
+        // (Object)Slot
+        private final MethodHandle getCraftingResultSlot;
+        // (Object,PlayerEntity,int)ItemStack
+        private final MethodHandle shiftClickItems;
+
+        private MenuBindings(Class<?> menuClass) {
+            this.getCraftingResultSlot = IntegrationBindings.method(menuClass, "getCraftingResultSlot",
+                    MethodType.methodType(Slot.class, Object.class));
+            this.shiftClickItems = IntegrationBindings.compatibleMethod(menuClass, "shiftClickItems",
+                    MethodType.methodType(ItemStack.class, Object.class, PlayerEntity.class, int.class),
+                    ServerPlayerEntity.class, int.class);
         }
-        return type;
     }
 
     private static final class BulkCraftJob {
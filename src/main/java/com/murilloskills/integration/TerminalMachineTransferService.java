@@ -17,7 +17,8 @@ import net.minecraft.util.math.Direction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,8 +27,6 @@ public final class TerminalMachineTransferService {
     private static final int MAX_AMOUNT = 1_000_000;
     private static final String TECH_REBORN_STORAGE_UNIT_BE =
             "techreborn.blockentity.storage.item.StorageUnitBaseBlockEntity";
-    private static volatile Class<?> techRebornStorageUnitClass;
-    private static volatile Method techRebornProcessInputMethod;
 
     private TerminalMachineTransferService() {
     }
@@ -105,58 +104,27 @@ public final class TerminalMachineTransferService {
     }
 
     private static int insertIntoTechRebornStorageUnit(BlockEntity target, ItemStack stack) {
-        Class<?> storageUnitClass = resolveTechRebornStorageUnitClass();
-        if (storageUnitClass == null || !storageUnitClass.isInstance(target) || stack.isEmpty()) {
+        Class<?> storageUnitClass = TechRebornStorageUnit.TYPE;
+        MethodHandle processInput = TechRebornStorageUnit.PROCESS_INPUT;
+        if (storageUnitClass == null || processInput == null || !storageUnitClass.isInstance(target)
+                || stack.isEmpty()) {
             return 0;
         }
         try {
-            Method processInput = resolveTechRebornProcessInputMethod(storageUnitClass);
-            if (processInput == null) {
-                return 0;
-            }
             int before = stack.getCount();
-            ItemStack leftover = (ItemStack) processInput.invoke(target, stack.copy());
+            ItemStack leftover = (ItemStack) processInput.invokeExact((Object) target, stack.copy());
             if (leftover == null) {
                 leftover = ItemStack.EMPTY;
             }
             stack.setCount(leftover.getCount());
             target.markDirty();
             return before - stack.getCount();
-        } catch (ReflectiveOperationException | ClassCastException e) {
-            LOGGER.warn("Failed to insert through Tech Reborn Storage Unit reflection", e);
+        } catch (Throwable t) {
+            LOGGER.warn("Failed to insert through Tech Reborn Storage Unit", IntegrationBindings.propagate(t));
             return 0;
         }
     }
 
-    private static Class<?> resolveTechRebornStorageUnitClass() {
-        Class<?> cached = techRebornStorageUnitClass;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = Class.forName(TECH_REBORN_STORAGE_UNIT_BE);
-            techRebornStorageUnitClass = cached;
-            return cached;
-        } catch (ClassNotFoundException e) {
-            return null;
-        }
-    }
-
-    private static Method resolveTechRebornProcessInputMethod(Class<?> storageUnitClass) {
-        Method cached = techRebornProcessInputMethod;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = storageUnitClass.getMethod("processInput", ItemStack.class);
-            cached.setAccessible(true);
-            techRebornProcessInputMethod = cached;
-            return cached;
-        } catch (NoSuchMethodException e) {
-            return null;
-        }
-    }
-
     private static int insertWithTransferApi(ServerWorld world, BlockPos pos, Direction face, ItemStack stack) {
         int inserted = 0;
         for (Direction side : insertionSides(face)) {
@@ -277,4 +245,11 @@ public final class TerminalMachineTransferService {
         }
     }
 
+    /** Tech Reborn storage unit class and its bound {@code processInput}, looked up on first use. */
+    private static final class TechRebornStorageUnit {
+        private static final Class<?> TYPE = IntegrationBindings.findClass(TECH_REBORN_STORAGE_UNIT_BE);
+        // (Object,ItemStack)ItemStack
+        private static final MethodHandle PROCESS_INPUT = IntegrationBindings.method(TYPE, "processInput",
+                MethodType.methodType(ItemStack.class, Object.class, ItemStack.class), ItemStack.class);
+    }
 }
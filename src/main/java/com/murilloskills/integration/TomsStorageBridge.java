@@ -11,9 +11,11 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Reflection-only bridge to Tom's Simple Storage. Lets MurilloSkills push items into the
@@ -21,7 +23,8 @@ import java.lang.reflect.Method;
  * adding a hard dependency on Tom's Storage.
  *
  * Every entry point is null-safe and silently no-ops if Tom's Storage isn't loaded or its
- * internals shifted between versions.
+ * internals shifted between versions. The Tom's Storage members are looked up once into
+ * {@link Bindings}; pushes and pulls then go through bound method handles.
  */
 public final class TomsStorageBridge {
     private static final String WIRELESS_TERMINAL_ITEM = "com.tom.storagemod.item.WirelessTerminal";
@@ -34,22 +37,8 @@ public final class TomsStorageBridge {
     private static final String INVENTORY_ACCESS_CLASS = "com.tom.storagemod.inventory.IInventoryAccess";
 
     private static volatile boolean disabled = false;
-    private static volatile Class<?> wirelessTerminalItemClass;
+    private static volatile Bindings bindings;
     private static volatile ComponentType<?> boundPosComponentType;
-    private static volatile Class<?> worldPosClass;
-    private static volatile Class<?> storedItemStackClass;
-    private static volatile Class<?> storageTerminalBeClass;
-    private static volatile Class<?> inventoryConnectorClass;
-    private static volatile Class<?> inventoryAccessClass;
-    private static volatile Constructor<?> storedItemStackConstructor;
-    private static volatile Method worldPosPosMethod;
-    private static volatile Method worldPosDimMethod;
-    private static volatile Method storageTerminalPushStackMethod;
-    private static volatile Method storageTerminalPullStackMethod;
-    private static volatile Method storedItemStackGetActualStackMethod;
-    private static volatile Method connectorGetMergedHandlerMethod;
-    private static volatile Method inventoryAccessPushStackMethod;
-    private static volatile Method inventoryAccessPullMatchingStackMethod;
 
     private TomsStorageBridge() {
     }
@@ -59,11 +48,11 @@ public final class TomsStorageBridge {
             return false;
         }
         try {
-            Class<?> itemClass = resolveWirelessTerminalItemClass();
-            if (itemClass == null) {
+            Bindings bound = bindings();
+            if (!bound.available()) {
                 return false;
             }
-            return findBoundTerminalStack(player, itemClass) != null;
+            return findBoundTerminalStack(player, bound) != null;
         } catch (Throwable t) {
             disabled = true;
             return false;
@@ -76,26 +65,34 @@ public final class TomsStorageBridge {
      * isn't possible for any reason the original stack is returned unchanged.
      */
     public static ItemStack pushToBoundStorage(ServerPlayerEntity player, ItemStack stack) {
-        if (disabled || player == null || stack == null || stack.isEmpty()) {
+        if (stack == null || stack.isEmpty()) {
             return stack;
         }
+        BoundStorage storage = resolveBoundStorage(player);
+        return storage == null ? stack : storage.push(stack);
+    }
+
+    /**
+     * Resolves the storage network bound to the player's Advanced Wireless Terminal once,
+     * so a batch of stacks can be pushed without finding the terminal, decoding its bound
+     * position and looking up the block entity again for each one. Returns null when
+     * nothing can be routed right now.
+     */
+    public static BoundStorage resolveBoundStorage(ServerPlayerEntity player) {
+        if (disabled || player == null) {
+            return null;
+        }
         try {
-            BlockEntity blockEntity = resolveBoundStorageBlockEntity(player);
+            Bindings bound = bindings();
+            BlockEntity blockEntity = resolveBoundStorageBlockEntity(player, bound);
             if (blockEntity == null) {
-                return stack;
-            }
-            ItemStack terminalLeftover = pushToStorageTerminal(blockEntity, stack);
-            if (terminalLeftover != null) {
-                return terminalLeftover;
-            }
-            ItemStack connectorLeftover = pushToInventoryConnector(blockEntity, stack);
-            if (connectorLeftover != null) {
-                return connectorLeftover;
+                return null;
             }
-            return stack;
+            Bindings.Sink sink = bound.sink(blockEntity);
+            return sink == null ? null : new BoundStorage(sink);
         } catch (Throwable t) {
-            // Don't permanently disable on a single push failure — it might just be a chunk unload.
-            return stack;
+            // Don't permanently disable on a single failure — it might just be a chunk unload.
+            return null;
         }
     }
 
@@ -108,17 +105,14 @@ public final class TomsStorageBridge {
             return ItemStack.EMPTY;
         }
         try {
-            BlockEntity blockEntity = resolveBoundStorageBlockEntity(player);
+            Bindings bound = bindings();
+            BlockEntity blockEntity = resolveBoundStorageBlockEntity(player, bound);
             if (blockEntity == null) {
                 return ItemStack.EMPTY;
             }
-            ItemStack terminalPulled = pullFromStorageTerminal(blockEntity, itemKey, amount);
-            if (terminalPulled != null) {
-                return terminalPulled;
-            }
-            ItemStack connectorPulled = pullFromInventoryConnector(blockEntity, itemKey, amount);
-            if (connectorPulled != null) {
-                return connectorPulled;
+            ItemStack pulled = bound.pull(blockEntity, itemKey, amount);
+            if (pulled != null) {
+                return pulled;
             }
         } catch (Throwable ignored) {
             // Chunk loads and optional mod internals can legitimately change underneath us.
@@ -126,21 +120,69 @@ public final class TomsStorageBridge {
         return ItemStack.EMPTY;
     }
 
-    private static BlockEntity resolveBoundStorageBlockEntity(ServerPlayerEntity player)
-            throws ReflectiveOperationException {
-        MinecraftServer server = player.getEntityWorld().getServer();
-        if (server == null) {
-            return null;
+    /**
+     * A storage network resolved by {@link #resolveBoundStorage}. Only valid for the
+     * current tick; resolve again rather than keeping one around.
+     */
+    public static final class BoundStorage {
+        private final Bindings.Sink sink;
+
+        private BoundStorage(Bindings.Sink sink) {
+            this.sink = sink;
         }
-        Class<?> itemClass = resolveWirelessTerminalItemClass();
-        if (itemClass == null) {
+
+        /** Pushes {@code stack} and returns the leftover; the stack itself if the push fails. */
+        public ItemStack push(ItemStack stack) {
+            if (stack == null || stack.isEmpty()) {
+                return stack;
+            }
+            try {
+                return sink.push(stack);
+            } catch (Throwable t) {
+                return stack;
+            }
+        }
+
+        /**
+         * Pushes every stack accepted by {@code routed} and replaces it in {@code stacks}
+         * with its leftover, which may be empty. Tom's Storage only takes one stack per
+         * call, so the stacks go one after another into the already resolved network.
+         */
+        public void pushAll(List<ItemStack> stacks, Predicate<ItemStack> routed) {
+            for (int i = 0; i < stacks.size(); i++) {
+                ItemStack stack = stacks.get(i);
+                if (stack == null || stack.isEmpty() || !routed.test(stack)) {
+                    continue;
+                }
+                ItemStack leftover = push(stack);
+                stacks.set(i, leftover == null ? ItemStack.EMPTY : leftover);
+            }
+        }
+    }
+
+    private static Bindings bindings() {
+        Bindings bound = bindings;
+        if (bound == null) {
+            bound = new Bindings(IntegrationBindings::findClass);
+            bindings = bound;
+            if (!bound.available()) {
+                disabled = true;
+            }
+        }
+        return bound;
+    }
+
+    private static BlockEntity resolveBoundStorageBlockEntity(ServerPlayerEntity player, Bindings bound)
+            throws Throwable {
+        MinecraftServer server = player.getEntityWorld().getServer();
+        if (server == null || !bound.available()) {
             return null;
         }
-        ItemStack terminalStack = findBoundTerminalStack(player, itemClass);
+        ItemStack terminalStack = findBoundTerminalStack(player, bound);
         if (terminalStack == null) {
             return null;
         }
-        ComponentType<?> componentType = resolveBoundPosComponentType();
+        ComponentType<?> componentType = resolveBoundPosComponentType(bound);
         if (componentType == null) {
             return null;
         }
@@ -148,8 +190,8 @@ public final class TomsStorageBridge {
         if (worldPos == null) {
             return null;
         }
-        BlockPos pos = invokeWorldPosPos(worldPos);
-        RegistryKey<World> dim = invokeWorldPosDim(worldPos);
+        BlockPos pos = bound.pos(worldPos);
+        RegistryKey<World> dim = bound.dim(worldPos);
         if (pos == null || dim == null) {
             return null;
         }
@@ -160,365 +202,209 @@ public final class TomsStorageBridge {
         return targetWorld.getBlockEntity(pos);
     }
 
-    private static ItemStack findBoundTerminalStack(PlayerEntity player, Class<?> itemClass) {
+    private static ItemStack findBoundTerminalStack(PlayerEntity player, Bindings bound) {
         ItemStack main = player.getMainHandStack();
-        if (main != null && itemClass.isInstance(main.getItem()) && hasBoundPos(main)) {
+        if (main != null && bound.isWirelessTerminal(main) && hasBoundPos(main, bound)) {
             return main;
         }
         ItemStack off = player.getOffHandStack();
-        if (off != null && itemClass.isInstance(off.getItem()) && hasBoundPos(off)) {
+        if (off != null && bound.isWirelessTerminal(off) && hasBoundPos(off, bound)) {
             return off;
         }
         return null;
     }
 
-    private static boolean hasBoundPos(ItemStack stack) {
-        ComponentType<?> componentType = resolveBoundPosComponentType();
+    private static boolean hasBoundPos(ItemStack stack, Bindings bound) {
+        ComponentType<?> componentType = resolveBoundPosComponentType(bound);
         return componentType != null && stack.contains(componentType);
     }
 
-    private static Class<?> resolveWirelessTerminalItemClass() {
-        Class<?> cached = wirelessTerminalItemClass;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = Class.forName(WIRELESS_TERMINAL_ITEM);
-            wirelessTerminalItemClass = cached;
-            return cached;
-        } catch (ClassNotFoundException e) {
-            disabled = true;
-            return null;
-        }
-    }
-
-    private static Class<?> resolveStorageTerminalBeClass() {
-        Class<?> cached = storageTerminalBeClass;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = Class.forName(STORAGE_TERMINAL_BE_CLASS);
-            storageTerminalBeClass = cached;
-            return cached;
-        } catch (ClassNotFoundException e) {
-            return null;
-        }
-    }
-
-    private static Class<?> resolveStoredItemStackClass() {
-        Class<?> cached = storedItemStackClass;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = Class.forName(STORED_ITEM_STACK_CLASS);
-            storedItemStackClass = cached;
-            return cached;
-        } catch (ClassNotFoundException e) {
-            return null;
-        }
-    }
-
-    private static Class<?> resolveInventoryConnectorClass() {
-        Class<?> cached = inventoryConnectorClass;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = Class.forName(INVENTORY_CONNECTOR_CLASS);
-            inventoryConnectorClass = cached;
-            return cached;
-        } catch (ClassNotFoundException e) {
-            return null;
-        }
-    }
-
-    private static Class<?> resolveInventoryAccessClass() {
-        Class<?> cached = inventoryAccessClass;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = Class.forName(INVENTORY_ACCESS_CLASS);
-            inventoryAccessClass = cached;
-            return cached;
-        } catch (ClassNotFoundException e) {
-            return null;
-        }
-    }
-
-    private static ComponentType<?> resolveBoundPosComponentType() {
+    private static ComponentType<?> resolveBoundPosComponentType(Bindings bound) {
         ComponentType<?> cached = boundPosComponentType;
         if (cached != null) {
             return cached;
         }
+        // Tom's Storage registers the component during init, so keep retrying until it is there
         try {
-            Class<?> contentClass = Class.forName(CONTENT_CLASS);
-            Field field = contentClass.getField("boundPosComponent");
-            Object gameObject = field.get(null);
-            if (gameObject == null) {
-                return null;
-            }
-            Class<?> gameObjectClass = Class.forName(GAME_OBJECT_CLASS);
-            Method getMethod = gameObjectClass.getMethod("get");
-            Object component = getMethod.invoke(gameObject);
-            if (component instanceof ComponentType<?> type) {
+            ComponentType<?> type = bound.boundPosComponentType();
+            if (type != null) {
                 boundPosComponentType = type;
-                return type;
             }
+            return type;
         } catch (Throwable t) {
             disabled = true;
-        }
-        return null;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static BlockPos invokeWorldPosPos(Object worldPos) throws ReflectiveOperationException {
-        Method method = worldPosPosMethod;
-        if (method == null) {
-            Class<?> clazz = resolveWorldPosClass();
-            if (clazz == null) {
-                return null;
-            }
-            method = clazz.getMethod("pos");
-            worldPosPosMethod = method;
-        }
-        Object result = method.invoke(worldPos);
-        return result instanceof BlockPos bp ? bp : null;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static RegistryKey<World> invokeWorldPosDim(Object worldPos) throws ReflectiveOperationException {
-        Method method = worldPosDimMethod;
-        if (method == null) {
-            Class<?> clazz = resolveWorldPosClass();
-            if (clazz == null) {
-                return null;
-            }
-            method = clazz.getMethod("dim");
-            worldPosDimMethod = method;
-        }
-        Object result = method.invoke(worldPos);
-        return result instanceof RegistryKey<?> rk ? (RegistryKey<World>) rk : null;
-    }
-
-    private static Class<?> resolveWorldPosClass() {
-        Class<?> cached = worldPosClass;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = Class.forName(WORLD_POS_CLASS);
-            worldPosClass = cached;
-            return cached;
-        } catch (ClassNotFoundException e) {
-            return null;
-        }
-    }
-
-    private static ItemStack pushToStorageTerminal(BlockEntity blockEntity, ItemStack stack)
-            throws ReflectiveOperationException {
-        Class<?> beClass = resolveStorageTerminalBeClass();
-        if (beClass == null || !beClass.isInstance(blockEntity)) {
             return null;
         }
-        Method push = resolveStorageTerminalPushStackMethod(beClass);
-        if (push == null) {
-            return stack;
-        }
-        Object result = push.invoke(blockEntity, stack);
-        return result instanceof ItemStack leftover ? leftover : stack;
-    }
-
-    private static ItemStack pullFromStorageTerminal(BlockEntity blockEntity, ItemStack itemKey, int amount)
-            throws ReflectiveOperationException {
-        Class<?> beClass = resolveStorageTerminalBeClass();
-        if (beClass == null || !beClass.isInstance(blockEntity)) {
-            return null;
-        }
-        Method pull = resolveStorageTerminalPullStackMethod(beClass);
-        if (pull == null) {
-            return ItemStack.EMPTY;
-        }
-        Object storedItem = newStoredItemStack(itemKey);
-        if (storedItem == null) {
-            return ItemStack.EMPTY;
-        }
-        Object result = pull.invoke(blockEntity, storedItem, (long) amount);
-        return storedItemStackToItemStack(result);
     }
 
-    private static ItemStack pushToInventoryConnector(BlockEntity blockEntity, ItemStack stack)
-            throws ReflectiveOperationException {
-        Class<?> connectorClass = resolveInventoryConnectorClass();
-        if (connectorClass == null || !connectorClass.isInstance(blockEntity)) {
-            return null;
-        }
-        Method getMergedHandler = resolveConnectorGetMergedHandlerMethod(connectorClass);
-        if (getMergedHandler == null) {
-            return stack;
-        }
-        Object handler = getMergedHandler.invoke(blockEntity);
-        if (handler == null) {
-            return stack;
-        }
-        Class<?> inventoryAccessClass = resolveInventoryAccessClass();
-        if (inventoryAccessClass == null || !inventoryAccessClass.isInstance(handler)) {
-            return stack;
-        }
-        Method push = resolveInventoryAccessPushStackMethod(inventoryAccessClass);
-        if (push == null) {
-            return stack;
-        }
-        Object result = push.invoke(handler, stack);
-        return result instanceof ItemStack leftover ? leftover : stack;
-    }
+    /**
+     * The Tom's Storage members used by the bridge, looked up once. A member
+     * that is missing leaves its handle null and the matching operation falls
+     * back to returning the input unchanged; without the wireless terminal
+     * class the whole binding is {@linkplain #available() unavailable}.
+     */
+    static final class Bindings {
+        private final Class<?> wirelessTerminalItem;
+        private final Class<?> storageTerminal;
+        private final Class<?> inventoryConnector;
+        private final Class<?> inventoryAccess;
+        // ()Object and (Object)Object
+        private final MethodHandle boundPosComponent;
+        private final MethodHandle gameObjectGet;
+        // (Object)BlockPos and (Object)RegistryKey
+        private final MethodHandle worldPosPos;
+        private final MethodHandle worldPosDim;
+        // (Object,ItemStack)ItemStack and (Object,Object,long)Object
+        private final MethodHandle terminalPushStack;
+        private final MethodHandle terminalPullStack;
+        // (ItemStack)Object and (Object)ItemStack
+        private final MethodHandle newStoredItemStack;
+        private final MethodHandle storedItemStackGetActualStack;
+        // (Object)Object
+        private final MethodHandle connectorGetMergedHandler;
+        // (Object,ItemStack)ItemStack and (Object,ItemStack,long)ItemStack
+        private final MethodHandle accessPushStack;
+        private final MethodHandle accessPullMatchingStack;
 
-    private static ItemStack pullFromInventoryConnector(BlockEntity blockEntity, ItemStack itemKey, int amount)
-            throws ReflectiveOperationException {
-        Class<?> connectorClass = resolveInventoryConnectorClass();
-        if (connectorClass == null || !connectorClass.isInstance(blockEntity)) {
-            return null;
-        }
-        Method getMergedHandler = resolveConnectorGetMergedHandlerMethod(connectorClass);
-        if (getMergedHandler == null) {
-            return ItemStack.EMPTY;
-        }
-        Object handler = getMergedHandler.invoke(blockEntity);
-        if (handler == null) {
-            return ItemStack.EMPTY;
-        }
-        Class<?> inventoryAccessClass = resolveInventoryAccessClass();
-        if (inventoryAccessClass == null || !inventoryAccessClass.isInstance(handler)) {
-            return ItemStack.EMPTY;
-        }
-        Method pull = resolveInventoryAccessPullMatchingStackMethod(inventoryAccessClass);
-        if (pull == null) {
-            return ItemStack.EMPTY;
-        }
-        ItemStack filter = itemKey.copy();
-        filter.setCount(1);
-        Object result = pull.invoke(handler, filter, (long) amount);
-        return result instanceof ItemStack pulled ? pulled : ItemStack.EMPTY;
-    }
+        Bindings(Function<String, Class<?>> classes) {
+            wirelessTerminalItem = classes.apply(WIRELESS_TERMINAL_ITEM);
+            storageTerminal = classes.apply(STORAGE_TERMINAL_BE_CLASS);
+            inventoryConnector = classes.apply(INVENTORY_CONNECTOR_CLASS);
+            inventoryAccess = classes.apply(INVENTORY_ACCESS_CLASS);
+            Class<?> worldPos = classes.apply(WORLD_POS_CLASS);
+            Class<?> storedItemStack = classes.apply(STORED_ITEM_STACK_CLASS);
 
-    private static Method resolveStorageTerminalPushStackMethod(Class<?> beClass) {
-        Method cached = storageTerminalPushStackMethod;
-        if (cached != null) {
-            return cached;
-        }
-        try {
+            boundPosComponent = IntegrationBindings.staticGetter(classes.apply(CONTENT_CLASS), "boundPosComponent");
+            gameObjectGet = IntegrationBindings.method(classes.apply(GAME_OBJECT_CLASS), "get",
+                    MethodType.methodType(Object.class, Object.class));
+            worldPosPos = IntegrationBindings.method(worldPos, "pos",
+                    MethodType.methodType(BlockPos.class, Object.class));
+            worldPosDim = IntegrationBindings.method(worldPos, "dim",
+                    MethodType.methodType(RegistryKey.class, Object.class));
             // The terminal exposes both `pushStack(StoredItemStack)` and `pushStack(ItemStack)`.
             // We want the ItemStack overload — it returns the leftover ItemStack.
-            cached = beClass.getMethod("pushStack", ItemStack.class);
-            cached.setAccessible(true);
-            storageTerminalPushStackMethod = cached;
-            return cached;
-        } catch (NoSuchMethodException e) {
-            return null;
+            terminalPushStack = IntegrationBindings.method(storageTerminal, "pushStack",
+                    MethodType.methodType(ItemStack.class, Object.class, ItemStack.class), ItemStack.class);
+            terminalPullStack = storedItemStack == null ? null
+                    : IntegrationBindings.method(storageTerminal, "pullStack",
+                            MethodType.methodType(Object.class, Object.class, Object.class, long.class),
+                            storedItemStack, long.class);
+            newStoredItemStack = IntegrationBindings.constructor(storedItemStack,
+                    MethodType.methodType(Object.class, ItemStack.class), ItemStack.class);
+            storedItemStackGetActualStack = IntegrationBindings.method(storedItemStack, "getActualStack",
+                    MethodType.methodType(ItemStack.class, Object.class));
+            connectorGetMergedHandler = IntegrationBindings.method(inventoryConnector, "getMergedHandler",
+                    MethodType.methodType(Object.class, Object.class));
+            accessPushStack = IntegrationBindings.method(inventoryAccess, "pushStack",
+                    MethodType.methodType(ItemStack.class, Object.class, ItemStack.class), ItemStack.class);
+            accessPullMatchingStack = IntegrationBindings.method(inventoryAccess, "pullMatchingStack",
+                    MethodType.methodType(ItemStack.class, Object.class, ItemStack.class, long.class),
+                    ItemStack.class, long.class);
         }
-    }
 
-    private static Method resolveStorageTerminalPullStackMethod(Class<?> beClass) {
-        Method cached = storageTerminalPullStackMethod;
-        if (cached != null) {
-            return cached;
-        }
-        Class<?> storedClass = resolveStoredItemStackClass();
-        if (storedClass == null) {
-            return null;
+        boolean available() {
+            return wirelessTerminalItem != null;
         }
-        try {
-            cached = beClass.getMethod("pullStack", storedClass, long.class);
-            cached.setAccessible(true);
-            storageTerminalPullStackMethod = cached;
-            return cached;
-        } catch (NoSuchMethodException e) {
-            return null;
+
+        boolean isWirelessTerminal(ItemStack stack) {
+            return wirelessTerminalItem != null && wirelessTerminalItem.isInstance(stack.getItem());
         }
-    }
 
-    private static Object newStoredItemStack(ItemStack itemKey) throws ReflectiveOperationException {
-        Constructor<?> constructor = storedItemStackConstructor;
-        if (constructor == null) {
-            Class<?> storedClass = resolveStoredItemStackClass();
-            if (storedClass == null) {
+        ComponentType<?> boundPosComponentType() throws Throwable {
+            if (boundPosComponent == null || gameObjectGet == null) {
                 return null;
             }
-            try {
-                constructor = storedClass.getConstructor(ItemStack.class);
-            } catch (NoSuchMethodException e) {
-                constructor = storedClass.getDeclaredConstructor(ItemStack.class);
+            Object gameObject = (Object) boundPosComponent.invokeExact();
+            if (gameObject == null) {
+                return null;
             }
-            constructor.setAccessible(true);
-            storedItemStackConstructor = constructor;
+            Object component = (Object) gameObjectGet.invokeExact(gameObject);
+            return component instanceof ComponentType<?> type ? type : null;
         }
-        ItemStack filter = itemKey.copy();
-        filter.setCount(1);
-        return constructor.newInstance(filter);
-    }
 
-    private static ItemStack storedItemStackToItemStack(Object storedItemStack) throws ReflectiveOperationException {
-        if (storedItemStack == null) {
-            return ItemStack.EMPTY;
+        BlockPos pos(Object worldPos) throws Throwable {
+            return worldPosPos == null ? null : (BlockPos) worldPosPos.invokeExact(worldPos);
         }
-        Method method = storedItemStackGetActualStackMethod;
-        if (method == null) {
-            Class<?> storedClass = resolveStoredItemStackClass();
-            if (storedClass == null) {
-                return ItemStack.EMPTY;
+
+        @SuppressWarnings("unchecked")
+        RegistryKey<World> dim(Object worldPos) throws Throwable {
+            if (worldPosDim == null) {
+                return null;
             }
-            method = storedClass.getMethod("getActualStack");
-            method.setAccessible(true);
-            storedItemStackGetActualStackMethod = method;
+            RegistryKey<?> key = (RegistryKey<?>) worldPosDim.invokeExact(worldPos);
+            return (RegistryKey<World>) key;
         }
-        Object result = method.invoke(storedItemStack);
-        return result instanceof ItemStack stack ? stack : ItemStack.EMPTY;
-    }
 
-    private static Method resolveConnectorGetMergedHandlerMethod(Class<?> connectorClass) {
-        Method cached = connectorGetMergedHandlerMethod;
-        if (cached != null) {
-            return cached;
-        }
-        try {
-            cached = connectorClass.getMethod("getMergedHandler");
-            cached.setAccessible(true);
-            connectorGetMergedHandlerMethod = cached;
-            return cached;
-        } catch (NoSuchMethodException e) {
+        /**
+         * Where pushes into a storage terminal or inventory connector go: the
+         * terminal itself or the connector's merged handler. Null when
+         * {@code blockEntity} is neither.
+         */
+        Sink sink(Object blockEntity) throws Throwable {
+            if (storageTerminal != null && storageTerminal.isInstance(blockEntity)) {
+                return new Sink(terminalPushStack, blockEntity);
+            }
+            if (inventoryConnector != null && inventoryConnector.isInstance(blockEntity)) {
+                Object handler = mergedHandler(blockEntity);
+                return new Sink(handler == null ? null : accessPushStack, handler);
+            }
             return null;
         }
-    }
 
-    private static Method resolveInventoryAccessPushStackMethod(Class<?> inventoryAccessClass) {
-        Method cached = inventoryAccessPushStackMethod;
-        if (cached != null) {
-            return cached;
+        /** A bound {@code pushStack} and its receiver; a null handle leaves every stack where it is. */
+        record Sink(MethodHandle pushStack, Object receiver) {
+            ItemStack push(ItemStack stack) throws Throwable {
+                if (pushStack == null) {
+                    return stack;
+                }
+                ItemStack leftover = (ItemStack) pushStack.invokeExact(receiver, stack);
+                return leftover != null ? leftover : stack;
+            }
         }
-        try {
-            cached = inventoryAccessClass.getMethod("pushStack", ItemStack.class);
-            cached.setAccessible(true);
-            inventoryAccessPushStackMethod = cached;
-            return cached;
-        } catch (NoSuchMethodException e) {
+
+        /**
+         * Pulls up to {@code amount} items like {@code itemKey} from a storage
+         * terminal or inventory connector, or returns null when
+         * {@code blockEntity} is neither.
+         */
+        ItemStack pull(Object blockEntity, ItemStack itemKey, int amount) throws Throwable {
+            if (storageTerminal != null && storageTerminal.isInstance(blockEntity)) {
+                if (terminalPullStack == null || newStoredItemStack == null
+                        || storedItemStackGetActualStack == null) {
+                    return ItemStack.EMPTY;
+                }
+                Object storedItem = (Object) newStoredItemStack.invokeExact(singleItem(itemKey));
+                Object result = (Object) terminalPullStack.invokeExact(blockEntity, storedItem, (long) amount);
+                if (result == null) {
+                    return ItemStack.EMPTY;
+                }
+                ItemStack pulled = (ItemStack) storedItemStackGetActualStack.invokeExact(result);
+                return pulled != null ? pulled : ItemStack.EMPTY;
+            }
+            if (inventoryConnector != null && inventoryConnector.isInstance(blockEntity)) {
+                Object handler = mergedHandler(blockEntity);
+                if (handler == null || accessPullMatchingStack == null) {
+                    return ItemStack.EMPTY;
+                }
+                ItemStack pulled = (ItemStack) accessPullMatchingStack.invokeExact(handler, singleItem(itemKey),
+                        (long) amount);
+                return pulled != null ? pulled : ItemStack.EMPTY;
+            }
             return null;
         }
-    }
 
-    private static Method resolveInventoryAccessPullMatchingStackMethod(Class<?> inventoryAccessClass) {
-        Method cached = inventoryAccessPullMatchingStackMethod;
-        if (cached != null) {
-            return cached;
+        private Object mergedHandler(Object connector) throws Throwable {
+            if (connectorGetMergedHandler == null) {
+                return null;
+            }
+            Object handler = (Object) connectorGetMergedHandler.invokeExact(connector);
+            return inventoryAccess != null && inventoryAccess.isInstance(handler) ? handler : null;
         }
-        try {
-            cached = inventoryAccessClass.getMethod("pullMatchingStack", ItemStack.class, long.class);
-            cached.setAccessible(true);
-            inventoryAccessPullMatchingStackMethod = cached;
-            return cached;
-        } catch (NoSuchMethodException e) {
-            return null;
+
+        private static ItemStack singleItem(ItemStack itemKey) {
+            ItemStack filter = itemKey.copy();
+            filter.setCount(1);
+            return filter;
         }
     }
 }
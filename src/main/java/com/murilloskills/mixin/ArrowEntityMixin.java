@@ -2,6 +2,7 @@ package com.murilloskills.mixin;
 
 import com.murilloskills.impl.ArcherSkill;
 import com.murilloskills.skills.ArcherHitHandler;
+import com.murilloskills.skills.ArcherHomingTargets;
 import com.murilloskills.skills.MurilloSkillsList;
 import com.murilloskills.utils.MinecraftVersionCompat;
 import net.minecraft.entity.Entity;
@@ -12,13 +13,12 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.math.Vec3d;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Mixin para interceptar hits de flecha e aplicar modificadores do Archer
@@ -26,9 +26,15 @@ import java.util.concurrent.ConcurrentHashMap;
 @Mixin(PersistentProjectileEntity.class)
 public abstract class ArrowEntityMixin {
 
-    // Stores the original base damage of arrows before any Archer multipliers are applied.
+    // Stores the original base damage of this arrow before any Archer multipliers are applied.
     // This prevents damage from compounding on piercing arrows that hit multiple entities.
-    private static final Map<Integer, Double> ORIGINAL_ARROW_DAMAGE = new ConcurrentHashMap<>();
+    // NaN until the first hit; lives and dies with the arrow entity.
+    @Unique
+    private double murilloskills$baseDamage = Double.NaN;
+
+    // Alvo escolhido pela busca do homing, mantido na própria flecha entre ticks
+    @Unique
+    private LivingEntity murilloskills$homingTarget;
 
     /**
      * Intercepta quando a flecha atinge uma entidade para dar XP e aplicar bônus
@@ -91,9 +97,11 @@ public abstract class ArrowEntityMixin {
                     : 1.0;
 
             // Use stored original damage to prevent compounding on piercing arrows
-            int arrowId = arrow.getId();
-            double baseDamage = ORIGINAL_ARROW_DAMAGE.computeIfAbsent(arrowId,
-                    k -> ((PersistentProjectileEntityAccessor) arrow).getDamage());
+            double baseDamage = murilloskills$baseDamage;
+            if (Double.isNaN(baseDamage)) {
+                baseDamage = ((PersistentProjectileEntityAccessor) arrow).getDamage();
+                murilloskills$baseDamage = baseDamage;
+            }
             arrow.setDamage(baseDamage * damageMultiplier * headshotMultiplier);
 
             // Notify player of headshot
@@ -123,11 +131,6 @@ public abstract class ArrowEntityMixin {
             return;
         }
 
-        // Clean up stored base damage when arrow lands or is discarded
-        if (arrow.isOnGround() || arrow.isRemoved()) {
-            ORIGINAL_ARROW_DAMAGE.remove(arrow.getId());
-        }
-
         // Verifica se a flecha ainda está voando (não atingiu nada)
         if (arrow.isOnGround()) {
             return;
@@ -161,11 +164,11 @@ public abstract class ArrowEntityMixin {
         Vec3d currentDirection = currentVelocity.normalize();
 
         // Busca o alvo - primeiro tenta o último inimigo danificado
+        ServerWorld world = (ServerWorld) arrow.getEntityWorld();
         Entity targetEntity = null;
         UUID targetUuid = ArcherSkill.getLastDamagedEnemy(player);
 
         if (targetUuid != null) {
-            ServerWorld world = (ServerWorld) arrow.getEntityWorld();
             targetEntity = world.getEntity(targetUuid);
 
             // Verifica se o alvo ainda é válido
@@ -174,9 +177,19 @@ public abstract class ArrowEntityMixin {
             }
         }
 
-        // Se não tem alvo prévio, busca o inimigo mais próximo na direção da flecha
+        // Senão, mantém o alvo que esta flecha já escolheu enquanto continuar válido
+        // e à frente dela (fora do cone a flecha voltaria para trás)
         if (targetEntity == null) {
-            targetEntity = findBestTarget(arrow, player, arrowPos, currentDirection);
+            LivingEntity locked = murilloskills$homingTarget;
+            if (ArcherHomingTargets.keepsTarget(locked, world, arrowPos, currentDirection)) {
+                targetEntity = locked;
+            } else {
+                // Busca o inimigo mais próximo na direção da flecha, compartilhando
+                // a consulta de entidades com as outras flechas do mesmo jogador
+                murilloskills$homingTarget = ArcherHomingTargets.findBestTarget(player, world, arrowPos,
+                        currentDirection);
+                targetEntity = murilloskills$homingTarget;
+            }
         }
 
         // Se não encontrou nenhum alvo, não faz nada
@@ -242,61 +255,6 @@ public abstract class ArrowEntityMixin {
         arrow.setVelocity(newVelocity.x, newVelocity.y, newVelocity.z);
     }
 
-    /**
-     * Busca o melhor alvo na direção da flecha.
-     * Considera apenas inimigos num cone de 45° à frente da flecha,
-     * priorizando os mais próximos e mais alinhados.
-     */
-    private Entity findBestTarget(PersistentProjectileEntity arrow, ServerPlayerEntity player,
-            Vec3d arrowPos, Vec3d arrowDirection) {
-        ServerWorld world = (ServerWorld) arrow.getEntityWorld();
-
-        // Raio máximo de busca
-        double maxRange = 32.0;
-        // Ângulo máximo do cone (45 graus = cos(45°) ≈ 0.707)
-        double minDotProduct = 0.707;
-
-        Entity bestTarget = null;
-        double bestScore = Double.MAX_VALUE;
-
-        // Busca todas as entidades vivas no raio
-        for (LivingEntity entity : world.getEntitiesByClass(
-                LivingEntity.class,
-                arrow.getBoundingBox().expand(maxRange),
-                e -> e != player && e.isAlive() && !e.isSpectator())) {
-
-            // Vetor da flecha para a entidade
-            Vec3d toEntity = MinecraftVersionCompat.pos(entity).add(0, entity.getHeight() * 0.5, 0).subtract(arrowPos);
-            double distance = toEntity.length();
-
-            // Ignora entidades muito longe
-            if (distance > maxRange || distance < 0.5) {
-                continue;
-            }
-
-            // Verifica se está no cone de visão da flecha
-            Vec3d directionToEntity = toEntity.normalize();
-            double dot = arrowDirection.dotProduct(directionToEntity);
-
-            if (dot < minDotProduct) {
-                continue; // Fora do cone de 45°
-            }
-
-            // Score: menor é melhor
-            // Combina distância e alinhamento
-            // Entidades mais próximas e mais alinhadas têm score menor
-            double alignmentFactor = 1.0 - dot; // 0 = perfeito alinhamento, 0.3 = limite do cone
-            double score = distance * (1.0 + alignmentFactor * 2.0);
-
-            if (score < bestScore) {
-                bestScore = score;
-                bestTarget = entity;
-            }
-        }
-
-        return bestTarget;
-    }
-
     /**
      * Interpolação esférica (SLERP) entre dois vetores unitários.
      * Produz uma rotação suave entre as direções.
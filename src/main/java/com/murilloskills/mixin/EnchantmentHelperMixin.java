@@ -1,9 +1,6 @@
 package com.murilloskills.mixin;
 
 import com.murilloskills.data.PlayerSkillData;
-import com.murilloskills.skills.MurilloSkillsList;
-import com.murilloskills.utils.PrestigeManager;
-import com.murilloskills.utils.SkillConfig;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.enchantment.Enchantments;
@@ -30,25 +27,8 @@ public class EnchantmentHelperMixin {
                 PlayerSkillData playerData = player
                         .getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS);
 
-                int totalBonus = 0;
-
-                // Warrior looting bonus
-                if (playerData.isSkillSelected(MurilloSkillsList.WARRIOR)) {
-                    var warriorStats = playerData.getSkill(MurilloSkillsList.WARRIOR);
-                    float warriorPrestigeMultiplier = PrestigeManager.getPassiveMultiplier(warriorStats.prestige);
-                    totalBonus += (int) (warriorStats.level
-                            * SkillConfig.getWarriorLootingPerLevel()
-                            * warriorPrestigeMultiplier);
-                }
-
-                // Archer looting bonus
-                if (playerData.isSkillSelected(MurilloSkillsList.ARCHER)) {
-                    var archerStats = playerData.getSkill(MurilloSkillsList.ARCHER);
-                    float archerPrestigeMultiplier = PrestigeManager.getPassiveMultiplier(archerStats.prestige);
-                    totalBonus += (int) (archerStats.level
-                            * SkillConfig.getArcherLootingPerLevel()
-                            * archerPrestigeMultiplier);
-                }
+                // Warrior + Archer looting bonus, precomputed per player
+                int totalBonus = playerData.getModifiers().lootingBonus();
 
                 if (totalBonus > 0) {
                     cir.setReturnValue(cir.getReturnValue() + totalBonus);
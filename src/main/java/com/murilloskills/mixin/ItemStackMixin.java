@@ -1,7 +1,6 @@
 package com.murilloskills.mixin;
 
-import com.murilloskills.data.PlayerSkillData;
-import com.murilloskills.skills.MurilloSkillsList;
+import com.murilloskills.data.SkillModifiers;
 import com.murilloskills.utils.SkillConfig;
 import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.LivingEntity;
@@ -30,11 +29,11 @@ public class ItemStackMixin {
         }
 
         // Recupera o estado global do servidor
-        PlayerSkillData playerData = player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS);
+        SkillModifiers modifiers = player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS)
+                .getModifiers();
 
         // --- MINER: 15% chance to ignore tool durability loss (level 30+) ---
-        int minerLevel = playerData.getSkill(MurilloSkillsList.MINER).level;
-        if (minerLevel >= SkillConfig.MINER_DURABILITY_LEVEL) {
+        if (modifiers.hasMinerDurability()) {
             if (player.getRandom().nextFloat() < SkillConfig.MINER_DURABILITY_CHANCE) {
                 ci.cancel();
                 return;
@@ -42,7 +41,7 @@ public class ItemStackMixin {
         }
 
         // --- BLACKSMITH: Armor durability protection during Titanium Aura ---
-        if (playerData.isSkillSelected(MurilloSkillsList.BLACKSMITH)) {
+        if (modifiers.isBlacksmithSelected()) {
             // Check if this is armor (helmet, chestplate, leggings, boots)
             boolean isArmor = slot == EquipmentSlot.HEAD || slot == EquipmentSlot.CHEST
                     || slot == EquipmentSlot.LEGS || slot == EquipmentSlot.FEET;
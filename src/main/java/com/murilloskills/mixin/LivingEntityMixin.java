@@ -2,7 +2,7 @@ package com.murilloskills.mixin;
 
 import com.murilloskills.api.AbstractSkill;
 import com.murilloskills.api.SkillRegistry;
-import com.murilloskills.data.PlayerSkillData;
+import com.murilloskills.data.SkillModifiers;
 import com.murilloskills.impl.WarriorSkill;
 import com.murilloskills.skills.ArcherHitHandler;
 import com.murilloskills.skills.MurilloSkillsList;
@@ -32,8 +32,8 @@ public abstract class LivingEntityMixin {
         if (!(source.getAttacker() instanceof ServerPlayerEntity attacker))
             return;
 
-        PlayerSkillData playerData = attacker.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS);
-        int level = playerData.getSkill(MurilloSkillsList.WARRIOR).level;
+        int level = attacker.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS)
+                .getModifiers().warriorLevel();
 
         if (level <= 0)
             return;
@@ -73,19 +73,19 @@ public abstract class LivingEntityMixin {
         if (self.getEntityWorld().isClient() || !(self instanceof ServerPlayerEntity player))
             return amount;
 
-        PlayerSkillData playerData = player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS);
+        SkillModifiers modifiers = player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS)
+                .getModifiers();
         float modifiedAmount = amount;
 
         // --- WARRIOR RESISTANCE ---
-        int warriorLevel = playerData.getSkill(MurilloSkillsList.WARRIOR).level;
-        if (warriorLevel >= SkillConfig.RESISTANCE_UNLOCK_LEVEL) {
+        if (modifiers.warriorLevel() >= SkillConfig.RESISTANCE_UNLOCK_LEVEL) {
             modifiedAmount *= SkillConfig.RESISTANCE_REDUCTION;
         }
 
         // --- BLACKSMITH RESISTANCE ---
-        if (playerData.isSkillSelected(MurilloSkillsList.BLACKSMITH)) {
-            int blacksmithLevel = playerData.getSkill(MurilloSkillsList.BLACKSMITH).level;
-            int blacksmithPrestige = playerData.getSkill(MurilloSkillsList.BLACKSMITH).prestige;
+        if (modifiers.isBlacksmithSelected()) {
+            int blacksmithLevel = modifiers.blacksmithLevel();
+            int blacksmithPrestige = modifiers.blacksmithPrestige();
 
             // Check if damage is fire or explosion
             boolean isFireOrExplosion = source.isIn(DamageTypeTags.IS_FIRE)
@@ -107,52 +107,28 @@ public abstract class LivingEntityMixin {
             }
         }
 
-        // --- BUILDER FALL DAMAGE REDUCTION ---
-        if (playerData.isSkillSelected(MurilloSkillsList.BUILDER)) {
-            int builderLevel = playerData.getSkill(MurilloSkillsList.BUILDER).level;
-
-            // Check if damage is from falling
-            boolean isFallDamage = source.isIn(DamageTypeTags.IS_FALL);
-
-            if (isFallDamage && com.murilloskills.impl.BuilderSkill.shouldReduceFallDamage(builderLevel)) {
-                float fallMultiplier = com.murilloskills.impl.BuilderSkill.getFallDamageMultiplier(builderLevel);
-                modifiedAmount *= fallMultiplier;
-            }
-        }
-
-        // --- EXPLORER FALL DAMAGE REDUCTION (Feather Feet) ---
-        if (playerData.isSkillSelected(MurilloSkillsList.EXPLORER)) {
-            int explorerLevel = playerData.getSkill(MurilloSkillsList.EXPLORER).level;
-
-            // Check if damage is from falling
-            boolean isFallDamage = source.isIn(DamageTypeTags.IS_FALL);
-
-            if (isFallDamage && com.murilloskills.impl.ExplorerSkill.hasFeatherFeet(explorerLevel)) {
-                float fallMultiplier = com.murilloskills.impl.ExplorerSkill.getFallDamageMultiplier(explorerLevel);
-                modifiedAmount *= fallMultiplier;
-            }
+        // --- BUILDER / EXPLORER (Feather Feet) FALL DAMAGE REDUCTION ---
+        float builderFall = modifiers.builderFallMultiplier();
+        float explorerFall = modifiers.explorerFallMultiplier();
+        if ((builderFall != 1.0f || explorerFall != 1.0f) && source.isIn(DamageTypeTags.IS_FALL)) {
+            modifiedAmount *= builderFall;
+            modifiedAmount *= explorerFall;
         }
 
         // --- ARCHER ARMOR PENETRATION (incoming projectile from Archer player) ---
         // When hit by an arrow from an Archer with level >= 50, reduce effective armor
         if (source.getSource() instanceof PersistentProjectileEntity projectile
                 && projectile.getOwner() instanceof ServerPlayerEntity archer) {
-            PlayerSkillData archerData = archer
-                    .getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS);
-            if (archerData.isSkillSelected(MurilloSkillsList.ARCHER)) {
-                int archerLevel = archerData.getSkill(MurilloSkillsList.ARCHER).level;
-                if (archerLevel >= SkillConfig.getArcherPenetrationLevel()) {
-                    // Scale penetration: 50% at level 50, 100% at level 100
-                    float scaleFactor = (float) (archerLevel - SkillConfig.getArcherPenetrationLevel())
-                            / (float) (SkillConfig.getMaxLevel() - SkillConfig.getArcherPenetrationLevel());
-                    float penetration = SkillConfig.getArcherArmorPenetrationPercent() * (0.5f + 0.5f * scaleFactor);
-                    // Armor penetration means the target takes MORE damage (undo some armor reduction)
-                    // amount is original, modifiedAmount has armor applied by vanilla before this mixin
-                    // We restore a fraction of the difference
-                    float armorReduction = amount - modifiedAmount;
-                    if (armorReduction > 0) {
-                        modifiedAmount += armorReduction * penetration;
-                    }
+            // Scale penetration: 50% at level 50, 100% at level 100 (0 when locked)
+            float penetration = archer.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS)
+                    .getModifiers().archerPenetration();
+            if (penetration > 0) {
+                // Armor penetration means the target takes MORE damage (undo some armor reduction)
+                // amount is original, modifiedAmount has armor applied by vanilla before this mixin
+                // We restore a fraction of the difference
+                float armorReduction = amount - modifiedAmount;
+                if (armorReduction > 0) {
+                    modifiedAmount += armorReduction * penetration;
                 }
             }
         }
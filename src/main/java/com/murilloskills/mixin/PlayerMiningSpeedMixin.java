@@ -1,14 +1,14 @@
 package com.murilloskills.mixin;
 
 import com.murilloskills.data.ModAttachments;
-import com.murilloskills.data.PlayerSkillData;
-import com.murilloskills.impl.MinerSkill;
-import com.murilloskills.skills.MurilloSkillsList;
 import com.murilloskills.utils.MinecraftVersionCompat;
 import net.minecraft.block.BlockState;
+import net.minecraft.entity.attribute.EntityAttribute;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.network.ServerPlayerEntity;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
@@ -16,24 +16,29 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(PlayerEntity.class)
 public abstract class PlayerMiningSpeedMixin {
 
+    // Whether the attribute exists is fixed for the running version, so it is looked up once.
+    @Unique
+    private static RegistryEntry<EntityAttribute> murilloskills$breakSpeedAttribute;
+    @Unique
+    private static boolean murilloskills$breakSpeedResolved;
+
     @Inject(method = "getBlockBreakingSpeed", at = @At("RETURN"), cancellable = true)
     private void murilloskills$applyServerMinerSpeed(BlockState block, CallbackInfoReturnable<Float> cir) {
         PlayerEntity self = (PlayerEntity) (Object) this;
         if (!(self instanceof ServerPlayerEntity player)) {
             return;
         }
-        if (MinecraftVersionCompat.getAttributeInstance(player, "block_break_speed") != null) {
+        if (!murilloskills$breakSpeedResolved) {
+            murilloskills$breakSpeedAttribute = MinecraftVersionCompat.getAttribute("block_break_speed");
+            murilloskills$breakSpeedResolved = true;
+        }
+        if (murilloskills$breakSpeedAttribute != null
+                && player.getAttributeInstance(murilloskills$breakSpeedAttribute) != null) {
             return;
         }
 
         try {
-            PlayerSkillData data = ModAttachments.getOrCreate(player);
-            if (!data.isSkillSelected(MurilloSkillsList.MINER) && !data.isParagonSkill(MurilloSkillsList.MINER)) {
-                return;
-            }
-
-            PlayerSkillData.SkillStats stats = data.getSkill(MurilloSkillsList.MINER);
-            float multiplier = MinerSkill.getMiningSpeedMultiplier(stats.level, stats.prestige);
+            float multiplier = ModAttachments.getOrCreate(player).getModifiers().miningSpeedMultiplier();
             if (multiplier > 1.0f) {
                 cir.setReturnValue(cir.getReturnValue() * multiplier);
             }
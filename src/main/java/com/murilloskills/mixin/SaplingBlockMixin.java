@@ -20,8 +20,6 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Set;
-
 /**
  * Applies Farmer fertile growth to saplings and marks generated logs for one
  * Farmer double-harvest roll.
@@ -32,9 +30,6 @@ public class SaplingBlockMixin {
     @Unique
     private static final Logger LOGGER = LoggerFactory.getLogger("MurilloSkills-SaplingBlockMixin");
 
-    @Unique
-    private static final ThreadLocal<Set<BlockPos>> MURILLOSKILLS$PRE_GENERATE_LOGS = new ThreadLocal<>();
-
     @Inject(method = "randomTick", at = @At("TAIL"))
     private void murilloskills$accelerateSaplingGrowth(BlockState state, ServerWorld world, BlockPos pos,
             Random random, CallbackInfo ci) {
@@ -80,19 +75,15 @@ public class SaplingBlockMixin {
     }
 
     @Inject(method = "generate", at = @At("HEAD"))
-    private void murilloskills$captureLogsBeforeGenerate(ServerWorld world, BlockPos pos, BlockState state,
+    private void murilloskills$captureGeneratedLogs(ServerWorld world, BlockPos pos, BlockState state,
             Random random, CallbackInfo ci) {
-        MURILLOSKILLS$PRE_GENERATE_LOGS.set(FarmerTreeTracker.collectNearbyLogs(world, pos));
+        FarmerTreeTracker.beginGeneration(world);
     }
 
     @Inject(method = "generate", at = @At("RETURN"))
     private void murilloskills$markGeneratedLogs(ServerWorld world, BlockPos pos, BlockState state,
             Random random, CallbackInfo ci) {
-        try {
-            FarmerTreeTracker.markNewGeneratedLogs(world, pos, MURILLOSKILLS$PRE_GENERATE_LOGS.get());
-        } finally {
-            MURILLOSKILLS$PRE_GENERATE_LOGS.remove();
-        }
+        FarmerTreeTracker.endGeneration(world);
     }
 
     @Unique
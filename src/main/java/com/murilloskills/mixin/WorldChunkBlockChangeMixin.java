@@ -0,0 +1,37 @@
+package com.murilloskills.mixin;
+
+import com.murilloskills.impl.MinerSkill;
+import com.murilloskills.skills.UltminePreviewCache;
+import com.murilloskills.utils.FarmerTreeTracker;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Reports block changes in loaded chunks so Miner master vision only rescans
+ * sections where an ore actually appeared or disappeared, cached Ultmine
+ * previews covering the block are dropped, and logs placed by a growing
+ * sapling are recorded for the Farmer. The hooks return immediately while
+ * nothing is being tracked.
+ */
+@Mixin(WorldChunk.class)
+public class WorldChunkBlockChangeMixin {
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void murilloskills$trackOreChange(BlockPos pos, BlockState state, int flags,
+            CallbackInfoReturnable<BlockState> cir) {
+        BlockState previous = cir.getReturnValue();
+        if (previous != null) {
+            World world = ((WorldChunk) (Object) this).getWorld();
+            MinerSkill.onBlockChanged(world, pos, previous, state);
+            if (previous != state) {
+                UltminePreviewCache.onBlockChanged(world, pos);
+                FarmerTreeTracker.onBlockChanged(world, pos, previous, state);
+            }
+        }
+    }
+}
@@ -13,10 +13,23 @@ import java.util.List;
 /**
  * Server -> Client: Lista de blocos de minério para destacar com cores.
  * Cada entrada contém posição, chave de filtro, nome exibível e cor.
+ * Com {@code delta = true}, {@code ores} só traz minérios novos e
+ * {@code removed} as posições que o cliente deve apagar; caso contrário a
+ * lista substitui tudo.
  */
-public record MinerScanResultPayload(List<OreEntry> ores, int remainingDurationTicks) implements CustomPayload {
+public record MinerScanResultPayload(List<OreEntry> ores, List<BlockPos> removed, boolean delta,
+        int remainingDurationTicks) implements CustomPayload {
     public static final CustomPayload.Id<MinerScanResultPayload> ID = new CustomPayload.Id<>(
             Identifier.of(MurilloSkills.MOD_ID, "miner_scan_result"));
+
+    public MinerScanResultPayload(List<OreEntry> ores, int remainingDurationTicks) {
+        this(ores, List.of(), false, remainingDurationTicks);
+    }
+
+    public static MinerScanResultPayload delta(List<OreEntry> added, List<BlockPos> removed,
+            int remainingDurationTicks) {
+        return new MinerScanResultPayload(added, removed, true, remainingDurationTicks);
+    }
 
     /**
      * Tipos de minério com suas cores RGB
@@ -92,6 +105,11 @@ public record MinerScanResultPayload(List<OreEntry> ores, int remainingDurationT
                     buf.writeString(entry.displayName());
                     buf.writeInt(entry.color());
                 }
+                buf.writeBoolean(payload.delta);
+                buf.writeVarInt(payload.removed.size());
+                for (BlockPos pos : payload.removed) {
+                    buf.writeBlockPos(pos);
+                }
                 buf.writeVarInt(Math.max(0, payload.remainingDurationTicks));
             },
             (buf) -> {
@@ -105,8 +123,14 @@ public record MinerScanResultPayload(List<OreEntry> ores, int remainingDurationT
                     int color = buf.readInt();
                     list.add(new OreEntry(pos, type, filterKey, displayName, color));
                 }
+                boolean delta = buf.readBoolean();
+                int removedCount = buf.readVarInt();
+                List<BlockPos> removed = new ArrayList<>(removedCount);
+                for (int i = 0; i < removedCount; i++) {
+                    removed.add(buf.readBlockPos());
+                }
                 int remainingDurationTicks = buf.readVarInt();
-                return new MinerScanResultPayload(list, remainingDurationTicks);
+                return new MinerScanResultPayload(list, removed, delta, remainingDurationTicks);
             });
 
     @Override
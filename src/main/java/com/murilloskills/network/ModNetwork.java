@@ -15,6 +15,7 @@ public class ModNetwork {
 
     private static void registerS2CPayloads() {
         PayloadTypeRegistry.playS2C().register(SkillsSyncPayload.ID, SkillsSyncPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(SkillsDeltaS2CPayload.ID, SkillsDeltaS2CPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(MinerScanResultPayload.ID, MinerScanResultPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(RainDanceS2CPayload.ID, RainDanceS2CPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(TreasureHunterS2CPayload.ID, TreasureHunterS2CPayload.CODEC);
@@ -22,6 +23,8 @@ public class ModNetwork {
         PayloadTypeRegistry.playS2C().register(XpGainS2CPayload.ID, XpGainS2CPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(DailyChallengesSyncS2CPayload.ID, DailyChallengesSyncS2CPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(UltminePreviewS2CPayload.ID, UltminePreviewS2CPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(UltminePreviewUnchangedS2CPayload.ID,
+                UltminePreviewUnchangedS2CPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(UltmineResultS2CPayload.ID, UltmineResultS2CPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(UltPlacePreviewS2CPayload.ID, UltPlacePreviewS2CPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(PathfinderSyncS2CPayload.ID, PathfinderSyncS2CPayload.CODEC);
@@ -37,6 +40,7 @@ public class ModNetwork {
         PayloadTypeRegistry.playC2S().register(HollowFillToggleC2SPayload.ID, HollowFillToggleC2SPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(VeinMinerToggleC2SPayload.ID, VeinMinerToggleC2SPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(SkillResetC2SPayload.ID, SkillResetC2SPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(SkillsResyncC2SPayload.ID, SkillsResyncC2SPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(NightVisionToggleC2SPayload.ID, NightVisionToggleC2SPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(StepAssistToggleC2SPayload.ID, StepAssistToggleC2SPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(PrestigeC2SPayload.ID, PrestigeC2SPayload.CODEC);
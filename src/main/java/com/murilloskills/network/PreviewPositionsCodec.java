@@ -0,0 +1,108 @@
+package com.murilloskills.network;
+
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact wire format for preview position lists. Previews come from shape
+ * generators that walk rows, columns and layers, so consecutive positions
+ * are usually one fixed step apart. The first position is sent in full;
+ * the rest are sent as runs of "repeat this step N times", the step being a
+ * zigzag varint per axis. A 20x20 plane is about 40 short runs (one along
+ * each row, one jump to the next row) instead of 400 longs. List order is
+ * preserved.
+ */
+public final class PreviewPositionsCodec {
+    private PreviewPositionsCodec() {
+    }
+
+    public static void write(PacketByteBuf buf, List<BlockPos> positions) {
+        int size = positions.size();
+        buf.writeVarInt(size);
+        if (size == 0) {
+            return;
+        }
+        BlockPos first = positions.get(0);
+        buf.writeLong(first.asLong());
+
+        int prevX = first.getX();
+        int prevY = first.getY();
+        int prevZ = first.getZ();
+        int runX = 0;
+        int runY = 0;
+        int runZ = 0;
+        int runLength = 0;
+        for (int i = 1; i < size; i++) {
+            BlockPos pos = positions.get(i);
+            int dx = pos.getX() - prevX;
+            int dy = pos.getY() - prevY;
+            int dz = pos.getZ() - prevZ;
+            if (runLength > 0 && (dx != runX || dy != runY || dz != runZ)) {
+                writeRun(buf, runX, runY, runZ, runLength);
+                runLength = 0;
+            }
+            runX = dx;
+            runY = dy;
+            runZ = dz;
+            runLength++;
+            prevX = pos.getX();
+            prevY = pos.getY();
+            prevZ = pos.getZ();
+        }
+        if (runLength > 0) {
+            writeRun(buf, runX, runY, runZ, runLength);
+        }
+    }
+
+    public static List<BlockPos> read(PacketByteBuf buf) {
+        int size = buf.readVarInt();
+        if (size < 0) {
+            throw new DecoderException("Negative preview size " + size);
+        }
+        if (size == 0) {
+            return new ArrayList<>(0);
+        }
+        List<BlockPos> positions = new ArrayList<>(Math.min(size, 4096));
+        BlockPos first = BlockPos.fromLong(buf.readLong());
+        positions.add(first);
+
+        int x = first.getX();
+        int y = first.getY();
+        int z = first.getZ();
+        while (positions.size() < size) {
+            int dx = unzigzag(buf.readVarInt());
+            int dy = unzigzag(buf.readVarInt());
+            int dz = unzigzag(buf.readVarInt());
+            int runLength = buf.readVarInt();
+            if (runLength <= 0 || runLength > size - positions.size()) {
+                throw new DecoderException("Bad preview run length " + runLength);
+            }
+            for (int i = 0; i < runLength; i++) {
+                x += dx;
+                y += dy;
+                z += dz;
+                positions.add(new BlockPos(x, y, z));
+            }
+        }
+        return positions;
+    }
+
+    private static void writeRun(PacketByteBuf buf, int dx, int dy, int dz, int runLength) {
+        buf.writeVarInt(zigzag(dx));
+        buf.writeVarInt(zigzag(dy));
+        buf.writeVarInt(zigzag(dz));
+        buf.writeVarInt(runLength);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
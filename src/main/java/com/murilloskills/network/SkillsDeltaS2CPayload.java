@@ -0,0 +1,157 @@
+package com.murilloskills.network;
+
+import com.murilloskills.MurilloSkills;
+import com.murilloskills.skills.MurilloSkillsList;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server -> Client: only what changed since the skill state tagged
+ * {@code baseVersion}. The client applies it when its own version matches
+ * and asks for a full {@link SkillsSyncPayload} otherwise. Paragon,
+ * selection and max-selection sections are {@code null}/-1 when unchanged.
+ */
+public record SkillsDeltaS2CPayload(
+        int baseVersion,
+        int version,
+        List<SkillChange> skills,
+        String paragonSkillName,
+        List<MurilloSkillsList> paragonSkills,
+        List<MurilloSkillsList> selectedSkills,
+        int maxSelectedSkills) implements CustomPayload {
+
+    public static final int LEVEL = 1;
+    public static final int XP = 1 << 1;
+    public static final int LAST_ABILITY_USE = 1 << 2;
+    public static final int PRESTIGE = 1 << 3;
+
+    private static final int HAS_PARAGON = 1;
+    private static final int HAS_SELECTION = 1 << 1;
+    private static final int HAS_MAX_SELECTED = 1 << 2;
+
+    public static final CustomPayload.Id<SkillsDeltaS2CPayload> ID = new CustomPayload.Id<>(
+            Identifier.of(MurilloSkills.MOD_ID, "skills_delta"));
+
+    public static final PacketCodec<RegistryByteBuf, SkillsDeltaS2CPayload> CODEC = PacketCodec.ofStatic(
+            SkillsDeltaS2CPayload::write, SkillsDeltaS2CPayload::read);
+
+    /**
+     * One skill's changed fields; fields outside {@code mask} are not sent and
+     * must be ignored.
+     */
+    public record SkillChange(MurilloSkillsList skill, int mask, int level, double xp, long lastAbilityUse,
+            int prestige) {
+
+        public boolean has(int field) {
+            return (mask & field) != 0;
+        }
+    }
+
+    public boolean isEmpty() {
+        return skills.isEmpty() && paragonSkills == null && selectedSkills == null && maxSelectedSkills < 0;
+    }
+
+    public static void write(PacketByteBuf buf, SkillsDeltaS2CPayload payload) {
+        buf.writeVarInt(payload.baseVersion);
+        buf.writeVarInt(payload.version);
+
+        int sections = 0;
+        if (payload.paragonSkills != null) {
+            sections |= HAS_PARAGON;
+        }
+        if (payload.selectedSkills != null) {
+            sections |= HAS_SELECTION;
+        }
+        if (payload.maxSelectedSkills >= 0) {
+            sections |= HAS_MAX_SELECTED;
+        }
+        buf.writeByte(sections);
+
+        buf.writeVarInt(payload.skills.size());
+        for (SkillChange change : payload.skills) {
+            buf.writeEnumConstant(change.skill);
+            buf.writeByte(change.mask);
+            if (change.has(LEVEL)) {
+                buf.writeVarInt(change.level);
+            }
+            if (change.has(XP)) {
+                buf.writeDouble(change.xp);
+            }
+            if (change.has(LAST_ABILITY_USE)) {
+                // -1 means "never used"; shift it so the common values stay short
+                buf.writeVarLong(change.lastAbilityUse + 1);
+            }
+            if (change.has(PRESTIGE)) {
+                buf.writeVarInt(change.prestige);
+            }
+        }
+
+        if ((sections & HAS_PARAGON) != 0) {
+            buf.writeString(payload.paragonSkillName);
+            writeSkillList(buf, payload.paragonSkills);
+        }
+        if ((sections & HAS_SELECTION) != 0) {
+            writeSkillList(buf, payload.selectedSkills);
+        }
+        if ((sections & HAS_MAX_SELECTED) != 0) {
+            buf.writeVarInt(payload.maxSelectedSkills);
+        }
+    }
+
+    public static SkillsDeltaS2CPayload read(PacketByteBuf buf) {
+        int baseVersion = buf.readVarInt();
+        int version = buf.readVarInt();
+        int sections = buf.readByte();
+
+        int count = buf.readVarInt();
+        List<SkillChange> skills = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MurilloSkillsList skill = buf.readEnumConstant(MurilloSkillsList.class);
+            int mask = buf.readByte();
+            int level = (mask & LEVEL) != 0 ? buf.readVarInt() : 0;
+            double xp = (mask & XP) != 0 ? buf.readDouble() : 0.0;
+            long lastAbilityUse = (mask & LAST_ABILITY_USE) != 0 ? buf.readVarLong() - 1 : -1L;
+            int prestige = (mask & PRESTIGE) != 0 ? buf.readVarInt() : 0;
+            skills.add(new SkillChange(skill, mask, level, xp, lastAbilityUse, prestige));
+        }
+
+        String paragonName = null;
+        List<MurilloSkillsList> paragonSkills = null;
+        if ((sections & HAS_PARAGON) != 0) {
+            paragonName = buf.readString();
+            paragonSkills = readSkillList(buf);
+        }
+        List<MurilloSkillsList> selectedSkills = (sections & HAS_SELECTION) != 0 ? readSkillList(buf) : null;
+        int maxSelectedSkills = (sections & HAS_MAX_SELECTED) != 0 ? buf.readVarInt() : -1;
+
+        return new SkillsDeltaS2CPayload(baseVersion, version, skills, paragonName, paragonSkills, selectedSkills,
+                maxSelectedSkills);
+    }
+
+    private static void writeSkillList(PacketByteBuf buf, List<MurilloSkillsList> skills) {
+        buf.writeVarInt(skills.size());
+        for (MurilloSkillsList skill : skills) {
+            buf.writeEnumConstant(skill);
+        }
+    }
+
+    private static List<MurilloSkillsList> readSkillList(PacketByteBuf buf) {
+        int size = buf.readVarInt();
+        List<MurilloSkillsList> skills = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            skills.add(buf.readEnumConstant(MurilloSkillsList.class));
+        }
+        return skills;
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,30 @@
+package com.murilloskills.network;
+
+import com.murilloskills.MurilloSkills;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Client -> Server: a skill delta did not match the client's skill state
+ * version, so the client asks for a full {@link SkillsSyncPayload}.
+ */
+public record SkillsResyncC2SPayload(int clientVersion) implements CustomPayload {
+
+    public static final CustomPayload.Id<SkillsResyncC2SPayload> ID = new CustomPayload.Id<>(
+            Identifier.of(MurilloSkills.MOD_ID, "skills_resync"));
+
+    public static final PacketCodec<RegistryByteBuf, SkillsResyncC2SPayload> CODEC = PacketCodec.ofStatic(
+            (buf, payload) -> {
+                buf.writeVarInt(payload.clientVersion);
+            },
+            (buf) -> {
+                return new SkillsResyncC2SPayload(buf.readVarInt());
+            });
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
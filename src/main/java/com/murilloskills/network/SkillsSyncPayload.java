@@ -3,6 +3,7 @@ package com.murilloskills.network;
 import com.murilloskills.MurilloSkills;
 import com.murilloskills.data.PlayerSkillData;
 import com.murilloskills.skills.MurilloSkillsList;
+import net.minecraft.network.PacketByteBuf;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.packet.CustomPayload;
@@ -13,7 +14,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Server -> Client: the full skill state, sent on join and whenever the
+ * client's {@code version} no longer matches the server's. Everything in
+ * between goes out as a {@link SkillsDeltaS2CPayload}.
+ */
 public record SkillsSyncPayload(
+        int version,
         Map<MurilloSkillsList, PlayerSkillData.SkillStats> skills,
         String paragonSkillName,
         List<MurilloSkillsList> paragonSkills,
@@ -24,70 +31,78 @@ public record SkillsSyncPayload(
             Identifier.of(MurilloSkills.MOD_ID, "skills_sync"));
 
     public static final PacketCodec<RegistryByteBuf, SkillsSyncPayload> CODEC = PacketCodec.ofStatic(
-            (buf, payload) -> {
-                // Write skills map
-                buf.writeInt(payload.skills.size());
-                payload.skills.forEach((k, v) -> {
-                    buf.writeEnumConstant(k);
-                    buf.writeInt(v.level);
-                    buf.writeDouble(v.xp);
-                    buf.writeLong(v.lastAbilityUse);
-                    buf.writeInt(v.prestige);
-                });
+            SkillsSyncPayload::write, SkillsSyncPayload::read);
 
-                // Write paragon skill name
-                buf.writeString(payload.paragonSkillName);
+    public static void write(PacketByteBuf buf, SkillsSyncPayload payload) {
+        buf.writeVarInt(payload.version);
 
-                // Write all paragon skills
-                buf.writeInt(payload.paragonSkills.size());
-                for (MurilloSkillsList skill : payload.paragonSkills) {
-                    buf.writeEnumConstant(skill);
-                }
+        // Write skills map
+        buf.writeInt(payload.skills.size());
+        payload.skills.forEach((k, v) -> {
+            buf.writeEnumConstant(k);
+            buf.writeInt(v.level);
+            buf.writeDouble(v.xp);
+            buf.writeLong(v.lastAbilityUse);
+            buf.writeInt(v.prestige);
+        });
 
-                // Write selected skills list
-                buf.writeInt(payload.selectedSkills.size());
-                for (MurilloSkillsList skill : payload.selectedSkills) {
-                    buf.writeEnumConstant(skill);
-                }
+        // Write paragon skill name
+        buf.writeString(payload.paragonSkillName);
 
-                // Write max selected skills
-                buf.writeVarInt(payload.maxSelectedSkills);
-            },
-            (buf) -> {
-                // Read skills map
-                int skillsSize = buf.readInt();
-                Map<MurilloSkillsList, PlayerSkillData.SkillStats> skills = new HashMap<>();
-                for (int i = 0; i < skillsSize; i++) {
-                    MurilloSkillsList key = buf.readEnumConstant(MurilloSkillsList.class);
-                    int level = buf.readInt();
-                    double xp = buf.readDouble();
-                    long lastUse = buf.readLong();
-                    int prestige = buf.readInt();
-                    skills.put(key, new PlayerSkillData.SkillStats(level, xp, lastUse, prestige));
-                }
+        // Write all paragon skills
+        buf.writeInt(payload.paragonSkills.size());
+        for (MurilloSkillsList skill : payload.paragonSkills) {
+            buf.writeEnumConstant(skill);
+        }
 
-                // Read paragon skill name
-                String paragonName = buf.readString();
+        // Write selected skills list
+        buf.writeInt(payload.selectedSkills.size());
+        for (MurilloSkillsList skill : payload.selectedSkills) {
+            buf.writeEnumConstant(skill);
+        }
 
-                // Read all paragon skills
-                int paragonSize = buf.readInt();
-                List<MurilloSkillsList> paragonSkills = new ArrayList<>();
-                for (int i = 0; i < paragonSize; i++) {
-                    paragonSkills.add(buf.readEnumConstant(MurilloSkillsList.class));
-                }
+        // Write max selected skills
+        buf.writeVarInt(payload.maxSelectedSkills);
+    }
+
+    public static SkillsSyncPayload read(PacketByteBuf buf) {
+        int version = buf.readVarInt();
+
+        // Read skills map
+        int skillsSize = buf.readInt();
+        Map<MurilloSkillsList, PlayerSkillData.SkillStats> skills = new HashMap<>();
+        for (int i = 0; i < skillsSize; i++) {
+            MurilloSkillsList key = buf.readEnumConstant(MurilloSkillsList.class);
+            int level = buf.readInt();
+            double xp = buf.readDouble();
+            long lastUse = buf.readLong();
+            int prestige = buf.readInt();
+            skills.put(key, new PlayerSkillData.SkillStats(level, xp, lastUse, prestige));
+        }
+
+        // Read paragon skill name
+        String paragonName = buf.readString();
+
+        // Read all paragon skills
+        int paragonSize = buf.readInt();
+        List<MurilloSkillsList> paragonSkills = new ArrayList<>();
+        for (int i = 0; i < paragonSize; i++) {
+            paragonSkills.add(buf.readEnumConstant(MurilloSkillsList.class));
+        }
 
-                // Read selected skills list
-                int selectedSize = buf.readInt();
-                List<MurilloSkillsList> selectedSkills = new ArrayList<>();
-                for (int i = 0; i < selectedSize; i++) {
-                    selectedSkills.add(buf.readEnumConstant(MurilloSkillsList.class));
-                }
+        // Read selected skills list
+        int selectedSize = buf.readInt();
+        List<MurilloSkillsList> selectedSkills = new ArrayList<>();
+        for (int i = 0; i < selectedSize; i++) {
+            selectedSkills.add(buf.readEnumConstant(MurilloSkillsList.class));
+        }
 
-                // Read max selected skills
-                int maxSelectedSkills = buf.readVarInt();
+        // Read max selected skills
+        int maxSelectedSkills = buf.readVarInt();
 
-                return new SkillsSyncPayload(skills, paragonName, paragonSkills, selectedSkills, maxSelectedSkills);
-            });
+        return new SkillsSyncPayload(version, skills, paragonName, paragonSkills, selectedSkills,
+                maxSelectedSkills);
+    }
 
     @Override
     public Id<? extends CustomPayload> getId() {
@@ -7,7 +7,6 @@ import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public record UltPlacePreviewS2CPayload(long requestKey, List<BlockPos> positions) implements CustomPayload {
@@ -17,19 +16,11 @@ public record UltPlacePreviewS2CPayload(long requestKey, List<BlockPos> position
     public static final PacketCodec<RegistryByteBuf, UltPlacePreviewS2CPayload> CODEC = PacketCodec.ofStatic(
             (buf, payload) -> {
                 buf.writeVarLong(payload.requestKey);
-                buf.writeVarInt(payload.positions.size());
-                for (BlockPos pos : payload.positions) {
-                    buf.writeBlockPos(pos);
-                }
+                PreviewPositionsCodec.write(buf, payload.positions);
             },
             (buf) -> {
                 long requestKey = buf.readVarLong();
-                int size = buf.readVarInt();
-                List<BlockPos> positions = new ArrayList<>(size);
-                for (int i = 0; i < size; i++) {
-                    positions.add(buf.readBlockPos());
-                }
-                return new UltPlacePreviewS2CPayload(requestKey, positions);
+                return new UltPlacePreviewS2CPayload(requestKey, PreviewPositionsCodec.read(buf));
             });
 
     @Override
@@ -7,30 +7,30 @@ import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Server -> Client: validated block positions to render as Ultmine preview.
+ * Server -> Client: validated block positions to render as Ultmine preview,
+ * run-encoded by {@link PreviewPositionsCodec}. {@code previewId} names this
+ * preview so the client can report what it holds and the server can answer
+ * with {@link UltminePreviewUnchangedS2CPayload}; 0 means "not cached".
+ * {@code requestKey} echoes the request this answers.
  */
-public record UltminePreviewS2CPayload(List<BlockPos> positions) implements CustomPayload {
+public record UltminePreviewS2CPayload(long requestKey, int previewId, List<BlockPos> positions)
+        implements CustomPayload {
     public static final CustomPayload.Id<UltminePreviewS2CPayload> ID = new CustomPayload.Id<>(
             Identifier.of(MurilloSkills.MOD_ID, "ultmine_preview"));
 
     public static final PacketCodec<RegistryByteBuf, UltminePreviewS2CPayload> CODEC = PacketCodec.ofStatic(
             (buf, payload) -> {
-                buf.writeVarInt(payload.positions.size());
-                for (BlockPos pos : payload.positions) {
-                    buf.writeBlockPos(pos);
-                }
+                buf.writeVarLong(payload.requestKey);
+                buf.writeVarInt(payload.previewId);
+                PreviewPositionsCodec.write(buf, payload.positions);
             },
             (buf) -> {
-                int size = buf.readVarInt();
-                List<BlockPos> list = new ArrayList<>(size);
-                for (int i = 0; i < size; i++) {
-                    list.add(buf.readBlockPos());
-                }
-                return new UltminePreviewS2CPayload(list);
+                long requestKey = buf.readVarLong();
+                int previewId = buf.readVarInt();
+                return new UltminePreviewS2CPayload(requestKey, previewId, PreviewPositionsCodec.read(buf));
             });
 
     @Override
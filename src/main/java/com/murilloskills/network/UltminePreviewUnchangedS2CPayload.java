@@ -0,0 +1,28 @@
+package com.murilloskills.network;
+
+import com.murilloskills.MurilloSkills;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Server -> Client: the Ultmine preview the client already holds under
+ * {@code previewId} is still valid; keep showing it. {@code requestKey} echoes
+ * the request this answers.
+ */
+public record UltminePreviewUnchangedS2CPayload(long requestKey, int previewId) implements CustomPayload {
+    public static final CustomPayload.Id<UltminePreviewUnchangedS2CPayload> ID = new CustomPayload.Id<>(
+            Identifier.of(MurilloSkills.MOD_ID, "ultmine_preview_unchanged"));
+
+    public static final PacketCodec<RegistryByteBuf, UltminePreviewUnchangedS2CPayload> CODEC = PacketCodec.tuple(
+            PacketCodecs.VAR_LONG, UltminePreviewUnchangedS2CPayload::requestKey,
+            PacketCodecs.VAR_INT, UltminePreviewUnchangedS2CPayload::previewId,
+            UltminePreviewUnchangedS2CPayload::new);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
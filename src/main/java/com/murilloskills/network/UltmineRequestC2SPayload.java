@@ -10,9 +10,13 @@ import net.minecraft.util.math.Direction;
 
 /**
  * Client -> Server: asks for a validated preview for the currently selected
- * ultmine shape.
+ * ultmine shape. {@code previewId} is the preview the client currently shows
+ * (0 for none), so the server can answer "unchanged" when it is still valid.
+ * {@code requestKey} is echoed in the reply so the client can drop replies to
+ * requests it has since superseded.
  */
-public record UltmineRequestC2SPayload(BlockPos targetPos, Direction face) implements CustomPayload {
+public record UltmineRequestC2SPayload(BlockPos targetPos, Direction face, int previewId, long requestKey)
+        implements CustomPayload {
     public static final CustomPayload.Id<UltmineRequestC2SPayload> ID = new CustomPayload.Id<>(
             Identifier.of(MurilloSkills.MOD_ID, "ultmine_request"));
 
@@ -20,10 +24,14 @@ public record UltmineRequestC2SPayload(BlockPos targetPos, Direction face) imple
             (buf, payload) -> {
                 buf.writeBlockPos(payload.targetPos);
                 buf.writeEnumConstant(payload.face);
+                buf.writeVarInt(payload.previewId);
+                buf.writeVarLong(payload.requestKey);
             },
             (buf) -> new UltmineRequestC2SPayload(
                     buf.readBlockPos(),
-                    buf.readEnumConstant(Direction.class)));
+                    buf.readEnumConstant(Direction.class),
+                    buf.readVarInt(),
+                    buf.readVarLong()));
 
     @Override
     public Id<? extends CustomPayload> getId() {
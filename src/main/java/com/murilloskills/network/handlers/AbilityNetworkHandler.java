@@ -64,6 +64,9 @@ public final class AbilityNetworkHandler {
                         LOGGER.info("[Ability] activating player={} skill={} level={} prestige={} lastUseBefore={}",
                                 player.getName().getString(), activeParagon, stats.level, stats.prestige, before);
                         skill.onActiveAbility(player, stats);
+                        if (stats.lastAbilityUse != before) {
+                            playerData.markDirty();
+                        }
                         LOGGER.info("[Ability] completed player={} skill={} lastUseAfter={}",
                                 player.getName().getString(), activeParagon, stats.lastAbilityUse);
                         SkillsNetworkUtils.syncSkills(player);
@@ -49,6 +49,7 @@ public final class NetworkHandlerRegistry {
             registerHandler("SkillAbility", SkillAbilityC2SPayload.ID, AbilityNetworkHandler.create());
             registerHandler("SkillReset", SkillResetC2SPayload.ID, SkillResetNetworkHandler.create());
             registerHandler("Prestige", PrestigeC2SPayload.ID, PrestigeNetworkHandler.create());
+            registerHandler("SkillsResync", SkillsResyncC2SPayload.ID, SkillsResyncNetworkHandler.create());
 
             // Skill Toggle Handlers (Feature Activation)
             registerHandler("AreaPlanting", AreaPlantingToggleC2SPayload.ID, AreaPlantingNetworkHandler.create());
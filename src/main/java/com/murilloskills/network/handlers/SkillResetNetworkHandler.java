@@ -44,12 +44,14 @@ public final class SkillResetNetworkHandler {
                     stats.level = 0;
                     stats.xp = 0;
                     stats.lastAbilityUse = -1; // Reset cooldown too
+                    data.markDirty();
 
                     // If this was a paragon skill, remove only this paragon status
                     data.clearParagonSkill(payload.skill());
 
                     // Remove skill from selection - player can now choose a new one
                     data.selectedSkills.remove(payload.skill());
+                    data.markDirty();
 
                     // Update attributes to reflect reset
                     SkillAttributes.updateAllStats(player);
@@ -177,6 +177,7 @@ public final class SkillSelectionNetworkHandler {
         // Add new synergy to mask
         int newMask = currentMask | bit;
         data.achievementStats.put("synergies_activated", newMask);
+        data.markDirty();
 
         // Check if all 14 synergies activated (bitmask = 16383 = 2^14 - 1)
         if (newMask == 16383) {
@@ -0,0 +1,33 @@
+package com.murilloskills.network.handlers;
+
+import com.murilloskills.network.SkillsResyncC2SPayload;
+import com.murilloskills.utils.SkillSyncTracker;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles a client asking for a full skill sync after a delta did not match
+ * its skill state version.
+ */
+public final class SkillsResyncNetworkHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger("MurilloSkills-SkillsResyncHandler");
+
+    private SkillsResyncNetworkHandler() {
+    }
+
+    public static ServerPlayNetworking.PlayPayloadHandler<SkillsResyncC2SPayload> create() {
+        return (payload, context) -> {
+            context.server().execute(() -> {
+                try {
+                    var player = context.player();
+                    LOGGER.debug("Player {} asked for a full skill sync (client version {})",
+                            player.getName().getString(), payload.clientVersion());
+                    SkillSyncTracker.requestFullSync(player);
+                } catch (Exception e) {
+                    LOGGER.error("Error processing skill resync request", e);
+                }
+            });
+        };
+    }
+}
@@ -23,24 +23,27 @@ public final class UltmineRequestNetworkHandler {
                 var world = player.getEntityWorld();
 
                 if (!VeinMinerHandler.isVeinMinerActive(player)) {
-                    ServerPlayNetworking.send(player, new UltminePreviewS2CPayload(java.util.List.of()));
+                    ServerPlayNetworking.send(player, new UltminePreviewS2CPayload(payload.requestKey(), 0,
+                            java.util.List.of()));
                     return;
                 }
 
                 if (player.getEyePos().squaredDistanceTo(payload.targetPos().toCenterPos()) > 81.0) {
-                    ServerPlayNetworking.send(player, new UltminePreviewS2CPayload(java.util.List.of()));
+                    ServerPlayNetworking.send(player, new UltminePreviewS2CPayload(payload.requestKey(), 0,
+                            java.util.List.of()));
                     return;
                 }
 
                 var state = world.getBlockState(payload.targetPos());
                 if (state.isAir()) {
-                    ServerPlayNetworking.send(player, new UltminePreviewS2CPayload(java.util.List.of()));
+                    ServerPlayNetworking.send(player, new UltminePreviewS2CPayload(payload.requestKey(), 0,
+                            java.util.List.of()));
                     return;
                 }
 
                 VeinMinerHandler.registerUltmineTarget(player, payload.targetPos(), payload.face(), world.getTime());
-                var preview = VeinMinerHandler.getValidatedUltminePreview(player, world, payload.targetPos(), payload.face());
-                ServerPlayNetworking.send(player, new UltminePreviewS2CPayload(preview));
+                ServerPlayNetworking.send(player, VeinMinerHandler.getUltminePreviewReply(player, world,
+                        payload.targetPos(), payload.face(), payload.previewId(), payload.requestKey()));
             } catch (Exception e) {
                 LOGGER.error("Failed to process ultmine preview request", e);
             }
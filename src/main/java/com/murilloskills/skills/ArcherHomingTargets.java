@@ -0,0 +1,260 @@
+package com.murilloskills.skills;
+
+import com.murilloskills.utils.MinecraftVersionCompat;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Target acquisition for Master Ranger homing arrows. Every arrow without a
+ * target used to run its own 32-block entity query each tick; now the first
+ * arrow of a shooter to search in a tick gathers the living entities around
+ * it into {@link Candidates}, and the shooter's other arrows close to it
+ * score that same list. Arrows too far from it (opposite shots, stragglers)
+ * fall back to their own query of the old size, so a spread-out volley
+ * never costs more than before.
+ */
+public final class ArcherHomingTargets {
+    /** Search radius around the arrow. */
+    static final double MAX_RANGE = 32.0;
+    /** Cosine of the 45° cone in front of the arrow. */
+    static final double MIN_DOT = 0.707;
+    /** How far other arrows may be from the first one and still reuse its query. */
+    static final double SHARED_MARGIN = 8.0;
+
+    private static final Map<UUID, ShooterTargets<LivingEntity>> BY_SHOOTER = new ConcurrentHashMap<>();
+
+    private ArcherHomingTargets() {
+    }
+
+    /**
+     * Best target in a 45° cone in front of the arrow, preferring close and
+     * well-aligned entities, or null when there is none.
+     */
+    public static LivingEntity findBestTarget(ServerPlayerEntity player, ServerWorld world, Vec3d arrowPos,
+            Vec3d arrowDirection) {
+        ShooterTargets<LivingEntity> targets = BY_SHOOTER.computeIfAbsent(player.getUuid(),
+                ignored -> new ShooterTargets<>());
+        return targets.find(world, world.getTime(), arrowPos.x, arrowPos.y, arrowPos.z,
+                arrowDirection.x, arrowDirection.y, arrowDirection.z,
+                (box, into) -> {
+                    for (LivingEntity entity : world.getEntitiesByClass(LivingEntity.class, box,
+                            e -> e != player && e.isAlive() && !e.isSpectator())) {
+                        Vec3d pos = MinecraftVersionCompat.pos(entity);
+                        into.add(entity, pos.x, pos.y + entity.getHeight() * 0.5, pos.z);
+                    }
+                },
+                // Arrows earlier in the tick may have killed some of the gathered entities
+                LivingEntity::isAlive);
+    }
+
+    /**
+     * Whether an arrow keeps steering at the target it picked earlier: the
+     * target must still be a live, non-spectator entity in the arrow's world,
+     * in range and inside the cone. Otherwise the arrow searches again, so
+     * one that flew past its target does not turn back toward it.
+     */
+    public static boolean keepsTarget(LivingEntity target, ServerWorld world, Vec3d arrowPos, Vec3d arrowDirection) {
+        if (target == null || !target.isAlive() || target.isRemoved() || target.isSpectator()
+                || target.getEntityWorld() != world) {
+            return false;
+        }
+        Vec3d pos = MinecraftVersionCompat.pos(target);
+        return inCone(arrowPos.x, arrowPos.y, arrowPos.z, arrowDirection.x, arrowDirection.y, arrowDirection.z,
+                pos.x, pos.y + target.getHeight() * 0.5, pos.z);
+    }
+
+    /**
+     * Whether a target centered at {@code center} is within range and inside
+     * the cone in front of the arrow. Targets closer than half a block always
+     * count: the arrow is about to hit them and the angle is meaningless.
+     */
+    static boolean inCone(double arrowX, double arrowY, double arrowZ, double dirX, double dirY, double dirZ,
+            double centerX, double centerY, double centerZ) {
+        double toX = centerX - arrowX;
+        double toY = centerY - arrowY;
+        double toZ = centerZ - arrowZ;
+        double distance = Math.sqrt(toX * toX + toY * toY + toZ * toZ);
+        if (distance > MAX_RANGE) {
+            return false;
+        }
+        if (distance < 0.5) {
+            return true;
+        }
+        return dirX * (toX / distance) + dirY * (toY / distance) + dirZ * (toZ / distance) >= MIN_DOT;
+    }
+
+    /** Drops the entities gathered this tick; arrows have all ticked by now. */
+    public static void endTick() {
+        for (ShooterTargets<LivingEntity> targets : BY_SHOOTER.values()) {
+            targets.clear();
+        }
+    }
+
+    public static void cleanupPlayerState(UUID playerUuid) {
+        BY_SHOOTER.remove(playerUuid);
+    }
+
+    /** Entity query for a box, adding each hit to {@code into} with the center of its body. */
+    @FunctionalInterface
+    interface TargetQuery<T> {
+        void collect(Box box, Candidates<T> into);
+    }
+
+    /**
+     * One shooter's searches within a tick: the shared candidates gathered
+     * for the first arrow, and scratch space for arrows outside their area.
+     */
+    static final class ShooterTargets<T> {
+        private final Candidates<T> shared = new Candidates<>();
+        private final Candidates<T> single = new Candidates<>();
+
+        T find(Object world, long tick, double arrowX, double arrowY, double arrowZ,
+                double dirX, double dirY, double dirZ, TargetQuery<T> query, Predicate<? super T> valid) {
+            Candidates<T> candidates = shared;
+            if (!shared.covers(world, tick, arrowX, arrowY, arrowZ)) {
+                if (shared.isFor(world, tick)) {
+                    // Outside the shared area: this arrow's own query, as before the sharing
+                    candidates = single;
+                    candidates.reset(world, tick, arrowX, arrowY, arrowZ, 0.0);
+                } else {
+                    candidates.reset(world, tick, arrowX, arrowY, arrowZ, SHARED_MARGIN);
+                }
+                query.collect(candidates.queryBox(), candidates);
+            }
+            return candidates.best(arrowX, arrowY, arrowZ, dirX, dirY, dirZ, valid);
+        }
+
+        void clear() {
+            shared.clear();
+            single.clear();
+        }
+    }
+
+    /**
+     * Candidate targets gathered by one query: the entity and the center of
+     * its body, in parallel arrays so scoring an arrow allocates nothing.
+     * Arrows inside the covered area are at least {@link #MAX_RANGE} away
+     * from the edge of the queried box, so they see every entity they could
+     * pick.
+     */
+    static final class Candidates<T> {
+        private Object world;
+        private long tick = Long.MIN_VALUE;
+        private double minX;
+        private double minY;
+        private double minZ;
+        private double maxX;
+        private double maxY;
+        private double maxZ;
+        private Object[] targets = new Object[16];
+        private double[] xs = new double[16];
+        private double[] ys = new double[16];
+        private double[] zs = new double[16];
+        private int size;
+
+        /** Whether these candidates were gathered in this tick and world. */
+        boolean isFor(Object world, long tick) {
+            return this.world == world && this.tick == tick;
+        }
+
+        /** Whether an arrow at this position can use the gathered candidates. */
+        boolean covers(Object world, long tick, double x, double y, double z) {
+            return isFor(world, tick)
+                    && x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        /**
+         * Starts over for an arrow at this position, covering arrows up to
+         * {@code margin} away from it. The candidates must be gathered again.
+         */
+        void reset(Object world, long tick, double x, double y, double z, double margin) {
+            clear();
+            this.world = world;
+            this.tick = tick;
+            minX = x - margin;
+            minY = y - margin;
+            minZ = z - margin;
+            maxX = x + margin;
+            maxY = y + margin;
+            maxZ = z + margin;
+        }
+
+        /** The covered area grown by the search radius. */
+        Box queryBox() {
+            return new Box(minX - MAX_RANGE, minY - MAX_RANGE, minZ - MAX_RANGE,
+                    maxX + MAX_RANGE, maxY + MAX_RANGE, maxZ + MAX_RANGE);
+        }
+
+        /** Forgets the gathered entities and the world they came from. */
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                targets[i] = null;
+            }
+            size = 0;
+            world = null;
+            tick = Long.MIN_VALUE;
+        }
+
+        void add(T target, double centerX, double centerY, double centerZ) {
+            if (size == targets.length) {
+                int capacity = size * 2;
+                targets = Arrays.copyOf(targets, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+            }
+            targets[size] = target;
+            xs[size] = centerX;
+            ys[size] = centerY;
+            zs[size] = centerZ;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * The candidate with the lowest {@code distance * (1 + 2 * (1 - dot))}
+         * inside the cone, or null. Same scoring as the old per-arrow search.
+         */
+        @SuppressWarnings("unchecked")
+        T best(double arrowX, double arrowY, double arrowZ, double dirX, double dirY, double dirZ,
+                Predicate<? super T> valid) {
+            T bestTarget = null;
+            double bestScore = Double.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                double toX = xs[i] - arrowX;
+                double toY = ys[i] - arrowY;
+                double toZ = zs[i] - arrowZ;
+                double distance = Math.sqrt(toX * toX + toY * toY + toZ * toZ);
+                if (distance > MAX_RANGE || distance < 0.5) {
+                    continue;
+                }
+                double dot = dirX * (toX / distance) + dirY * (toY / distance) + dirZ * (toZ / distance);
+                if (dot < MIN_DOT) {
+                    continue;
+                }
+                double score = distance * (1.0 + (1.0 - dot) * 2.0);
+                if (score < bestScore) {
+                    T target = (T) targets[i];
+                    if (!valid.test(target)) {
+                        continue;
+                    }
+                    bestScore = score;
+                    bestTarget = target;
+                }
+            }
+            return bestTarget;
+        }
+    }
+}
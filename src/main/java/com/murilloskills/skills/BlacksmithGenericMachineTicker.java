@@ -1,31 +1,58 @@
 package com.murilloskills.skills;
 
+import com.murilloskills.utils.BlacksmithBoostRegistry;
+import com.murilloskills.utils.BlacksmithInfluenceIndex;
 import com.murilloskills.utils.BlacksmithMachineSpeedHelper;
-import com.murilloskills.utils.MinecraftVersionCompat;
-import com.murilloskills.utils.SkillConfig;
 import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
 
+/**
+ * Boosts generic modded machines around Blacksmith players. Runs once per
+ * boost interval for the whole server: every chunk touched by at least one
+ * Blacksmith is visited once, so overlapping Blacksmiths never boost the same
+ * machine twice. Only the block entities of loaded chunks are visited, and
+ * classes that can never be boosted are skipped before any reflection.
+ */
 public final class BlacksmithGenericMachineTicker {
     private BlacksmithGenericMachineTicker() {
     }
 
-    public static void tick(ServerPlayerEntity player, int blacksmithLevel) {
-        if (blacksmithLevel <= 0 || player.age % 10 != 0) {
+    public static void tick(MinecraftServer server) {
+        // Every tick: the furnace and machine mixins read their level from it on every machine tick
+        BlacksmithBoostRegistry.refresh(server);
+        if (server.getTicks() % BlacksmithBoostRegistry.BOOST_INTERVAL_TICKS != 0) {
             return;
         }
 
-        ServerWorld world = MinecraftVersionCompat.serverWorld(player);
-        int radius = SkillConfig.getBlacksmithFurnaceSpeedRadius();
-        BlockPos origin = player.getBlockPos();
-        for (BlockPos mutable : BlockPos.iterate(origin.add(-radius, -radius, -radius),
-                origin.add(radius, radius, radius))) {
-            BlockPos pos = mutable.toImmutable();
-            BlockEntity blockEntity = world.getBlockEntity(pos);
-            if (blockEntity != null) {
-                BlacksmithMachineSpeedHelper.tryBoostGenericMachine(blockEntity, world, pos);
+        for (ServerWorld world : server.getWorlds()) {
+            BlacksmithInfluenceIndex index = BlacksmithBoostRegistry.getIndex(world);
+            if (index != null) {
+                tickWorld(world, index);
+            }
+        }
+    }
+
+    private static void tickWorld(ServerWorld world, BlacksmithInfluenceIndex index) {
+        for (long chunkKey : index.chunkKeys()) {
+            // Loaded chunks only: the boost must never force a chunk load.
+            WorldChunk chunk = world.getChunkManager().getWorldChunk(BlacksmithInfluenceIndex.chunkX(chunkKey),
+                    BlacksmithInfluenceIndex.chunkZ(chunkKey));
+            if (chunk == null) {
+                continue;
+            }
+            for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+                if (blockEntity.isRemoved()
+                        || !BlacksmithMachineSpeedHelper.canBoostGenericMachine(blockEntity.getClass())) {
+                    continue;
+                }
+                BlockPos pos = blockEntity.getPos();
+                int bestLevel = index.bestLevel(pos.getX(), pos.getY(), pos.getZ());
+                if (bestLevel > 0) {
+                    BlacksmithMachineSpeedHelper.tryBoostGenericMachine(blockEntity, world, pos, bestLevel);
+                }
             }
         }
     }
@@ -10,7 +10,7 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import com.murilloskills.MurilloSkills;
 
-import com.murilloskills.utils.MinerXpGetter;
+import com.murilloskills.utils.MinerBlockTable;
 import com.murilloskills.utils.XpStreakManager;
 import net.minecraft.block.BlockState;
 import net.minecraft.enchantment.Enchantment;
@@ -37,7 +37,9 @@ public class BlockBreakHandler {
         final ItemStack tool = player.getMainHandStack();
         final ItemEnchantmentsComponent enchantments = tool.getEnchantments();
         final boolean silkTouch = hasSilkTouch(enchantments);
-        final SkillReceptorResult result = MinerXpGetter.isMinerXpBlock(state.getBlock(), silkTouch, false);
+        // One table read per break: XP and challenge flags are precomputed per block
+        final int blockEntry = MinerBlockTable.entry(state.getBlock());
+        final SkillReceptorResult result = MinerBlockTable.xpFor(blockEntry, silkTouch, false);
 
         if (result.didGainXp()) {
             final MinecraftServer server = world.getServer();
@@ -96,22 +98,21 @@ public class BlockBreakHandler {
                     com.murilloskills.utils.DailyChallengeManager.ChallengeType.MINE_BLOCKS, 1);
 
             // Check for ore types
-            String blockId = net.minecraft.registry.Registries.BLOCK.getId(state.getBlock()).toString();
-            if (blockId.contains("_ore") || blockId.contains("ancient_debris")) {
+            if (MinerBlockTable.hasFlag(blockEntry, MinerBlockTable.ORE)) {
                 com.murilloskills.utils.DailyChallengeManager.recordProgress(serverPlayerEntity,
                         com.murilloskills.utils.DailyChallengeManager.ChallengeType.MINE_ORES, 1);
             }
-            if (blockId.contains("deepslate")) {
+            if (MinerBlockTable.hasFlag(blockEntry, MinerBlockTable.DEEPSLATE)) {
                 com.murilloskills.utils.DailyChallengeManager.recordProgress(serverPlayerEntity,
                         com.murilloskills.utils.DailyChallengeManager.ChallengeType.MINE_DEEPSLATE, 1);
             }
-            if (blockId.contains("diamond_ore")) {
+            if (MinerBlockTable.hasFlag(blockEntry, MinerBlockTable.DIAMOND_ORE)) {
                 com.murilloskills.utils.DailyChallengeManager.recordProgress(serverPlayerEntity,
                         com.murilloskills.utils.DailyChallengeManager.ChallengeType.FIND_DIAMONDS, 1);
                 // Grant "First Diamond" advancement
                 com.murilloskills.utils.AdvancementGranter.grantFirstDiamond(serverPlayerEntity);
             }
-            if (blockId.contains("emerald_ore")) {
+            if (MinerBlockTable.hasFlag(blockEntry, MinerBlockTable.EMERALD_ORE)) {
                 // Track emerald count and check for achievement
                 com.murilloskills.utils.AchievementTracker.incrementAndCheck(
                         serverPlayerEntity, MurilloSkillsList.MINER,
@@ -0,0 +1,134 @@
+package com.murilloskills.skills;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player queue of bulk block placements (Builder area fill, UltPlace).
+ * Like the Ultmine break job, each job places at most its per-tick budget of
+ * blocks per server tick, so a large fill is spread over several ticks
+ * instead of stalling one. The first slice runs as soon as a job starts, so
+ * fills that fit in one budget still finish in the placing tick. Jobs are
+ * cancelled on death and dimension change, and the running job reports its
+ * progress on the action bar.
+ */
+public final class PlacementJobQueue {
+    static final int MAX_QUEUED_JOBS = 4;
+    static final int PROGRESS_INTERVAL_TICKS = 10;
+
+    private static final Map<UUID, ArrayDeque<Job>> JOBS = new ConcurrentHashMap<>();
+
+    private PlacementJobQueue() {
+    }
+
+    /** A resumable bulk placement. */
+    public interface Job {
+        ServerWorld world();
+
+        int blocksPerTick();
+
+        /**
+         * Places up to {@code budget} blocks, returning false once there is
+         * nothing left to place.
+         */
+        boolean run(ServerPlayerEntity player, int budget);
+
+        int placed();
+
+        /** Completion from 0 to 100. */
+        int progressPercent();
+
+        /** Reports the result; {@code cancelled} when stopped before the end. */
+        void finish(ServerPlayerEntity player, boolean cancelled);
+    }
+
+    public static boolean isFull(ServerPlayerEntity player) {
+        ArrayDeque<Job> queue = JOBS.get(player.getUuid());
+        return queue != null && queue.size() >= MAX_QUEUED_JOBS;
+    }
+
+    /**
+     * Queues {@code job}, running its first slice straight away when nothing
+     * else is queued. Returns false without queueing when the player's queue
+     * is full.
+     */
+    public static boolean start(ServerPlayerEntity player, Job job) {
+        ArrayDeque<Job> queue = JOBS.computeIfAbsent(player.getUuid(), ignored -> new ArrayDeque<>());
+        if (queue.size() >= MAX_QUEUED_JOBS) {
+            return false;
+        }
+        queue.addLast(job);
+        if (queue.size() > 1) {
+            player.sendMessage(Text.translatable("murilloskills.placement_job.queued", queue.size() - 1)
+                    .formatted(Formatting.YELLOW), true);
+            return true;
+        }
+        if (!job.run(player, job.blocksPerTick())) {
+            completeHead(player, queue);
+        }
+        return true;
+    }
+
+    /**
+     * Runs one budgeted slice of the player's current job.
+     * Called from the global server tick loop.
+     */
+    public static void tick(ServerPlayerEntity player) {
+        if (player == null) {
+            return;
+        }
+        ArrayDeque<Job> queue = JOBS.get(player.getUuid());
+        if (queue == null) {
+            return;
+        }
+        Job job = queue.peekFirst();
+        if (job == null) {
+            JOBS.remove(player.getUuid());
+            return;
+        }
+
+        if (player.isSpectator() || player.isDead() || player.getEntityWorld() != job.world()) {
+            cancel(player);
+            return;
+        }
+
+        if (!job.run(player, job.blocksPerTick())) {
+            completeHead(player, queue);
+            return;
+        }
+        if (player.age % PROGRESS_INTERVAL_TICKS == 0) {
+            player.sendMessage(Text.translatable("murilloskills.placement_job.progress", job.progressPercent(),
+                    job.placed()).formatted(Formatting.AQUA), true);
+        }
+    }
+
+    /** Stops the running job and drops the queued ones, e.g. on death or dimension change. */
+    public static void cancel(ServerPlayerEntity player) {
+        ArrayDeque<Job> queue = JOBS.remove(player.getUuid());
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+        queue.peekFirst().finish(player, true);
+    }
+
+    public static void cleanupPlayerState(UUID playerUuid) {
+        JOBS.remove(playerUuid);
+    }
+
+    private static void completeHead(ServerPlayerEntity player, ArrayDeque<Job> queue) {
+        Job finished = queue.pollFirst();
+        if (queue.isEmpty()) {
+            JOBS.remove(player.getUuid());
+        }
+        if (finished != null) {
+            finished.finish(player, false);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.murilloskills.skills;
+
+/**
+ * Receives the cells of an Ultmine or UltPlace shape one at a time, as plain
+ * coordinates, so a shape can be walked without a {@code BlockPos} per cell.
+ */
+@FunctionalInterface
+public interface ShapeBlockSink {
+    void accept(int x, int y, int z);
+}
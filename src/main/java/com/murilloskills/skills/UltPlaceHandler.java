@@ -3,6 +3,7 @@ package com.murilloskills.skills;
 import com.murilloskills.data.ModAttachments;
 import com.murilloskills.impl.BuilderSkill;
 import com.murilloskills.utils.InventoryBlockFinder;
+import com.murilloskills.utils.InventorySlotIndex;
 import com.murilloskills.utils.SkillConfig;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
@@ -148,7 +149,7 @@ public final class UltPlaceHandler {
             return List.of();
         }
 
-        int availablePlacements = InventoryBlockFinder.countMatchingBlocks(player, held.stack());
+        int availablePlacements = InventorySlotIndex.of(player, held.stack()).totalCount();
         if (availablePlacements <= 0) {
             return List.of();
         }
@@ -184,72 +185,39 @@ public final class UltPlaceHandler {
         if (!(sourceStack.getItem() instanceof BlockItem blockItem)) {
             return;
         }
-        if (!ACTIVE_PLAYERS.add(player.getUuid())) {
+        if (ACTIVE_PLAYERS.contains(player.getUuid())) {
             return;
         }
 
-        try {
-            UltPlaceSelection selection = getSelection(player);
-            if (selection.shape() == UltPlaceShape.SINGLE) {
-                return;
-            }
-
-            int maxPerUse = SkillConfig.getUltPlaceMaxBlocksPerUse();
-            int remainingPlacements = Math.min(Math.max(0, maxPerUse - 1),
-                    InventoryBlockFinder.countMatchingBlocks(player, sourceStack));
-            if (remainingPlacements <= 0) {
-                return;
-            }
-
-            UltPlacePlanner.UltPlacePlan plan = UltPlacePlanner.planFromOrigin(world, player, hand,
-                    copySingle(sourceStack), origin, face, hitPos, selection, remainingPlacements);
-            if (plan.placements().isEmpty()) {
-                if (plan.fallbackReason() != null) {
-                    player.sendMessage(Text.translatable(plan.fallbackReason()).formatted(Formatting.YELLOW), true);
-                }
-                return;
-            }
-
-            List<UndoEntry> snapshotEntries = new ArrayList<>();
-            Set<BlockPos> capturedPositions = new LinkedHashSet<>();
-            addCapturedStates(snapshotEntries, capturedPositions, previousStates);
-
-            int itemsPlaced = previousStates == null || previousStates.isEmpty() ? 0 : 1;
-            SYNTHETIC_PLACEMENTS.add(player.getUuid());
-            try {
-                for (UltPlacePlanner.PlannedPlacement placement : plan.placements()) {
-                    if (!canPlayerModifyAll(world, player, placement.footprint())) {
-                        continue;
-                    }
-
-                    ItemStack liveStack = InventoryBlockFinder.pullMatchingBlockIntoHand(player, sourceStack, hand);
-                    if (liveStack == null || liveStack.isEmpty()) {
-                        break;
-                    }
-
-                    List<UndoEntry> pendingSnapshots = captureCurrentStates(world, placement.footprint(), capturedPositions);
-                    ActionResult result = blockItem.place(createPlacementContext(player, hand, liveStack,
-                            placement.anchorPos(), face, hitPos));
-                    if (result == null || !result.isAccepted()) {
-                        continue;
-                    }
+        UltPlaceSelection selection = getSelection(player);
+        if (selection.shape() == UltPlaceShape.SINGLE) {
+            return;
+        }
+        if (PlacementJobQueue.isFull(player)) {
+            player.sendMessage(Text.translatable("murilloskills.placement_job.busy").formatted(Formatting.RED), true);
+            return;
+        }
 
-                    snapshotEntries.addAll(pendingSnapshots);
-                    for (UndoEntry pendingSnapshot : pendingSnapshots) {
-                        capturedPositions.add(pendingSnapshot.pos());
-                    }
-                    itemsPlaced++;
-                }
-            } finally {
-                SYNTHETIC_PLACEMENTS.remove(player.getUuid());
-            }
+        int maxPerUse = SkillConfig.getUltPlaceMaxBlocksPerUse();
+        InventorySlotIndex blockSlots = InventorySlotIndex.of(player, sourceStack);
+        int remainingPlacements = Math.min(Math.max(0, maxPerUse - 1), blockSlots.totalCount());
+        if (remainingPlacements <= 0) {
+            return;
+        }
 
-            if (itemsPlaced > 1 && !snapshotEntries.isEmpty()) {
-                pushUndoSnapshot(player, new UndoSnapshot(copySingle(sourceStack), itemsPlaced, snapshotEntries));
+        UltPlacePlanner.UltPlacePlan plan = UltPlacePlanner.planFromOrigin(world, player, hand,
+                copySingle(sourceStack), origin, face, hitPos, selection, remainingPlacements);
+        if (plan.placements().isEmpty()) {
+            if (plan.fallbackReason() != null) {
+                player.sendMessage(Text.translatable(plan.fallbackReason()).formatted(Formatting.YELLOW), true);
             }
-        } finally {
-            ACTIVE_PLAYERS.remove(player.getUuid());
+            return;
         }
+
+        UltPlaceJob job = new UltPlaceJob(world, blockItem, copySingle(sourceStack), hand, face, hitPos,
+                plan.placements(), blockSlots);
+        job.addCapturedStates(previousStates);
+        PlacementJobQueue.start(player, job);
     }
 
     public static boolean undoLast(ServerPlayerEntity player) {
@@ -303,6 +271,119 @@ public final class UltPlaceHandler {
         SYNTHETIC_PLACEMENTS.remove(playerUuid);
     }
 
+    /**
+     * Places a planned UltPlace a budget of placements per tick. The undo
+     * snapshot is pushed once the job ends, cancelled or not, so undo always
+     * covers what was actually placed.
+     */
+    private static final class UltPlaceJob implements PlacementJobQueue.Job {
+        private final ServerWorld world;
+        private final BlockItem blockItem;
+        private final ItemStack template;
+        private final Hand hand;
+        private final Direction face;
+        private final Vec3d hitPos;
+        private final List<UltPlacePlanner.PlannedPlacement> placements;
+        private final InventorySlotIndex blockSlots;
+        private final List<UndoEntry> snapshotEntries = new ArrayList<>();
+        private final Set<BlockPos> capturedPositions = new LinkedHashSet<>();
+        private int nextIndex;
+        private int itemsPlaced;
+        private boolean outOfBlocks;
+
+        private UltPlaceJob(ServerWorld world, BlockItem blockItem, ItemStack template, Hand hand, Direction face,
+                Vec3d hitPos, List<UltPlacePlanner.PlannedPlacement> placements, InventorySlotIndex blockSlots) {
+            this.world = world;
+            this.blockItem = blockItem;
+            this.template = template;
+            this.hand = hand;
+            this.face = face;
+            this.hitPos = hitPos;
+            this.placements = placements;
+            this.blockSlots = blockSlots;
+        }
+
+        /** Counts the player's own placement that triggered UltPlace as part of the snapshot. */
+        private void addCapturedStates(Map<BlockPos, BlockState> previousStates) {
+            UltPlaceHandler.addCapturedStates(snapshotEntries, capturedPositions, previousStates);
+            if (previousStates != null && !previousStates.isEmpty()) {
+                itemsPlaced = 1;
+            }
+        }
+
+        @Override
+        public ServerWorld world() {
+            return world;
+        }
+
+        @Override
+        public int blocksPerTick() {
+            return SkillConfig.getUltPlaceBlocksPerTick();
+        }
+
+        @Override
+        public boolean run(ServerPlayerEntity player, int budget) {
+            UUID uuid = player.getUuid();
+            ACTIVE_PLAYERS.add(uuid);
+            SYNTHETIC_PLACEMENTS.add(uuid);
+            try {
+                int processed = 0;
+                while (processed < budget && nextIndex < placements.size()) {
+                    UltPlacePlanner.PlannedPlacement placement = placements.get(nextIndex++);
+                    processed++;
+                    if (!canPlayerModifyAll(world, player, placement.footprint())) {
+                        continue;
+                    }
+
+                    ItemStack liveStack = blockSlots.pullIntoHand(hand);
+                    if (liveStack.isEmpty()) {
+                        outOfBlocks = true;
+                        break;
+                    }
+
+                    List<UndoEntry> pendingSnapshots = captureCurrentStates(world, placement.footprint(),
+                            capturedPositions);
+                    ActionResult result = blockItem.place(createPlacementContext(player, hand, liveStack,
+                            placement.anchorPos(), face, hitPos));
+                    if (result == null || !result.isAccepted()) {
+                        continue;
+                    }
+
+                    snapshotEntries.addAll(pendingSnapshots);
+                    for (UndoEntry pendingSnapshot : pendingSnapshots) {
+                        capturedPositions.add(pendingSnapshot.pos());
+                    }
+                    itemsPlaced++;
+                }
+            } finally {
+                SYNTHETIC_PLACEMENTS.remove(uuid);
+                ACTIVE_PLAYERS.remove(uuid);
+            }
+            return !outOfBlocks && nextIndex < placements.size();
+        }
+
+        @Override
+        public int placed() {
+            return itemsPlaced;
+        }
+
+        @Override
+        public int progressPercent() {
+            return placements.isEmpty() ? 100 : (int) (100L * nextIndex / placements.size());
+        }
+
+        @Override
+        public void finish(ServerPlayerEntity player, boolean cancelled) {
+            if (itemsPlaced > 1 && !snapshotEntries.isEmpty()) {
+                pushUndoSnapshot(player, new UndoSnapshot(template, itemsPlaced, snapshotEntries));
+            }
+            if (cancelled) {
+                player.sendMessage(Text.translatable("murilloskills.ultplace.cancelled", itemsPlaced)
+                        .formatted(Formatting.YELLOW), true);
+            }
+        }
+    }
+
     private static ItemPlacementContext createPlacementContext(ServerPlayerEntity player, Hand hand, ItemStack stack,
             BlockPos pos, Direction face, Vec3d baseHitPos) {
         Vec3d safeHitPos = baseHitPos == null ? pos.toCenterPos() : baseHitPos;
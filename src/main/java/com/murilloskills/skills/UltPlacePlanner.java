@@ -90,23 +90,34 @@ public final class UltPlacePlanner {
         Vec3d lookVec = player != null ? player.getRotationVec(1.0f) : Vec3d.of(face.getVector());
         Direction horizontalFacing = player != null ? player.getHorizontalFacing() : Direction.NORTH;
 
-        List<BlockPos> layout = UltPlaceShapeCalculator.getShapeBlocks(origin, safeSelection.shape(), safeSelection.size(),
-                safeSelection.length(), safeSelection.height(), face, lookVec, horizontalFacing, safeSelection.variant(),
-                safeSelection.anchorMode(), safeSelection.rotationMode(), safeSelection.spacing());
-        if (layout.isEmpty()) {
-            return UltPlacePlan.empty(origin);
-        }
-
+        List<BlockPos> layout;
         String fallbackReason = null;
-        if (layout.size() > 1 && !supportsMassPlacement(blockItem)) {
-            fallbackReason = COMPLEX_FALLBACK_KEY;
-            if (includeOrigin) {
-                layout = List.of(origin.toImmutable());
+        if (supportsMassPlacement(blockItem)) {
+            layout = UltPlaceShapeCalculator.getShapeBlocks(origin, safeSelection.shape(), safeSelection.size(),
+                    safeSelection.length(), safeSelection.height(), face, lookVec, horizontalFacing,
+                    safeSelection.variant(), safeSelection.anchorMode(), safeSelection.rotationMode(),
+                    safeSelection.spacing());
+            if (layout.isEmpty()) {
+                return UltPlacePlan.empty(origin);
+            }
+            prioritizePlacementOrder(layout, origin);
+        } else {
+            // Complex items only need to know whether the shape holds more than one cell
+            FirstCell first = new FirstCell();
+            UltPlaceShapeCalculator.forEachShapeBlock(origin, safeSelection.shape(), safeSelection.size(),
+                    safeSelection.length(), safeSelection.height(), face, lookVec, horizontalFacing,
+                    safeSelection.variant(), safeSelection.anchorMode(), safeSelection.rotationMode(),
+                    safeSelection.spacing(), first);
+            if (first.count == 0) {
+                return UltPlacePlan.empty(origin);
+            }
+            if (first.count == 1) {
+                layout = List.of(first.pos.toImmutable());
             } else {
-                layout = List.of();
+                fallbackReason = COMPLEX_FALLBACK_KEY;
+                layout = includeOrigin ? List.of(origin.toImmutable()) : List.of();
             }
         }
-        layout = prioritizePlacementOrder(layout, origin);
 
         List<PlannedPlacement> placements = new ArrayList<>();
         Map<BlockPos, PreviewBlock> previewBlocks = new LinkedHashMap<>();
@@ -203,13 +214,12 @@ public final class UltPlacePlanner {
         return List.copyOf(footprint);
     }
 
-    private static List<BlockPos> prioritizePlacementOrder(List<BlockPos> layout, BlockPos origin) {
+    private static void prioritizePlacementOrder(List<BlockPos> layout, BlockPos origin) {
         if (layout.size() <= 1 || origin == null) {
-            return layout;
+            return;
         }
 
-        List<BlockPos> ordered = new ArrayList<>(layout);
-        ordered.sort((left, right) -> {
+        layout.sort((left, right) -> {
             boolean leftIsOrigin = left.equals(origin);
             boolean rightIsOrigin = right.equals(origin);
             if (leftIsOrigin != rightIsOrigin) {
@@ -218,7 +228,6 @@ public final class UltPlacePlanner {
 
             return Long.compare(squaredDistance(left, origin), squaredDistance(right, origin));
         });
-        return ordered;
     }
 
     private static long squaredDistance(BlockPos pos, BlockPos origin) {
@@ -259,6 +268,19 @@ public final class UltPlacePlanner {
         return new UltPlaceSelection(shape, size, length, height, variant, anchorMode, rotationMode, spacing);
     }
 
+    /** Counts the cells of a shape, keeping the first one. */
+    private static final class FirstCell implements ShapeBlockSink {
+        private final BlockPos.Mutable pos = new BlockPos.Mutable();
+        private int count;
+
+        @Override
+        public void accept(int x, int y, int z) {
+            if (count++ == 0) {
+                pos.set(x, y, z);
+            }
+        }
+    }
+
     public record PreviewBlock(BlockPos pos, BlockState state, boolean anchor) {
     }
 
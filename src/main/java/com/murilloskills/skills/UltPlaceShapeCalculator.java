@@ -5,12 +5,13 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Shared shape math for Builder UltPlace preview and execution.
+ * {@link #forEachShapeBlock} walks a shape into a {@link ShapeBlockSink}
+ * without allocating per cell; each generator visits a cell once, so the
+ * list methods no longer de-duplicate through a set.
  */
 public final class UltPlaceShapeCalculator {
 
@@ -54,7 +55,19 @@ public final class UltPlaceShapeCalculator {
     public static List<BlockPos> getShapeBlocks(BlockPos origin, UltPlaceShape shape, int size, int length,
             int height, Direction face, Vec3d lookVec, Direction horizontalFacing, int variant,
             UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode, int spacing) {
-        Set<BlockPos> positions = new LinkedHashSet<>();
+        List<BlockPos> positions = new ArrayList<>();
+        forEachShapeBlock(origin, shape, size, length, height, face, lookVec, horizontalFacing, variant, anchorMode,
+                rotationMode, spacing, (x, y, z) -> positions.add(new BlockPos(x, y, z)));
+        return positions;
+    }
+
+    /**
+     * Walks the shape in the same order as {@link #getShapeBlocks}, handing
+     * each cell's coordinates to {@code sink}.
+     */
+    public static void forEachShapeBlock(BlockPos origin, UltPlaceShape shape, int size, int length,
+            int height, Direction face, Vec3d lookVec, Direction horizontalFacing, int variant,
+            UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode, int spacing, ShapeBlockSink sink) {
         UltPlaceShape safeShape = shape == null ? UltPlaceShape.PLANE_NXN : shape;
         int safeSize = Math.max(1, size);
         int safeLength = Math.max(1, length);
@@ -70,46 +83,44 @@ public final class UltPlaceShapeCalculator {
 
         switch (safeShape) {
             case PLANE_NXN -> addPlane(origin, safeFace, safeSize, safeHorizontalFacing, safeAnchorMode,
-                    safeRotationMode, safeSpacing, positions);
+                    safeRotationMode, safeSpacing, sink);
             case HORIZONTAL_BOX -> addHorizontalBox(origin, safeSize, safeHeight, safeLength, safeFace, safeLook,
-                    safeHorizontalFacing, safeAnchorMode, safeRotationMode, safeSpacing, positions);
+                    safeHorizontalFacing, safeAnchorMode, safeRotationMode, safeSpacing, sink);
             case LINE -> addLine(origin, safeLength, safeLook, safeFace, safeHorizontalFacing, safeAnchorMode,
-                    safeRotationMode, safeSpacing, positions);
+                    safeRotationMode, safeSpacing, sink);
             case WALL -> addWall(origin, safeSize, safeLength, safeFace, safeLook, safeHorizontalFacing,
-                    safeAnchorMode, safeRotationMode, safeSpacing, positions);
+                    safeAnchorMode, safeRotationMode, safeSpacing, sink);
             case STAIRS -> addStairs(origin, safeLength, safeLook, safeFace, safeHorizontalFacing, variant == 1,
-                    safeAnchorMode, safeRotationMode, positions);
-            case COLUMN -> addColumn(origin, safeLength, variant == 1, safeAnchorMode, safeSpacing, positions);
+                    safeAnchorMode, safeRotationMode, sink);
+            case COLUMN -> addColumn(origin, safeLength, variant == 1, safeAnchorMode, safeSpacing, sink);
             case TUNNEL_3X3 -> addTunnel(origin, safeLength, safeLook, safeFace, safeHorizontalFacing,
-                    safeAnchorMode, safeRotationMode, positions);
-            case CIRCLE -> addCircle(origin, safeSize, positions);
-            case SPHERE_SHELL -> addSphereShell(origin, safeSize, positions);
-            case SINGLE -> positions.add(origin.toImmutable());
+                    safeAnchorMode, safeRotationMode, sink);
+            case CIRCLE -> addCircle(origin, safeSize, sink);
+            case SPHERE_SHELL -> addSphereShell(origin, safeSize, sink);
+            case SINGLE -> sink.accept(origin.getX(), origin.getY(), origin.getZ());
         }
-
-        return new ArrayList<>(positions);
     }
 
     private static void addPlane(BlockPos origin, Direction face, int size, Direction horizontalFacing,
-            UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode, int spacing, Set<BlockPos> out) {
+            UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode, int spacing, ShapeBlockSink sink) {
         PlaneAxes axes = resolvePlaneAxes(face, horizontalFacing, rotationMode);
         addPlanar(origin, axes.axisA(), axes.axisB(), axes.normal(), size, size, 1, anchorMode, anchorMode,
-                spacing, out);
+                spacing, sink);
     }
 
     private static void addHorizontalBox(BlockPos origin, int width, int height, int length, Direction face,
             Vec3d lookVec, Direction horizontalFacing, UltPlaceAnchorMode anchorMode,
-            UltPlaceRotationMode rotationMode, int spacing, Set<BlockPos> out) {
+            UltPlaceRotationMode rotationMode, int spacing, ShapeBlockSink sink) {
         Direction forward = resolveHorizontalDirection(lookVec, face, horizontalFacing, rotationMode);
         Direction right = rotateClockwise(forward);
         IntVector vertical = face == Direction.DOWN ? new IntVector(0, -1, 0) : new IntVector(0, 1, 0);
         addPlanar(origin, vector(right), vector(forward), vertical, width, length, height, anchorMode, anchorMode,
-                spacing, out);
+                spacing, sink);
     }
 
     private static void addPlanar(BlockPos origin, IntVector axisA, IntVector axisB, IntVector normal, int width,
             int height, int depth, UltPlaceAnchorMode axisAMode, UltPlaceAnchorMode axisBMode, int spacing,
-            Set<BlockPos> out) {
+            ShapeBlockSink sink) {
         int[] rangeA = anchoredRange(width, axisAMode);
         int[] rangeB = anchoredRange(height, axisBMode);
         int safeSpacing = Math.max(1, spacing);
@@ -123,17 +134,17 @@ public final class UltPlaceShapeCalculator {
                     if (Math.floorMod(b, safeSpacing) != 0) {
                         continue;
                     }
-                    out.add(origin.add(
-                            normal.x() * layer + axisA.x() * a + axisB.x() * b,
-                            normal.y() * layer + axisA.y() * a + axisB.y() * b,
-                            normal.z() * layer + axisA.z() * a + axisB.z() * b));
+                    sink.accept(
+                            origin.getX() + normal.x() * layer + axisA.x() * a + axisB.x() * b,
+                            origin.getY() + normal.y() * layer + axisA.y() * a + axisB.y() * b,
+                            origin.getZ() + normal.z() * layer + axisA.z() * a + axisB.z() * b);
                 }
             }
         }
     }
 
     private static void addLine(BlockPos origin, int length, Vec3d lookVec, Direction face, Direction horizontalFacing,
-            UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode, int spacing, Set<BlockPos> out) {
+            UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode, int spacing, ShapeBlockSink sink) {
         Direction direction = resolveLineDirection(lookVec, face, horizontalFacing, rotationMode);
         int[] range = anchoredRange(length, anchorMode);
         int safeSpacing = Math.max(1, spacing);
@@ -141,34 +152,35 @@ public final class UltPlaceShapeCalculator {
             if (Math.floorMod(i, safeSpacing) != 0) {
                 continue;
             }
-            out.add(origin.offset(direction, i).toImmutable());
+            sink.accept(origin.getX() + direction.getOffsetX() * i, origin.getY() + direction.getOffsetY() * i,
+                    origin.getZ() + direction.getOffsetZ() * i);
         }
     }
 
     private static void addWall(BlockPos origin, int width, int height, Direction face, Vec3d lookVec,
             Direction horizontalFacing, UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode,
-            int spacing, Set<BlockPos> out) {
+            int spacing, ShapeBlockSink sink) {
         Direction wallFace = resolveWallFace(face, lookVec, horizontalFacing, rotationMode);
         PlaneAxes axes = resolvePlaneAxes(wallFace, horizontalFacing, rotationMode);
         addPlanar(origin, axes.axisA(), axes.axisB(), axes.normal(), width, height, 1, anchorMode, anchorMode,
-                spacing, out);
+                spacing, sink);
     }
 
     private static void addStairs(BlockPos origin, int length, Vec3d lookVec, Direction face,
             Direction horizontalFacing, boolean goDown, UltPlaceAnchorMode anchorMode,
-            UltPlaceRotationMode rotationMode, Set<BlockPos> out) {
+            UltPlaceRotationMode rotationMode, ShapeBlockSink sink) {
         Direction forward = resolveHorizontalDirection(lookVec, face, horizontalFacing, rotationMode);
         int yStep = goDown ? -1 : 1;
         int[] range = anchoredRange(length, anchorMode);
 
         for (int i = range[0]; i <= range[1]; i++) {
-            BlockPos step = origin.offset(forward, i);
-            out.add(new BlockPos(step.getX(), origin.getY() + i * yStep, step.getZ()));
+            sink.accept(origin.getX() + forward.getOffsetX() * i, origin.getY() + i * yStep,
+                    origin.getZ() + forward.getOffsetZ() * i);
         }
     }
 
     private static void addColumn(BlockPos origin, int length, boolean downward, UltPlaceAnchorMode anchorMode,
-            int spacing, Set<BlockPos> out) {
+            int spacing, ShapeBlockSink sink) {
         Direction direction = downward ? Direction.DOWN : Direction.UP;
         int[] range = anchoredRange(length, anchorMode);
         int safeSpacing = Math.max(1, spacing);
@@ -176,13 +188,14 @@ public final class UltPlaceShapeCalculator {
             if (Math.floorMod(i, safeSpacing) != 0) {
                 continue;
             }
-            out.add(origin.offset(direction, i).toImmutable());
+            sink.accept(origin.getX() + direction.getOffsetX() * i, origin.getY() + direction.getOffsetY() * i,
+                    origin.getZ() + direction.getOffsetZ() * i);
         }
     }
 
     private static void addTunnel(BlockPos origin, int length, Vec3d lookVec, Direction face,
             Direction horizontalFacing, UltPlaceAnchorMode anchorMode, UltPlaceRotationMode rotationMode,
-            Set<BlockPos> out) {
+            ShapeBlockSink sink) {
         Direction forward = resolveHorizontalDirection(lookVec, face, horizontalFacing, rotationMode);
         IntVector axisA = forward.getAxis() == Direction.Axis.X
                 ? new IntVector(0, 0, 1)
@@ -191,22 +204,24 @@ public final class UltPlaceShapeCalculator {
         int[] range = anchoredRange(length, anchorMode);
 
         for (int i = range[0]; i <= range[1]; i++) {
-            BlockPos center = origin.offset(forward, i);
+            int centerX = origin.getX() + forward.getOffsetX() * i;
+            int centerY = origin.getY() + forward.getOffsetY() * i;
+            int centerZ = origin.getZ() + forward.getOffsetZ() * i;
             for (int a = -1; a <= 1; a++) {
                 for (int b = -1; b <= 1; b++) {
                     if (a == 0 && b == 0) {
                         continue;
                     }
-                    out.add(center.add(
-                            axisA.x() * a + axisB.x() * b,
-                            axisA.y() * a + axisB.y() * b,
-                            axisA.z() * a + axisB.z() * b));
+                    sink.accept(
+                            centerX + axisA.x() * a + axisB.x() * b,
+                            centerY + axisA.y() * a + axisB.y() * b,
+                            centerZ + axisA.z() * a + axisB.z() * b);
                 }
             }
         }
     }
 
-    private static void addCircle(BlockPos origin, int diameter, Set<BlockPos> out) {
+    private static void addCircle(BlockPos origin, int diameter, ShapeBlockSink sink) {
         double radius = Math.max(0.0, (diameter - 1) / 2.0);
         int bound = (int) Math.ceil(radius);
 
@@ -214,13 +229,13 @@ public final class UltPlaceShapeCalculator {
             for (int dz = -bound; dz <= bound; dz++) {
                 double distance = Math.sqrt(dx * dx + dz * dz);
                 if (distance <= radius + 0.25) {
-                    out.add(origin.add(dx, 0, dz).toImmutable());
+                    sink.accept(origin.getX() + dx, origin.getY(), origin.getZ() + dz);
                 }
             }
         }
     }
 
-    private static void addSphereShell(BlockPos origin, int diameter, Set<BlockPos> out) {
+    private static void addSphereShell(BlockPos origin, int diameter, ShapeBlockSink sink) {
         double radius = Math.max(0.0, (diameter - 1) / 2.0);
         int bound = (int) Math.ceil(radius);
         double innerRadius = Math.max(0.0, radius - 1.0);
@@ -230,7 +245,7 @@ public final class UltPlaceShapeCalculator {
                 for (int dz = -bound; dz <= bound; dz++) {
                     double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
                     if (distance <= radius + 0.25 && distance >= Math.max(0.0, innerRadius - 0.25)) {
-                        out.add(origin.add(dx, dy, dz).toImmutable());
+                        sink.accept(origin.getX() + dx, origin.getY() + dy, origin.getZ() + dz);
                     }
                 }
             }
@@ -2,6 +2,7 @@ package com.murilloskills.skills;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.ItemEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.registry.Registries;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -9,52 +10,55 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 /**
  * Merges bulk Ultmine drops so thousands of block breaks do not become thousands
- * of item entities or inventory insertion attempts.
+ * of item entities or inventory insertion attempts. Bulk breaks count drops per
+ * distinct item and components in a {@link Tally} and only split them into
+ * full stacks when flushed.
  */
 public final class UltmineDropCollector {
     private UltmineDropCollector() {
     }
 
-    public static void addMerged(List<ItemStack> destination, List<ItemStack> drops, Set<String> trashItemIds) {
-        addMergedStacks(destination, drops, itemStackAdapter(stack -> isTrash(stack, trashItemIds)));
-    }
-
-    static void addMerged(List<ItemStack> destination, List<ItemStack> drops, Predicate<ItemStack> trashFilter) {
-        addMergedStacks(destination, drops, itemStackAdapter(trashFilter));
+    public static List<ItemStack> mergeDrops(List<ItemStack> drops, Set<String> trashItemIds) {
+        return mergeDrops(drops, trashFilter(trashItemIds));
     }
 
-    private static void addMergedStacks(List<ItemStack> destination, List<ItemStack> drops,
-            StackAdapter<ItemStack> adapter) {
+    static List<ItemStack> mergeDrops(List<ItemStack> drops, Predicate<ItemStack> trashFilter) {
         if (drops == null || drops.isEmpty()) {
-            return;
+            return new ArrayList<>();
         }
+        Tally<ItemStack> tally = new Tally<>(itemStackAdapter(trashFilter));
         for (ItemStack drop : drops) {
-            addMerged(destination, drop, adapter);
+            tally.add(drop);
         }
+        return tally.drain();
     }
 
-    public static void addMerged(List<ItemStack> destination, ItemStack drop, Set<String> trashItemIds) {
-        addMerged(destination, drop, stack -> isTrash(stack, trashItemIds));
-    }
-
-    static void addMerged(List<ItemStack> destination, ItemStack drop, Predicate<ItemStack> trashFilter) {
-        addMerged(destination, drop, itemStackAdapter(trashFilter));
+    /** Tally of ItemStack drops for one bulk break; trash is decided once per item. */
+    static Tally<ItemStack> newTally(Set<String> trashItemIds) {
+        return new Tally<>(itemStackAdapter(trashFilter(trashItemIds)));
     }
 
-    public static List<ItemStack> mergeDrops(List<ItemStack> drops, Set<String> trashItemIds) {
-        return mergeDrops(drops, stack -> isTrash(stack, trashItemIds));
-    }
-
-    static List<ItemStack> mergeDrops(List<ItemStack> drops, Predicate<ItemStack> trashFilter) {
-        List<ItemStack> merged = new ArrayList<>();
-        addMerged(merged, drops, trashFilter);
-        return merged;
+    /**
+     * Trash test against registry ids that resolves each item's id once and
+     * remembers the answer for the lifetime of the returned filter.
+     */
+    static Predicate<ItemStack> trashFilter(Set<String> trashItemIds) {
+        if (trashItemIds == null || trashItemIds.isEmpty()) {
+            return stack -> false;
+        }
+        Map<Item, Boolean> decided = new IdentityHashMap<>();
+        return stack -> stack != null && !stack.isEmpty()
+                && decided.computeIfAbsent(stack.getItem(),
+                        item -> trashItemIds.contains(Registries.ITEM.getId(item).toString()));
     }
 
     public static boolean isTrash(ItemStack stack, Set<String> trashItemIds) {
@@ -101,39 +105,6 @@ public final class UltmineDropCollector {
         world.spawnEntity(itemEntity);
     }
 
-    static <T> void addMerged(List<T> destination, T drop, StackAdapter<T> adapter) {
-        if (destination == null || adapter == null || adapter.isEmpty(drop) || adapter.isTrash(drop)) {
-            return;
-        }
-
-        int remaining = adapter.getCount(drop);
-        while (remaining > 0) {
-            int moved = mergeIntoExisting(destination, drop, remaining, adapter);
-            if (moved <= 0) {
-                int count = Math.min(remaining, adapter.getMaxCount(drop));
-                destination.add(adapter.copyWithCount(drop, count));
-                moved = count;
-            }
-            remaining -= moved;
-        }
-    }
-
-    private static <T> int mergeIntoExisting(List<T> destination, T source, int maxToMove, StackAdapter<T> adapter) {
-        for (T existing : destination) {
-            if (!adapter.canMerge(existing, source)) {
-                continue;
-            }
-            int space = adapter.getMaxCount(existing) - adapter.getCount(existing);
-            if (space <= 0) {
-                continue;
-            }
-            int moved = Math.min(space, maxToMove);
-            adapter.increment(existing, moved);
-            return moved;
-        }
-        return 0;
-    }
-
     private static StackAdapter<ItemStack> itemStackAdapter(Predicate<ItemStack> trashFilter) {
         return new StackAdapter<>() {
             @Override
@@ -162,8 +133,9 @@ public final class UltmineDropCollector {
             }
 
             @Override
-            public void increment(ItemStack stack, int amount) {
-                stack.increment(amount);
+            public int mergeHash(ItemStack stack) {
+                // Consistent with areItemsAndComponentsEqual: same item, same component changes
+                return 31 * stack.getItem().hashCode() + stack.getComponentChanges().hashCode();
             }
 
             @Override
@@ -186,8 +158,103 @@ public final class UltmineDropCollector {
 
         boolean canMerge(T existing, T source);
 
-        void increment(T stack, int amount);
+        /** Hash that agrees with {@link #canMerge}: mergeable stacks hash alike. */
+        int mergeHash(T stack);
 
         T copyWithCount(T stack, int count);
     }
+
+    /**
+     * Running count per distinct stack kind, in first-seen order. Adding a drop
+     * is one hash lookup; trash is checked once per kind. {@link #drain()}
+     * splits the counts into full stacks.
+     */
+    static final class Tally<T> {
+        private final StackAdapter<T> adapter;
+        private final Map<Key, Entry<T>> entries = new LinkedHashMap<>();
+        private final Key probe = new Key();
+
+        Tally(StackAdapter<T> adapter) {
+            this.adapter = adapter;
+        }
+
+        void add(T drop) {
+            if (adapter.isEmpty(drop)) {
+                return;
+            }
+            probe.stack = drop;
+            probe.hash = adapter.mergeHash(drop);
+            Entry<T> entry = entries.get(probe);
+            if (entry == null) {
+                entry = new Entry<>(adapter.copyWithCount(drop, 1), adapter.isTrash(drop));
+                Key key = new Key();
+                key.stack = entry.prototype;
+                key.hash = probe.hash;
+                entries.put(key, entry);
+            }
+            probe.stack = null;
+            if (!entry.trash) {
+                entry.count += adapter.getCount(drop);
+            }
+        }
+
+        void addAll(List<T> drops) {
+            if (drops == null) {
+                return;
+            }
+            for (T drop : drops) {
+                add(drop);
+            }
+        }
+
+        /** Full stacks for everything counted so far, then resets the counts. */
+        List<T> drain() {
+            List<T> stacks = new ArrayList<>();
+            for (Entry<T> entry : entries.values()) {
+                long remaining = entry.count;
+                int maxCount = Math.max(1, adapter.getMaxCount(entry.prototype));
+                while (remaining > 0) {
+                    int count = (int) Math.min(remaining, maxCount);
+                    stacks.add(adapter.copyWithCount(entry.prototype, count));
+                    remaining -= count;
+                }
+                entry.count = 0;
+            }
+            return stacks;
+        }
+
+        private final class Key {
+            private T stack;
+            private int hash;
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public boolean equals(Object other) {
+                if (this == other) {
+                    return true;
+                }
+                if (!(other instanceof Tally<?>.Key)) {
+                    return false;
+                }
+                Key key = (Key) other;
+                return hash == key.hash && adapter.canMerge(key.stack, stack);
+            }
+        }
+
+        private static final class Entry<T> {
+            private final T prototype;
+            private final boolean trash;
+            private long count;
+
+            private Entry(T prototype, boolean trash) {
+                this.prototype = prototype;
+                this.trash = trash;
+            }
+        }
+    }
 }
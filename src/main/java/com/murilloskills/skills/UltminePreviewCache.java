@@ -0,0 +1,150 @@
+package com.murilloskills.skills;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Last Ultmine preview sent to each player. While the ultmine key is held the
+ * client asks for a preview every few ticks; when nothing it depends on has
+ * changed the server answers with the preview id instead of re-running the
+ * shape, classic search and per-block checks. An entry is reused only for the
+ * same {@link Key} (target, face, selection, look for directional shapes,
+ * held tool, skill and config state) while no block inside its covered box
+ * has changed. Entries also expire after {@link #MAX_AGE_TICKS} so checks the
+ * key cannot see (claims, spawn protection) are re-run regularly.
+ */
+public final class UltminePreviewCache {
+    static final long MAX_AGE_TICKS = 40L;
+
+    private static final Map<UUID, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private UltminePreviewCache() {
+    }
+
+    /**
+     * Everything a preview depends on besides the world blocks. Yaw and pitch
+     * only count for shapes that follow the look direction, in whole degrees
+     * like the client's request signature; the preview is computed from that
+     * rounded look so a cache hit matches a fresh walk.
+     */
+    public record Key(World world, BlockPos target, Direction face, UltmineShape shape, int depth, int length,
+            int variant, int yaw, int pitch, int classicSettings, int skillRevision, int configGeneration) {
+    }
+
+    /**
+     * Id of the player's cached preview if it is still valid for {@code key}
+     * and {@code tool}, otherwise 0.
+     */
+    public static int getValidId(UUID player, Key key, ItemStack tool, long worldTime) {
+        Entry entry = ENTRIES.get(player);
+        if (entry == null || entry.stale || !entry.key.equals(key)
+                || worldTime - entry.createdTick > MAX_AGE_TICKS || worldTime < entry.createdTick
+                || !ItemStack.areItemsAndComponentsEqual(entry.tool, tool)) {
+            return 0;
+        }
+        return entry.id;
+    }
+
+    /**
+     * Remembers a freshly computed preview. {@code covered} holds the
+     * positions the preview was computed from (before filtering); a block
+     * change within one block of their bounding box drops the entry.
+     */
+    public static int store(UUID player, Key key, ItemStack tool, Covered covered, long worldTime) {
+        int id = NEXT_ID.incrementAndGet();
+        if (id == 0) {
+            id = NEXT_ID.incrementAndGet();
+        }
+        covered.include(key.target());
+        ENTRIES.put(player, new Entry(id, key, tool.copy(), covered, worldTime));
+        return id;
+    }
+
+    public static void invalidate(UUID player) {
+        ENTRIES.remove(player);
+    }
+
+    /** Called for every block change in a loaded chunk; returns at once while no previews are cached. */
+    public static void onBlockChanged(World world, BlockPos pos) {
+        if (ENTRIES.isEmpty() || world.isClient()) {
+            return;
+        }
+        int x = pos.getX();
+        int y = pos.getY();
+        int z = pos.getZ();
+        for (Entry entry : ENTRIES.values()) {
+            if (entry.key.world() == world && entry.covered.covers(x, y, z)) {
+                entry.stale = true;
+            }
+        }
+    }
+
+    public static void cleanupPlayerState(UUID player) {
+        ENTRIES.remove(player);
+    }
+
+    /**
+     * Bounding box of the positions a preview was computed from, and how many
+     * there were. Shapes feed it cell by cell, so no position list is needed.
+     */
+    public static final class Covered implements ShapeBlockSink {
+        private int minX = Integer.MAX_VALUE;
+        private int minY = Integer.MAX_VALUE;
+        private int minZ = Integer.MAX_VALUE;
+        private int maxX = Integer.MIN_VALUE;
+        private int maxY = Integer.MIN_VALUE;
+        private int maxZ = Integer.MIN_VALUE;
+        private int count;
+
+        @Override
+        public void accept(int x, int y, int z) {
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+            count++;
+        }
+
+        public void include(BlockPos pos) {
+            accept(pos.getX(), pos.getY(), pos.getZ());
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /** The box grown by one, since classic mode also looks at the neighbours of what it found. */
+        private boolean covers(int x, int y, int z) {
+            return x >= minX - 1 && x <= maxX + 1
+                    && y >= minY - 1 && y <= maxY + 1
+                    && z >= minZ - 1 && z <= maxZ + 1;
+        }
+    }
+
+    private static final class Entry {
+        private final int id;
+        private final Key key;
+        private final ItemStack tool;
+        private final Covered covered;
+        private final long createdTick;
+        private volatile boolean stale;
+
+        private Entry(int id, Key key, ItemStack tool, Covered covered, long createdTick) {
+            this.id = id;
+            this.key = key;
+            this.tool = tool;
+            this.covered = covered;
+            this.createdTick = createdTick;
+        }
+    }
+}
@@ -5,12 +5,14 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Pure shape calculator used by both preview and server execution.
+ * {@link #forEachShapeBlock} walks a shape cell by cell into a
+ * {@link ShapeBlockSink} without allocating per cell; every generator visits
+ * each cell once, so no de-duplication is needed. The {@code getShapeBlocks}
+ * methods collect the same walk into a list.
  */
 public final class UltmineShapeCalculator {
 
@@ -29,60 +31,82 @@ public final class UltmineShapeCalculator {
 
     public static List<BlockPos> getShapeBlocks(BlockPos origin, UltmineShape shape, int depth, int length,
             Direction face, Vec3d lookVector, int variant) {
-        Set<BlockPos> positions = new LinkedHashSet<>();
+        List<BlockPos> positions = new ArrayList<>();
+        forEachShapeBlock(origin, shape, depth, length, face, lookVector, variant,
+                (x, y, z) -> positions.add(new BlockPos(x, y, z)));
+        return positions;
+    }
+
+    /**
+     * Walks the shape in the same order as {@link #getShapeBlocks}, handing
+     * each cell's coordinates to {@code sink}.
+     */
+    public static void forEachShapeBlock(BlockPos origin, UltmineShape shape, int depth, int length,
+            Direction face, Vec3d lookVector, int variant, ShapeBlockSink sink) {
         int safeDepth = Math.max(1, depth);
         int safeLength = Math.max(1, length);
 
         switch (shape) {
-            case S_3x3 -> addPlanar(origin, face, 3, 3, safeDepth, positions);
+            case S_3x3 -> addPlanar(origin, face, 3, 3, safeDepth, sink);
             case R_2x1 -> {
                 if (variant == 1) {
-                    addPlanar(origin, face, 1, 2, safeDepth, positions);
+                    addPlanar(origin, face, 1, 2, safeDepth, sink);
                 } else {
-                    addPlanar(origin, face, 2, 1, safeDepth, positions);
+                    addPlanar(origin, face, 2, 1, safeDepth, sink);
                 }
             }
-            case LEGACY -> positions.add(origin);
-            case LINE -> addLine(origin, safeLength, face, lookVector, positions);
-            case STAIRS -> addStairs(origin, safeDepth, face, lookVector, variant == 1, positions);
-            case SQUARE_20x20_D1 -> addSquare(origin, 20, safeDepth, variant, face, positions);
+            case LEGACY -> sink.accept(origin.getX(), origin.getY(), origin.getZ());
+            case LINE -> addLine(origin, safeLength, face, lookVector, sink);
+            case STAIRS -> addStairs(origin, safeDepth, face, lookVector, variant == 1, sink);
+            case SQUARE_20x20_D1 -> addSquare(origin, 20, safeDepth, variant, face, sink);
         }
-
-        return new ArrayList<>(positions);
     }
 
-    private static void addPlanar(BlockPos origin, Direction face, int width, int height, int depth, Set<BlockPos> out) {
-        IntVector axisA;
-        IntVector axisB;
+    private static void addPlanar(BlockPos origin, Direction face, int width, int height, int depth,
+            ShapeBlockSink sink) {
+        int axisAX;
+        int axisAZ;
+        int axisBY;
+        int axisBZ;
 
         if (face.getAxis() == Direction.Axis.Y) {
-            axisA = new IntVector(1, 0, 0);
-            axisB = new IntVector(0, 0, 1);
+            axisAX = 1;
+            axisAZ = 0;
+            axisBY = 0;
+            axisBZ = 1;
         } else if (face.getAxis() == Direction.Axis.X) {
-            axisA = new IntVector(0, 0, 1);
-            axisB = new IntVector(0, 1, 0);
+            axisAX = 0;
+            axisAZ = 1;
+            axisBY = 1;
+            axisBZ = 0;
         } else {
-            axisA = new IntVector(1, 0, 0);
-            axisB = new IntVector(0, 1, 0);
+            axisAX = 1;
+            axisAZ = 0;
+            axisBY = 1;
+            axisBZ = 0;
         }
 
-        IntVector normal = new IntVector(-face.getOffsetX(), -face.getOffsetY(), -face.getOffsetZ());
-        int[] rangeA = centeredRange(width);
-        int[] rangeB = centeredRange(height);
+        int normalX = -face.getOffsetX();
+        int normalY = -face.getOffsetY();
+        int normalZ = -face.getOffsetZ();
+        int minA = centeredMin(width);
+        int maxA = minA + width - 1;
+        int minB = centeredMin(height);
+        int maxB = minB + height - 1;
 
         for (int layer = 0; layer < depth; layer++) {
-            for (int a = rangeA[0]; a <= rangeA[1]; a++) {
-                for (int b = rangeB[0]; b <= rangeB[1]; b++) {
-                    out.add(origin.add(
-                            normal.x() * layer + axisA.x() * a + axisB.x() * b,
-                            normal.y() * layer + axisA.y() * a + axisB.y() * b,
-                            normal.z() * layer + axisA.z() * a + axisB.z() * b));
+            int layerX = origin.getX() + normalX * layer;
+            int layerY = origin.getY() + normalY * layer;
+            int layerZ = origin.getZ() + normalZ * layer;
+            for (int a = minA; a <= maxA; a++) {
+                for (int b = minB; b <= maxB; b++) {
+                    sink.accept(layerX + axisAX * a, layerY + axisBY * b, layerZ + axisAZ * a + axisBZ * b);
                 }
             }
         }
     }
 
-    private static void addLine(BlockPos origin, int length, Direction face, Vec3d lookVector, Set<BlockPos> out) {
+    private static void addLine(BlockPos origin, int length, Direction face, Vec3d lookVector, ShapeBlockSink sink) {
         Vec3d direction;
         if (face.getAxis().isHorizontal()) {
             // Keep horizontal tunneling stable; vertical drift makes the line exit into air too fast.
@@ -90,18 +114,18 @@ public final class UltmineShapeCalculator {
         } else {
             direction = Vec3d.of(face.getVector());
         }
-        out.addAll(traceRayBlocks(origin, direction, length));
+        traceRayBlocks(origin, direction, length, sink);
     }
 
     private static void addStairs(BlockPos origin, int depth, Direction face, Vec3d lookVector, boolean goDown,
-            Set<BlockPos> out) {
+            ShapeBlockSink sink) {
         // Snap to nearest cardinal direction for clean, predictable stairs
         Direction forward = snapToCardinal(lookVector, face);
         int yStep = goDown ? -1 : 1;
 
         for (int i = 0; i < depth; i++) {
-            BlockPos step = origin.offset(forward, i);
-            out.add(new BlockPos(step.getX(), origin.getY() + i * yStep, step.getZ()));
+            sink.accept(origin.getX() + forward.getOffsetX() * i, origin.getY() + i * yStep,
+                    origin.getZ() + forward.getOffsetZ() * i);
         }
     }
 
@@ -131,17 +155,18 @@ public final class UltmineShapeCalculator {
      * variant 2 = vertical E/W (ZY plane, layers going along X)
      */
     private static void addSquare(BlockPos origin, int size, int depth, int variant, Direction face,
-            Set<BlockPos> out) {
-        int[] range = centeredRange(size);
+            ShapeBlockSink sink) {
+        int min = centeredMin(size);
+        int max = min + size - 1;
         switch (variant) {
             case 1 -> {
                 // Vertical N/S: XY plane, depth along Z (into the face)
                 int zDir = (face == Direction.SOUTH) ? 1 : -1;
                 for (int layer = 0; layer < depth; layer++) {
                     int z = origin.getZ() + layer * zDir;
-                    for (int dx = range[0]; dx <= range[1]; dx++) {
-                        for (int dy = range[0]; dy <= range[1]; dy++) {
-                            out.add(new BlockPos(origin.getX() + dx, origin.getY() + dy, z));
+                    for (int dx = min; dx <= max; dx++) {
+                        for (int dy = min; dy <= max; dy++) {
+                            sink.accept(origin.getX() + dx, origin.getY() + dy, z);
                         }
                     }
                 }
@@ -151,9 +176,9 @@ public final class UltmineShapeCalculator {
                 int xDir = (face == Direction.EAST) ? 1 : -1;
                 for (int layer = 0; layer < depth; layer++) {
                     int x = origin.getX() + layer * xDir;
-                    for (int dz = range[0]; dz <= range[1]; dz++) {
-                        for (int dy = range[0]; dy <= range[1]; dy++) {
-                            out.add(new BlockPos(x, origin.getY() + dy, origin.getZ() + dz));
+                    for (int dz = min; dz <= max; dz++) {
+                        for (int dy = min; dy <= max; dy++) {
+                            sink.accept(x, origin.getY() + dy, origin.getZ() + dz);
                         }
                     }
                 }
@@ -162,9 +187,9 @@ public final class UltmineShapeCalculator {
                 // Horizontal: XZ plane, layers going down (original behavior)
                 for (int layer = 0; layer < depth; layer++) {
                     int y = origin.getY() - layer;
-                    for (int dx = range[0]; dx <= range[1]; dx++) {
-                        for (int dz = range[0]; dz <= range[1]; dz++) {
-                            out.add(new BlockPos(origin.getX() + dx, y, origin.getZ() + dz));
+                    for (int dx = min; dx <= max; dx++) {
+                        for (int dz = min; dz <= max; dz++) {
+                            sink.accept(origin.getX() + dx, y, origin.getZ() + dz);
                         }
                     }
                 }
@@ -172,10 +197,8 @@ public final class UltmineShapeCalculator {
         }
     }
 
-    private static int[] centeredRange(int size) {
-        int min = -(size / 2);
-        int max = min + size - 1;
-        return new int[] { min, max };
+    private static int centeredMin(int size) {
+        return -(size / 2);
     }
 
     private static Vec3d safeDirection(Vec3d vector, Vec3d fallback) {
@@ -192,16 +215,15 @@ public final class UltmineShapeCalculator {
      * Voxel traversal (Amanatides-Woo) to guarantee exactly {@code length} unique
      * blocks in ray direction.
      */
-    private static List<BlockPos> traceRayBlocks(BlockPos origin, Vec3d direction, int length) {
-        List<BlockPos> result = new ArrayList<>(length);
+    private static void traceRayBlocks(BlockPos origin, Vec3d direction, int length, ShapeBlockSink sink) {
         Vec3d dir = safeDirection(direction, new Vec3d(1.0, 0.0, 0.0));
 
         int x = origin.getX();
         int y = origin.getY();
         int z = origin.getZ();
-        result.add(origin);
+        sink.accept(x, y, z);
         if (length == 1) {
-            return result;
+            return;
         }
 
         int stepX = (int) Math.signum(dir.x);
@@ -224,7 +246,7 @@ public final class UltmineShapeCalculator {
         double tMaxY = stepY == 0 ? Double.POSITIVE_INFINITY : Math.abs((nextBoundaryY - centerY) / dir.y);
         double tMaxZ = stepZ == 0 ? Double.POSITIVE_INFINITY : Math.abs((nextBoundaryZ - centerZ) / dir.z);
 
-        while (result.size() < length) {
+        for (int emitted = 1; emitted < length; emitted++) {
             double min = Math.min(tMaxX, Math.min(tMaxY, tMaxZ));
 
             if (Double.compare(tMaxX, min) == 0) {
@@ -240,12 +262,7 @@ public final class UltmineShapeCalculator {
                 tMaxZ += tDeltaZ;
             }
 
-            result.add(new BlockPos(x, y, z));
+            sink.accept(x, y, z);
         }
-
-        return result;
-    }
-
-    private record IntVector(int x, int y, int z) {
     }
 }
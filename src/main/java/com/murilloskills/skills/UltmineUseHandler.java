@@ -1,6 +1,6 @@
 package com.murilloskills.skills;
 
-import com.murilloskills.utils.InventoryBlockFinder;
+import com.murilloskills.utils.InventorySlotIndex;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.item.BlockItem;
@@ -141,6 +141,7 @@ public final class UltmineUseHandler {
                 return false;
             }
 
+            InventorySlotIndex blockSlots = InventorySlotIndex.of(player, sourceStack);
             SYNTHETIC_PLACEMENTS.add(player.getUuid());
             try {
                 for (BlockPos targetPos : targets) {
@@ -151,8 +152,8 @@ public final class UltmineUseHandler {
                         continue;
                     }
 
-                    ItemStack liveStack = InventoryBlockFinder.pullMatchingBlockIntoHand(player, sourceStack, hand);
-                    if (liveStack == null || liveStack.isEmpty()) {
+                    ItemStack liveStack = blockSlots.pullIntoHand(hand);
+                    if (liveStack.isEmpty()) {
                         break;
                     }
 
@@ -179,6 +180,7 @@ public final class UltmineUseHandler {
 
         try {
             int placed = 0;
+            InventorySlotIndex blockSlots = InventorySlotIndex.of(player, sourceStack);
 
             SYNTHETIC_PLACEMENTS.add(player.getUuid());
             try {
@@ -187,8 +189,8 @@ public final class UltmineUseHandler {
                         continue;
                     }
 
-                    ItemStack liveStack = InventoryBlockFinder.pullMatchingBlockIntoHand(player, sourceStack, hand);
-                    if (liveStack == null || liveStack.isEmpty()) {
+                    ItemStack liveStack = blockSlots.pullIntoHand(hand);
+                    if (liveStack.isEmpty()) {
                         break;
                     }
 
@@ -226,11 +228,12 @@ public final class UltmineUseHandler {
         UltmineShape shape = VeinMinerHandler.getUltmineShape(player);
         int depth = VeinMinerHandler.getUltmineDepth(player);
         int length = VeinMinerHandler.getUltmineLength(player);
-        for (BlockPos pos : VeinMinerHandler.getShapeBlocks(player, origin, shape, depth, length, face)) {
-            if (pos != null && world.isInBuildLimit(pos)) {
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        VeinMinerHandler.forEachShapeBlock(player, origin, shape, depth, length, face, (x, y, z) -> {
+            if (world.isInBuildLimit(pos.set(x, y, z))) {
                 targets.add(pos.toImmutable());
             }
-        }
+        });
         return targets;
     }
 
@@ -2,11 +2,14 @@ package com.murilloskills.skills;
 
 import com.murilloskills.data.ModAttachments;
 import com.murilloskills.integration.TomsStorageBridge;
+import com.murilloskills.network.UltminePreviewS2CPayload;
+import com.murilloskills.network.UltminePreviewUnchangedS2CPayload;
 import com.murilloskills.network.UltmineResultS2CPayload;
 import com.murilloskills.utils.BatchSkillUpdateContext;
+import com.murilloskills.utils.ConnectedBlockSearch;
 import com.murilloskills.utils.MinecraftVersionCompat;
+import com.murilloskills.utils.SectionBlockReader;
 import com.murilloskills.utils.SkillConfig;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -14,7 +17,9 @@ import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.ExperienceOrbEntity;
 import net.minecraft.entity.ItemEntity;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.registry.Registries;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -24,9 +29,8 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -34,6 +38,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 public final class VeinMinerHandler {
     private static final int DEFAULT_CLASSIC_MAX_BLOCKS = 1500;
@@ -62,6 +67,9 @@ public final class VeinMinerHandler {
     private static final Map<UUID, BlockPos> ULTMINE_LAST_TARGET_POS = new ConcurrentHashMap<>();
     private static final Map<UUID, Direction> ULTMINE_LAST_TARGET_FACE = new ConcurrentHashMap<>();
     private static final Map<UUID, Long> ULTMINE_LAST_TARGET_TICK = new ConcurrentHashMap<>();
+    // How long a reported target face is trusted; the client re-sends its target on
+    // any change and otherwise every second, so this covers one missed keepalive
+    private static final long ULTMINE_TARGET_FACE_TTL_TICKS = 40L;
     private static final Map<UUID, List<PendingOriginCollection>> PENDING_ORIGIN_COLLECTIONS = new ConcurrentHashMap<>();
     private static final Map<UUID, UltmineBreakJob> ULTMINE_JOBS = new ConcurrentHashMap<>();
 
@@ -185,18 +193,6 @@ public final class VeinMinerHandler {
         return whitelist == null || whitelist.isEmpty() ? List.of() : new ArrayList<>(whitelist);
     }
 
-    public static boolean isItemRoutedToStorage(ServerPlayerEntity player, ItemStack stack) {
-        if (stack == null || stack.isEmpty()) {
-            return false;
-        }
-        Set<String> whitelist = STORAGE_WHITELISTS.get(player.getUuid());
-        if (whitelist == null || whitelist.isEmpty()) {
-            return false;
-        }
-        String itemId = Registries.ITEM.getId(stack.getItem()).toString();
-        return whitelist.contains(itemId);
-    }
-
     /**
      * Toggle XP direct-to-player for a player.
      * Returns the new state (true = XP goes directly to player).
@@ -298,6 +294,7 @@ public final class VeinMinerHandler {
         ULTMINE_LAST_USE_TICK.remove(playerUuid);
         ULTMINE_LAST_TARGET_POS.remove(playerUuid);
         ULTMINE_LAST_TARGET_FACE.remove(playerUuid);
+        UltminePreviewCache.cleanupPlayerState(playerUuid);
         ULTMINE_LAST_TARGET_TICK.remove(playerUuid);
         PENDING_ORIGIN_COLLECTIONS.remove(playerUuid);
         ULTMINE_JOBS.remove(playerUuid);
@@ -359,8 +356,8 @@ public final class VeinMinerHandler {
 
         int budget = SkillConfig.getUltmineBlocksPerTick();
         int processed = 0;
-        BulkDropBuffer dropBuffer = new BulkDropBuffer(job.inventoryDrops(), job.xpDirect(), job.storageDrops(),
-                getTrashSet(player), job.origin());
+        BulkDropBuffer dropBuffer = new BulkDropBuffer(job.inventoryDrops(), job.xpDirect(),
+                job.storageRoute(player), getTrashSet(player), job.origin());
 
         BatchSkillUpdateContext.begin(player, "Ultmine");
         try {
@@ -431,7 +428,7 @@ public final class VeinMinerHandler {
         }
 
         int maxBlocks = Math.max(1, SkillConfig.getVeinMinerMaxBlocks());
-        Set<BlockPos> targets = collectConnectedBlocks(world, origin, originState, maxBlocks);
+        long[] targets = collectConnectedBlocks(new SectionBlockReader(world), origin, originState, maxBlocks);
         boolean inventoryDrops = isDropsToInventory(player) && world instanceof ServerWorld;
         boolean storageDrops = shouldRouteDropsToStorage(player) && world instanceof ServerWorld;
         boolean xpDirect = isXpDirectToPlayer(player) && world instanceof ServerWorld;
@@ -446,11 +443,12 @@ public final class VeinMinerHandler {
             collectNearbyXp(player, (ServerWorld) world, origin);
         }
 
-        if (targets.isEmpty()) {
+        if (targets.length == 0) {
             return;
         }
 
-        for (BlockPos pos : targets) {
+        for (long packedPos : targets) {
+            BlockPos pos = BlockPos.fromLong(packedPos);
             BlockState state = world.getBlockState(pos);
             if (state.isAir()) {
                 continue;
@@ -495,46 +493,116 @@ public final class VeinMinerHandler {
             return List.of();
         }
 
+        return collectPreviewTargets(player, world, origin, getCurrentSelection(player), direction,
+                player.getRotationVec(1.0f), new UltminePreviewCache.Covered());
+    }
+
+    /**
+     * Reply to a client preview request. When the client still holds preview
+     * {@code clientPreviewId} and {@link UltminePreviewCache} says it is
+     * current, only the id goes back; otherwise the preview is recomputed and
+     * cached under a new id.
+     */
+    public static CustomPayload getUltminePreviewReply(ServerPlayerEntity player, World world, BlockPos origin,
+            Direction direction, int clientPreviewId, long requestKey) {
+        UUID uuid = player.getUuid();
+        if (!shouldUseUltmine(player)) {
+            UltminePreviewCache.invalidate(uuid);
+            return new UltminePreviewS2CPayload(requestKey, 0, List.of());
+        }
+
         UltmineSelection selection = getCurrentSelection(player);
-        int maxBlocks = getMaxBlocksForSelection(player, selection.shape());
-
-        List<BlockPos> raw = getRawTargetsForShape(player, world, origin, world.getBlockState(origin), selection.shape(),
-                selection.depth(), selection.length(), direction);
-        if (raw.size() > maxBlocks) {
-            return List.of();
+        boolean followsLook = selection.shape() == UltmineShape.LINE || selection.shape() == UltmineShape.STAIRS;
+        // Same one-degree steps as the client signature, so small head movements still hit the cache
+        int yaw = followsLook ? Math.round(player.getYaw()) : 0;
+        int pitch = followsLook ? Math.round(player.getPitch()) : 0;
+        int classicSettings = selection.shape() == UltmineShape.LEGACY
+                ? 31 * getClassicBlockedBlockIds(player).hashCode() + getClassicMaxBlocks(player)
+                : 0;
+        UltminePreviewCache.Key key = new UltminePreviewCache.Key(world, origin.toImmutable(), direction,
+                selection.shape(), selection.depth(), selection.length(), getUltmineVariant(player),
+                yaw, pitch, classicSettings,
+                player.getAttachedOrCreate(ModAttachments.PLAYER_SKILLS).getRevision(),
+                com.murilloskills.config.ModConfig.getGeneration());
+        ItemStack tool = player.getMainHandStack();
+        long now = world.getTime();
+
+        int cachedId = UltminePreviewCache.getValidId(uuid, key, tool, now);
+        if (cachedId != 0 && cachedId == clientPreviewId) {
+            return new UltminePreviewUnchangedS2CPayload(requestKey, cachedId);
         }
 
+        UltminePreviewCache.Covered covered = new UltminePreviewCache.Covered();
+        List<BlockPos> preview = collectPreviewTargets(player, world, origin, selection, direction,
+                Vec3d.fromPolar(pitch, yaw), covered);
+        int id = UltminePreviewCache.store(uuid, key, tool, covered, now);
+        return new UltminePreviewS2CPayload(requestKey, id, preview);
+    }
+
+    /**
+     * Raw targets of the selection that pass the preview checks, or nothing
+     * when there are more raw targets than the selection allows. Every raw
+     * target also goes into {@code covered}. Shapes are walked twice, once to
+     * count and once to check, instead of being listed first. Look-following
+     * shapes use {@code look} instead of the player's current rotation.
+     */
+    private static List<BlockPos> collectPreviewTargets(ServerPlayerEntity player, World world, BlockPos origin,
+            UltmineSelection selection, Direction direction, Vec3d look, UltminePreviewCache.Covered covered) {
+        int maxBlocks = getMaxBlocksForSelection(player, selection.shape());
         ItemStack tool = player.getMainHandStack();
-        List<BlockPos> valid = new ArrayList<>(raw.size());
-        for (BlockPos pos : raw) {
-            BlockState state = world.getBlockState(pos);
-            if (state.isAir()) {
-                continue;
-            }
-            if (!state.getFluidState().isEmpty()) {
-                continue;
-            }
-            if (state.getHardness(world, pos) < 0.0f) {
-                continue;
-            }
-            if (!isUltmineBlockAllowed(state.getBlock())) {
-                continue;
+        if (selection.shape() == UltmineShape.LEGACY) {
+            List<BlockPos> raw = getRawTargetsForShape(player, world, origin, world.getBlockState(origin),
+                    selection.shape(), selection.depth(), selection.length(), direction);
+            for (BlockPos pos : raw) {
+                covered.include(pos);
             }
-            if (!canBreakWith(tool, state, player)) {
-                continue;
+            if (raw.size() > maxBlocks) {
+                return List.of();
             }
-            if (!canPlayerModify(world, player, pos)) {
-                continue;
+            List<BlockPos> valid = new ArrayList<>(raw.size());
+            for (BlockPos pos : raw) {
+                if (isPreviewTarget(player, world, pos, tool)) {
+                    valid.add(pos.toImmutable());
+                }
             }
-            valid.add(pos.toImmutable());
+            return valid;
         }
 
+        int variant = getUltmineVariant(player);
+        UltmineShapeCalculator.forEachShapeBlock(origin, selection.shape(), selection.depth(), selection.length(),
+                direction, look, variant, covered);
+        if (covered.count() > maxBlocks) {
+            return List.of();
+        }
+        List<BlockPos> valid = new ArrayList<>(covered.count());
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        UltmineShapeCalculator.forEachShapeBlock(origin, selection.shape(), selection.depth(), selection.length(),
+                direction, look, variant, (x, y, z) -> {
+                    if (isPreviewTarget(player, world, pos.set(x, y, z), tool)) {
+                        valid.add(pos.toImmutable());
+                    }
+                });
         return valid;
     }
 
-    public static List<BlockPos> getShapeBlocks(ServerPlayerEntity player, UltmineShape shape, int depth, int length,
-            Direction dir) {
-        return getShapeBlocks(player, player.getBlockPos(), shape, depth, length, dir);
+    private static boolean isPreviewTarget(ServerPlayerEntity player, World world, BlockPos pos, ItemStack tool) {
+        BlockState state = world.getBlockState(pos);
+        if (state.isAir()) {
+            return false;
+        }
+        if (!state.getFluidState().isEmpty()) {
+            return false;
+        }
+        if (state.getHardness(world, pos) < 0.0f) {
+            return false;
+        }
+        if (!isUltmineBlockAllowed(state.getBlock())) {
+            return false;
+        }
+        if (!canBreakWith(tool, state, player)) {
+            return false;
+        }
+        return canPlayerModify(world, player, pos);
     }
 
     public static List<BlockPos> getShapeBlocks(ServerPlayerEntity player, BlockPos origin, UltmineShape shape, int depth,
@@ -544,6 +612,16 @@ public final class VeinMinerHandler {
                 variant);
     }
 
+    /**
+     * Walks the player's shape from {@code origin} cell by cell, in the same
+     * order as {@link #getShapeBlocks}.
+     */
+    public static void forEachShapeBlock(ServerPlayerEntity player, BlockPos origin, UltmineShape shape, int depth,
+            int length, Direction dir, ShapeBlockSink sink) {
+        UltmineShapeCalculator.forEachShapeBlock(origin, shape, depth, length, dir, player.getRotationVec(1.0f),
+                getUltmineVariant(player), sink);
+    }
+
     /**
      * Server-only execution for ultmine shape mining.
      */
@@ -658,8 +736,8 @@ public final class VeinMinerHandler {
     private static int executeInstantUltmine(ServerPlayerEntity player, ServerWorld world, BlockPos origin,
             List<BlockPos> targets, boolean inventoryDrops, boolean xpDirect, boolean storageDrops) {
         int minedBlocks = 0;
-        BulkDropBuffer dropBuffer = new BulkDropBuffer(inventoryDrops, xpDirect, storageDrops, getTrashSet(player),
-                origin);
+        BulkDropBuffer dropBuffer = new BulkDropBuffer(inventoryDrops, xpDirect,
+                storageDrops ? StorageRouteFilter.of(player) : null, getTrashSet(player), origin);
 
         BatchSkillUpdateContext.begin(player, "Ultmine");
         try {
@@ -751,11 +829,16 @@ public final class VeinMinerHandler {
                 return List.of();
             }
             int maxLegacyBlocks = getLegacyUltmineLimit(player);
-            Set<BlockPos> connected = collectConnectedBlocks(world, origin, originState, maxLegacyBlocks);
-            addClassicConnectedOres(world, origin, originBlockId, getUltmineVariant(player), blockedBlockIds, connected,
-                    maxLegacyBlocks);
-            connected.add(origin.toImmutable());
-            return new ArrayList<>(connected);
+            SectionBlockReader reader = new SectionBlockReader(world);
+            long[] connected = collectConnectedBlocks(reader, origin, originState, maxLegacyBlocks);
+            connected = addClassicConnectedOres(reader, origin, originBlockId, getUltmineVariant(player),
+                    blockedBlockIds, connected, maxLegacyBlocks);
+            List<BlockPos> targets = new ArrayList<>(connected.length + 1);
+            for (long packedPos : connected) {
+                targets.add(BlockPos.fromLong(packedPos));
+            }
+            targets.add(origin.toImmutable());
+            return targets;
         }
         return getShapeBlocks(player, origin, selection.shape(), selection.depth(), selection.length(), dir);
     }
@@ -779,7 +862,8 @@ public final class VeinMinerHandler {
         if (!sendResultPacket) {
             return;
         }
-        ServerPlayNetworking.send(player, new UltmineResultS2CPayload(success, mined, requestedOrValue, messageKey));
+        BatchSkillUpdateContext.queueUltmineResult(player,
+                new UltmineResultS2CPayload(success, mined, requestedOrValue, messageKey));
     }
 
     private static Direction resolveMiningDirection(ServerPlayerEntity player) {
@@ -799,7 +883,8 @@ public final class VeinMinerHandler {
         Direction lastFace = ULTMINE_LAST_TARGET_FACE.get(uuid);
         long lastTargetTick = ULTMINE_LAST_TARGET_TICK.getOrDefault(uuid, Long.MIN_VALUE);
 
-        if (lastTarget != null && lastFace != null && lastTarget.equals(origin) && (worldTime - lastTargetTick) <= 10) {
+        if (lastTarget != null && lastFace != null && lastTarget.equals(origin)
+                && (worldTime - lastTargetTick) <= ULTMINE_TARGET_FACE_TTL_TICKS) {
             return lastFace;
         }
 
@@ -875,18 +960,7 @@ public final class VeinMinerHandler {
         List<ItemStack> drops = Block.getDroppedStacks(state, serverWorld, pos, world.getBlockEntity(pos), player, tool);
         List<ItemStack> mergedDrops = UltmineDropCollector.mergeDrops(drops, getTrashSet(player));
         if (storageDrops) {
-            for (int i = 0; i < mergedDrops.size(); i++) {
-                ItemStack stack = mergedDrops.get(i);
-                if (stack == null || stack.isEmpty()) {
-                    continue;
-                }
-                if (!isItemRoutedToStorage(player, stack)) {
-                    continue;
-                }
-                ItemStack leftover = TomsStorageBridge.pushToBoundStorage(player, stack);
-                mergedDrops.set(i, leftover == null ? ItemStack.EMPTY : leftover);
-            }
-            mergedDrops.removeIf(stack -> stack == null || stack.isEmpty());
+            pushRoutedDropsToStorage(player, mergedDrops, StorageRouteFilter.of(player));
         }
         if (inventoryDrops) {
             UltmineDropCollector.insertOrSpawn(player, serverWorld, pos, mergedDrops);
@@ -977,6 +1051,12 @@ public final class VeinMinerHandler {
             boolean inventoryDrops, boolean storageDrops) {
         Box searchBox = new Box(pos).expand(0.5);
         List<ItemEntity> items = world.getEntitiesByClass(ItemEntity.class, searchBox, entity -> !entity.isRemoved());
+        StorageRouteFilter storageRoute = null;
+        TomsStorageBridge.BoundStorage storage = null;
+        if (storageDrops && !items.isEmpty()) {
+            storageRoute = StorageRouteFilter.of(player);
+            storage = storageRoute == null ? null : TomsStorageBridge.resolveBoundStorage(player);
+        }
         for (ItemEntity itemEntity : items) {
             ItemStack stack = itemEntity.getStack();
             if (stack.isEmpty()) {
@@ -987,8 +1067,8 @@ public final class VeinMinerHandler {
                 continue;
             }
             ItemStack remaining = stack.copy();
-            if (storageDrops && isItemRoutedToStorage(player, remaining)) {
-                ItemStack leftover = TomsStorageBridge.pushToBoundStorage(player, remaining);
+            if (storage != null && storageRoute.test(remaining)) {
+                ItemStack leftover = storage.push(remaining);
                 remaining = leftover == null ? ItemStack.EMPTY : leftover;
             }
             if (remaining.isEmpty()) {
@@ -1014,141 +1094,37 @@ public final class VeinMinerHandler {
         pending.add(new PendingOriginCollection(pos.toImmutable(), expireTick, inventoryDrops, storageDrops));
     }
 
-    private static Set<BlockPos> collectConnectedBlocks(World world, BlockPos origin, BlockState originState,
+    private static long[] collectConnectedBlocks(SectionBlockReader reader, BlockPos origin, BlockState originState,
             int maxBlocks) {
         Block originBlock = originState.getBlock();
-        Set<BlockPos> visited = new LinkedHashSet<>();
-        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
-
-        queue.add(origin);
-        visited.add(origin);
-
-        while (!queue.isEmpty() && visited.size() < maxBlocks) {
-            BlockPos current = queue.poll();
-
-            // Check all 26 neighbors (including diagonals)
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    for (int dz = -1; dz <= 1; dz++) {
-                        if (dx == 0 && dy == 0 && dz == 0)
-                            continue;
-                        if (visited.size() >= maxBlocks)
-                            return stripOrigin(visited, origin);
-
-                        BlockPos neighbor = current.add(dx, dy, dz);
-                        if (visited.contains(neighbor))
-                            continue;
-
-                        BlockState neighborState = world.getBlockState(neighbor);
-                        if (isSameVeinBlock(originBlock, neighborState.getBlock())) {
-                            visited.add(neighbor);
-                            queue.add(neighbor);
-                        }
-                    }
-                }
-            }
-        }
-
-        return stripOrigin(visited, origin);
+        // Check all 26 neighbors (including diagonals)
+        return ConnectedBlockSearch.flood(origin.getX(), origin.getY(), origin.getZ(), maxBlocks,
+                (x, y, z) -> isSameVeinBlock(originBlock, reader.getBlockState(x, y, z).getBlock()));
     }
 
-    private static void addClassicConnectedOres(World world, BlockPos origin, String originBlockId, int variant,
-            Set<String> blockedBlockIds, Set<BlockPos> targets, int maxBlocks) {
+    private static long[] addClassicConnectedOres(SectionBlockReader reader, BlockPos origin, String originBlockId,
+            int variant, Set<String> blockedBlockIds, long[] targets, int maxBlocks) {
         if (!ClassicUltmineTargetRules.shouldExpandIntoConnectedOres(originBlockId, variant, blockedBlockIds)) {
-            return;
+            return targets;
         }
 
         int maxTargetsWithoutOrigin = Math.max(0, maxBlocks - 1);
         if (maxTargetsWithoutOrigin <= 0) {
-            return;
-        }
-
-        List<BlockPos> anchors = new ArrayList<>(targets.size() + 1);
-        anchors.add(origin.toImmutable());
-        anchors.addAll(targets);
-
-        Set<BlockPos> visited = new HashSet<>(anchors);
-        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
-        LinkedHashSet<BlockPos> foundOres = new LinkedHashSet<>();
-        for (BlockPos anchor : anchors) {
-            enqueueClassicOreNeighbors(world, anchor, originBlockId, variant, blockedBlockIds, foundOres, visited,
-                    queue, maxTargetsWithoutOrigin);
-            if (foundOres.size() >= maxTargetsWithoutOrigin) {
-                break;
-            }
-        }
-
-        while (!queue.isEmpty() && foundOres.size() < maxTargetsWithoutOrigin) {
-            BlockPos current = queue.poll();
-            enqueueClassicOreNeighbors(world, current, originBlockId, variant, blockedBlockIds, foundOres, visited,
-                    queue, maxTargetsWithoutOrigin);
-        }
-
-        for (BlockPos ore : foundOres) {
-            addClassicConnectedOreTarget(world, targets, ore, maxTargetsWithoutOrigin);
-        }
-    }
-
-    private static void enqueueClassicOreNeighbors(World world, BlockPos current, String originBlockId, int variant,
-            Set<String> blockedBlockIds, Set<BlockPos> foundOres, Set<BlockPos> visited, ArrayDeque<BlockPos> queue,
-            int maxTargetsWithoutOrigin) {
-        for (int dx = -1; dx <= 1; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                for (int dz = -1; dz <= 1; dz++) {
-                    if (dx == 0 && dy == 0 && dz == 0) {
-                        continue;
-                    }
-                    if (foundOres.size() >= maxTargetsWithoutOrigin) {
-                        return;
-                    }
-
-                    BlockPos neighbor = current.add(dx, dy, dz).toImmutable();
-                    if (!visited.add(neighbor)) {
-                        continue;
-                    }
-
-                    BlockState neighborState = world.getBlockState(neighbor);
-                    String neighborBlockId = getBlockId(neighborState.getBlock());
-                    if (ClassicUltmineTargetRules.isConnectedOreCandidate(originBlockId, neighborBlockId, variant,
-                            blockedBlockIds)) {
-                        foundOres.add(neighbor);
-                        queue.add(neighbor);
-                    }
-                }
-            }
-        }
-    }
-
-    private static void addClassicConnectedOreTarget(World world, Set<BlockPos> targets, BlockPos ore,
-            int maxTargetsWithoutOrigin) {
-        if (targets.contains(ore)) {
-            return;
+            return targets;
         }
 
-        while (targets.size() >= maxTargetsWithoutOrigin && removeLastNonOreTarget(world, targets)) {
-            // Keep room for ore targets when the same-block flood filled the classic limit.
-        }
-
-        if (targets.size() < maxTargetsWithoutOrigin) {
-            targets.add(ore.toImmutable());
-        }
-    }
-
-    private static boolean removeLastNonOreTarget(World world, Set<BlockPos> targets) {
-        BlockPos removable = null;
-        for (BlockPos target : targets) {
-            String targetBlockId = getBlockId(world.getBlockState(target).getBlock());
-            if (!com.murilloskills.utils.MinerXpGetter.isOreResourceId(targetBlockId)) {
-                removable = target;
-            }
-        }
+        // Block ids are resolved once per block type, not once per probe
+        Map<Block, Boolean> candidates = new IdentityHashMap<>();
+        long[] foundOres = ConnectedBlockSearch.expand(origin.asLong(), targets, maxTargetsWithoutOrigin,
+                (x, y, z) -> candidates.computeIfAbsent(reader.getBlockState(x, y, z).getBlock(),
+                        block -> ClassicUltmineTargetRules.isConnectedOreCandidate(originBlockId, getBlockId(block),
+                                variant, blockedBlockIds)));
 
-        return removable != null && targets.remove(removable);
-    }
-
-    private static Set<BlockPos> stripOrigin(Set<BlockPos> visited, BlockPos origin) {
-        visited.remove(origin);
-        return visited;
+        // Keep room for ore targets when the same-block flood filled the classic limit.
+        Map<Block, Boolean> ores = new IdentityHashMap<>();
+        return ConnectedBlockSearch.appendMakingRoom(targets, foundOres, maxTargetsWithoutOrigin,
+                (x, y, z) -> ores.computeIfAbsent(reader.getBlockState(x, y, z).getBlock(),
+                        block -> com.murilloskills.utils.MinerXpGetter.isOreResourceId(getBlockId(block))));
     }
 
     /**
@@ -1397,18 +1373,17 @@ public final class VeinMinerHandler {
     private static final class BulkDropBuffer {
         private final boolean inventoryDrops;
         private final boolean xpDirect;
-        private final boolean storageDrops;
-        private final Set<String> trashItemIds;
+        private final StorageRouteFilter storageRoute;
         private final BlockPos dropPos;
-        private final List<ItemStack> drops = new ArrayList<>();
+        private final UltmineDropCollector.Tally<ItemStack> drops;
         private int xp;
 
-        private BulkDropBuffer(boolean inventoryDrops, boolean xpDirect, boolean storageDrops,
+        private BulkDropBuffer(boolean inventoryDrops, boolean xpDirect, StorageRouteFilter storageRoute,
                 Set<String> trashItemIds, BlockPos dropPos) {
             this.inventoryDrops = inventoryDrops;
             this.xpDirect = xpDirect;
-            this.storageDrops = storageDrops;
-            this.trashItemIds = trashItemIds == null ? Set.of() : trashItemIds;
+            this.storageRoute = storageRoute;
+            this.drops = UltmineDropCollector.newTally(trashItemIds);
             this.dropPos = dropPos.toImmutable();
         }
 
@@ -1417,11 +1392,11 @@ public final class VeinMinerHandler {
         }
 
         private void addDrops(List<ItemStack> newDrops) {
-            UltmineDropCollector.addMerged(drops, newDrops, trashItemIds);
+            drops.addAll(newDrops);
         }
 
         private void addDrop(ItemStack newDrop) {
-            UltmineDropCollector.addMerged(drops, newDrop, trashItemIds);
+            drops.add(newDrop);
         }
 
         private void addXp(int amount) {
@@ -1429,13 +1404,15 @@ public final class VeinMinerHandler {
         }
 
         private void flush(ServerPlayerEntity player, ServerWorld world) {
-            if (storageDrops) {
-                pushDropsToStorage(player);
+            // Counted per item until now; split into full stacks only here
+            List<ItemStack> stacks = drops.drain();
+            if (storageRoute != null) {
+                pushRoutedDropsToStorage(player, stacks, storageRoute);
             }
             if (inventoryDrops) {
-                UltmineDropCollector.insertOrSpawn(player, world, dropPos, drops);
+                UltmineDropCollector.insertOrSpawn(player, world, dropPos, stacks);
             } else {
-                UltmineDropCollector.spawn(world, dropPos, drops);
+                UltmineDropCollector.spawn(world, dropPos, stacks);
             }
             if (xp > 0) {
                 if (xpDirect) {
@@ -1446,23 +1423,55 @@ public final class VeinMinerHandler {
                 xp = 0;
             }
         }
+    }
 
-        private void pushDropsToStorage(ServerPlayerEntity player) {
-            if (drops.isEmpty()) {
-                return;
+    /**
+     * Pushes the whitelisted stacks of {@code drops} into the player's bound storage and
+     * leaves only what did not fit. The storage target is resolved once for the whole list.
+     */
+    private static void pushRoutedDropsToStorage(ServerPlayerEntity player, List<ItemStack> drops,
+            StorageRouteFilter storageRoute) {
+        if (storageRoute == null || drops.isEmpty()) {
+            return;
+        }
+        TomsStorageBridge.BoundStorage storage = TomsStorageBridge.resolveBoundStorage(player);
+        if (storage == null) {
+            return;
+        }
+        storage.pushAll(drops, storageRoute);
+        drops.removeIf(stack -> stack == null || stack.isEmpty());
+    }
+
+    /**
+     * A player's storage whitelist captured for one flush or one Ultmine job. Each item's
+     * registry id is built once and the answer kept, instead of once per routed stack.
+     */
+    private static final class StorageRouteFilter implements Predicate<ItemStack> {
+        private final Set<String> whitelist;
+        private final Map<Item, Boolean> routedItems = new IdentityHashMap<>();
+
+        private StorageRouteFilter(Set<String> whitelist) {
+            this.whitelist = whitelist;
+        }
+
+        /** Null when the whitelist is empty, since nothing would be routed. */
+        private static StorageRouteFilter of(ServerPlayerEntity player) {
+            Set<String> whitelist = STORAGE_WHITELISTS.get(player.getUuid());
+            return whitelist == null || whitelist.isEmpty() ? null : new StorageRouteFilter(whitelist);
+        }
+
+        @Override
+        public boolean test(ItemStack stack) {
+            if (stack == null || stack.isEmpty()) {
+                return false;
             }
-            for (int i = 0; i < drops.size(); i++) {
-                ItemStack stack = drops.get(i);
-                if (stack == null || stack.isEmpty()) {
-                    continue;
-                }
-                if (!isItemRoutedToStorage(player, stack)) {
-                    continue;
-                }
-                ItemStack leftover = TomsStorageBridge.pushToBoundStorage(player, stack);
-                drops.set(i, leftover == null ? ItemStack.EMPTY : leftover);
+            Item item = stack.getItem();
+            Boolean routed = routedItems.get(item);
+            if (routed == null) {
+                routed = whitelist.contains(Registries.ITEM.getId(item).toString());
+                routedItems.put(item, routed);
             }
-            drops.removeIf(stack -> stack == null || stack.isEmpty());
+            return routed;
         }
     }
 
@@ -1477,6 +1486,8 @@ public final class VeinMinerHandler {
         private final boolean xpDirect;
         private final boolean storageDrops;
         private final boolean suppressBreakParticles;
+        private StorageRouteFilter storageRoute;
+        private boolean storageRouteResolved;
         private int nextIndex;
         private int minedBlocks;
 
@@ -1523,8 +1534,13 @@ public final class VeinMinerHandler {
             return xpDirect;
         }
 
-        private boolean storageDrops() {
-            return storageDrops;
+        /** The storage whitelist as it was on the job's first tick, or null when nothing is routed. */
+        private StorageRouteFilter storageRoute(ServerPlayerEntity player) {
+            if (storageDrops && !storageRouteResolved) {
+                storageRoute = StorageRouteFilter.of(player);
+                storageRouteResolved = true;
+            }
+            return storageRoute;
         }
 
         private boolean suppressBreakParticles() {
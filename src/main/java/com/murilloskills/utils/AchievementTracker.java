@@ -75,7 +75,7 @@ public class AchievementTracker {
         int currentCount = stats.getOrDefault(key, 0);
         int newCount = currentCount + amount;
         stats.put(key, newCount);
-        stats.put(key, newCount);
+        data.markDirty();
 
         // Check and grant achievements based on key and skill
         checkAndGrantAchievement(player, skill, key, newCount);
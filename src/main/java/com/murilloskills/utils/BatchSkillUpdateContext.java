@@ -1,18 +1,30 @@
 package com.murilloskills.utils;
 
+import com.murilloskills.network.UltmineResultS2CPayload;
 import com.murilloskills.skills.MurilloSkillsList;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Coalesces noisy skill UI updates during server-side bulk actions.
+ * Per-player S2C flush queue. XP toasts, daily challenge syncs and Ultmine
+ * results raised during a server tick are gathered here and sent once at the
+ * end of the tick by {@link #flushTick(MinecraftServer)}, together with the
+ * skill delta from {@link SkillSyncTracker}. Toasts are summed per skill,
+ * challenge syncs collapse to one and repeated identical results are dropped.
+ * {@code begin}/{@code end} brackets only label the toasts of a bulk action
+ * (e.g. "Ultmine"); they no longer decide whether updates are batched.
  */
 public final class BatchSkillUpdateContext {
     private static final Map<UUID, BatchState> ACTIVE = new ConcurrentHashMap<>();
+    private static final Map<UUID, PlayerQueue> QUEUED = new ConcurrentHashMap<>();
 
     private BatchSkillUpdateContext() {
     }
@@ -39,65 +51,120 @@ public final class BatchSkillUpdateContext {
             return;
         }
         state.depth--;
-        if (state.depth > 0) {
-            return;
+        if (state.depth <= 0) {
+            // Queued updates stay queued until the tick end
+            ACTIVE.remove(player.getUuid());
         }
-        ACTIVE.remove(player.getUuid());
-        flush(player, state);
     }
 
-    public static boolean queueSkillSync(ServerPlayerEntity player) {
-        BatchState state = getState(player);
-        if (state == null) {
+    public static boolean queueChallengeSync(ServerPlayerEntity player) {
+        if (player == null) {
             return false;
         }
-        state.skillSyncRequested = true;
+        queue(player).challengeSyncRequested = true;
         return true;
     }
 
-    public static boolean queueChallengeSync(ServerPlayerEntity player) {
-        BatchState state = getState(player);
-        if (state == null) {
+    public static boolean queueToast(ServerPlayerEntity player, MurilloSkillsList skill, int xpAmount,
+            String source) {
+        if (player == null || skill == null || xpAmount <= 0) {
             return false;
         }
-        state.challengeSyncRequested = true;
+        BatchState batch = ACTIVE.get(player.getUuid());
+        queue(player).addToast(skill, xpAmount, batch != null ? batch.sourceLabel : source);
         return true;
     }
 
-    public static boolean queueToast(ServerPlayerEntity player, MurilloSkillsList skill, int xpAmount) {
-        BatchState state = getState(player);
-        if (state == null || skill == null || xpAmount <= 0) {
+    public static boolean queueUltmineResult(ServerPlayerEntity player, UltmineResultS2CPayload result) {
+        if (player == null || result == null) {
             return false;
         }
-        state.toastXp.merge(skill, xpAmount, Integer::sum);
+        queue(player).addResult(result);
         return true;
     }
 
-    private static BatchState getState(ServerPlayerEntity player) {
-        return player == null ? null : ACTIVE.get(player.getUuid());
+    /**
+     * Sends everything queued this tick, at most one packet of each kind per
+     * player (plus one per distinct Ultmine result). Called at the end of every
+     * server tick.
+     */
+    public static void flushTick(MinecraftServer server) {
+        SkillSyncTracker.flush(server);
+        if (QUEUED.isEmpty()) {
+            return;
+        }
+        for (UUID uuid : QUEUED.keySet().toArray(new UUID[0])) {
+            PlayerQueue queue = QUEUED.remove(uuid);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
+            if (queue != null && player != null) {
+                flush(player, queue);
+            }
+        }
     }
 
-    private static void flush(ServerPlayerEntity player, BatchState state) {
-        for (Map.Entry<MurilloSkillsList, Integer> entry : state.toastXp.entrySet()) {
-            XpToastSender.sendNow(player, entry.getKey(), entry.getValue(), state.sourceLabel);
-        }
-        if (state.skillSyncRequested) {
-            SkillsNetworkUtils.syncSkillsNow(player);
+    public static void cleanupPlayerState(UUID uuid) {
+        ACTIVE.remove(uuid);
+        QUEUED.remove(uuid);
+    }
+
+    private static PlayerQueue queue(ServerPlayerEntity player) {
+        return QUEUED.computeIfAbsent(player.getUuid(), uuid -> new PlayerQueue());
+    }
+
+    private static void flush(ServerPlayerEntity player, PlayerQueue queue) {
+        for (Map.Entry<MurilloSkillsList, ToastEntry> entry : queue.toasts.entrySet()) {
+            XpToastSender.sendNow(player, entry.getKey(), entry.getValue().xp, entry.getValue().source);
         }
-        if (state.challengeSyncRequested) {
+        if (queue.challengeSyncRequested) {
             DailyChallengeManager.syncChallengesNow(player);
         }
+        for (UltmineResultS2CPayload result : queue.results) {
+            ServerPlayNetworking.send(player, result);
+        }
     }
 
     private static final class BatchState {
         private final String sourceLabel;
-        private final EnumMap<MurilloSkillsList, Integer> toastXp = new EnumMap<>(MurilloSkillsList.class);
         private int depth = 1;
-        private boolean skillSyncRequested;
-        private boolean challengeSyncRequested;
 
         private BatchState(String sourceLabel) {
             this.sourceLabel = sourceLabel;
         }
     }
+
+    /** One player's pending updates for the current tick. */
+    static final class PlayerQueue {
+        final EnumMap<MurilloSkillsList, ToastEntry> toasts = new EnumMap<>(MurilloSkillsList.class);
+        final List<UltmineResultS2CPayload> results = new ArrayList<>(1);
+        boolean challengeSyncRequested;
+
+        synchronized void addToast(MurilloSkillsList skill, int xpAmount, String source) {
+            ToastEntry entry = toasts.get(skill);
+            if (entry == null) {
+                toasts.put(skill, new ToastEntry(xpAmount, source));
+                return;
+            }
+            entry.xp += xpAmount;
+            // The toast shows the total with the latest source
+            if (source != null && !source.isEmpty()) {
+                entry.source = source;
+            }
+        }
+
+        synchronized void addResult(UltmineResultS2CPayload result) {
+            if (!results.contains(result)) {
+                results.add(result);
+            }
+        }
+    }
+
+    static final class ToastEntry {
+        int xp;
+        String source;
+
+        private ToastEntry(int xp, String source) {
+            this.xp = xp;
+            this.source = source;
+        }
+    }
 }
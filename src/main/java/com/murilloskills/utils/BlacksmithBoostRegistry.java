@@ -0,0 +1,76 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.data.ModAttachments;
+import com.murilloskills.data.PlayerSkillData;
+import com.murilloskills.skills.MurilloSkillsList;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server-wide view of which Blacksmith players boost which area. Refreshed
+ * every server tick from the online player list, so the per-tick furnace and
+ * machine mixins see the current level and the generic machine ticker looks
+ * levels up by chunk instead of running an entity query per machine.
+ */
+public final class BlacksmithBoostRegistry {
+    /** How often the generic machine pass runs; the index itself is refreshed every tick. */
+    public static final int BOOST_INTERVAL_TICKS = 10;
+
+    private static final Map<RegistryKey<World>, BlacksmithInfluenceIndex> INDEXES = new HashMap<>();
+
+    private BlacksmithBoostRegistry() {
+    }
+
+    public static void refresh(MinecraftServer server) {
+        int radius = SkillConfig.getBlacksmithFurnaceSpeedRadius();
+        for (BlacksmithInfluenceIndex index : INDEXES.values()) {
+            index.clear(radius);
+        }
+
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            PlayerSkillData data = player.getAttachedOrCreate(ModAttachments.PLAYER_SKILLS);
+            if (!data.isSkillSelected(MurilloSkillsList.BLACKSMITH)) {
+                continue;
+            }
+            int level = data.getSkill(MurilloSkillsList.BLACKSMITH).level;
+            if (level <= 0) {
+                continue;
+            }
+            ServerWorld world = MinecraftVersionCompat.serverWorld(player);
+            BlacksmithInfluenceIndex index = INDEXES.get(world.getRegistryKey());
+            if (index == null) {
+                index = new BlacksmithInfluenceIndex();
+                index.clear(radius);
+                INDEXES.put(world.getRegistryKey(), index);
+            }
+            BlockPos pos = player.getBlockPos();
+            index.add(pos.getX(), pos.getY(), pos.getZ(), level);
+        }
+    }
+
+    /**
+     * Best Blacksmith level in range of the position as of the last refresh,
+     * or 0 when no Blacksmith is nearby.
+     */
+    public static int getBestLevel(World world, BlockPos pos) {
+        BlacksmithInfluenceIndex index = INDEXES.get(world.getRegistryKey());
+        return index == null ? 0 : index.bestLevel(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /** Index for one world, or {@code null} if no Blacksmith was there at the last refresh. */
+    public static BlacksmithInfluenceIndex getIndex(World world) {
+        BlacksmithInfluenceIndex index = INDEXES.get(world.getRegistryKey());
+        return index == null || index.isEmpty() ? null : index;
+    }
+
+    public static void reset() {
+        INDEXES.clear();
+    }
+}
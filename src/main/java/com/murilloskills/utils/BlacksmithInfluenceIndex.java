@@ -0,0 +1,82 @@
+package com.murilloskills.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Chunk-keyed index of the Blacksmith players boosting machines in one world.
+ * Every player is filed under each chunk their boost cube touches, highest
+ * level first, so the best level for a machine is found by looking at its own
+ * chunk only. Rebuilt once per boost interval.
+ */
+public final class BlacksmithInfluenceIndex {
+    private final Map<Long, List<Influence>> byChunk = new HashMap<>();
+    private int radius;
+
+    private record Influence(int x, int y, int z, int level) {
+    }
+
+    public void clear(int radius) {
+        byChunk.clear();
+        this.radius = Math.max(0, radius);
+    }
+
+    public void add(int x, int y, int z, int level) {
+        if (level <= 0) {
+            return;
+        }
+        Influence influence = new Influence(x, y, z, level);
+        for (int chunkX = (x - radius) >> 4; chunkX <= (x + radius) >> 4; chunkX++) {
+            for (int chunkZ = (z - radius) >> 4; chunkZ <= (z + radius) >> 4; chunkZ++) {
+                List<Influence> influences = byChunk.computeIfAbsent(chunkKey(chunkX, chunkZ),
+                        ignored -> new ArrayList<>(2));
+                int index = 0;
+                while (index < influences.size() && influences.get(index).level >= level) {
+                    index++;
+                }
+                influences.add(index, influence);
+            }
+        }
+    }
+
+    /**
+     * Highest Blacksmith level within the boost radius of the position, or 0.
+     */
+    public int bestLevel(int x, int y, int z) {
+        List<Influence> influences = byChunk.get(chunkKey(x >> 4, z >> 4));
+        if (influences == null) {
+            return 0;
+        }
+        for (Influence influence : influences) {
+            if (Math.abs(influence.x - x) <= radius && Math.abs(influence.y - y) <= radius
+                    && Math.abs(influence.z - z) <= radius) {
+                return influence.level;
+            }
+        }
+        return 0;
+    }
+
+    public boolean isEmpty() {
+        return byChunk.isEmpty();
+    }
+
+    /** Packed keys of every chunk touched by at least one Blacksmith; see {@link #chunkKey}. */
+    public Set<Long> chunkKeys() {
+        return byChunk.keySet();
+    }
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL) | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    public static int chunkX(long key) {
+        return (int) key;
+    }
+
+    public static int chunkZ(long key) {
+        return (int) (key >>> 32);
+    }
+}
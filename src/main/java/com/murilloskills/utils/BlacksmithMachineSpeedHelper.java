@@ -1,18 +1,19 @@
 package com.murilloskills.utils;
 
-import com.murilloskills.data.ModAttachments;
-import com.murilloskills.data.PlayerSkillData;
 import com.murilloskills.core.compat.CrossModCompatRules;
-import com.murilloskills.skills.MurilloSkillsList;
+import com.murilloskills.integration.IntegrationBindings;
+import com.murilloskills.integration.IntegrationBindings.IntField;
+import net.minecraft.block.Block;
+import net.minecraft.block.entity.AbstractFurnaceBlockEntity;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class BlacksmithMachineSpeedHelper {
@@ -21,22 +22,13 @@ public final class BlacksmithMachineSpeedHelper {
     private BlacksmithMachineSpeedHelper() {
     }
 
+    /**
+     * Best Blacksmith level in range of a machine. Served from
+     * {@link BlacksmithBoostRegistry}, which is refreshed every server tick,
+     * so machine ticks never run an entity query.
+     */
     public static int getBestNearbyBlacksmithLevel(ServerWorld world, BlockPos pos) {
-        int radius = SkillConfig.getBlacksmithFurnaceSpeedRadius();
-        Box searchBox = new Box(pos).expand(radius);
-        List<ServerPlayerEntity> nearbyPlayers = world.getEntitiesByClass(
-                ServerPlayerEntity.class, searchBox, player -> true);
-
-        int bestLevel = 0;
-        for (ServerPlayerEntity player : nearbyPlayers) {
-            PlayerSkillData data = player.getAttachedOrCreate(ModAttachments.PLAYER_SKILLS);
-            if (data.isSkillSelected(MurilloSkillsList.BLACKSMITH)) {
-                int level = data.getSkill(MurilloSkillsList.BLACKSMITH).level;
-                bestLevel = Math.max(bestLevel, level);
-            }
-        }
-
-        return bestLevel;
+        return BlacksmithBoostRegistry.getBestLevel(world, pos);
     }
 
     public static float getDirectSpeedMultiplier(int level) {
@@ -75,165 +67,115 @@ public final class BlacksmithMachineSpeedHelper {
         return Math.min(REBORN_CORE_SPEED_CAP, Math.max(0.0D, speedReduction));
     }
 
-    private static final ConcurrentHashMap<String, Field> FIELD_CACHE = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, Method> METHOD_CACHE = new ConcurrentHashMap<>();
-    private static final Field MISSING_FIELD;
-    private static final Method MISSING_METHOD;
-
-    static {
-        Field missingField = null;
-        try {
-            missingField = BlacksmithMachineSpeedHelper.class.getDeclaredField("MISSING_FIELD");
-        } catch (NoSuchFieldException ignored) {
+    private static final ClassValue<MachineBindings> MACHINE_BINDINGS = new ClassValue<>() {
+        @Override
+        protected MachineBindings computeValue(Class<?> blockEntityClass) {
+            return new MachineBindings(blockEntityClass);
         }
-        MISSING_FIELD = missingField;
-
-        Method missingMethod = null;
-        try {
-            missingMethod = BlacksmithMachineSpeedHelper.class.getDeclaredMethod("getRebornCoreSpeedBonus", int.class);
-        } catch (NoSuchMethodException ignored) {
+    };
+
+    /**
+     * The fields and methods the dedicated machine boosts read, looked up once
+     * per block-entity class and bound as method handles. Missing members are
+     * null and make the matching boost a no-op.
+     */
+    private static final class MachineBindings {
+        private final IntField progress;
+        private final IntField maxProgress;
+        private final IntField cookTime;
+        private final IntField cookTimeTotal;
+        // (Object,double)void
+        private final MethodHandle addSpeedMultiplier;
+        // (Object)Object
+        private final MethodHandle currentRecipe;
+        // (Object)long and (Object,long)long
+        private final MethodHandle getStored;
+        private final MethodHandle getEuPerTick;
+        // (Object)int and (Object)boolean
+        private final MethodHandle cookingTime;
+        private final MethodHandle isBurning;
+
+        private MachineBindings(Class<?> cls) {
+            this.progress = IntegrationBindings.intField(cls, "progress");
+            this.maxProgress = IntegrationBindings.intField(cls, "maxProgress");
+            this.cookTime = IntegrationBindings.intField(cls, "cookTime");
+            this.cookTimeTotal = IntegrationBindings.intField(cls, "cookTimeTotal");
+            this.addSpeedMultiplier = IntegrationBindings.method(cls, "addSpeedMultiplier",
+                    MethodType.methodType(void.class, Object.class, double.class), double.class);
+            this.currentRecipe = IntegrationBindings.getter(cls, "currentRecipe");
+            this.getStored = IntegrationBindings.method(cls, "getStored",
+                    MethodType.methodType(long.class, Object.class));
+            this.getEuPerTick = IntegrationBindings.method(cls, "getEuPerTick",
+                    MethodType.methodType(long.class, Object.class, long.class), long.class);
+            this.cookingTime = IntegrationBindings.method(cls, "cookingTime",
+                    MethodType.methodType(int.class, Object.class));
+            this.isBurning = IntegrationBindings.method(cls, "isBurning",
+                    MethodType.methodType(boolean.class, Object.class));
         }
-        MISSING_METHOD = missingMethod;
     }
 
-    private static Field findField(Class<?> root, String name) {
-        String key = root.getName() + "#" + name;
-        Field cached = FIELD_CACHE.get(key);
-        if (cached != null) {
-            return cached == MISSING_FIELD ? null : cached;
-        }
-        for (Class<?> c = root; c != null && c != Object.class; c = c.getSuperclass()) {
-            try {
-                Field f = c.getDeclaredField(name);
-                f.setAccessible(true);
-                FIELD_CACHE.put(key, f);
-                return f;
-            } catch (NoSuchFieldException ignored) {
-            }
+    public static void tryBoostEnergizedPowerWorker(Object blockEntity, ServerWorld world, BlockPos pos) {
+        MachineBindings bindings = MACHINE_BINDINGS.get(blockEntity.getClass());
+        if (bindings.progress == null || bindings.maxProgress == null) {
+            return;
         }
-        if (MISSING_FIELD != null) {
-            FIELD_CACHE.put(key, MISSING_FIELD);
+        int progress = bindings.progress.get(blockEntity);
+        int maxProgress = bindings.maxProgress.get(blockEntity);
+        if (progress <= 0 || maxProgress <= 0 || progress >= maxProgress) {
+            return;
         }
-        return null;
-    }
 
-    private static Method findMethod(Class<?> root, String name) {
-        String key = root.getName() + "#" + name;
-        Method cached = METHOD_CACHE.get(key);
-        if (cached != null) {
-            return cached == MISSING_METHOD ? null : cached;
-        }
-        for (Class<?> c = root; c != null && c != Object.class; c = c.getSuperclass()) {
-            for (Method m : c.getDeclaredMethods()) {
-                if (m.getName().equals(name) && m.getParameterCount() == 0) {
-                    m.setAccessible(true);
-                    METHOD_CACHE.put(key, m);
-                    return m;
-                }
-            }
-        }
-        if (MISSING_METHOD != null) {
-            METHOD_CACHE.put(key, MISSING_METHOD);
+        int bestLevel = getBestNearbyBlacksmithLevel(world, pos);
+        int extraTicks = getExtraProgressTicks(world, bestLevel);
+        if (extraTicks <= 0) {
+            return;
         }
-        return null;
-    }
-
-    public static void tryBoostEnergizedPowerWorker(Object blockEntity, ServerWorld world, BlockPos pos) {
-        try {
-            Class<?> cls = blockEntity.getClass();
-            Field progressField = findField(cls, "progress");
-            Field maxProgressField = findField(cls, "maxProgress");
-            if (progressField == null || maxProgressField == null) {
-                return;
-            }
-            int progress = progressField.getInt(blockEntity);
-            int maxProgress = maxProgressField.getInt(blockEntity);
-            if (progress <= 0 || maxProgress <= 0 || progress >= maxProgress) {
-                return;
-            }
-
-            int bestLevel = getBestNearbyBlacksmithLevel(world, pos);
-            int extraTicks = getExtraProgressTicks(world, bestLevel);
-            if (extraTicks <= 0) {
-                return;
-            }
 
-            progressField.setInt(blockEntity, Math.min(progress + extraTicks, maxProgress - 1));
-            spawnSpeedParticles(world, pos);
-        } catch (ReflectiveOperationException ignored) {
-        }
+        bindings.progress.set(blockEntity, Math.min(progress + extraTicks, maxProgress - 1));
+        spawnSpeedParticles(world, pos);
     }
 
     public static void tryApplyRebornCoreSpeed(Object blockEntity, ServerWorld world, BlockPos pos) {
-        try {
-            int bestLevel = getBestNearbyBlacksmithLevel(world, pos);
-            double speedBonus = getRebornCoreSpeedBonus(bestLevel);
-            if (speedBonus <= 0.0D) {
-                return;
-            }
+        int bestLevel = getBestNearbyBlacksmithLevel(world, pos);
+        double speedBonus = getRebornCoreSpeedBonus(bestLevel);
+        if (speedBonus <= 0.0D) {
+            return;
+        }
 
-            Class<?> cls = blockEntity.getClass();
-            Method addSpeedMultiplier = null;
-            for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
-                for (Method m : c.getDeclaredMethods()) {
-                    if (m.getName().equals("addSpeedMultiplier") && m.getParameterCount() == 1
-                            && m.getParameterTypes()[0] == double.class) {
-                        m.setAccessible(true);
-                        addSpeedMultiplier = m;
-                        break;
-                    }
-                }
-                if (addSpeedMultiplier != null) break;
-            }
-            if (addSpeedMultiplier == null) {
-                return;
+        MethodHandle addSpeedMultiplier = MACHINE_BINDINGS.get(blockEntity.getClass()).addSpeedMultiplier;
+        if (addSpeedMultiplier == null) {
+            return;
+        }
+        try {
+            addSpeedMultiplier.invokeExact(blockEntity, speedBonus);
+        } catch (Throwable t) {
+            if (t instanceof Error error) {
+                throw error;
             }
-
-            addSpeedMultiplier.invoke(blockEntity, speedBonus);
-            spawnSpeedParticles(world, pos);
-        } catch (ReflectiveOperationException ignored) {
+            return;
         }
+        spawnSpeedParticles(world, pos);
     }
 
     public static void tryBoostTechRebornElectricFurnace(Object blockEntity, ServerWorld world, BlockPos pos) {
+        MachineBindings bindings = MACHINE_BINDINGS.get(blockEntity.getClass());
+        if (bindings.currentRecipe == null || bindings.cookTime == null || bindings.cookTimeTotal == null
+                || bindings.getStored == null || bindings.getEuPerTick == null) {
+            return;
+        }
         try {
-            Class<?> cls = blockEntity.getClass();
-
-            Field currentRecipeField = findField(cls, "currentRecipe");
-            if (currentRecipeField == null || currentRecipeField.get(blockEntity) == null) {
-                return;
-            }
-
-            Field cookTimeField = findField(cls, "cookTime");
-            Field cookTimeTotalField = findField(cls, "cookTimeTotal");
-            if (cookTimeField == null || cookTimeTotalField == null) {
+            if ((Object) bindings.currentRecipe.invokeExact(blockEntity) == null) {
                 return;
             }
 
-            int cookTime = cookTimeField.getInt(blockEntity);
-            int cookTimeTotal = cookTimeTotalField.getInt(blockEntity);
+            int cookTime = bindings.cookTime.get(blockEntity);
+            int cookTimeTotal = bindings.cookTimeTotal.get(blockEntity);
             if (cookTime <= 0 || cookTimeTotal <= 0 || cookTime >= cookTimeTotal) {
                 return;
             }
 
-            Method getStored = findMethod(cls, "getStored");
-            Method getEuPerTick = null;
-            for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
-                for (Method m : c.getDeclaredMethods()) {
-                    if (m.getName().equals("getEuPerTick") && m.getParameterCount() == 1
-                            && m.getParameterTypes()[0] == long.class) {
-                        m.setAccessible(true);
-                        getEuPerTick = m;
-                        break;
-                    }
-                }
-                if (getEuPerTick != null) break;
-            }
-            if (getStored == null || getEuPerTick == null) {
-                return;
-            }
-            long stored = ((Number) getStored.invoke(blockEntity)).longValue();
-            long euPerTick = ((Number) getEuPerTick.invoke(blockEntity, 1L)).longValue();
+            long stored = (long) bindings.getStored.invokeExact(blockEntity);
+            long euPerTick = (long) bindings.getEuPerTick.invokeExact(blockEntity, 1L);
             if (stored <= euPerTick) {
                 return;
             }
@@ -244,30 +186,24 @@ public final class BlacksmithMachineSpeedHelper {
                 return;
             }
 
-            cookTimeField.setInt(blockEntity, Math.min(cookTime + extraTicks, cookTimeTotal - 1));
+            bindings.cookTime.set(blockEntity, Math.min(cookTime + extraTicks, cookTimeTotal - 1));
             spawnSpeedParticles(world, pos);
-        } catch (ReflectiveOperationException ignored) {
+        } catch (Throwable t) {
+            if (t instanceof Error error) {
+                throw error;
+            }
         }
     }
 
     public static void tryBoostTechRebornIronMachine(Object blockEntity, ServerWorld world, BlockPos pos) {
+        MachineBindings bindings = MACHINE_BINDINGS.get(blockEntity.getClass());
+        if (bindings.progress == null || bindings.cookingTime == null || bindings.isBurning == null) {
+            return;
+        }
         try {
-            Class<?> cls = blockEntity.getClass();
-
-            Field progressField = findField(cls, "progress");
-            if (progressField == null) {
-                return;
-            }
-
-            Method cookingTime = findMethod(cls, "cookingTime");
-            Method isBurning = findMethod(cls, "isBurning");
-            if (cookingTime == null || isBurning == null) {
-                return;
-            }
-
-            int progress = progressField.getInt(blockEntity);
-            int totalTime = ((Number) cookingTime.invoke(blockEntity)).intValue();
-            boolean burning = (Boolean) isBurning.invoke(blockEntity);
+            int progress = bindings.progress.get(blockEntity);
+            int totalTime = (int) bindings.cookingTime.invokeExact(blockEntity);
+            boolean burning = (boolean) bindings.isBurning.invokeExact(blockEntity);
             if (!burning || progress <= 0 || totalTime <= 0 || progress >= totalTime) {
                 return;
             }
@@ -278,75 +214,170 @@ public final class BlacksmithMachineSpeedHelper {
                 return;
             }
 
-            progressField.setInt(blockEntity, Math.min(progress + extraTicks, totalTime - 1));
+            bindings.progress.set(blockEntity, Math.min(progress + extraTicks, totalTime - 1));
             spawnSpeedParticles(world, pos);
-        } catch (ReflectiveOperationException ignored) {
+        } catch (Throwable t) {
+            if (t instanceof Error error) {
+                throw error;
+            }
         }
     }
 
-    public static void tryBoostGenericMachine(Object blockEntity, ServerWorld world, BlockPos pos) {
-        if (blockEntity == null) {
-            return;
+    private static final String[][] GENERIC_PROGRESS_PAIRS = {
+            { "progress", "maxProgress" },
+            { "progress", "progressMax" },
+            { "progress", "totalProgress" },
+            { "progress", "requiredProgress" },
+            { "craftingProgress", "craftingTime" },
+            { "craftingProgress", "maxCraftingProgress" },
+            { "processingTime", "processingTotalTime" },
+            { "processTime", "processTimeTotal" },
+            { "cookTime", "cookTimeTotal" },
+            { "cookingTimeSpent", "cookingTotalTime" },
+            { "workTime", "workTimeTotal" },
+            { "burnTime", "maxBurnTime" }
+    };
+
+    // Boosted every tick by their own mixins (furnaces included); the generic pass used to add a
+    // second boost on top, so these machines now get the dedicated boost only.
+    private static final Set<String> DEDICATED_MACHINE_CLASSES = Set.of(
+            "me.jddev0.ep.block.entity.AlloyFurnaceBlockEntity",
+            "me.jddev0.ep.block.entity.AutoCrafterBlockEntity",
+            "me.jddev0.ep.block.entity.base.WorkerMachineBlockEntity",
+            "reborncore.common.blockentity.MachineBaseBlockEntity",
+            "techreborn.blockentity.machine.tier1.ElectricFurnaceBlockEntity",
+            "techreborn.blockentity.machine.iron.AbstractIronMachineBlockEntity");
+    private static final GenericMachineProfile NOT_GENERIC = new GenericMachineProfile(false, new IntField[0][]);
+
+    private static final ConcurrentHashMap<Class<?>, GenericMachineProfile> GENERIC_MACHINE_PROFILES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Block, Boolean> MACHINE_BLOCKS = new ConcurrentHashMap<>();
+
+    /**
+     * What {@link #tryBoostGenericMachine} can do with one block-entity class,
+     * resolved once per class. Classes without any int progress pair (chests,
+     * signs, hoppers...) get an empty profile and are rejected without
+     * reflection.
+     */
+    static final class GenericMachineProfile {
+        final boolean machineClassName;
+        final IntField[][] progressPairs;
+
+        private GenericMachineProfile(boolean machineClassName, IntField[][] progressPairs) {
+            this.machineClassName = machineClassName;
+            this.progressPairs = progressPairs;
         }
 
-        String className = blockEntity.getClass().getName();
-        String blockId = net.minecraft.registry.Registries.BLOCK.getId(world.getBlockState(pos).getBlock()).toString();
-        if (!CrossModCompatRules.isLikelyMachineIdOrClass(className)
-                && !CrossModCompatRules.isLikelyMachineIdOrClass(blockId)) {
-            return;
+        boolean canBoost() {
+            return progressPairs.length > 0;
         }
+    }
 
-        String[][] progressPairs = {
-                { "progress", "maxProgress" },
-                { "progress", "progressMax" },
-                { "progress", "totalProgress" },
-                { "progress", "requiredProgress" },
-                { "craftingProgress", "craftingTime" },
-                { "craftingProgress", "maxCraftingProgress" },
-                { "processingTime", "processingTotalTime" },
-                { "processTime", "processTimeTotal" },
-                { "cookTime", "cookTimeTotal" },
-                { "cookingTimeSpent", "cookingTotalTime" },
-                { "workTime", "workTimeTotal" },
-                { "burnTime", "maxBurnTime" }
-        };
-
-        for (String[] pair : progressPairs) {
-            if (tryBoostProgressPair(blockEntity, world, pos, pair[0], pair[1])) {
-                return;
-            }
+    static GenericMachineProfile genericMachineProfile(Class<?> cls) {
+        GenericMachineProfile profile = GENERIC_MACHINE_PROFILES.get(cls);
+        if (profile == null) {
+            profile = resolveGenericMachineProfile(cls);
+            GENERIC_MACHINE_PROFILES.put(cls, profile);
         }
+        return profile;
     }
 
-    private static boolean tryBoostProgressPair(Object blockEntity, ServerWorld world, BlockPos pos,
-            String progressName, String maxName) {
-        try {
-            Class<?> cls = blockEntity.getClass();
-            Field progressField = findField(cls, progressName);
-            Field maxField = findField(cls, maxName);
-            if (progressField == null || maxField == null
-                    || progressField.getType() != int.class || maxField.getType() != int.class) {
-                return false;
+    private static GenericMachineProfile resolveGenericMachineProfile(Class<?> cls) {
+        if (hasDedicatedBoost(cls)) {
+            return NOT_GENERIC;
+        }
+        List<IntField[]> pairs = new ArrayList<>();
+        for (String[] pair : GENERIC_PROGRESS_PAIRS) {
+            IntField progressField = IntegrationBindings.intField(cls, pair[0]);
+            IntField maxField = IntegrationBindings.intField(cls, pair[1]);
+            if (progressField != null && maxField != null) {
+                pairs.add(new IntField[] { progressField, maxField });
             }
+        }
+        return new GenericMachineProfile(CrossModCompatRules.isLikelyMachineIdOrClass(cls.getName()),
+                pairs.toArray(new IntField[0][]));
+    }
 
-            int progress = progressField.getInt(blockEntity);
-            int maxProgress = maxField.getInt(blockEntity);
-            if (progress <= 0 || maxProgress <= 0 || progress >= maxProgress) {
-                return false;
+    private static boolean hasDedicatedBoost(Class<?> cls) {
+        if (AbstractFurnaceBlockEntity.class.isAssignableFrom(cls)) {
+            return true;
+        }
+        for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (DEDICATED_MACHINE_CLASSES.contains(c.getName())) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            int bestLevel = getBestNearbyBlacksmithLevel(world, pos);
-            int extraTicks = getExtraProgressTicks(world, bestLevel);
-            if (extraTicks <= 0) {
-                return false;
+    /**
+     * Cheap pre-check for block-entity scans: {@code false} means
+     * {@link #tryBoostGenericMachine} would never boost this class.
+     */
+    public static boolean canBoostGenericMachine(Class<?> blockEntityClass) {
+        return genericMachineProfile(blockEntityClass).canBoost();
+    }
+
+    /**
+     * Returns the first progress/max pair that is mid-operation, or
+     * {@code null} if the machine is idle.
+     */
+    static IntField[] findActiveProgressPair(Object blockEntity, GenericMachineProfile profile) {
+        for (IntField[] pair : profile.progressPairs) {
+            int progress = pair[0].get(blockEntity);
+            int maxProgress = pair[1].get(blockEntity);
+            if (progress > 0 && maxProgress > 0 && progress < maxProgress) {
+                return pair;
             }
+        }
+        return null;
+    }
 
-            progressField.setInt(blockEntity, Math.min(progress + extraTicks, maxProgress - 1));
-            spawnSpeedParticles(world, pos);
-            return true;
-        } catch (ReflectiveOperationException ignored) {
+    static boolean advanceProgress(Object blockEntity, IntField[] pair, int extraTicks) {
+        int progress = pair[0].get(blockEntity);
+        int maxProgress = pair[1].get(blockEntity);
+        if (extraTicks <= 0 || progress <= 0 || progress >= maxProgress) {
             return false;
         }
+        pair[0].set(blockEntity, Math.min(progress + extraTicks, maxProgress - 1));
+        return true;
+    }
+
+    public static void tryBoostGenericMachine(Object blockEntity, ServerWorld world, BlockPos pos) {
+        tryBoostGenericMachine(blockEntity, world, pos, getBestNearbyBlacksmithLevel(world, pos));
+    }
+
+    public static void tryBoostGenericMachine(Object blockEntity, ServerWorld world, BlockPos pos, int bestLevel) {
+        if (blockEntity == null || bestLevel <= 0) {
+            return;
+        }
+
+        GenericMachineProfile profile = genericMachineProfile(blockEntity.getClass());
+        if (!profile.canBoost()) {
+            return;
+        }
+        if (!profile.machineClassName && !isMachineBlock(world.getBlockState(pos).getBlock())) {
+            return;
+        }
+
+        IntField[] activePair = findActiveProgressPair(blockEntity, profile);
+        if (activePair == null) {
+            return;
+        }
+
+        int extraTicks = getExtraProgressTicks(world, bestLevel);
+        if (advanceProgress(blockEntity, activePair, extraTicks)) {
+            spawnSpeedParticles(world, pos);
+        }
+    }
+
+    private static boolean isMachineBlock(Block block) {
+        Boolean cached = MACHINE_BLOCKS.get(block);
+        if (cached == null) {
+            String blockId = net.minecraft.registry.Registries.BLOCK.getId(block).toString();
+            cached = CrossModCompatRules.isLikelyMachineIdOrClass(blockId);
+            MACHINE_BLOCKS.put(block, cached);
+        }
+        return cached;
     }
 
     public static void spawnSpeedParticles(ServerWorld world, BlockPos pos) {
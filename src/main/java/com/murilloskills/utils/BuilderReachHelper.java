@@ -1,9 +1,6 @@
 package com.murilloskills.utils;
 
 import com.murilloskills.data.ModAttachments;
-import com.murilloskills.data.PlayerSkillData;
-import com.murilloskills.impl.BuilderSkill;
-import com.murilloskills.skills.MurilloSkillsList;
 import net.minecraft.server.network.ServerPlayerEntity;
 
 public final class BuilderReachHelper {
@@ -14,18 +11,7 @@ public final class BuilderReachHelper {
         if (player == null) {
             return 0.0D;
         }
-
-        PlayerSkillData data = ModAttachments.getOrCreate(player);
-        if (!data.isSkillSelected(MurilloSkillsList.BUILDER)) {
-            return 0.0D;
-        }
-
-        PlayerSkillData.SkillStats stats = data.getSkill(MurilloSkillsList.BUILDER);
-        if (stats.level <= 0) {
-            return 0.0D;
-        }
-
-        return BuilderSkill.getReachBonus(stats.level, stats.prestige);
+        return ModAttachments.getOrCreate(player).getModifiers().builderReachBonus();
     }
 
     public static double extendRange(ServerPlayerEntity player, double vanillaRange) {
@@ -0,0 +1,267 @@
+package com.murilloskills.utils;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.Arrays;
+
+/**
+ * 26-neighbour connected-block searches for vein mining and classic ultmine.
+ * Positions are packed with {@link BlockPos#asLong(int, int, int)}, the
+ * queue is a plain {@code long[]} and the visited set is one 4096-bit bitset
+ * per chunk section, so a search allocates a handful of arrays instead of a
+ * {@link BlockPos} and a hash entry per probe. Results keep the breadth-first
+ * discovery order of the old set-based searches.
+ */
+public final class ConnectedBlockSearch {
+
+    @FunctionalInterface
+    public interface BlockTest {
+        boolean test(int x, int y, int z);
+    }
+
+    private ConnectedBlockSearch() {
+    }
+
+    /**
+     * Flood fill from the origin through blocks accepted by {@code matches}.
+     *
+     * @return packed positions without the origin, at most {@code maxBlocks - 1}
+     */
+    public static long[] flood(int originX, int originY, int originZ, int maxBlocks, BlockTest matches) {
+        int limit = Math.max(0, maxBlocks - 1);
+        long[] found = new long[Math.min(limit, 64)];
+        int foundCount = 0;
+        if (limit == 0) {
+            return found;
+        }
+        VisitedSet visited = new VisitedSet();
+        visited.add(originX, originY, originZ);
+
+        long current = BlockPos.asLong(originX, originY, originZ);
+        int head = -1;
+        while (true) {
+            int x = BlockPos.unpackLongX(current);
+            int y = BlockPos.unpackLongY(current);
+            int z = BlockPos.unpackLongZ(current);
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if (dx == 0 && dy == 0 && dz == 0) {
+                            continue;
+                        }
+                        if (foundCount >= limit) {
+                            return found;
+                        }
+                        int nx = x + dx;
+                        int ny = y + dy;
+                        int nz = z + dz;
+                        if (visited.contains(nx, ny, nz) || !matches.test(nx, ny, nz)) {
+                            continue;
+                        }
+                        visited.add(nx, ny, nz);
+                        if (foundCount == found.length) {
+                            found = Arrays.copyOf(found, Math.min(limit, found.length * 2));
+                        }
+                        found[foundCount++] = BlockPos.asLong(nx, ny, nz);
+                    }
+                }
+            }
+            // The found list doubles as the queue: breadth-first order is discovery order.
+            if (++head >= foundCount) {
+                return Arrays.copyOf(found, foundCount);
+            }
+            current = found[head];
+        }
+    }
+
+    /**
+     * Breadth-first search outwards from the origin and the given anchors
+     * through blocks accepted by {@code matches}. Anchors are never returned;
+     * unlike {@link #flood}, every probed position is marked visited, so a
+     * rejected block is tested once.
+     *
+     * @return packed positions found, at most {@code limit}
+     */
+    public static long[] expand(long origin, long[] anchors, int limit, BlockTest matches) {
+        long[] found = new long[Math.max(0, Math.min(limit, 64))];
+        int foundCount = 0;
+        if (limit <= 0) {
+            return found;
+        }
+        VisitedSet visited = new VisitedSet();
+        visited.add(origin);
+        for (long anchor : anchors) {
+            visited.add(anchor);
+        }
+
+        // Anchors are expanded first, in order, then the newly found blocks.
+        int head = -1;
+        while (foundCount < limit) {
+            long current;
+            if (head < anchors.length) {
+                current = head < 0 ? origin : anchors[head];
+            } else if (head - anchors.length < foundCount) {
+                current = found[head - anchors.length];
+            } else {
+                break;
+            }
+            head++;
+
+            int x = BlockPos.unpackLongX(current);
+            int y = BlockPos.unpackLongY(current);
+            int z = BlockPos.unpackLongZ(current);
+            for (int dx = -1; dx <= 1 && foundCount < limit; dx++) {
+                for (int dy = -1; dy <= 1 && foundCount < limit; dy++) {
+                    for (int dz = -1; dz <= 1 && foundCount < limit; dz++) {
+                        if (dx == 0 && dy == 0 && dz == 0) {
+                            continue;
+                        }
+                        int nx = x + dx;
+                        int ny = y + dy;
+                        int nz = z + dz;
+                        if (!visited.add(nx, ny, nz) || !matches.test(nx, ny, nz)) {
+                            continue;
+                        }
+                        if (foundCount == found.length) {
+                            found = Arrays.copyOf(found, Math.min(limit, found.length * 2));
+                        }
+                        found[foundCount++] = BlockPos.asLong(nx, ny, nz);
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(found, foundCount);
+    }
+
+    /**
+     * Appends {@code additions} to {@code targets} without going over
+     * {@code limit}. When full, the last target rejected by {@code keep} makes
+     * room for the next addition; once nothing is removable, the rest of the
+     * additions are dropped. Additions must not already be in the targets and
+     * are never removed themselves.
+     */
+    public static long[] appendMakingRoom(long[] targets, long[] additions, int limit, BlockTest keep) {
+        boolean[] removed = new boolean[targets.length];
+        int size = targets.length;
+        int cursor = targets.length - 1;
+        long[] appended = new long[additions.length];
+        int appendedCount = 0;
+        for (long addition : additions) {
+            while (size >= limit && cursor >= 0) {
+                long candidate = targets[cursor];
+                if (!keep.test(BlockPos.unpackLongX(candidate), BlockPos.unpackLongY(candidate),
+                        BlockPos.unpackLongZ(candidate))) {
+                    removed[cursor] = true;
+                    size--;
+                }
+                cursor--;
+            }
+            if (size >= limit) {
+                break;
+            }
+            appended[appendedCount++] = addition;
+            size++;
+        }
+
+        long[] result = new long[size];
+        int index = 0;
+        for (int i = 0; i < targets.length; i++) {
+            if (!removed[i]) {
+                result[index++] = targets[i];
+            }
+        }
+        System.arraycopy(appended, 0, result, index, appendedCount);
+        return result;
+    }
+
+    /**
+     * One bitset per chunk section, found through a small open-addressing
+     * table keyed by the packed section position, with the last section kept
+     * at hand.
+     */
+    static final class VisitedSet {
+        private long[] keys = new long[16];
+        private long[][] bitsets = new long[16][];
+        private int sectionCount;
+        private long lastKey = Long.MIN_VALUE;
+        private long[] lastBits;
+
+        boolean add(long packed) {
+            return add(BlockPos.unpackLongX(packed), BlockPos.unpackLongY(packed), BlockPos.unpackLongZ(packed));
+        }
+
+        /** @return {@code false} if the position was already visited */
+        boolean add(int x, int y, int z) {
+            long[] bits = bits(x, y, z, true);
+            int index = (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+            long mask = 1L << index;
+            if ((bits[index >>> 6] & mask) != 0) {
+                return false;
+            }
+            bits[index >>> 6] |= mask;
+            return true;
+        }
+
+        boolean contains(int x, int y, int z) {
+            long[] bits = bits(x, y, z, false);
+            if (bits == null) {
+                return false;
+            }
+            int index = (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+            return (bits[index >>> 6] & 1L << index) != 0;
+        }
+
+        private long[] bits(int x, int y, int z, boolean create) {
+            long key = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+            if (key == lastKey) {
+                return lastBits;
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (bitsets[slot] != null) {
+                if (keys[slot] == key) {
+                    lastKey = key;
+                    lastBits = bitsets[slot];
+                    return lastBits;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (!create) {
+                return null;
+            }
+            long[] bits = new long[64];
+            keys[slot] = key;
+            bitsets[slot] = bits;
+            if (++sectionCount * 2 > keys.length) {
+                grow();
+            }
+            lastKey = key;
+            lastBits = bits;
+            return bits;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[][] oldBitsets = bitsets;
+            keys = new long[oldKeys.length * 2];
+            bitsets = new long[oldKeys.length * 2][];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldBitsets[i] != null) {
+                    int slot = slot(oldKeys[i], mask);
+                    while (bitsets[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    bitsets[slot] = oldBitsets[i];
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ hash >>> 32) & mask;
+        }
+    }
+}
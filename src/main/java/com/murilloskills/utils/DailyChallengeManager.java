@@ -48,6 +48,7 @@ public class DailyChallengeManager {
             boolean wasExisting = data != null;
             data = generateNewChallenges(player, currentGameDay);
             playerData.dailyChallenges = data;
+            playerData.markDirty();
 
             // Notificar jogador sobre novos desafios (exceto primeira vez)
             if (wasExisting) {
@@ -69,6 +70,7 @@ public class DailyChallengeManager {
         for (DailyChallenge challenge : challenges) {
             if (challenge.type == type && !challenge.completed) {
                 challenge.currentProgress += amount;
+                player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS).markDirty();
 
                 // Verificar se completou
                 if (challenge.currentProgress >= challenge.targetAmount) {
@@ -256,6 +258,7 @@ public class DailyChallengeManager {
             PlayerChallengeData challengeData = data.dailyChallenges;
             if (challengeData != null && !challengeData.bonusAwarded) {
                 challengeData.bonusAwarded = true;
+                data.markDirty();
                 awardAllCompleteBonus(player);
             }
         }
@@ -292,6 +295,7 @@ public class DailyChallengeManager {
      * Call on login and after challenge updates.
      */
     public static void syncChallenges(ServerPlayerEntity player) {
+        // One sync per player at the end of the tick
         if (BatchSkillUpdateContext.queueChallengeSync(player)) {
             return;
         }
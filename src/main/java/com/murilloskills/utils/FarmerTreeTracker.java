@@ -1,72 +1,76 @@
 package com.murilloskills.utils;
 
+import com.mojang.serialization.Codec;
+import com.murilloskills.data.ModAttachments;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.BlockState;
-import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.tag.BlockTags;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * Tracks logs generated by saplings so Farmer double harvest can apply once.
+ * While a sapling generates its tree, every block change that turns a
+ * non-log into a log is recorded; no volume is scanned. The positions are
+ * kept per chunk as a persistent chunk attachment of packed ints
+ * ({@link ChunkLogs}), so they are saved with the world and freed when the
+ * chunk unloads.
  */
 public final class FarmerTreeTracker {
-    private static final int HORIZONTAL_SCAN_RADIUS = 8;
-    private static final int LOWER_SCAN_RADIUS = 2;
-    private static final int UPPER_SCAN_RADIUS = 32;
-    private static final int MAX_TRACKED_LOGS_PER_WORLD = 200_000;
-
-    private static final Map<RegistryKey<World>, LinkedHashSet<BlockPos>> GENERATED_LOGS = new HashMap<>();
+    // Positions recorded by the tree currently generating, keyed by chunk
+    private static final Long2ObjectMap<IntArrayList> CAPTURED = new Long2ObjectOpenHashMap<>();
+    private static World captureWorld;
+    private static Thread captureThread;
 
     private FarmerTreeTracker() {
     }
 
-    public static Set<BlockPos> collectNearbyLogs(ServerWorld world, BlockPos origin) {
-        Set<BlockPos> logs = new HashSet<>();
-        if (world == null || origin == null) {
-            return logs;
-        }
+    /** Called when a sapling starts generating its tree. */
+    public static void beginGeneration(ServerWorld world) {
+        CAPTURED.clear();
+        captureWorld = world;
+        captureThread = Thread.currentThread();
+    }
 
-        for (BlockPos pos : BlockPos.iterate(
-                origin.add(-HORIZONTAL_SCAN_RADIUS, -LOWER_SCAN_RADIUS, -HORIZONTAL_SCAN_RADIUS),
-                origin.add(HORIZONTAL_SCAN_RADIUS, UPPER_SCAN_RADIUS, HORIZONTAL_SCAN_RADIUS))) {
-            BlockState state = world.getBlockState(pos);
-            if (isLog(state)) {
-                logs.add(pos.toImmutable());
+    /** Called when the sapling is done; stores the logs its tree placed. */
+    public static void endGeneration(ServerWorld world) {
+        try {
+            if (captureWorld != world) {
+                return;
             }
+            for (Long2ObjectMap.Entry<IntArrayList> entry : CAPTURED.long2ObjectEntrySet()) {
+                long chunkKey = entry.getLongKey();
+                WorldChunk chunk = world.getChunk(ChunkPos.getPackedX(chunkKey), ChunkPos.getPackedZ(chunkKey));
+                ChunkLogs existing = chunk.getAttached(ModAttachments.GENERATED_LOGS);
+                ChunkLogs added = ChunkLogs.of(entry.getValue().toIntArray());
+                chunk.setAttached(ModAttachments.GENERATED_LOGS, existing == null ? added : existing.with(added));
+            }
+        } finally {
+            CAPTURED.clear();
+            captureWorld = null;
+            captureThread = null;
         }
-        return logs;
     }
 
-    public static void markNewGeneratedLogs(ServerWorld world, BlockPos origin, Set<BlockPos> beforeLogs) {
-        if (world == null || origin == null) {
+    /**
+     * Called for every block change in a loaded chunk; returns at once unless
+     * a sapling is generating in {@code world} on this thread.
+     */
+    public static void onBlockChanged(World world, BlockPos pos, BlockState previous, BlockState state) {
+        if (captureWorld != world || captureThread != Thread.currentThread()) {
             return;
         }
-
-        Set<BlockPos> existingLogs = beforeLogs == null ? Set.of() : beforeLogs;
-        LinkedHashSet<BlockPos> trackedLogs = GENERATED_LOGS.computeIfAbsent(world.getRegistryKey(),
-                ignored -> new LinkedHashSet<>());
-
-        for (BlockPos pos : BlockPos.iterate(
-                origin.add(-HORIZONTAL_SCAN_RADIUS, -LOWER_SCAN_RADIUS, -HORIZONTAL_SCAN_RADIUS),
-                origin.add(HORIZONTAL_SCAN_RADIUS, UPPER_SCAN_RADIUS, HORIZONTAL_SCAN_RADIUS))) {
-            BlockPos immutablePos = pos.toImmutable();
-            if (existingLogs.contains(immutablePos)) {
-                continue;
-            }
-            if (isLog(world.getBlockState(pos))) {
-                trackedLogs.add(immutablePos);
-            }
+        if (isLog(state) && !isLog(previous)) {
+            CAPTURED.computeIfAbsent(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4),
+                    ignored -> new IntArrayList()).add(pack(pos));
         }
-
-        trimTrackedLogs(trackedLogs);
     }
 
     public static boolean consumeGeneratedLog(ServerWorld world, BlockPos pos, BlockState state) {
@@ -74,23 +78,100 @@ public final class FarmerTreeTracker {
             return false;
         }
 
-        Set<BlockPos> trackedLogs = GENERATED_LOGS.get(world.getRegistryKey());
-        return trackedLogs != null && trackedLogs.remove(pos.toImmutable());
+        WorldChunk chunk = world.getWorldChunk(pos);
+        ChunkLogs trackedLogs = chunk.getAttached(ModAttachments.GENERATED_LOGS);
+        if (trackedLogs == null) {
+            return false;
+        }
+        ChunkLogs remaining = trackedLogs.without(pack(pos));
+        if (remaining == trackedLogs) {
+            return false;
+        }
+        if (remaining.isEmpty()) {
+            chunk.removeAttached(ModAttachments.GENERATED_LOGS);
+        } else {
+            chunk.setAttached(ModAttachments.GENERATED_LOGS, remaining);
+        }
+        return true;
     }
 
     public static boolean isLog(BlockState state) {
         return state != null && state.isIn(BlockTags.LOGS);
     }
 
-    private static void trimTrackedLogs(LinkedHashSet<BlockPos> trackedLogs) {
-        if (trackedLogs == null || trackedLogs.size() <= MAX_TRACKED_LOGS_PER_WORLD) {
-            return;
+    /** Chunk-local x and z in the low byte, world y above them. */
+    static int pack(BlockPos pos) {
+        return (pos.getY() << 8) | ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
+    }
+
+    /**
+     * The generated logs of one chunk as a sorted array of {@link #pack}ed
+     * positions. Instances are never modified; changes build a new one so the
+     * attachment is re-set and the chunk marked for saving.
+     */
+    public static final class ChunkLogs {
+        public static final Codec<ChunkLogs> CODEC = Codec.INT_STREAM.xmap(
+                stream -> of(stream.toArray()), logs -> Arrays.stream(logs.packed));
+
+        private final int[] packed;
+
+        private ChunkLogs(int[] packed) {
+            this.packed = packed;
         }
 
-        Iterator<BlockPos> iterator = trackedLogs.iterator();
-        while (trackedLogs.size() > MAX_TRACKED_LOGS_PER_WORLD && iterator.hasNext()) {
-            iterator.next();
-            iterator.remove();
+        static ChunkLogs of(int[] packedPositions) {
+            int[] sorted = packedPositions.clone();
+            Arrays.sort(sorted);
+            return new ChunkLogs(dedupe(sorted, sorted.length));
+        }
+
+        boolean contains(int packedPos) {
+            return Arrays.binarySearch(packed, packedPos) >= 0;
+        }
+
+        boolean isEmpty() {
+            return packed.length == 0;
+        }
+
+        int size() {
+            return packed.length;
+        }
+
+        ChunkLogs with(ChunkLogs added) {
+            int[] merged = new int[packed.length + added.packed.length];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < packed.length || j < added.packed.length) {
+                if (j >= added.packed.length || (i < packed.length && packed[i] <= added.packed[j])) {
+                    merged[n++] = packed[i++];
+                } else {
+                    merged[n++] = added.packed[j++];
+                }
+            }
+            return new ChunkLogs(dedupe(merged, n));
+        }
+
+        /** This set without {@code packedPos}, or this same instance when it is not tracked. */
+        ChunkLogs without(int packedPos) {
+            int index = Arrays.binarySearch(packed, packedPos);
+            if (index < 0) {
+                return this;
+            }
+            int[] remaining = new int[packed.length - 1];
+            System.arraycopy(packed, 0, remaining, 0, index);
+            System.arraycopy(packed, index + 1, remaining, index, packed.length - index - 1);
+            return new ChunkLogs(remaining);
+        }
+
+        private static int[] dedupe(int[] sorted, int length) {
+            int n = 0;
+            for (int i = 0; i < length; i++) {
+                if (n == 0 || sorted[i] != sorted[n - 1]) {
+                    sorted[n++] = sorted[i];
+                }
+            }
+            return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
         }
     }
 }
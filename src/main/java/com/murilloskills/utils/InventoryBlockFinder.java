@@ -13,22 +13,6 @@ public final class InventoryBlockFinder {
     private InventoryBlockFinder() {
     }
 
-    public static int countMatchingBlocks(ServerPlayerEntity player, ItemStack reference) {
-        if (player == null || reference == null || reference.isEmpty()) {
-            return 0;
-        }
-
-        int total = 0;
-        var inventory = player.getInventory();
-        for (int i = 0; i < inventory.size(); i++) {
-            ItemStack stack = inventory.getStack(i);
-            if (matches(stack, reference)) {
-                total += stack.getCount();
-            }
-        }
-        return total;
-    }
-
     public static ItemStack findMatchingBlock(ServerPlayerEntity player, ItemStack reference, Hand preferredHand) {
         if (player == null || reference == null || reference.isEmpty()) {
             return ItemStack.EMPTY;
@@ -142,7 +126,7 @@ public final class InventoryBlockFinder {
         }
     }
 
-    private static boolean matches(ItemStack candidate, ItemStack reference) {
+    static boolean matches(ItemStack candidate, ItemStack reference) {
         return candidate != null
                 && !candidate.isEmpty()
                 && ItemStack.areItemsAndComponentsEqual(candidate, reference)
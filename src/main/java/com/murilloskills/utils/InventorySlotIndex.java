@@ -0,0 +1,258 @@
+package com.murilloskills.utils;
+
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Hand;
+
+import java.util.function.Predicate;
+
+/**
+ * The inventory slots holding a given block, scanned once per bulk placement.
+ * Builder fills and UltPlace used to rescan the whole inventory for every
+ * block; with the index each placement looks at the next listed slot and
+ * moves past it once it runs empty, so the inventory work per block is
+ * constant. A listed slot is re-checked before use, so stacks moved or used
+ * up elsewhere are skipped; when the list runs out the inventory is scanned
+ * once more to pick up stacks added since.
+ */
+public final class InventorySlotIndex {
+    /** Null when there is no player or nothing to match; the index is then always empty. */
+    private final Cursor<ItemStack> cursor;
+
+    private InventorySlotIndex(Cursor<ItemStack> cursor) {
+        this.cursor = cursor;
+    }
+
+    /** Slots whose stack has the same item and components as {@code reference}. */
+    public static InventorySlotIndex of(ServerPlayerEntity player, ItemStack reference) {
+        if (player == null || reference == null || reference.isEmpty()) {
+            return new InventorySlotIndex(null);
+        }
+        ItemStack template = reference.copy();
+        return new InventorySlotIndex(new Cursor<>(new PlayerSlots(player),
+                stack -> InventoryBlockFinder.matches(stack, template)));
+    }
+
+    /** Slots whose stack matches {@code matcher}; empty stacks never match. */
+    public static InventorySlotIndex of(ServerPlayerEntity player, Predicate<ItemStack> matcher) {
+        if (player == null || matcher == null) {
+            return new InventorySlotIndex(null);
+        }
+        return new InventorySlotIndex(new Cursor<>(new PlayerSlots(player),
+                stack -> !stack.isEmpty() && matcher.test(stack)));
+    }
+
+    /** Items in the matching slots when the index was built. */
+    public int totalCount() {
+        return cursor == null ? 0 : cursor.totalCount();
+    }
+
+    /**
+     * First listed slot that still holds a matching stack, or -1 when the
+     * inventory has none left.
+     */
+    public int nextSlot() {
+        return cursor == null ? -1 : cursor.nextSlot();
+    }
+
+    /**
+     * Same contract as {@link InventoryBlockFinder#pullMatchingBlockIntoHand}:
+     * keeps a matching stack in {@code hand} topped up from the indexed slots
+     * and returns it, or returns another matching stack when the hand holds
+     * something else.
+     */
+    public ItemStack pullIntoHand(Hand hand) {
+        if (cursor == null) {
+            return ItemStack.EMPTY;
+        }
+        ItemStack stack = cursor.pullIntoHand(hand);
+        return stack == null ? ItemStack.EMPTY : stack;
+    }
+
+    /** What the cursor needs from an inventory, so it can be checked without a Minecraft bootstrap. */
+    interface Slots<S> {
+        int size();
+
+        S get(int slot);
+
+        void clear(int slot);
+
+        S inHand(Hand hand);
+
+        /** Moves the stack in {@code slot} into {@code hand} and returns the stack now held. */
+        S moveToHand(int slot, Hand hand);
+
+        boolean isEmpty(S stack);
+
+        int count(S stack);
+
+        int maxCount(S stack);
+
+        void transfer(S from, S to, int amount);
+    }
+
+    private record PlayerSlots(ServerPlayerEntity player) implements Slots<ItemStack> {
+        @Override
+        public int size() {
+            return player.getInventory().size();
+        }
+
+        @Override
+        public ItemStack get(int slot) {
+            return player.getInventory().getStack(slot);
+        }
+
+        @Override
+        public void clear(int slot) {
+            player.getInventory().setStack(slot, ItemStack.EMPTY);
+        }
+
+        @Override
+        public ItemStack inHand(Hand hand) {
+            return player.getStackInHand(hand);
+        }
+
+        @Override
+        public ItemStack moveToHand(int slot, Hand hand) {
+            PlayerInventory inventory = player.getInventory();
+            ItemStack movedStack = inventory.getStack(slot).copy();
+            inventory.setStack(slot, ItemStack.EMPTY);
+            player.setStackInHand(hand, movedStack);
+            return movedStack;
+        }
+
+        @Override
+        public boolean isEmpty(ItemStack stack) {
+            return stack.isEmpty();
+        }
+
+        @Override
+        public int count(ItemStack stack) {
+            return stack.getCount();
+        }
+
+        @Override
+        public int maxCount(ItemStack stack) {
+            return stack.getMaxCount();
+        }
+
+        @Override
+        public void transfer(ItemStack from, ItemStack to, int amount) {
+            to.increment(amount);
+            from.decrement(amount);
+        }
+    }
+
+    /** The slot list and its cursor; returns null where the public methods return an empty stack. */
+    static final class Cursor<S> {
+        private final Slots<S> inventory;
+        private final Predicate<S> matcher;
+        private int[] slots = new int[0];
+        private int size;
+        private int cursor;
+        private int totalCount;
+
+        Cursor(Slots<S> inventory, Predicate<S> matcher) {
+            this.inventory = inventory;
+            this.matcher = matcher;
+            scan();
+        }
+
+        int totalCount() {
+            return totalCount;
+        }
+
+        int nextSlot() {
+            while (true) {
+                while (cursor < size) {
+                    int slot = slots[cursor];
+                    if (slot < inventory.size() && matcher.test(inventory.get(slot))) {
+                        return slot;
+                    }
+                    cursor++;
+                }
+                // Out of listed slots; look once more for stacks that arrived after the scan
+                scan();
+                if (size == 0) {
+                    return -1;
+                }
+            }
+        }
+
+        S pullIntoHand(Hand hand) {
+            S handStack = inventory.inHand(hand);
+            if (matcher.test(handStack)) {
+                topUp(handStack);
+                return handStack;
+            }
+
+            if (!inventory.isEmpty(handStack)) {
+                int slot = nextSlotExcept(handStack);
+                return slot < 0 ? null : inventory.get(slot);
+            }
+
+            int slot = nextSlot();
+            if (slot < 0) {
+                return null;
+            }
+            S movedStack = inventory.moveToHand(slot, hand);
+            topUp(movedStack);
+            return movedStack;
+        }
+
+        private int nextSlotExcept(S excluded) {
+            for (int i = cursor; i < size; i++) {
+                int slot = slots[i];
+                if (slot < inventory.size() && inventory.get(slot) != excluded
+                        && matcher.test(inventory.get(slot))) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void topUp(S target) {
+            if (inventory.count(target) >= inventory.maxCount(target)) {
+                return;
+            }
+            for (int i = cursor; i < size && inventory.count(target) < inventory.maxCount(target); i++) {
+                int slot = slots[i];
+                if (slot >= inventory.size()) {
+                    continue;
+                }
+                S candidate = inventory.get(slot);
+                if (candidate == target || !matcher.test(candidate)) {
+                    continue;
+                }
+
+                int transfer = Math.min(inventory.maxCount(target) - inventory.count(target),
+                        inventory.count(candidate));
+                inventory.transfer(candidate, target, transfer);
+                if (inventory.isEmpty(candidate)) {
+                    inventory.clear(slot);
+                }
+            }
+            // Slots before the first one still holding items are used up for good
+            while (cursor < size && !matcher.test(inventory.get(slots[cursor]))) {
+                cursor++;
+            }
+        }
+
+        private void scan() {
+            if (slots.length < inventory.size()) {
+                slots = new int[inventory.size()];
+            }
+            size = 0;
+            cursor = 0;
+            totalCount = 0;
+            for (int i = 0; i < inventory.size(); i++) {
+                S stack = inventory.get(i);
+                if (matcher.test(stack)) {
+                    slots[size++] = i;
+                    totalCount += inventory.count(stack);
+                }
+            }
+        }
+    }
+}
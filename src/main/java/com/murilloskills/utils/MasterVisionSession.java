@@ -0,0 +1,202 @@
+package com.murilloskills.utils;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Server-side memory of one player's Miner master vision. Ores are remembered
+ * per chunk section; each {@link #update} only rescans sections that newly came
+ * into range or were marked with {@link #markBlockChanged}, and reports what
+ * the client has to add or remove instead of the whole ore list.
+ *
+ * @param <T> ore entry sent to the client; compared with {@code equals} to
+ *            detect ores that changed type in place
+ */
+public final class MasterVisionSession<T> {
+
+    @FunctionalInterface
+    public interface SectionScan<T> {
+        /**
+         * Scans one whole section into the sink.
+         *
+         * @return {@code false} when the section is not loaded yet; it is retried on the next update
+         */
+        boolean scan(int sectionX, int sectionY, int sectionZ, OreSink<T> sink);
+    }
+
+    @FunctionalInterface
+    public interface OreSink<T> {
+        void accept(int x, int y, int z, T entry);
+    }
+
+    /**
+     * Changes since the previous update. {@code removed} holds packed
+     * {@link BlockPos#asLong} positions.
+     */
+    public record Delta<T>(List<T> added, long[] removed, int sectionsScanned) {
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.length == 0;
+        }
+    }
+
+    private final Map<Long, Map<Long, T>> sections = new HashMap<>();
+    private final Set<Long> dirtySections = new HashSet<>();
+    private final Map<Long, T> visible = new HashMap<>();
+
+    private boolean initialized = false;
+    private int minX, minY, minZ, maxX, maxY, maxZ;
+    private int minSectionX, minSectionY, minSectionZ, maxSectionX, maxSectionY, maxSectionZ;
+
+    /**
+     * Brings the remembered ore set up to date for a cube of the given radius.
+     * The first call scans every section in range and reports all ores as added.
+     */
+    public Delta<T> update(int centerX, int centerY, int centerZ, int radius, int bottomSectionY, int topSectionY,
+            SectionScan<T> scanner) {
+        int newMinX = centerX - radius;
+        int newMinY = centerY - radius;
+        int newMinZ = centerZ - radius;
+        int newMaxX = centerX + radius;
+        int newMaxY = centerY + radius;
+        int newMaxZ = centerZ + radius;
+        boolean moved = !initialized || newMinX != minX || newMinY != minY || newMinZ != minZ
+                || newMaxX != maxX || newMaxY != maxY || newMaxZ != maxZ;
+
+        minX = newMinX;
+        minY = newMinY;
+        minZ = newMinZ;
+        maxX = newMaxX;
+        maxY = newMaxY;
+        maxZ = newMaxZ;
+        minSectionX = minX >> 4;
+        minSectionZ = minZ >> 4;
+        maxSectionX = maxX >> 4;
+        maxSectionZ = maxZ >> 4;
+        minSectionY = Math.max(minY >> 4, bottomSectionY);
+        maxSectionY = Math.min(maxY >> 4, topSectionY);
+        initialized = true;
+
+        if (moved) {
+            sections.keySet().removeIf(key -> !isSectionInRange(key));
+            dirtySections.removeIf(key -> !isSectionInRange(key));
+        }
+
+        List<T> added = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        int scanned = 0;
+
+        for (int sectionX = minSectionX; sectionX <= maxSectionX; sectionX++) {
+            for (int sectionZ = minSectionZ; sectionZ <= maxSectionZ; sectionZ++) {
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    long key = ChunkSectionPos.asLong(sectionX, sectionY, sectionZ);
+                    boolean known = sections.containsKey(key);
+                    if (known && !dirtySections.remove(key)) {
+                        continue;
+                    }
+                    Map<Long, T> ores = new HashMap<>();
+                    boolean loaded = scanner.scan(sectionX, sectionY, sectionZ,
+                            (x, y, z, entry) -> ores.put(BlockPos.asLong(x, y, z), entry));
+                    scanned++;
+                    Map<Long, T> previous = loaded ? sections.put(key, ores) : sections.remove(key);
+                    if (!moved) {
+                        diffSection(previous, ores, added, removed);
+                    }
+                }
+            }
+        }
+
+        if (moved) {
+            rebuildVisible(added, removed);
+        }
+
+        long[] removedPositions = new long[removed.size()];
+        for (int i = 0; i < removedPositions.length; i++) {
+            removedPositions[i] = removed.get(i);
+        }
+        return new Delta<>(added, removedPositions, scanned);
+    }
+
+    /**
+     * Marks the section holding the given block for a rescan on the next update.
+     */
+    public void markBlockChanged(int x, int y, int z) {
+        int sectionX = x >> 4;
+        int sectionY = y >> 4;
+        int sectionZ = z >> 4;
+        if (initialized && sectionX >= minSectionX && sectionX <= maxSectionX && sectionY >= minSectionY
+                && sectionY <= maxSectionY && sectionZ >= minSectionZ && sectionZ <= maxSectionZ) {
+            dirtySections.add(ChunkSectionPos.asLong(sectionX, sectionY, sectionZ));
+        }
+    }
+
+    /** Ores the client currently shows, as of the last update. */
+    public List<T> getVisible() {
+        return new ArrayList<>(visible.values());
+    }
+
+    public int getRememberedSectionCount() {
+        return sections.size();
+    }
+
+    private void diffSection(Map<Long, T> previous, Map<Long, T> current, List<T> added, List<Long> removed) {
+        if (previous != null) {
+            for (Long pos : previous.keySet()) {
+                if (!current.containsKey(pos) && visible.remove(pos) != null) {
+                    removed.add(pos);
+                }
+            }
+        }
+        for (Map.Entry<Long, T> ore : current.entrySet()) {
+            long pos = ore.getKey();
+            if (isInCube(pos) && !Objects.equals(visible.put(pos, ore.getValue()), ore.getValue())) {
+                added.add(ore.getValue());
+            }
+        }
+    }
+
+    private void rebuildVisible(List<T> added, List<Long> removed) {
+        Map<Long, T> next = new HashMap<>();
+        for (Map<Long, T> ores : sections.values()) {
+            for (Map.Entry<Long, T> ore : ores.entrySet()) {
+                if (isInCube(ore.getKey())) {
+                    next.put(ore.getKey(), ore.getValue());
+                }
+            }
+        }
+        for (Long pos : visible.keySet()) {
+            if (!next.containsKey(pos)) {
+                removed.add(pos);
+            }
+        }
+        for (Map.Entry<Long, T> ore : next.entrySet()) {
+            if (!Objects.equals(visible.get(ore.getKey()), ore.getValue())) {
+                added.add(ore.getValue());
+            }
+        }
+        visible.clear();
+        visible.putAll(next);
+    }
+
+    private boolean isSectionInRange(long key) {
+        int sectionX = ChunkSectionPos.unpackX(key);
+        int sectionY = ChunkSectionPos.unpackY(key);
+        int sectionZ = ChunkSectionPos.unpackZ(key);
+        return sectionX >= minSectionX && sectionX <= maxSectionX && sectionY >= minSectionY
+                && sectionY <= maxSectionY && sectionZ >= minSectionZ && sectionZ <= maxSectionZ;
+    }
+
+    private boolean isInCube(long pos) {
+        int x = BlockPos.unpackLongX(pos);
+        int y = BlockPos.unpackLongY(pos);
+        int z = BlockPos.unpackLongZ(pos);
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+}
@@ -0,0 +1,201 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.core.compat.CrossModCompatRules;
+import com.murilloskills.models.SkillReceptorResult;
+import net.minecraft.block.Block;
+import net.minecraft.registry.Registries;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Miner classification of every registered block, worked out once instead of
+ * on every break. The XP kind and the challenge/achievement flags depend only
+ * on the registry id, so they are stored per block and built once the
+ * registries are frozen. The table is keyed by the {@link Block} instance, not
+ * its raw id: Fabric registry sync remaps raw ids when a client joins a
+ * modded server, and the client reads this table for master vision. The XP
+ * amounts depend on the config and are rebuilt after
+ * {@link #onConfigReloaded()}. A lookup is one identity map read and
+ * allocates nothing.
+ */
+public final class MinerBlockTable {
+    /** Counts for the MINE_ORES daily challenge. */
+    public static final int ORE = 1;
+    /** Counts for the MINE_DEEPSLATE daily challenge. */
+    public static final int DEEPSLATE = 1 << 1;
+    /** Counts for FIND_DIAMONDS and the first diamond advancement. */
+    public static final int DIAMOND_ORE = 1 << 2;
+    /** Counts for the emeralds mined achievement. */
+    public static final int EMERALD_ORE = 1 << 3;
+    public static final int RAW_RESOURCE = 1 << 4;
+    /** Shown by master vision and handled by Melting Touch. */
+    public static final int DETECTABLE_ORE = 1 << 5;
+
+    private static final int FLAG_SHIFT = 8;
+    private static final int KIND_MASK = (1 << FLAG_SHIFT) - 1;
+
+    public enum XpKind {
+        NONE, STONE, COAL, COPPER, IRON, GOLD, LAPIS, REDSTONE, DIAMOND, EMERALD, ANCIENT_DEBRIS, NETHER_QUARTZ,
+        NETHER_GOLD, MODDED_ORE;
+
+        private static final XpKind[] VALUES = values();
+
+        public boolean isOre() {
+            return this != NONE && this != STONE;
+        }
+    }
+
+    private static final SkillReceptorResult NO_XP = new SkillReceptorResult(false, 0);
+    private static final Map<String, XpKind> VANILLA_KINDS = new HashMap<>();
+
+    static {
+        VANILLA_KINDS.put("minecraft:stone", XpKind.STONE);
+        VANILLA_KINDS.put("minecraft:deepslate", XpKind.STONE);
+        VANILLA_KINDS.put("minecraft:cobblestone", XpKind.STONE);
+        VANILLA_KINDS.put("minecraft:cobbled_deepslate", XpKind.STONE);
+        putOre("coal", XpKind.COAL);
+        putOre("copper", XpKind.COPPER);
+        putOre("iron", XpKind.IRON);
+        putOre("gold", XpKind.GOLD);
+        putOre("lapis", XpKind.LAPIS);
+        putOre("redstone", XpKind.REDSTONE);
+        putOre("diamond", XpKind.DIAMOND);
+        putOre("emerald", XpKind.EMERALD);
+        VANILLA_KINDS.put("minecraft:ancient_debris", XpKind.ANCIENT_DEBRIS);
+        VANILLA_KINDS.put("minecraft:nether_quartz_ore", XpKind.NETHER_QUARTZ);
+        VANILLA_KINDS.put("minecraft:nether_gold_ore", XpKind.NETHER_GOLD);
+    }
+
+    // Both are replaced whole, never mutated, so readers on any thread see a complete table.
+    private static volatile Map<Block, Integer> entries;
+    private static volatile SkillReceptorResult[] xpResults;
+
+    private MinerBlockTable() {
+    }
+
+    private static void putOre(String name, XpKind kind) {
+        VANILLA_KINDS.put("minecraft:" + name + "_ore", kind);
+        VANILLA_KINDS.put("minecraft:deepslate_" + name + "_ore", kind);
+    }
+
+    /** Packed entry for the block; read it with {@link #kindOf(int)} and {@link #hasFlag(int, int)}. */
+    public static int entry(Block block) {
+        Map<Block, Integer> table = entries;
+        Integer entry = table != null ? table.get(block) : null;
+        if (entry == null && (table == null || table.size() < Registries.BLOCK.size())) {
+            // Not built yet, or blocks were registered after the last build
+            entry = rebuild().get(block);
+        }
+        return entry != null ? entry : 0;
+    }
+
+    public static boolean hasFlag(Block block, int flag) {
+        return hasFlag(entry(block), flag);
+    }
+
+    /**
+     * Miner XP for breaking the block; same rules as
+     * {@link MinerXpGetter#isMinerXpBlock(Block, boolean, boolean)}.
+     */
+    public static SkillReceptorResult xpFor(int entry, boolean hasSilkTouch, boolean excludeStoneAndDeepSlate) {
+        XpKind kind = kindOf(entry);
+        if (kind == XpKind.NONE || (kind == XpKind.STONE ? excludeStoneAndDeepSlate : hasSilkTouch)) {
+            return NO_XP;
+        }
+        SkillReceptorResult[] results = xpResults;
+        if (results == null) {
+            results = buildXpResults();
+            xpResults = results;
+        }
+        return results[kind.ordinal()];
+    }
+
+    /** Rebuilds the per-block table from the block registry. */
+    public static Map<Block, Integer> rebuild() {
+        Map<Block, Integer> table = build(Registries.BLOCK, block -> Registries.BLOCK.getId(block).toString());
+        entries = table;
+        return table;
+    }
+
+    /** Classifies every block by its registry id, keyed by the block instance. */
+    static <B> Map<B, Integer> build(Iterable<B> blocks, Function<B, String> idOf) {
+        Map<B, Integer> table = new IdentityHashMap<>();
+        for (B block : blocks) {
+            table.put(block, classify(idOf.apply(block)));
+        }
+        return table;
+    }
+
+    /** Drops the cached XP amounts so the next break reads the new config values. */
+    public static void onConfigReloaded() {
+        xpResults = null;
+    }
+
+    public static XpKind kindOf(int entry) {
+        return XpKind.VALUES[entry & KIND_MASK];
+    }
+
+    public static boolean hasFlag(int entry, int flag) {
+        return ((entry >>> FLAG_SHIFT) & flag) != 0;
+    }
+
+    /** Packs the XP kind and flags for one registry id. */
+    public static int classify(String blockId) {
+        XpKind kind = classifyXp(blockId);
+        int flags = 0;
+        // Same substring rules the break handler used to run on every break
+        if (blockId.contains("_ore") || blockId.contains("ancient_debris")) {
+            flags |= ORE;
+        }
+        if (blockId.contains("deepslate")) {
+            flags |= DEEPSLATE;
+        }
+        if (blockId.contains("diamond_ore")) {
+            flags |= DIAMOND_ORE;
+        }
+        if (blockId.contains("emerald_ore")) {
+            flags |= EMERALD_ORE;
+        }
+        boolean raw = CrossModCompatRules.isRawResourceBlockId(blockId);
+        if (raw) {
+            flags |= RAW_RESOURCE;
+        }
+        if (kind.isOre() || raw || MinerXpGetter.isLikelyOreId(blockId)) {
+            flags |= DETECTABLE_ORE;
+        }
+        return kind.ordinal() | flags << FLAG_SHIFT;
+    }
+
+    public static XpKind classifyXp(String blockId) {
+        XpKind kind = VANILLA_KINDS.get(blockId);
+        if (kind != null) {
+            return kind;
+        }
+        // Modded ores and raw blocks are paid like iron
+        return CrossModCompatRules.isOreResourceId(blockId) ? XpKind.MODDED_ORE : XpKind.NONE;
+    }
+
+    private static SkillReceptorResult[] buildXpResults() {
+        SkillReceptorResult[] results = new SkillReceptorResult[XpKind.VALUES.length];
+        results[XpKind.NONE.ordinal()] = NO_XP;
+        results[XpKind.STONE.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpStone());
+        results[XpKind.COAL.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpCoal());
+        results[XpKind.COPPER.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpCopper());
+        results[XpKind.IRON.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpIron());
+        results[XpKind.GOLD.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpGold());
+        results[XpKind.LAPIS.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpLapis());
+        results[XpKind.REDSTONE.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpRedstone());
+        results[XpKind.DIAMOND.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpDiamond());
+        results[XpKind.EMERALD.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpEmerald());
+        results[XpKind.ANCIENT_DEBRIS.ordinal()] = new SkillReceptorResult(true,
+                SkillConfig.getMinerXpAncientDebris());
+        results[XpKind.NETHER_QUARTZ.ordinal()] = new SkillReceptorResult(true,
+                SkillConfig.getMinerXpNetherQuartz());
+        results[XpKind.NETHER_GOLD.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpNetherGold());
+        results[XpKind.MODDED_ORE.ordinal()] = new SkillReceptorResult(true, SkillConfig.getMinerXpIron());
+        return results;
+    }
+}
@@ -3,69 +3,20 @@ package com.murilloskills.utils;
 import com.murilloskills.models.SkillReceptorResult;
 import com.murilloskills.core.compat.CrossModCompatRules;
 import net.minecraft.block.Block;
-import net.minecraft.block.Blocks;
-import net.minecraft.registry.Registries;
 
 public class MinerXpGetter {
 
-    // Base XP values for different ores
-    // Note: Constants replaced by SkillConfig getters
+    // XP values and ore classification live in MinerBlockTable, worked out once per block
 
     public static SkillReceptorResult isMinerXpBlock(Block block, boolean hasSilkTouch,
             boolean excludeStoneAndDeepSlate) {
-
-        // Generic blocks (stone, deepslate) always grant XP, regardless of Silk Touch
+        // Generic blocks (stone, deepslate) always grant XP, regardless of Silk Touch.
         // Silk Touch only blocks XP from ores (since it prevents the ore drop XP)
-        if (!excludeStoneAndDeepSlate && isBasicMiningBlock(block)) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpStone());
-        }
-
-        // For ore blocks, Silk Touch blocks XP gain (since you're not actually mining
-        // the ore)
-        if (hasSilkTouch) {
-            return new SkillReceptorResult(false, 0);
-        }
-
-        if (block == Blocks.COAL_ORE || block == Blocks.DEEPSLATE_COAL_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpCoal());
-        } else if (block == Blocks.COPPER_ORE || block == Blocks.DEEPSLATE_COPPER_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpCopper());
-        } else if (block == Blocks.IRON_ORE || block == Blocks.DEEPSLATE_IRON_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpIron());
-        } else if (block == Blocks.GOLD_ORE || block == Blocks.DEEPSLATE_GOLD_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpGold());
-        } else if (block == Blocks.LAPIS_ORE || block == Blocks.DEEPSLATE_LAPIS_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpLapis());
-        } else if (block == Blocks.REDSTONE_ORE || block == Blocks.DEEPSLATE_REDSTONE_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpRedstone());
-        } else if (block == Blocks.DIAMOND_ORE || block == Blocks.DEEPSLATE_DIAMOND_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpDiamond());
-        } else if (block == Blocks.EMERALD_ORE || block == Blocks.DEEPSLATE_EMERALD_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpEmerald());
-        } else if (block == Blocks.ANCIENT_DEBRIS) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpAncientDebris());
-        }
-        // NETHER ORES
-        else if (block == Blocks.NETHER_QUARTZ_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpNetherQuartz());
-        } else if (block == Blocks.NETHER_GOLD_ORE) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpNetherGold());
-        } else if (CrossModCompatRules.isOreResourceId(Registries.BLOCK.getId(block).toString())) {
-            return new SkillReceptorResult(true, SkillConfig.getMinerXpIron());
-        } else {
-            // NULL OR NOT ORE BLOCK
-            return new SkillReceptorResult(false, 0);
-        }
+        return MinerBlockTable.xpFor(MinerBlockTable.entry(block), hasSilkTouch, excludeStoneAndDeepSlate);
     }
 
     public static boolean isDetectableOreBlock(Block block) {
-        if (isMinerXpBlock(block, false, true).didGainXp()) {
-            return true;
-        }
-        if (isRawResourceBlock(block)) {
-            return true;
-        }
-        return isLikelyOreId(Registries.BLOCK.getId(block).toString());
+        return MinerBlockTable.hasFlag(block, MinerBlockTable.DETECTABLE_ORE);
     }
 
     public static boolean isOreResourceId(String blockId) {
@@ -93,10 +44,7 @@ public class MinerXpGetter {
     }
 
     public static boolean isRawResourceBlock(Block block) {
-        return block == Blocks.RAW_IRON_BLOCK
-                || block == Blocks.RAW_COPPER_BLOCK
-                || block == Blocks.RAW_GOLD_BLOCK
-                || isRawResourceBlockId(Registries.BLOCK.getId(block).toString());
+        return MinerBlockTable.hasFlag(block, MinerBlockTable.RAW_RESOURCE);
     }
 
     public static boolean isRawResourceBlockId(String blockId) {
@@ -153,11 +101,4 @@ public class MinerXpGetter {
         return result.length() == 0 ? value : result.toString();
     }
 
-    private static boolean isBasicMiningBlock(Block block) {
-        return block == Blocks.STONE
-                || block == Blocks.DEEPSLATE
-                || block == Blocks.COBBLESTONE
-                || block == Blocks.COBBLED_DEEPSLATE;
-    }
-
 }
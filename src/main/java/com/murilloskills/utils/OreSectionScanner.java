@@ -0,0 +1,204 @@
+package com.murilloskills.utils;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.function.Predicate;
+
+/**
+ * Cube scanner that walks loaded chunk sections instead of single positions.
+ * A section is only read block-by-block when its block-state palette holds at
+ * least one matching state, so air, stone and deepslate sections cost one
+ * palette check each and the scan cost follows the number of ore-bearing
+ * sections instead of the cube volume. Unloaded chunks are skipped.
+ */
+public final class OreSectionScanner {
+    /** Same result as {@link MinerXpGetter#isDetectableOreBlock(Block)}, precomputed per block. */
+    public static final Predicate<BlockState> DETECTABLE_ORE = state -> isDetectableOre(state.getBlock());
+
+    private OreSectionScanner() {
+    }
+
+    /**
+     * One 16x16x16 section as seen by {@link #scanCube}.
+     */
+    public interface SectionView {
+        /** Palette-level test; {@code false} means no block in the section can match. */
+        boolean mayContainMatch();
+
+        boolean matches(int localX, int localY, int localZ);
+    }
+
+    @FunctionalInterface
+    public interface SectionSource {
+        /** Returns {@code null} for unloaded or empty sections. */
+        SectionView get(int sectionX, int sectionY, int sectionZ);
+    }
+
+    @FunctionalInterface
+    public interface HitVisitor {
+        /** Returns {@code false} to stop the scan. */
+        boolean visit(int x, int y, int z);
+    }
+
+    @FunctionalInterface
+    public interface BlockVisitor {
+        /** Returns {@code false} to stop the scan. The position is mutable; copy it to keep it. */
+        boolean visit(BlockPos.Mutable pos, BlockState state);
+    }
+
+    /**
+     * Visits every matching block of a loaded world inside the cube of the
+     * given radius around {@code center}.
+     *
+     * @return number of single-block probes performed
+     */
+    public static long forEachMatch(World world, BlockPos center, int radius, Predicate<BlockState> filter,
+            BlockVisitor visitor) {
+        int minSectionY = world.getBottomSectionCoord();
+        int maxSectionY = minSectionY + world.countVerticalSections() - 1;
+        WorldSectionSource source = new WorldSectionSource(world, filter);
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        return scanCube(source, center.getX(), center.getY(), center.getZ(), radius, minSectionY, maxSectionY,
+                (x, y, z) -> visitor.visit(mutable.set(x, y, z), source.view.lastMatch));
+    }
+
+    /**
+     * Visits every matching block of one loaded section. Callers that need to
+     * tell "unloaded" from "no match" should check the chunk themselves.
+     *
+     * @return number of single-block probes performed
+     */
+    public static long forEachMatchInSection(World world, int sectionX, int sectionY, int sectionZ,
+            Predicate<BlockState> filter, BlockVisitor visitor) {
+        int minSectionY = world.getBottomSectionCoord();
+        int maxSectionY = minSectionY + world.countVerticalSections() - 1;
+        WorldSectionSource source = new WorldSectionSource(world, filter);
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        return scanBox(source, sectionX << 4, sectionY << 4, sectionZ << 4,
+                (sectionX << 4) + 15, (sectionY << 4) + 15, (sectionZ << 4) + 15, minSectionY, maxSectionY,
+                (x, y, z) -> visitor.visit(mutable.set(x, y, z), source.view.lastMatch));
+    }
+
+    /**
+     * Core section walk, independent of the world so it can be measured in
+     * isolation.
+     *
+     * @return number of single-block probes performed
+     */
+    public static long scanCube(SectionSource source, int centerX, int centerY, int centerZ, int radius,
+            int minSectionY, int maxSectionY, HitVisitor visitor) {
+        return scanBox(source, centerX - radius, centerY - radius, centerZ - radius,
+                centerX + radius, centerY + radius, centerZ + radius, minSectionY, maxSectionY, visitor);
+    }
+
+    /**
+     * Same walk as {@link #scanCube} over an inclusive box.
+     *
+     * @return number of single-block probes performed
+     */
+    public static long scanBox(SectionSource source, int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+            int minSectionY, int maxSectionY, HitVisitor visitor) {
+        int fromSectionY = Math.max(minY >> 4, minSectionY);
+        int toSectionY = Math.min(maxY >> 4, maxSectionY);
+        long probes = 0;
+
+        for (int sectionX = minX >> 4; sectionX <= maxX >> 4; sectionX++) {
+            int x0 = Math.max(minX, sectionX << 4);
+            int x1 = Math.min(maxX, (sectionX << 4) + 15);
+            for (int sectionZ = minZ >> 4; sectionZ <= maxZ >> 4; sectionZ++) {
+                int z0 = Math.max(minZ, sectionZ << 4);
+                int z1 = Math.min(maxZ, (sectionZ << 4) + 15);
+                for (int sectionY = fromSectionY; sectionY <= toSectionY; sectionY++) {
+                    SectionView view = source.get(sectionX, sectionY, sectionZ);
+                    if (view == null || !view.mayContainMatch()) {
+                        continue;
+                    }
+                    int y0 = Math.max(minY, sectionY << 4);
+                    int y1 = Math.min(maxY, (sectionY << 4) + 15);
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            for (int x = x0; x <= x1; x++) {
+                                probes++;
+                                if (view.matches(x & 15, y & 15, z & 15) && !visitor.visit(x, y, z)) {
+                                    return probes;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return probes;
+    }
+
+    public static boolean isDetectableOre(Block block) {
+        return MinerXpGetter.isDetectableOreBlock(block);
+    }
+
+    private static final class WorldSectionSource implements SectionSource {
+        private final World world;
+        private final ChunkSectionView view;
+        private WorldChunk chunk;
+        private int chunkX = Integer.MIN_VALUE;
+        private int chunkZ = Integer.MIN_VALUE;
+
+        private WorldSectionSource(World world, Predicate<BlockState> filter) {
+            this.world = world;
+            this.view = new ChunkSectionView(filter);
+        }
+
+        @Override
+        public SectionView get(int sectionX, int sectionY, int sectionZ) {
+            if (sectionX != chunkX || sectionZ != chunkZ) {
+                chunkX = sectionX;
+                chunkZ = sectionZ;
+                // Loaded chunks only: scanning must never force chunk generation.
+                chunk = world.getChunkManager().getWorldChunk(sectionX, sectionZ);
+            }
+            if (chunk == null) {
+                return null;
+            }
+            ChunkSection[] sections = chunk.getSectionArray();
+            int index = chunk.sectionCoordToIndex(sectionY);
+            if (index < 0 || index >= sections.length) {
+                return null;
+            }
+            ChunkSection section = sections[index];
+            if (section == null || section.isEmpty()) {
+                return null;
+            }
+            view.section = section;
+            return view;
+        }
+    }
+
+    private static final class ChunkSectionView implements SectionView {
+        private final Predicate<BlockState> filter;
+        private ChunkSection section;
+        private BlockState lastMatch;
+
+        private ChunkSectionView(Predicate<BlockState> filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean mayContainMatch() {
+            return section.hasAny(filter);
+        }
+
+        @Override
+        public boolean matches(int localX, int localY, int localZ) {
+            BlockState state = section.getBlockState(localX, localY, localZ);
+            if (filter.test(state)) {
+                lastMatch = state;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -63,6 +63,7 @@ public class PrestigeManager {
         // Resetar nível e XP
         stats.level = 1;
         stats.xp = 0;
+        data.markDirty();
 
         SkillsNetworkUtils.syncSkills(player);
 
@@ -0,0 +1,53 @@
+package com.murilloskills.utils;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Reads block states straight from chunk sections, keeping the last chunk
+ * and section at hand so neighbouring reads skip the chunk lookup and no
+ * {@link net.minecraft.util.math.BlockPos} is allocated. Unloaded chunks and
+ * positions outside the build height read as air; chunks are never loaded.
+ */
+public final class SectionBlockReader {
+    private static final BlockState AIR = Blocks.AIR.getDefaultState();
+
+    private final World world;
+    private WorldChunk chunk;
+    private int chunkX = Integer.MIN_VALUE;
+    private int chunkZ = Integer.MIN_VALUE;
+    private ChunkSection section;
+    private int sectionY = Integer.MIN_VALUE;
+
+    public SectionBlockReader(World world) {
+        this.world = world;
+    }
+
+    public BlockState getBlockState(int x, int y, int z) {
+        int cx = x >> 4;
+        int cz = z >> 4;
+        int sy = y >> 4;
+        if (cx != chunkX || cz != chunkZ) {
+            chunkX = cx;
+            chunkZ = cz;
+            chunk = world.getChunkManager().getWorldChunk(cx, cz);
+            sectionY = Integer.MIN_VALUE;
+        }
+        if (chunk == null) {
+            return AIR;
+        }
+        if (sy != sectionY) {
+            sectionY = sy;
+            ChunkSection[] sections = chunk.getSectionArray();
+            int index = chunk.sectionCoordToIndex(sy);
+            section = index < 0 || index >= sections.length ? null : sections[index];
+        }
+        if (section == null || section.isEmpty()) {
+            return AIR;
+        }
+        return section.getBlockState(x & 15, y & 15, z & 15);
+    }
+}
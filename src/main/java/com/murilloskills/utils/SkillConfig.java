@@ -30,6 +30,14 @@ public class SkillConfig {
         return Math.max(1, Math.min(ModConfig.get().general.maxSelectedSkills, 8));
     }
 
+    public static int getAutosaveIntervalTicks() {
+        return Math.max(20, ModConfig.get().general.autosaveIntervalTicks);
+    }
+
+    public static int getAutosaveMaxPlayersPerTick() {
+        return Math.max(1, ModConfig.get().general.autosaveMaxPlayersPerTick);
+    }
+
     public static final int MAX_LEVEL = 100; // Keep for backward compat, prefer getMaxLevel()
 
     // --- MINER ---
@@ -216,6 +224,10 @@ public class SkillConfig {
         return Math.max(1, ModConfig.get().builderUltPlace.maxBlocksPerUse);
     }
 
+    public static int getUltPlaceBlocksPerTick() {
+        return Math.max(1, ModConfig.get().builderUltPlace.blocksPerTick);
+    }
+
     public static int getUltPlaceUndoHistorySize() {
         return Math.max(1, ModConfig.get().builderUltPlace.undoHistorySize);
     }
@@ -980,6 +992,10 @@ public class SkillConfig {
         return ModConfig.get().builder.builderMaxFillBlocks;
     }
 
+    public static int getBuilderFillBlocksPerTick() {
+        return Math.max(1, ModConfig.get().builder.fillBlocksPerTick);
+    }
+
     // Legacy constants
     public static final float BUILDER_REACH_PER_LEVEL = 0.08f;
     public static final int BUILDER_EXTENDED_REACH_LEVEL = 10;
@@ -1106,6 +1122,8 @@ public class SkillConfig {
     public static final float EXPLORER_BREATH_MULTIPLIER = 1.5f;
     public static final float EXPLORER_FALL_DAMAGE_REDUCTION = 0.60f;
     public static final int EXPLORER_TREASURE_RADIUS = 128;
+    public static final int EXPLORER_TREASURE_MAX_RESULTS = 100;
+    public static final int EXPLORER_TREASURE_CHUNKS_PER_TICK = 32;
     public static final float EXPLORER_STEP_HEIGHT = 1.0f;
     public static final int EXPLORER_XP_BIOME = 500;
     public static final int EXPLORER_XP_STRUCTURE = 200;
@@ -0,0 +1,197 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.data.PlayerSkillData;
+import com.murilloskills.network.SkillsDeltaS2CPayload;
+import com.murilloskills.network.SkillsSyncPayload;
+import com.murilloskills.skills.MurilloSkillsList;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versioned skill sync. Remembers the skill state last sent to each player;
+ * sync requests are coalesced and flushed at the end of the server tick as
+ * one {@link SkillsDeltaS2CPayload} holding only the changed fields. A full
+ * {@link SkillsSyncPayload} goes out on join and when the client reports that
+ * its version does not match.
+ */
+public final class SkillSyncTracker {
+    private static final Map<UUID, SentState> SENT = new ConcurrentHashMap<>();
+    private static final Set<UUID> PENDING = ConcurrentHashMap.newKeySet();
+
+    private SkillSyncTracker() {
+    }
+
+    /** Queues a sync for the end of this tick. */
+    public static void requestSync(ServerPlayerEntity player) {
+        if (player != null) {
+            PENDING.add(player.getUuid());
+        }
+    }
+
+    /** Forgets what the client has, so the next sync is a full snapshot. */
+    public static void requestFullSync(ServerPlayerEntity player) {
+        if (player != null) {
+            SentState sent = SENT.get(player.getUuid());
+            if (sent != null) {
+                // Versions keep counting up, so a late delta can never match the new snapshot
+                sent.state = null;
+            }
+            PENDING.add(player.getUuid());
+        }
+    }
+
+    /** Sends the queued syncs, at most one packet per player. */
+    public static void flush(MinecraftServer server) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        for (UUID uuid : PENDING.toArray(new UUID[0])) {
+            PENDING.remove(uuid);
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
+            if (player != null) {
+                sendNow(player);
+            }
+        }
+    }
+
+    /** Sends the player's changes right away instead of waiting for the tick end. */
+    public static void sendNow(ServerPlayerEntity player) {
+        PENDING.remove(player.getUuid());
+        PlayerSkillData data = player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS);
+        SkillState current = SkillState.capture(data, SkillConfig.getMaxSelectedSkills());
+
+        SentState sent = SENT.computeIfAbsent(player.getUuid(), uuid -> new SentState());
+        if (sent.state == null) {
+            sent.version++;
+            sent.state = current;
+            ServerPlayNetworking.send(player, current.toFullPayload(sent.version));
+            return;
+        }
+
+        SkillsDeltaS2CPayload delta = current.diff(sent.state, sent.version, sent.version + 1);
+        if (delta.isEmpty()) {
+            return;
+        }
+        sent.version++;
+        sent.state = current;
+        ServerPlayNetworking.send(player, delta);
+    }
+
+    public static void cleanupPlayerState(UUID uuid) {
+        SENT.remove(uuid);
+        PENDING.remove(uuid);
+    }
+
+    private static final class SentState {
+        private int version;
+        /** What the client holds at {@link #version}; {@code null} until a full snapshot is sent. */
+        private SkillState state;
+    }
+
+    /** The synced fields of one player's skill data, copied so later edits do not leak in. */
+    public static final class SkillState {
+        private static final MurilloSkillsList[] SKILLS = MurilloSkillsList.values();
+
+        private final boolean[] present = new boolean[SKILLS.length];
+        private final int[] level = new int[SKILLS.length];
+        private final double[] xp = new double[SKILLS.length];
+        private final long[] lastAbilityUse = new long[SKILLS.length];
+        private final int[] prestige = new int[SKILLS.length];
+        private final String paragonSkillName;
+        private final List<MurilloSkillsList> paragonSkills;
+        private final List<MurilloSkillsList> selectedSkills;
+        private final int maxSelectedSkills;
+
+        private SkillState(PlayerSkillData data, int maxSelectedSkills) {
+            for (MurilloSkillsList skill : SKILLS) {
+                PlayerSkillData.SkillStats stats = data.skills.get(skill);
+                if (stats == null) {
+                    continue;
+                }
+                int i = skill.ordinal();
+                present[i] = true;
+                level[i] = stats.level;
+                xp[i] = stats.xp;
+                lastAbilityUse[i] = stats.lastAbilityUse;
+                prestige[i] = stats.prestige;
+            }
+            MurilloSkillsList activeParagon = data.getActiveParagonSkill();
+            this.paragonSkillName = activeParagon != null ? activeParagon.name() : "null";
+            this.paragonSkills = new ArrayList<>(data.getParagonSkills());
+            this.selectedSkills = data.selectedSkills != null
+                    ? new ArrayList<>(data.selectedSkills)
+                    : new ArrayList<>();
+            this.maxSelectedSkills = maxSelectedSkills;
+        }
+
+        public static SkillState capture(PlayerSkillData data, int maxSelectedSkills) {
+            data.normalizeParagonState();
+            return new SkillState(data, maxSelectedSkills);
+        }
+
+        public SkillsSyncPayload toFullPayload(int version) {
+            Map<MurilloSkillsList, PlayerSkillData.SkillStats> skills = new EnumMap<>(MurilloSkillsList.class);
+            for (MurilloSkillsList skill : SKILLS) {
+                int i = skill.ordinal();
+                if (present[i]) {
+                    skills.put(skill, new PlayerSkillData.SkillStats(level[i], xp[i], lastAbilityUse[i],
+                            prestige[i]));
+                }
+            }
+            return new SkillsSyncPayload(version, skills, paragonSkillName, paragonSkills, selectedSkills,
+                    maxSelectedSkills);
+        }
+
+        /** Changes from {@code previous} to this state, tagged with both versions. */
+        public SkillsDeltaS2CPayload diff(SkillState previous, int baseVersion, int version) {
+            List<SkillsDeltaS2CPayload.SkillChange> changes = new ArrayList<>();
+            for (MurilloSkillsList skill : SKILLS) {
+                int i = skill.ordinal();
+                if (!present[i]) {
+                    continue;
+                }
+                int mask = 0;
+                if (!previous.present[i]) {
+                    mask = SkillsDeltaS2CPayload.LEVEL | SkillsDeltaS2CPayload.XP
+                            | SkillsDeltaS2CPayload.LAST_ABILITY_USE | SkillsDeltaS2CPayload.PRESTIGE;
+                } else {
+                    if (level[i] != previous.level[i]) {
+                        mask |= SkillsDeltaS2CPayload.LEVEL;
+                    }
+                    if (Double.compare(xp[i], previous.xp[i]) != 0) {
+                        mask |= SkillsDeltaS2CPayload.XP;
+                    }
+                    if (lastAbilityUse[i] != previous.lastAbilityUse[i]) {
+                        mask |= SkillsDeltaS2CPayload.LAST_ABILITY_USE;
+                    }
+                    if (prestige[i] != previous.prestige[i]) {
+                        mask |= SkillsDeltaS2CPayload.PRESTIGE;
+                    }
+                }
+                if (mask != 0) {
+                    changes.add(new SkillsDeltaS2CPayload.SkillChange(skill, mask, level[i], xp[i],
+                            lastAbilityUse[i], prestige[i]));
+                }
+            }
+
+            boolean paragonChanged = !paragonSkillName.equals(previous.paragonSkillName)
+                    || !paragonSkills.equals(previous.paragonSkills);
+            boolean selectionChanged = !Objects.equals(selectedSkills, previous.selectedSkills);
+            return new SkillsDeltaS2CPayload(baseVersion, version, changes,
+                    paragonChanged ? paragonSkillName : null,
+                    paragonChanged ? paragonSkills : null,
+                    selectionChanged ? selectedSkills : null,
+                    maxSelectedSkills != previous.maxSelectedSkills ? maxSelectedSkills : -1);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.murilloskills.utils;
 
+import com.murilloskills.config.ModConfig;
 import com.murilloskills.data.PlayerSkillData;
 import com.murilloskills.skills.MurilloSkillsList;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -23,6 +24,10 @@ import java.util.*;
  * - Builder + Blacksmith = "Master Crafter" (+20% crafting efficiency)
  */
 public class SkillSynergyManager {
+    private static final MurilloSkillsList[] SKILLS = MurilloSkillsList.values();
+    private static final SynergyType[] TYPES = SynergyType.values();
+
+    private static volatile SynergyTable table;
 
     // Definição de sinergias
     // Definição de sinergias (Dynamic to support config reload)
@@ -87,29 +92,50 @@ public class SkillSynergyManager {
     }
 
     /**
-     * Obtém todas as sinergias ativas para um jogador.
+     * Tabela compilada da config atual; reconstruída quando a config é
+     * recarregada.
      */
-    public static List<SkillSynergy> getActiveSynergies(ServerPlayerEntity player) {
-        PlayerSkillData data = player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS);
-
-        Set<MurilloSkillsList> selectedSkills = new HashSet<>(data.getSelectedSkills());
-        List<SkillSynergy> activeSynergies = new ArrayList<>();
+    static SynergyTable table() {
+        int generation = ModConfig.getGeneration();
+        SynergyTable current = table;
+        if (current == null || current.generation != generation) {
+            current = new SynergyTable(getAll(), generation);
+            table = current;
+        }
+        return current;
+    }
 
-        for (SkillSynergy synergy : getAll()) {
-            if (selectedSkills.containsAll(synergy.requiredSkills())) {
-                activeSynergies.add(synergy);
-            }
+    /** Bitmask das skills, um bit por ordinal; índice da {@link SynergyTable}. */
+    public static int selectionMask(Collection<MurilloSkillsList> skills) {
+        int mask = 0;
+        for (MurilloSkillsList skill : skills) {
+            mask |= 1 << skill.ordinal();
         }
+        return mask;
+    }
 
-        return activeSynergies;
+    /**
+     * Obtém todas as sinergias ativas para um jogador.
+     * A lista é compartilhada e não pode ser modificada.
+     */
+    public static List<SkillSynergy> getActiveSynergies(ServerPlayerEntity player) {
+        return getActiveSynergies(player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS));
+    }
+
+    public static List<SkillSynergy> getActiveSynergies(PlayerSkillData data) {
+        return table().active(data.getModifiers().selectedSkillMask());
     }
 
     /**
      * Verifica se uma sinergia específica está ativa para o jogador.
      */
     public static boolean hasSynergy(ServerPlayerEntity player, String synergyId) {
-        return getActiveSynergies(player).stream()
-                .anyMatch(s -> s.id().equals(synergyId));
+        for (SkillSynergy synergy : getActiveSynergies(player)) {
+            if (synergy.id().equals(synergyId)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -117,15 +143,11 @@ public class SkillSynergyManager {
      * Soma todos os bônus de sinergias ativas desse tipo.
      */
     public static float getTotalBonus(ServerPlayerEntity player, SynergyType type) {
-        float totalBonus = 0f;
-
-        for (SkillSynergy synergy : getActiveSynergies(player)) {
-            if (synergy.type() == type) {
-                totalBonus += synergy.bonusMultiplier();
-            }
-        }
+        return getTotalBonus(player.getAttachedOrCreate(com.murilloskills.data.ModAttachments.PLAYER_SKILLS), type);
+    }
 
-        return totalBonus;
+    public static float getTotalBonus(PlayerSkillData data, SynergyType type) {
+        return table().bonus(data.getModifiers().selectedSkillMask(), type);
     }
 
     /**
@@ -161,6 +183,49 @@ public class SkillSynergyManager {
         return lines;
     }
 
+    /**
+     * Sinergias pré-calculadas para cada combinação possível de skills
+     * selecionadas (2^8 máscaras): a lista de sinergias ativas e o bônus
+     * somado por tipo. Uma consulta é uma leitura de array, sem alocação.
+     */
+    static final class SynergyTable {
+        private final int generation;
+        private final List<List<SkillSynergy>> activeByMask;
+        // [mask * TYPES.length + type.ordinal()]
+        private final float[] bonuses;
+
+        SynergyTable(List<SkillSynergy> synergies, int generation) {
+            this.generation = generation;
+            int combinations = 1 << SKILLS.length;
+            int[] requiredMasks = new int[synergies.size()];
+            for (int i = 0; i < requiredMasks.length; i++) {
+                requiredMasks[i] = selectionMask(synergies.get(i).requiredSkills());
+            }
+
+            this.activeByMask = new ArrayList<>(combinations);
+            this.bonuses = new float[combinations * TYPES.length];
+            for (int mask = 0; mask < combinations; mask++) {
+                List<SkillSynergy> active = new ArrayList<>();
+                for (int i = 0; i < requiredMasks.length; i++) {
+                    if ((mask & requiredMasks[i]) == requiredMasks[i]) {
+                        SkillSynergy synergy = synergies.get(i);
+                        active.add(synergy);
+                        bonuses[mask * TYPES.length + synergy.type().ordinal()] += synergy.bonusMultiplier();
+                    }
+                }
+                activeByMask.add(List.copyOf(active));
+            }
+        }
+
+        List<SkillSynergy> active(int selectionMask) {
+            return activeByMask.get(selectionMask);
+        }
+
+        float bonus(int selectionMask, SynergyType type) {
+            return bonuses[selectionMask * TYPES.length + type.ordinal()];
+        }
+    }
+
     // ============ RECORDS E ENUMS ============
 
     public record SkillSynergy(
@@ -0,0 +1,164 @@
+package com.murilloskills.utils;
+
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Resumable Treasure Hunter scan over the chunks inside a cube radius. Chunks
+ * are visited nearest first, a few per call to {@link #advance}, and only the
+ * positions the chunk source reports (its block entities) are looked at. The
+ * scan ends early once the closest {@code maxResults} hits are known to be
+ * nearer than any chunk still left.
+ */
+public final class TreasureScanJob {
+
+    @FunctionalInterface
+    public interface ChunkSource {
+        /** Reports every candidate block of one loaded chunk; unloaded chunks report nothing. */
+        void visit(int chunkX, int chunkZ, PositionSink sink);
+    }
+
+    @FunctionalInterface
+    public interface PositionSink {
+        void accept(int x, int y, int z);
+    }
+
+    private final int centerX;
+    private final int centerY;
+    private final int centerZ;
+    private final int radius;
+    private final int maxResults;
+    private final long[] chunkOrder;
+    private final long[] chunkMinDistanceSq;
+    // Max-heap on distance: the head is the farthest hit kept so far.
+    private final PriorityQueue<long[]> nearest;
+    private int nextChunk = 0;
+    private int chunksVisited = 0;
+    private int candidatesSeen = 0;
+    private long startTick = Long.MIN_VALUE;
+
+    public TreasureScanJob(int centerX, int centerY, int centerZ, int radius, int maxResults) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.radius = Math.max(0, radius);
+        this.maxResults = Math.max(1, maxResults);
+        this.nearest = new PriorityQueue<>(this.maxResults + 1,
+                Comparator.comparingLong((long[] hit) -> hit[0]).reversed());
+
+        int minChunkX = (centerX - this.radius) >> 4;
+        int maxChunkX = (centerX + this.radius) >> 4;
+        int minChunkZ = (centerZ - this.radius) >> 4;
+        int maxChunkZ = (centerZ + this.radius) >> 4;
+        int count = (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        long[][] chunks = new long[count][];
+        int i = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunks[i++] = new long[] { minDistanceSq(chunkX, chunkZ), chunkX, chunkZ };
+            }
+        }
+        Arrays.sort(chunks, Comparator.comparingLong((long[] chunk) -> chunk[0]));
+        this.chunkOrder = new long[count * 2];
+        this.chunkMinDistanceSq = new long[count];
+        for (i = 0; i < count; i++) {
+            chunkMinDistanceSq[i] = chunks[i][0];
+            chunkOrder[i * 2] = chunks[i][1];
+            chunkOrder[i * 2 + 1] = chunks[i][2];
+        }
+    }
+
+    /**
+     * Visits up to {@code chunkBudget} more chunks.
+     *
+     * @return {@code true} once the scan is complete
+     */
+    public boolean advance(int chunkBudget, ChunkSource source) {
+        PositionSink sink = this::offer;
+        int budget = Math.max(1, chunkBudget);
+        while (budget-- > 0 && !isDone()) {
+            source.visit((int) chunkOrder[nextChunk * 2], (int) chunkOrder[nextChunk * 2 + 1], sink);
+            nextChunk++;
+            chunksVisited++;
+        }
+        return isDone();
+    }
+
+    /** Records the server tick the job was started (and first advanced) in. */
+    public TreasureScanJob startedAt(long tick) {
+        this.startTick = tick;
+        return this;
+    }
+
+    /** Whether the job was started in {@code tick}, so that tick's budget is already spent. */
+    public boolean wasStartedIn(long tick) {
+        return startTick == tick;
+    }
+
+    public boolean isDone() {
+        if (nextChunk >= chunkMinDistanceSq.length) {
+            return true;
+        }
+        // Every remaining chunk is at least this far away; a full heap of closer hits cannot change.
+        return nearest.size() >= maxResults && nearest.peek()[0] <= chunkMinDistanceSq[nextChunk];
+    }
+
+    /** Hits found so far, nearest first. */
+    public List<BlockPos> getResults() {
+        long[][] hits = nearest.toArray(new long[0][]);
+        Arrays.sort(hits, Comparator.comparingLong((long[] hit) -> hit[0]));
+        List<BlockPos> results = new ArrayList<>(hits.length);
+        for (long[] hit : hits) {
+            results.add(BlockPos.fromLong(hit[1]));
+        }
+        return results;
+    }
+
+    public int getChunksVisited() {
+        return chunksVisited;
+    }
+
+    public int getChunkCount() {
+        return chunkMinDistanceSq.length;
+    }
+
+    public int getCandidatesSeen() {
+        return candidatesSeen;
+    }
+
+    private void offer(int x, int y, int z) {
+        candidatesSeen++;
+        int dx = x - centerX;
+        int dy = y - centerY;
+        int dz = z - centerZ;
+        if (Math.abs(dx) > radius || Math.abs(dy) > radius || Math.abs(dz) > radius) {
+            return;
+        }
+        long distanceSq = (long) dx * dx + (long) dy * dy + (long) dz * dz;
+        if (nearest.size() >= maxResults) {
+            if (nearest.peek()[0] <= distanceSq) {
+                return;
+            }
+            nearest.poll();
+        }
+        nearest.add(new long[] { distanceSq, BlockPos.asLong(x, y, z) });
+    }
+
+    private long minDistanceSq(int chunkX, int chunkZ) {
+        long dx = axisDistance(centerX, chunkX << 4);
+        long dz = axisDistance(centerZ, chunkZ << 4);
+        return dx * dx + dz * dz;
+    }
+
+    private static int axisDistance(int center, int chunkMin) {
+        if (center < chunkMin) {
+            return chunkMin - center;
+        }
+        return Math.max(0, center - (chunkMin + 15));
+    }
+}
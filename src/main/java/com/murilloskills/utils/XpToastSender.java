@@ -20,7 +20,8 @@ public class XpToastSender {
      *                 parentheses
      */
     public static void send(ServerPlayerEntity player, MurilloSkillsList skill, int xpAmount, String source) {
-        if (BatchSkillUpdateContext.queueToast(player, skill, xpAmount)) {
+        // Summed per skill and sent at the end of the tick
+        if (BatchSkillUpdateContext.queueToast(player, skill, xpAmount, source)) {
             return;
         }
         sendNow(player, skill, xpAmount, source);
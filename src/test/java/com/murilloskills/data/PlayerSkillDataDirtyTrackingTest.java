@@ -0,0 +1,65 @@
+package com.murilloskills.data;
+
+import com.murilloskills.config.ModConfig;
+import com.murilloskills.skills.MurilloSkillsList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerSkillDataDirtyTrackingTest {
+
+    @BeforeEach
+    void resetConfig() {
+        try {
+            Field configField = ModConfig.class.getDeclaredField("config");
+            configField.setAccessible(true);
+            configField.set(null, new ModConfig.ConfigData());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to initialize ModConfig for test", e);
+        }
+    }
+
+    @Test
+    void freshDataStartsClean() {
+        assertFalse(new PlayerSkillData().isDirty());
+    }
+
+    @Test
+    void xpGainMarksDirtyButBlockedXpDoesNot() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.addXpToSkill(MurilloSkillsList.MINER, 10);
+        assertFalse(data.isDirty(), "XP for an unselected skill changes nothing");
+
+        data.setSelectedSkills(List.of(MurilloSkillsList.MINER));
+        data.clearDirty();
+        data.addXpToSkill(MurilloSkillsList.MINER, 10);
+        assertTrue(data.isDirty());
+    }
+
+    @Test
+    void togglesOnlyMarkDirtyWhenTheValueChanges() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.setToggle(MurilloSkillsList.MINER, "autoTorch", true);
+        assertTrue(data.isDirty());
+
+        data.clearDirty();
+        data.setToggle(MurilloSkillsList.MINER, "autoTorch", true);
+        assertFalse(data.isDirty());
+    }
+
+    @Test
+    void paragonChangesMarkDirty() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.activateParagonSkill(MurilloSkillsList.MINER);
+        assertTrue(data.isDirty());
+
+        data.clearDirty();
+        data.clearParagonSkill(MurilloSkillsList.MINER);
+        assertTrue(data.isDirty());
+    }
+}
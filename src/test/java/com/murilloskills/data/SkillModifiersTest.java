@@ -0,0 +1,160 @@
+package com.murilloskills.data;
+
+import com.murilloskills.config.ModConfig;
+import com.murilloskills.skills.MurilloSkillsList;
+import com.murilloskills.utils.PrestigeManager;
+import com.murilloskills.utils.SkillConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the per-player modifier snapshot against the lookups the mixins used
+ * to do on every call. Runs without a Minecraft bootstrap.
+ */
+class SkillModifiersTest {
+    @BeforeEach
+    void resetConfig() {
+        setConfig(new ModConfig.ConfigData());
+    }
+
+    @Test
+    void snapshotMatchesThePerCallLookups() {
+        Random random = new Random(11L);
+        for (int i = 0; i < 200; i++) {
+            PlayerSkillData data = randomData(random);
+            SkillModifiers modifiers = data.getModifiers();
+            assertEquals(oldMiningSpeed(data), modifiers.miningSpeedMultiplier(), "mining speed " + i);
+            assertEquals(oldLooting(data), modifiers.lootingBonus(), "looting " + i);
+            assertEquals(data.getSkill(MurilloSkillsList.MINER).level >= SkillConfig.MINER_DURABILITY_LEVEL,
+                    modifiers.hasMinerDurability(), "durability " + i);
+            assertEquals(data.getSkill(MurilloSkillsList.WARRIOR).level, modifiers.warriorLevel(), "warrior " + i);
+        }
+    }
+
+    @Test
+    void snapshotIsReusedUntilTheDataChanges() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.setSelectedSkills(List.of(MurilloSkillsList.MINER));
+        data.setSkill(MurilloSkillsList.MINER, 10, 0);
+        SkillModifiers first = data.getModifiers();
+        assertSame(first, data.getModifiers());
+
+        data.setSkill(MurilloSkillsList.MINER, 40, 0);
+        SkillModifiers afterLevelUp = data.getModifiers();
+        assertNotSame(first, afterLevelUp);
+        assertEquals(oldMiningSpeed(data), afterLevelUp.miningSpeedMultiplier());
+
+        // Saving clears the dirty flag but keeps the snapshot
+        data.clearDirty();
+        assertSame(afterLevelUp, data.getModifiers());
+
+        // Direct field writers mark the data dirty, like the skill reset handler
+        data.selectedSkills.remove(MurilloSkillsList.MINER);
+        data.markDirty();
+        assertEquals(1.0f, data.getModifiers().miningSpeedMultiplier());
+
+        data.activateParagonSkill(MurilloSkillsList.MINER);
+        assertEquals(oldMiningSpeed(data), data.getModifiers().miningSpeedMultiplier());
+    }
+
+    @Test
+    void configReloadRebuildsTheSnapshot() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.setSelectedSkills(List.of(MurilloSkillsList.MINER));
+        data.setSkill(MurilloSkillsList.MINER, 50, 0, -1, 2);
+        float before = data.getModifiers().miningSpeedMultiplier();
+
+        ModConfig.ConfigData faster = new ModConfig.ConfigData();
+        faster.miner.speedPerLevel *= 2;
+        setConfig(faster);
+        bumpGeneration();
+
+        float after = data.getModifiers().miningSpeedMultiplier();
+        assertEquals(oldMiningSpeed(data), after);
+        assertTrue(after > before);
+    }
+
+    @Test
+    void paragonMinerSpeedMatchesThePerCallLookup() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.setSelectedSkills(List.of(MurilloSkillsList.WARRIOR, MurilloSkillsList.ARCHER, MurilloSkillsList.MINER));
+        data.setSkill(MurilloSkillsList.MINER, 100, 0, -1, 3);
+        data.activateParagonSkill(MurilloSkillsList.MINER);
+
+        assertEquals(oldMiningSpeed(data), data.getModifiers().miningSpeedMultiplier());
+    }
+
+    // --- The per-call lookups the mixins did before the snapshot ---
+
+    private static float oldMiningSpeed(PlayerSkillData data) {
+        if (!data.isSkillSelected(MurilloSkillsList.MINER) && !data.isParagonSkill(MurilloSkillsList.MINER)) {
+            return 1.0f;
+        }
+        PlayerSkillData.SkillStats stats = data.getSkill(MurilloSkillsList.MINER);
+        float prestigeMultiplier = PrestigeManager.getPassiveMultiplier(Math.max(0, stats.prestige));
+        return 1.0f + (Math.max(0, stats.level) * SkillConfig.getMinerSpeedPerLevel() * prestigeMultiplier);
+    }
+
+    private static int oldLooting(PlayerSkillData data) {
+        int totalBonus = 0;
+        if (data.isSkillSelected(MurilloSkillsList.WARRIOR)) {
+            var stats = data.getSkill(MurilloSkillsList.WARRIOR);
+            totalBonus += (int) (stats.level * SkillConfig.getWarriorLootingPerLevel()
+                    * PrestigeManager.getPassiveMultiplier(stats.prestige));
+        }
+        if (data.isSkillSelected(MurilloSkillsList.ARCHER)) {
+            var stats = data.getSkill(MurilloSkillsList.ARCHER);
+            totalBonus += (int) (stats.level * SkillConfig.getArcherLootingPerLevel()
+                    * PrestigeManager.getPassiveMultiplier(stats.prestige));
+        }
+        return totalBonus;
+    }
+
+    private static PlayerSkillData randomData(Random random) {
+        MurilloSkillsList[] pool = { MurilloSkillsList.MINER, MurilloSkillsList.WARRIOR, MurilloSkillsList.ARCHER };
+        PlayerSkillData data = new PlayerSkillData();
+        List<MurilloSkillsList> selected = new ArrayList<>();
+        for (MurilloSkillsList skill : pool) {
+            if (random.nextBoolean()) {
+                selected.add(skill);
+            }
+            data.setSkill(skill, random.nextInt(101), 0, -1, random.nextInt(4));
+        }
+        data.setSelectedSkills(selected);
+        if (random.nextInt(4) == 0) {
+            data.activateParagonSkill(MurilloSkillsList.MINER);
+        }
+        return data;
+    }
+
+    private static void setConfig(ModConfig.ConfigData config) {
+        try {
+            Field configField = ModConfig.class.getDeclaredField("config");
+            configField.setAccessible(true);
+            configField.set(null, config);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to initialize ModConfig for test", e);
+        }
+    }
+
+    /** Stands in for {@link ModConfig#load()}, which needs the Fabric loader. */
+    private static void bumpGeneration() {
+        try {
+            Field generationField = ModConfig.class.getDeclaredField("generation");
+            generationField.setAccessible(true);
+            generationField.setInt(null, generationField.getInt(null) + 1);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to bump the config generation", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.murilloskills.integration;
+
+import net.minecraft.item.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks pushing drops into a bound Tom's Storage network against stand-in
+ * Tom's Storage classes. The bound {@link TomsStorageBridge.Bindings} push is
+ * compared with the old per-call {@code Method.invoke} push. Runs without a
+ * Minecraft bootstrap, so stacks are passed as {@code null}.
+ */
+class TomsStorageBridgeTest {
+    private static final int PUSHES = 1_000;
+    private static final Map<String, Class<?>> FAKE_CLASSES = Map.of(
+            "com.tom.storagemod.item.WirelessTerminal", FakeWirelessTerminal.class,
+            "com.tom.storagemod.block.entity.StorageTerminalBlockEntity", FakeStorageTerminal.class,
+            "com.tom.storagemod.block.entity.IInventoryConnector", FakeConnector.class,
+            "com.tom.storagemod.inventory.IInventoryAccess", FakeInventoryAccess.class);
+
+    @Test
+    void missingModIsUnavailable() throws Throwable {
+        TomsStorageBridge.Bindings bindings = new TomsStorageBridge.Bindings(name -> null);
+        assertFalse(bindings.available());
+        assertNull(bindings.sink(new FakeStorageTerminal()));
+        assertNull(bindings.boundPosComponentType());
+    }
+
+    @Test
+    void connectorPushGoesThroughMergedHandler() throws Throwable {
+        TomsStorageBridge.Bindings bindings = new TomsStorageBridge.Bindings(FAKE_CLASSES::get);
+        FakeConnector connector = new FakeConnector();
+        assertTrue(bindings.available());
+        assertNull(bindings.sink(connector).push(null));
+        assertEquals(1, connector.handler.pushes);
+        assertNull(bindings.sink(new Object()));
+    }
+
+    @Test
+    void boundPushMatchesReflectivePush() throws Throwable {
+        TomsStorageBridge.Bindings bindings = new TomsStorageBridge.Bindings(FAKE_CLASSES::get);
+        ReflectivePush reflective = new ReflectivePush();
+        FakeStorageTerminal reflectiveTerminal = new FakeStorageTerminal();
+        FakeStorageTerminal boundTerminal = new FakeStorageTerminal();
+
+        for (int i = 0; i < PUSHES; i++) {
+            assertEquals(reflective.push(reflectiveTerminal, null), bindings.sink(boundTerminal).push(null));
+        }
+        assertEquals(PUSHES, reflectiveTerminal.pushes);
+        assertEquals(PUSHES, boundTerminal.pushes);
+    }
+
+    /** The storage-terminal push as it was done before the bindings: cached Method, invoked per stack. */
+    private static final class ReflectivePush {
+        private volatile Class<?> storageTerminalClass;
+        private volatile Method pushStackMethod;
+
+        ItemStack push(Object blockEntity, ItemStack stack) throws ReflectiveOperationException {
+            Class<?> beClass = storageTerminalClass;
+            if (beClass == null) {
+                beClass = FAKE_CLASSES.get("com.tom.storagemod.block.entity.StorageTerminalBlockEntity");
+                storageTerminalClass = beClass;
+            }
+            if (!beClass.isInstance(blockEntity)) {
+                return null;
+            }
+            Method push = pushStackMethod;
+            if (push == null) {
+                push = beClass.getMethod("pushStack", ItemStack.class);
+                push.setAccessible(true);
+                pushStackMethod = push;
+            }
+            Object result = push.invoke(blockEntity, stack);
+            return result instanceof ItemStack leftover ? leftover : stack;
+        }
+    }
+
+    public static final class FakeWirelessTerminal {
+    }
+
+    public static final class FakeStorageTerminal {
+        int pushes;
+
+        public ItemStack pushStack(ItemStack stack) {
+            pushes++;
+            return stack;
+        }
+    }
+
+    public static final class FakeConnector {
+        final FakeInventoryAccess handler = new FakeInventoryAccess();
+
+        public Object getMergedHandler() {
+            return handler;
+        }
+    }
+
+    public static final class FakeInventoryAccess {
+        int pushes;
+
+        public ItemStack pushStack(ItemStack stack) {
+            pushes++;
+            return stack;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.murilloskills.network;
+
+import com.murilloskills.config.ModConfig;
+import com.murilloskills.skills.UltmineShape;
+import com.murilloskills.skills.UltmineShapeCalculator;
+import com.murilloskills.utils.SkillConfig;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round-trips every Ultmine shape at its configured maximum depth and length
+ * through {@link PreviewPositionsCodec} and checks the encoded size is never
+ * above the old one-long-per-position format, for full shapes and for
+ * validated previews with gaps (air, blacklisted blocks).
+ */
+class PreviewPositionsCodecTest {
+    private static final BlockPos ORIGIN = new BlockPos(-1_234, 17, 98_765);
+
+    @BeforeEach
+    void resetConfig() {
+        try {
+            Field configField = ModConfig.class.getDeclaredField("config");
+            configField.setAccessible(true);
+            configField.set(null, new ModConfig.ConfigData());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to initialize ModConfig for test", e);
+        }
+    }
+
+    @Test
+    void emptyAndSingleListsRoundTrip() {
+        assertEquals(List.of(), roundTrip(List.of()));
+        assertEquals(List.of(ORIGIN), roundTrip(List.of(ORIGIN)));
+    }
+
+    @Test
+    void arbitraryPositionsRoundTripInOrder() {
+        Random random = new Random(14L);
+        List<BlockPos> positions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            positions.add(new BlockPos(random.nextInt(60_000_000) - 30_000_000, random.nextInt(384) - 64,
+                    random.nextInt(60_000_000) - 30_000_000));
+        }
+        assertEquals(positions, roundTrip(positions));
+    }
+
+    @Test
+    void everyShapeAtMaxDepthIsSmaller() {
+        Random random = new Random(7L);
+        for (UltmineShape shape : UltmineShape.values()) {
+            for (int variant = 0; variant < UltmineShape.getVariantCount(shape); variant++) {
+                for (Direction face : new Direction[] { Direction.UP, Direction.NORTH }) {
+                    List<BlockPos> full = UltmineShapeCalculator.getShapeBlocks(ORIGIN, shape,
+                            SkillConfig.getUltmineShapeMaxDepth(shape), SkillConfig.getUltmineShapeMaxLength(shape),
+                            face, new Vec3d(0.6, -0.3, -0.74), variant);
+                    List<BlockPos> validated = new ArrayList<>();
+                    for (BlockPos pos : full) {
+                        if (pos.equals(ORIGIN) || random.nextInt(100) >= 15) {
+                            validated.add(pos);
+                        }
+                    }
+
+                    assertEquals(full, roundTrip(full));
+                    assertEquals(validated, roundTrip(validated));
+                    assertTrue(newSize(full) <= oldSize(full), shape + " grew");
+                    assertTrue(newSize(validated) <= oldSize(validated), shape + " validated grew");
+                }
+            }
+        }
+    }
+
+    private static List<BlockPos> roundTrip(List<BlockPos> positions) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        PreviewPositionsCodec.write(buf, positions);
+        List<BlockPos> decoded = PreviewPositionsCodec.read(buf);
+        assertEquals(0, buf.readableBytes());
+        return decoded;
+    }
+
+    private static int newSize(List<BlockPos> positions) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        PreviewPositionsCodec.write(buf, positions);
+        return buf.readableBytes();
+    }
+
+    /** The previous format: size varint plus one {@code writeBlockPos} long each. */
+    private static int oldSize(List<BlockPos> positions) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        buf.writeVarInt(positions.size());
+        for (BlockPos pos : positions) {
+            buf.writeBlockPos(pos);
+        }
+        return buf.readableBytes();
+    }
+}
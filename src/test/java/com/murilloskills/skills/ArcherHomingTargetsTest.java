@@ -0,0 +1,266 @@
+package com.murilloskills.skills;
+
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks Master Ranger target acquisition against the old per-arrow entity
+ * query and {@code Vec3d} scoring from ArrowEntityMixin, with 200 arrows of
+ * one shooter flying through 100 mobs. Runs without a Minecraft bootstrap;
+ * the world query is stood in for by a scan of every mob against the query
+ * box, and chosen targets are compared exactly.
+ */
+class ArcherHomingTargetsTest {
+    private static final int ARROWS = 200;
+    private static final int MOBS = 100;
+    private static final int TICKS = 20;
+    private static final Object WORLD = new Object();
+
+    @Test
+    void picksMatchTheOldSearch() {
+        Random random = new Random(24L);
+        List<Mob> mobs = mobs(random);
+        List<Arrow> arrows = volley(random);
+        ArcherHomingTargets.ShooterTargets<Mob> shooter = new ArcherHomingTargets.ShooterTargets<>();
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (Arrow arrow : arrows) {
+                assertSame(oldFindBestTarget(mobs, arrow), find(shooter, mobs, arrow, tick, null), "tick " + tick);
+            }
+            advance(arrows);
+        }
+    }
+
+    @Test
+    void clusteredVolleyQueriesOncePerTick() {
+        Random random = new Random(25L);
+        List<Mob> mobs = mobs(random);
+        List<Arrow> arrows = volley(random);
+        ArcherHomingTargets.ShooterTargets<Mob> shooter = new ArcherHomingTargets.ShooterTargets<>();
+        List<Box> queries = new ArrayList<>();
+
+        // The first ten ticks, before the fan spreads wider than the shared margin
+        for (int tick = 0; tick < 10; tick++) {
+            for (Arrow arrow : arrows) {
+                find(shooter, mobs, arrow, tick, queries);
+            }
+            advance(arrows);
+        }
+        assertEquals(10, queries.size());
+    }
+
+    @Test
+    void spreadArrowsFallBackToTheirOwnQuery() {
+        Random random = new Random(26L);
+        List<Mob> mobs = mobs(random);
+        List<Arrow> arrows = new ArrayList<>();
+        // Shots in opposite directions and far apart: no area worth sharing
+        for (int i = 0; i < 20; i++) {
+            double x = (i % 2 == 0 ? 1 : -1) * i * 20.0;
+            arrows.add(new Arrow(x, 64, 0, i % 2 == 0 ? 1 : -1, 0, 0));
+        }
+        ArcherHomingTargets.ShooterTargets<Mob> shooter = new ArcherHomingTargets.ShooterTargets<>();
+        List<Box> queries = new ArrayList<>();
+
+        for (Arrow arrow : arrows) {
+            assertSame(oldFindBestTarget(mobs, arrow), find(shooter, mobs, arrow, 0, queries));
+        }
+        assertEquals(arrows.size(), queries.size());
+        double sharedSide = 2 * (ArcherHomingTargets.MAX_RANGE + ArcherHomingTargets.SHARED_MARGIN);
+        assertEquals(sharedSide, queries.get(0).maxX - queries.get(0).minX, 1e-9);
+        for (Box box : queries.subList(1, queries.size())) {
+            assertEquals(2 * ArcherHomingTargets.MAX_RANGE, box.maxX - box.minX, 1e-9);
+        }
+    }
+
+    @Test
+    void candidatesAreDroppedWhenTheTickEnds() {
+        List<Mob> mobs = List.of(new Mob(10, 64, 0));
+        ArcherHomingTargets.ShooterTargets<Mob> shooter = new ArcherHomingTargets.ShooterTargets<>();
+        List<Box> queries = new ArrayList<>();
+        Arrow arrow = new Arrow(0, 64.9, 0, 1, 0, 0);
+
+        assertSame(mobs.get(0), find(shooter, mobs, arrow, 0, queries));
+        shooter.clear();
+        assertSame(mobs.get(0), find(shooter, mobs, arrow, 0, queries));
+        assertEquals(2, queries.size());
+    }
+
+    @Test
+    void deadCandidatesAreSkipped() {
+        ArcherHomingTargets.Candidates<Mob> candidates = new ArcherHomingTargets.Candidates<>();
+        Mob mob = new Mob(10, 64, 0);
+        candidates.reset(WORLD, 0, 0, 64, 0, ArcherHomingTargets.SHARED_MARGIN);
+        candidates.add(mob, mob.x, mob.y + mob.height * 0.5, mob.z);
+
+        assertSame(mob, candidates.best(0, 64.9, 0, 1, 0, 0, m -> m.alive));
+        mob.alive = false;
+        assertNull(candidates.best(0, 64.9, 0, 1, 0, 0, m -> m.alive));
+    }
+
+    @Test
+    void lockHoldsOnlyInsideTheCone() {
+        // Straight ahead, off to the side, behind, out of range, about to hit
+        assertTrue(ArcherHomingTargets.inCone(0, 64, 0, 1, 0, 0, 10, 65, 0));
+        assertFalse(ArcherHomingTargets.inCone(0, 64, 0, 1, 0, 0, 5, 64, 6));
+        assertFalse(ArcherHomingTargets.inCone(0, 64, 0, 1, 0, 0, -3, 64, 0));
+        assertFalse(ArcherHomingTargets.inCone(0, 64, 0, 1, 0, 0, 33, 64, 0));
+        assertTrue(ArcherHomingTargets.inCone(0, 64, 0, 1, 0, 0, -0.3, 64, 0));
+    }
+
+    @Test
+    void arrowThatMissesReleasesItsTarget() {
+        Mob mob = new Mob(10, 62, 0);
+        Arrow arrow = new Arrow(0, 64, 0, 1, 0, 0);
+        double releasedAtX = Double.NaN;
+        for (int tick = 0; tick < 20; tick++) {
+            if (!locked(arrow, mob)) {
+                releasedAtX = arrow.x;
+                break;
+            }
+            arrow.x += arrow.dx * 1.5;
+        }
+        // Released once the target leaves the cone, before the arrow is past it and would turn back
+        assertTrue(releasedAtX > 0 && releasedAtX < mob.x, "released at x=" + releasedAtX);
+    }
+
+    // --- The per-arrow search ArrowEntityMixin did before the shared candidates ---
+
+    private static Mob oldFindBestTarget(List<Mob> mobs, Arrow arrow) {
+        Vec3d arrowPos = new Vec3d(arrow.x, arrow.y, arrow.z);
+        Vec3d arrowDirection = new Vec3d(arrow.dx, arrow.dy, arrow.dz);
+        double maxRange = 32.0;
+        double minDotProduct = 0.707;
+
+        Mob bestTarget = null;
+        double bestScore = Double.MAX_VALUE;
+        for (Mob entity : query(mobs, new Box(arrow.x - 0.25, arrow.y, arrow.z - 0.25,
+                arrow.x + 0.25, arrow.y + 0.5, arrow.z + 0.25).expand(maxRange))) {
+            Vec3d toEntity = new Vec3d(entity.x, entity.y, entity.z).add(0, entity.height * 0.5, 0)
+                    .subtract(arrowPos);
+            double distance = toEntity.length();
+            if (distance > maxRange || distance < 0.5) {
+                continue;
+            }
+            Vec3d directionToEntity = toEntity.normalize();
+            double dot = arrowDirection.dotProduct(directionToEntity);
+            if (dot < minDotProduct) {
+                continue;
+            }
+            double alignmentFactor = 1.0 - dot;
+            double score = distance * (1.0 + alignmentFactor * 2.0);
+            if (score < bestScore) {
+                bestScore = score;
+                bestTarget = entity;
+            }
+        }
+        return bestTarget;
+    }
+
+    /** {@link ArcherHomingTargets.ShooterTargets#find} with {@link #query} standing in for the world. */
+    private static Mob find(ArcherHomingTargets.ShooterTargets<Mob> shooter, List<Mob> mobs, Arrow arrow, long tick,
+            List<Box> queries) {
+        return shooter.find(WORLD, tick, arrow.x, arrow.y, arrow.z, arrow.dx, arrow.dy, arrow.dz,
+                (box, into) -> {
+                    if (queries != null) {
+                        queries.add(box);
+                    }
+                    for (Mob mob : query(mobs, box)) {
+                        into.add(mob, mob.x, mob.y + mob.height * 0.5, mob.z);
+                    }
+                },
+                mob -> mob.alive);
+    }
+
+    /** The geometric half of ArcherHomingTargets.keepsTarget. */
+    private static boolean locked(Arrow arrow, Mob target) {
+        return target.alive && ArcherHomingTargets.inCone(arrow.x, arrow.y, arrow.z, arrow.dx, arrow.dy, arrow.dz,
+                target.x, target.y + target.height * 0.5, target.z);
+    }
+
+    /** Stands in for {@code getEntitiesByClass}: every live mob whose box touches the query box. */
+    private static List<Mob> query(List<Mob> mobs, Box box) {
+        List<Mob> found = new ArrayList<>();
+        for (Mob mob : mobs) {
+            if (mob.alive && box.intersects(mob.x - 0.3, mob.y, mob.z - 0.3, mob.x + 0.3, mob.y + mob.height,
+                    mob.z + 0.3)) {
+                found.add(mob);
+            }
+        }
+        return found;
+    }
+
+    private static List<Mob> mobs(Random random) {
+        List<Mob> mobs = new ArrayList<>(MOBS);
+        for (int i = 0; i < MOBS; i++) {
+            mobs.add(new Mob(random.nextDouble() * 60 - 10, 60 + random.nextDouble() * 8,
+                    random.nextDouble() * 40 - 20));
+        }
+        return mobs;
+    }
+
+    /** A Master Ranger volley: arrows leaving the shooter at x=0 towards +x with some spread. */
+    private static List<Arrow> volley(Random random) {
+        List<Arrow> arrows = new ArrayList<>(ARROWS);
+        for (int i = 0; i < ARROWS; i++) {
+            double dx = 1.0;
+            double dy = random.nextDouble() * 0.2 - 0.1;
+            double dz = random.nextDouble() * 0.4 - 0.2;
+            double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            arrows.add(new Arrow(random.nextDouble() * 2, 64 + random.nextDouble(), random.nextDouble() * 2 - 1,
+                    dx / length, dy / length, dz / length));
+        }
+        return arrows;
+    }
+
+    private static void advance(List<Arrow> arrows) {
+        for (Arrow arrow : arrows) {
+            arrow.x += arrow.dx * 1.5;
+            arrow.y += arrow.dy * 1.5;
+            arrow.z += arrow.dz * 1.5;
+        }
+    }
+
+    private static final class Mob {
+        final double x;
+        final double y;
+        final double z;
+        final double height = 1.95;
+        boolean alive = true;
+
+        Mob(double x, double y, double z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
+    private static final class Arrow {
+        double x;
+        double y;
+        double z;
+        final double dx;
+        final double dy;
+        final double dz;
+
+        Arrow(double x, double y, double z, double dx, double dy, double dz) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.dx = dx;
+            this.dy = dy;
+            this.dz = dz;
+        }
+    }
+}
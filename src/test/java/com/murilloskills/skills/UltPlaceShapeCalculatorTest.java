@@ -5,7 +5,10 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -348,4 +351,121 @@ class UltPlaceShapeCalculatorTest {
         assertTrue(blocks.contains(new BlockPos(1, 64, -1)));
         assertFalse(blocks.contains(origin));
     }
+
+    @Test
+    void columnVariantGoesUpOrDown() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        Vec3d look = new Vec3d(0.0, 0.0, -1.0);
+
+        assertEquals(List.of(origin, new BlockPos(0, 65, 0), new BlockPos(0, 66, 0)),
+                UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.COLUMN, 1, 3, 1, Direction.UP, look,
+                        Direction.NORTH, 0, UltPlaceAnchorMode.LEADING_EDGE, UltPlaceRotationMode.AUTO, 1));
+        assertEquals(List.of(origin, new BlockPos(0, 63, 0), new BlockPos(0, 62, 0)),
+                UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.COLUMN, 1, 3, 1, Direction.UP, look,
+                        Direction.NORTH, 1, UltPlaceAnchorMode.LEADING_EDGE, UltPlaceRotationMode.AUTO, 1));
+    }
+
+    @Test
+    void centeredColumnWithSpacingTwoKeepsTheOrigin() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> blocks = UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.COLUMN, 1, 5, 1,
+                Direction.UP, new Vec3d(0.0, 0.0, -1.0), Direction.NORTH, 0, UltPlaceAnchorMode.CENTER,
+                UltPlaceRotationMode.AUTO, 2);
+
+        assertEquals(List.of(new BlockPos(0, 62, 0), origin, new BlockPos(0, 66, 0)), blocks);
+    }
+
+    @Test
+    void stairsDownVariantDescendsOnePerStep() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> blocks = UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.STAIRS, 1, 3, 1,
+                Direction.UP, new Vec3d(1.0, 0.0, 0.0), Direction.EAST, 1, UltPlaceAnchorMode.LEADING_EDGE,
+                UltPlaceRotationMode.AUTO, 1);
+
+        assertEquals(List.of(origin, new BlockPos(1, 63, 0), new BlockPos(2, 62, 0)), blocks);
+    }
+
+    @Test
+    void circleOfFiveIsAFlatDiscWithoutCorners() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> blocks = UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.CIRCLE, 5, 1, 1,
+                Direction.UP, new Vec3d(0.0, -1.0, 0.0), Direction.NORTH, 0, UltPlaceAnchorMode.CENTER,
+                UltPlaceRotationMode.AUTO, 1);
+
+        assertEquals(21, blocks.size());
+        assertTrue(blocks.stream().allMatch(pos -> pos.getY() == 64));
+        assertTrue(blocks.contains(new BlockPos(2, 64, 1)));
+        assertTrue(blocks.contains(new BlockPos(0, 64, -2)));
+        assertFalse(blocks.contains(new BlockPos(2, 64, 2)));
+        assertFalse(blocks.contains(new BlockPos(-2, 64, -2)));
+    }
+
+    @Test
+    void sphereShellOfThreeIsTheCenterAndItsNeighbours() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> blocks = UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.SPHERE_SHELL, 3, 1, 1,
+                Direction.UP, new Vec3d(0.0, -1.0, 0.0), Direction.NORTH, 0, UltPlaceAnchorMode.CENTER,
+                UltPlaceRotationMode.AUTO, 1);
+
+        assertEquals(List.of(new BlockPos(-1, 64, 0), new BlockPos(0, 63, 0), new BlockPos(0, 64, -1), origin,
+                new BlockPos(0, 64, 1), new BlockPos(0, 65, 0), new BlockPos(1, 64, 0)), blocks);
+    }
+
+    @Test
+    void largerSphereShellIsHollow() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> blocks = UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.SPHERE_SHELL, 7, 1, 1,
+                Direction.UP, new Vec3d(0.0, -1.0, 0.0), Direction.NORTH, 0, UltPlaceAnchorMode.CENTER,
+                UltPlaceRotationMode.AUTO, 1);
+
+        assertEquals(120, blocks.size());
+        assertFalse(blocks.contains(origin));
+        assertFalse(blocks.contains(new BlockPos(1, 64, 0)));
+        assertTrue(blocks.contains(new BlockPos(3, 64, 0)));
+        assertTrue(blocks.contains(new BlockPos(0, 61, 0)));
+    }
+
+    @Test
+    void singleIgnoresTheSizes() {
+        BlockPos origin = new BlockPos(5, 70, -5);
+
+        assertEquals(List.of(origin), UltPlaceShapeCalculator.getShapeBlocks(origin, UltPlaceShape.SINGLE, 5, 5, 5,
+                Direction.UP, new Vec3d(0.0, -1.0, 0.0), Direction.NORTH, 0, UltPlaceAnchorMode.CENTER,
+                UltPlaceRotationMode.AUTO, 1));
+    }
+
+    @Test
+    void everyShapeVisitsEachCellOnceAndTheSinkFollowsTheList() {
+        Random random = new Random(23L);
+        BlockPos origin = new BlockPos(57, -20, -8_000);
+        Direction[] horizontals = { Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST };
+        for (UltPlaceShape shape : UltPlaceShape.values()) {
+            for (UltPlaceAnchorMode anchor : UltPlaceAnchorMode.values()) {
+                for (UltPlaceRotationMode rotation : UltPlaceRotationMode.values()) {
+                    for (Direction face : Direction.values()) {
+                        for (int i = 0; i < 4; i++) {
+                            int size = 1 + random.nextInt(20);
+                            int length = 1 + random.nextInt(32);
+                            int height = 1 + random.nextInt(12);
+                            int variant = random.nextInt(2);
+                            int spacing = 1 + random.nextInt(3);
+                            Direction facing = horizontals[random.nextInt(horizontals.length)];
+                            Vec3d look = new Vec3d(random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1,
+                                    random.nextDouble() * 2 - 1);
+                            String label = shape + " " + anchor + " " + rotation + " " + face + " size " + size;
+                            List<BlockPos> blocks = UltPlaceShapeCalculator.getShapeBlocks(origin, shape, size,
+                                    length, height, face, look, facing, variant, anchor, rotation, spacing);
+                            List<BlockPos> walked = new ArrayList<>();
+                            UltPlaceShapeCalculator.forEachShapeBlock(origin, shape, size, length, height, face,
+                                    look, facing, variant, anchor, rotation, spacing,
+                                    (x, y, z) -> walked.add(new BlockPos(x, y, z)));
+
+                            assertEquals(blocks.size(), new HashSet<>(blocks).size(), label);
+                            assertEquals(blocks, walked, label);
+                        }
+                    }
+                }
+            }
+        }
+    }
 }
@@ -2,7 +2,6 @@ package com.murilloskills.skills;
 
 import org.junit.jupiter.api.Test;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -36,8 +35,8 @@ class UltmineDropCollectorTest {
                 }
 
                 @Override
-                public void increment(FakeStack stack, int amount) {
-                    stack.increment(amount);
+                public int mergeHash(FakeStack stack) {
+                    return stack.id().hashCode();
                 }
 
                 @Override
@@ -48,9 +47,11 @@ class UltmineDropCollectorTest {
 
     @Test
     void mergesCompatibleStacks() {
-        List<FakeStack> merged = new ArrayList<>();
-        UltmineDropCollector.addMerged(merged, new FakeStack("cobblestone", 40), ADAPTER);
-        UltmineDropCollector.addMerged(merged, new FakeStack("cobblestone", 40), ADAPTER);
+        UltmineDropCollector.Tally<FakeStack> tally = new UltmineDropCollector.Tally<>(ADAPTER);
+        tally.add(new FakeStack("cobblestone", 40));
+        tally.add(new FakeStack("cobblestone", 40));
+
+        List<FakeStack> merged = tally.drain();
 
         assertEquals(2, merged.size());
         assertEquals("cobblestone", merged.get(0).id());
@@ -60,9 +61,11 @@ class UltmineDropCollectorTest {
 
     @Test
     void discardsTrashBeforeMerging() {
-        List<FakeStack> merged = new ArrayList<>();
-        UltmineDropCollector.addMerged(merged, new FakeStack("cobblestone", 64, true), ADAPTER);
-        UltmineDropCollector.addMerged(merged, new FakeStack("diamond", 3), ADAPTER);
+        UltmineDropCollector.Tally<FakeStack> tally = new UltmineDropCollector.Tally<>(ADAPTER);
+        tally.add(new FakeStack("cobblestone", 64, true));
+        tally.add(new FakeStack("diamond", 3));
+
+        List<FakeStack> merged = tally.drain();
 
         assertEquals(1, merged.size());
         assertEquals("diamond", merged.get(0).id());
@@ -71,10 +74,12 @@ class UltmineDropCollectorTest {
 
     @Test
     void keepsOverflowAsCompactStacks() {
-        List<FakeStack> merged = new ArrayList<>();
-        UltmineDropCollector.addMerged(merged, new FakeStack("cobblestone", 64), ADAPTER);
-        UltmineDropCollector.addMerged(merged, new FakeStack("cobblestone", 64), ADAPTER);
-        UltmineDropCollector.addMerged(merged, new FakeStack("cobblestone", 2), ADAPTER);
+        UltmineDropCollector.Tally<FakeStack> tally = new UltmineDropCollector.Tally<>(ADAPTER);
+        tally.add(new FakeStack("cobblestone", 64));
+        tally.add(new FakeStack("cobblestone", 64));
+        tally.add(new FakeStack("cobblestone", 2));
+
+        List<FakeStack> merged = tally.drain();
 
         assertEquals(3, merged.size());
         assertEquals(64, merged.get(0).count());
@@ -83,22 +88,81 @@ class UltmineDropCollectorTest {
     }
 
     @Test
-    void mergesIntoExistingPartialStackBeforeAddingOverflow() {
-        List<FakeStack> destination = new ArrayList<>();
-        destination.add(new FakeStack("cobblestone", 60));
+    void tallyCountsPerKindAndSplitsOnlyWhenDrained() {
+        UltmineDropCollector.Tally<FakeStack> tally = new UltmineDropCollector.Tally<>(ADAPTER);
+        tally.add(new FakeStack("cobblestone", 40));
+        tally.add(new FakeStack("diamond", 1));
+        tally.add(new FakeStack("cobblestone", 40));
+
+        List<FakeStack> stacks = tally.drain();
+        assertEquals(3, stacks.size());
+        assertEquals("cobblestone", stacks.get(0).id());
+        assertEquals(64, stacks.get(0).count());
+        assertEquals(16, stacks.get(1).count());
+        assertEquals("diamond", stacks.get(2).id());
+        assertEquals(1, stacks.get(2).count());
+
+        assertEquals(0, tally.drain().size());
+    }
 
-        UltmineDropCollector.addMerged(destination, new FakeStack("cobblestone", 10), ADAPTER);
+    @Test
+    void tallyChecksTrashOncePerKind() {
+        int[] trashChecks = new int[1];
+        UltmineDropCollector.StackAdapter<FakeStack> counting = new UltmineDropCollector.StackAdapter<>() {
+            @Override
+            public boolean isEmpty(FakeStack stack) {
+                return ADAPTER.isEmpty(stack);
+            }
+
+            @Override
+            public boolean isTrash(FakeStack stack) {
+                trashChecks[0]++;
+                return stack.id().equals("dirt");
+            }
+
+            @Override
+            public int getCount(FakeStack stack) {
+                return stack.count();
+            }
+
+            @Override
+            public int getMaxCount(FakeStack stack) {
+                return stack.maxCount();
+            }
+
+            @Override
+            public boolean canMerge(FakeStack existing, FakeStack source) {
+                return ADAPTER.canMerge(existing, source);
+            }
+
+            @Override
+            public int mergeHash(FakeStack stack) {
+                return ADAPTER.mergeHash(stack);
+            }
+
+            @Override
+            public FakeStack copyWithCount(FakeStack stack, int count) {
+                return stack.copyWithCount(count);
+            }
+        };
+
+        UltmineDropCollector.Tally<FakeStack> tally = new UltmineDropCollector.Tally<>(counting);
+        for (int i = 0; i < 4096; i++) {
+            tally.add(new FakeStack(i % 3 == 0 ? "dirt" : i % 3 == 1 ? "cobblestone" : "raw_iron", 1));
+        }
 
-        assertEquals(2, destination.size());
-        assertEquals(64, destination.get(0).count());
-        assertEquals(6, destination.get(1).count());
+        List<FakeStack> stacks = tally.drain();
+        assertEquals(3, trashChecks[0]);
+        assertEquals(2 * 22, stacks.size());
+        assertEquals("cobblestone", stacks.get(0).id());
+        assertEquals(21, stacks.get(21).count());
     }
 
     private static final class FakeStack {
         private final String id;
         private final int maxCount;
         private final boolean trash;
-        private int count;
+        private final int count;
 
         private FakeStack(String id, int count) {
             this(id, count, false);
@@ -131,10 +195,6 @@ class UltmineDropCollectorTest {
             return trash;
         }
 
-        private void increment(int amount) {
-            count += amount;
-        }
-
         private FakeStack copyWithCount(int newCount) {
             return new FakeStack(id, newCount, maxCount, trash);
         }
@@ -5,7 +5,10 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -63,4 +66,85 @@ class UltmineShapeCalculatorTest {
         assertEquals(400, blocks.size());
         assertTrue(blocks.stream().allMatch(pos -> pos.getY() == 70));
     }
+
+    @Test
+    void rect2x1VariantTurnsTheRectangle() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        Vec3d look = new Vec3d(0.0, -1.0, 0.0);
+
+        assertEquals(List.of(new BlockPos(-1, 64, 0), origin),
+                UltmineShapeCalculator.getShapeBlocks(origin, UltmineShape.R_2x1, 1, 1, Direction.UP, look, 0));
+        assertEquals(List.of(new BlockPos(0, 64, -1), origin),
+                UltmineShapeCalculator.getShapeBlocks(origin, UltmineShape.R_2x1, 1, 1, Direction.UP, look, 1));
+    }
+
+    @Test
+    void rect2x1DepthDigsAwayFromTheClickedFace() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> blocks = UltmineShapeCalculator.getShapeBlocks(
+                origin, UltmineShape.R_2x1, 2, 1, Direction.NORTH, new Vec3d(0.0, 0.0, -1.0), 1);
+
+        assertEquals(List.of(new BlockPos(0, 63, 0), origin, new BlockPos(0, 63, 1), new BlockPos(0, 64, 1)),
+                blocks);
+    }
+
+    @Test
+    void legacyShapeIsOnlyTheOrigin() {
+        BlockPos origin = new BlockPos(3, 20, -7);
+
+        assertEquals(List.of(origin), UltmineShapeCalculator.getShapeBlocks(
+                origin, UltmineShape.LEGACY, 5, 5, Direction.UP, new Vec3d(0.0, -1.0, 0.0), 0));
+    }
+
+    @Test
+    void stairsDownVariantDescendsOnePerStep() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> blocks = UltmineShapeCalculator.getShapeBlocks(
+                origin, UltmineShape.STAIRS, 3, 1, Direction.NORTH, new Vec3d(1.0, 0.0, 0.2), 1);
+
+        assertEquals(List.of(origin, new BlockPos(1, 63, 0), new BlockPos(2, 62, 0)), blocks);
+    }
+
+    @Test
+    void square20x20VerticalVariantsLayerIntoTheFace() {
+        BlockPos origin = new BlockPos(0, 64, 0);
+        List<BlockPos> northSouth = UltmineShapeCalculator.getShapeBlocks(
+                origin, UltmineShape.SQUARE_20x20_D1, 2, 1, Direction.SOUTH, new Vec3d(0.0, 0.0, 1.0), 1);
+        List<BlockPos> eastWest = UltmineShapeCalculator.getShapeBlocks(
+                origin, UltmineShape.SQUARE_20x20_D1, 2, 1, Direction.WEST, new Vec3d(-1.0, 0.0, 0.0), 2);
+
+        assertEquals(800, northSouth.size());
+        assertEquals(new BlockPos(-10, 54, 0), northSouth.get(0));
+        assertEquals(new BlockPos(9, 73, 1), northSouth.get(799));
+        assertEquals(800, eastWest.size());
+        assertEquals(new BlockPos(0, 54, -10), eastWest.get(0));
+        assertEquals(new BlockPos(-1, 73, 9), eastWest.get(799));
+    }
+
+    @Test
+    void everyShapeVisitsEachCellOnceAndTheSinkFollowsTheList() {
+        Random random = new Random(17L);
+        BlockPos origin = new BlockPos(-301, 12, 4_099);
+        for (UltmineShape shape : UltmineShape.values()) {
+            for (int variant = 0; variant < UltmineShape.getVariantCount(shape); variant++) {
+                for (Direction face : Direction.values()) {
+                    for (int i = 0; i < 8; i++) {
+                        int depth = 1 + random.nextInt(16);
+                        int length = 1 + random.nextInt(128);
+                        Vec3d look = new Vec3d(random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1,
+                                random.nextDouble() * 2 - 1);
+                        String label = shape + " v" + variant + " " + face + " depth " + depth + " length " + length;
+                        List<BlockPos> blocks = UltmineShapeCalculator.getShapeBlocks(origin, shape, depth, length,
+                                face, look, variant);
+                        List<BlockPos> walked = new ArrayList<>();
+                        UltmineShapeCalculator.forEachShapeBlock(origin, shape, depth, length, face, look, variant,
+                                (x, y, z) -> walked.add(new BlockPos(x, y, z)));
+
+                        assertEquals(blocks.size(), new HashSet<>(blocks).size(), label);
+                        assertEquals(blocks, walked, label);
+                    }
+                }
+            }
+        }
+    }
 }
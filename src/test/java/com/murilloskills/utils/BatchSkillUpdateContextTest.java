@@ -0,0 +1,47 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.network.UltmineResultS2CPayload;
+import com.murilloskills.skills.MurilloSkillsList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class BatchSkillUpdateContextTest {
+
+    @Test
+    void toastsAreSummedPerSkill() {
+        BatchSkillUpdateContext.PlayerQueue queue = new BatchSkillUpdateContext.PlayerQueue();
+        for (int i = 0; i < 20; i++) {
+            queue.addToast(MurilloSkillsList.MINER, 3, "Stone");
+        }
+        queue.addToast(MurilloSkillsList.MINER, 10, "Diamond Ore");
+        queue.addToast(MurilloSkillsList.WARRIOR, 5, "Zombie");
+
+        assertEquals(2, queue.toasts.size());
+        assertEquals(70, queue.toasts.get(MurilloSkillsList.MINER).xp);
+        assertEquals("Diamond Ore", queue.toasts.get(MurilloSkillsList.MINER).source);
+        assertEquals(5, queue.toasts.get(MurilloSkillsList.WARRIOR).xp);
+    }
+
+    @Test
+    void sourcelessToastKeepsTheLastSource() {
+        BatchSkillUpdateContext.PlayerQueue queue = new BatchSkillUpdateContext.PlayerQueue();
+        queue.addToast(MurilloSkillsList.FARMER, 2, "Wheat");
+        queue.addToast(MurilloSkillsList.FARMER, 2, null);
+
+        assertEquals(4, queue.toasts.get(MurilloSkillsList.FARMER).xp);
+        assertEquals("Wheat", queue.toasts.get(MurilloSkillsList.FARMER).source);
+    }
+
+    @Test
+    void repeatedResultsAreSentOnce() {
+        BatchSkillUpdateContext.PlayerQueue queue = new BatchSkillUpdateContext.PlayerQueue();
+        queue.addResult(new UltmineResultS2CPayload(false, 0, 0, "ultmine.busy"));
+        queue.addResult(new UltmineResultS2CPayload(false, 0, 0, "ultmine.busy"));
+        queue.addResult(new UltmineResultS2CPayload(true, 12, 12, ""));
+
+        assertEquals(2, queue.results.size());
+        assertFalse(queue.challengeSyncRequested);
+    }
+}
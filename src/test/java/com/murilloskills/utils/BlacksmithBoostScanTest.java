@@ -0,0 +1,227 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.integration.IntegrationBindings.IntField;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the Blacksmith generic machine boost on a base full of chests and
+ * machines: the per-chunk block-entity walk with cached class profiles must
+ * boost the same machines as the old per-position cube walk with per-call
+ * field lookups, while visiting far fewer entries. Runs without a Minecraft
+ * bootstrap.
+ */
+class BlacksmithBoostScanTest {
+    private static final int RADIUS = 8;
+    private static final String[][] PAIRS = {
+            { "progress", "maxProgress" },
+            { "progress", "progressMax" },
+            { "progress", "totalProgress" },
+            { "progress", "requiredProgress" },
+            { "craftingProgress", "craftingTime" },
+            { "craftingProgress", "maxCraftingProgress" },
+            { "processingTime", "processingTotalTime" },
+            { "processTime", "processTimeTotal" },
+            { "cookTime", "cookTimeTotal" },
+            { "cookingTimeSpent", "cookingTotalTime" },
+            { "workTime", "workTimeTotal" },
+            { "burnTime", "maxBurnTime" }
+    };
+
+    @Test
+    void chestsAreRejectedWithoutProgressFields() {
+        assertFalse(BlacksmithMachineSpeedHelper.canBoostGenericMachine(Chest.class));
+        assertFalse(BlacksmithMachineSpeedHelper.canBoostGenericMachine(Barrel.class));
+        assertTrue(BlacksmithMachineSpeedHelper.canBoostGenericMachine(AlloySmelter.class));
+        assertTrue(BlacksmithMachineSpeedHelper.canBoostGenericMachine(Crusher.class));
+    }
+
+    @Test
+    void activePairIsAdvancedAndCappedBelowMax() {
+        AlloySmelter smelter = new AlloySmelter(10, 20);
+        BlacksmithMachineSpeedHelper.GenericMachineProfile profile = BlacksmithMachineSpeedHelper
+                .genericMachineProfile(AlloySmelter.class);
+
+        IntField[] pair = BlacksmithMachineSpeedHelper.findActiveProgressPair(smelter, profile);
+        assertTrue(BlacksmithMachineSpeedHelper.advanceProgress(smelter, pair, 50));
+        assertEquals(19, smelter.progress);
+
+        AlloySmelter idle = new AlloySmelter(0, 20);
+        assertNull(BlacksmithMachineSpeedHelper.findActiveProgressPair(idle, profile));
+    }
+
+    @Test
+    void chunkIndexVisitsFarFewerEntriesAndBoostsTheSameMachines() {
+        Base base = Base.build(99L);
+
+        Set<Object> naiveBoosted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long naiveLookups = naiveTick(base, naiveBoosted, new HashMap<>());
+        Set<Object> indexedBoosted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long indexedVisits = indexedTick(base, indexedBoosted);
+
+        assertEquals(naiveBoosted, indexedBoosted);
+        assertEquals((long) Math.pow(2 * RADIUS + 1, 3), naiveLookups);
+        assertTrue(indexedVisits * 2 < naiveLookups, "visited " + indexedVisits + " vs " + naiveLookups);
+    }
+
+    private static long naiveTick(Base base, Set<Object> boosted, Map<String, Field> fieldCache) {
+        long lookups = 0;
+        for (int x = -RADIUS; x <= RADIUS; x++) {
+            for (int y = -RADIUS; y <= RADIUS; y++) {
+                for (int z = -RADIUS; z <= RADIUS; z++) {
+                    lookups++;
+                    Object blockEntity = base.byPosition.get(key(x, y, z));
+                    if (blockEntity != null && naiveIsActive(blockEntity, fieldCache)) {
+                        boosted.add(blockEntity);
+                    }
+                }
+            }
+        }
+        return lookups;
+    }
+
+    private static boolean naiveIsActive(Object blockEntity, Map<String, Field> fieldCache) {
+        for (String[] pair : PAIRS) {
+            Field progress = naiveFindField(blockEntity.getClass(), pair[0], fieldCache);
+            Field max = naiveFindField(blockEntity.getClass(), pair[1], fieldCache);
+            if (progress == null || max == null || progress.getType() != int.class || max.getType() != int.class) {
+                continue;
+            }
+            try {
+                int p = progress.getInt(blockEntity);
+                int m = max.getInt(blockEntity);
+                if (p > 0 && m > 0 && p < m) {
+                    return true;
+                }
+            } catch (IllegalAccessException ignored) {
+            }
+        }
+        return false;
+    }
+
+    private static Field naiveFindField(Class<?> root, String name, Map<String, Field> fieldCache) {
+        String cacheKey = root.getName() + "#" + name;
+        if (fieldCache.containsKey(cacheKey)) {
+            return fieldCache.get(cacheKey);
+        }
+        Field found = null;
+        for (Class<?> c = root; c != null && c != Object.class && found == null; c = c.getSuperclass()) {
+            try {
+                found = c.getDeclaredField(name);
+                found.setAccessible(true);
+            } catch (NoSuchFieldException ignored) {
+            }
+        }
+        fieldCache.put(cacheKey, found);
+        return found;
+    }
+
+    private static long indexedTick(Base base, Set<Object> boosted) {
+        long visits = 0;
+        for (int chunkX = -RADIUS >> 4; chunkX <= RADIUS >> 4; chunkX++) {
+            for (int chunkZ = -RADIUS >> 4; chunkZ <= RADIUS >> 4; chunkZ++) {
+                List<Placed> chunk = base.byChunk.get(key(chunkX, 0, chunkZ));
+                if (chunk == null) {
+                    continue;
+                }
+                for (Placed placed : chunk) {
+                    visits++;
+                    if (Math.abs(placed.x) > RADIUS || Math.abs(placed.y) > RADIUS || Math.abs(placed.z) > RADIUS
+                            || !BlacksmithMachineSpeedHelper.canBoostGenericMachine(placed.blockEntity.getClass())) {
+                        continue;
+                    }
+                    if (BlacksmithMachineSpeedHelper.findActiveProgressPair(placed.blockEntity,
+                            BlacksmithMachineSpeedHelper.genericMachineProfile(placed.blockEntity.getClass())) != null) {
+                        boosted.add(placed.blockEntity);
+                    }
+                }
+            }
+        }
+        return visits;
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | ((long) y & 0xFFF);
+    }
+
+    private record Placed(int x, int y, int z, Object blockEntity) {
+    }
+
+    private static final class Base {
+        private final Map<Long, Object> byPosition = new HashMap<>();
+        private final Map<Long, List<Placed>> byChunk = new HashMap<>();
+
+        static Base build(long seed) {
+            Random random = new Random(seed);
+            Base base = new Base();
+            // Storage walls of chests and barrels, a few machine rows, some of them idle.
+            for (int i = 0; i < 900; i++) {
+                int x = random.nextInt(40) - 20;
+                int y = random.nextInt(12) - 4;
+                int z = random.nextInt(40) - 20;
+                Object blockEntity = switch (random.nextInt(10)) {
+                    case 0, 1, 2, 3, 4 -> new Chest();
+                    case 5, 6 -> new Barrel();
+                    case 7 -> new AlloySmelter(random.nextInt(3) == 0 ? 0 : 5, 40);
+                    default -> new Crusher(random.nextInt(3) == 0 ? 0 : 12, 60);
+                };
+                base.place(x, y, z, blockEntity);
+            }
+            return base;
+        }
+
+        void place(int x, int y, int z, Object blockEntity) {
+            if (byPosition.putIfAbsent(key(x, y, z), blockEntity) == null) {
+                byChunk.computeIfAbsent(key(x >> 4, 0, z >> 4), ignored -> new ArrayList<>())
+                        .add(new Placed(x, y, z, blockEntity));
+            }
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Chest {
+        private final Object[] items = new Object[27];
+        private String customName;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Barrel {
+        private final Object[] items = new Object[27];
+        private int viewerCount;
+    }
+
+    private static final class AlloySmelter {
+        private int progress;
+        private int maxProgress;
+
+        AlloySmelter(int progress, int maxProgress) {
+            this.progress = progress;
+            this.maxProgress = maxProgress;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Crusher {
+        private int processTime;
+        private int processTimeTotal;
+
+        Crusher(int processTime, int processTimeTotal) {
+            this.processTime = processTime;
+            this.processTimeTotal = processTimeTotal;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.murilloskills.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlacksmithInfluenceIndexTest {
+
+    @Test
+    void overlappingBlacksmithsResolveToTheBestLevelInRange() {
+        BlacksmithInfluenceIndex index = new BlacksmithInfluenceIndex();
+        index.clear(8);
+        index.add(0, 64, 0, 40);
+        index.add(4, 64, 4, 90);
+        index.add(30, 64, 30, 100);
+
+        assertEquals(90, index.bestLevel(2, 64, 2));
+        assertEquals(40, index.bestLevel(-6, 60, -6));
+        assertEquals(100, index.bestLevel(34, 70, 28));
+        assertEquals(0, index.bestLevel(0, 80, 0));
+        assertEquals(0, index.bestLevel(-40, 64, 0));
+    }
+
+    @Test
+    void sharedWorkshopChunksAreListedOnce() {
+        BlacksmithInfluenceIndex index = new BlacksmithInfluenceIndex();
+        index.clear(8);
+        for (int i = 0; i < 6; i++) {
+            index.add(4 + i, 64, 4, 10 + i);
+        }
+
+        Set<Long> expected = new HashSet<>();
+        for (int chunkX = -1; chunkX <= 1; chunkX++) {
+            for (int chunkZ = -1; chunkZ <= 0; chunkZ++) {
+                expected.add(BlacksmithInfluenceIndex.chunkKey(chunkX, chunkZ));
+            }
+        }
+        assertEquals(expected, index.chunkKeys());
+        assertEquals(15, index.bestLevel(8, 64, 8));
+    }
+
+    @Test
+    void levelZeroAndClearLeaveNothingBehind() {
+        BlacksmithInfluenceIndex index = new BlacksmithInfluenceIndex();
+        index.clear(8);
+        index.add(0, 64, 0, 0);
+        assertTrue(index.isEmpty());
+
+        index.add(0, 64, 0, 50);
+        index.clear(8);
+        assertTrue(index.isEmpty());
+        assertEquals(0, index.bestLevel(0, 64, 0));
+    }
+
+    @Test
+    void chunkKeysRoundTripNegativeCoordinates() {
+        long key = BlacksmithInfluenceIndex.chunkKey(-3, 7);
+        assertEquals(-3, BlacksmithInfluenceIndex.chunkX(key));
+        assertEquals(7, BlacksmithInfluenceIndex.chunkZ(key));
+    }
+}
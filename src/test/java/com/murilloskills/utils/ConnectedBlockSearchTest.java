@@ -0,0 +1,244 @@
+package com.murilloskills.utils;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the packed connected-block searches against the old
+ * {@code LinkedHashSet<BlockPos>} searches from VeinMinerHandler. Runs
+ * without a Minecraft bootstrap on a synthetic world.
+ */
+class ConnectedBlockSearchTest {
+    private static final int STONE = 1;
+    private static final int ORE = 2;
+    private static final int CLASSIC_MAX = 4096;
+
+    @Test
+    void floodMatchesTheOldSearchOrderAndLimit() {
+        SyntheticWorld world = SyntheticWorld.caves(21L, 48);
+        for (int maxBlocks : new int[] { 1, 2, 27, 500, CLASSIC_MAX }) {
+            List<Long> expected = oldFlood(world, 0, 64, 0, maxBlocks);
+            List<Long> actual = toList(ConnectedBlockSearch.flood(0, 64, 0, maxBlocks, world.is(STONE)));
+            assertEquals(expected, actual, "maxBlocks " + maxBlocks);
+        }
+    }
+
+    @Test
+    void classicOreExpansionMatchesTheOldSearch() {
+        SyntheticWorld world = SyntheticWorld.caves(22L, 48);
+        for (int maxBlocks : new int[] { 50, 800, CLASSIC_MAX }) {
+            List<Long> expected = oldClassic(world, 0, 64, 0, maxBlocks);
+            List<Long> actual = newClassic(world, 0, 64, 0, maxBlocks);
+            assertEquals(expected, actual, "maxBlocks " + maxBlocks);
+        }
+    }
+
+    @Test
+    void fullLimitMakesRoomForOresFromTheEnd() {
+        long[] targets = { BlockPos.asLong(1, 0, 0), BlockPos.asLong(2, 0, 0), BlockPos.asLong(3, 0, 0) };
+        long[] ores = { BlockPos.asLong(9, 0, 0), BlockPos.asLong(8, 0, 0) };
+        long[] merged = ConnectedBlockSearch.appendMakingRoom(targets, ores, 3, (x, y, z) -> x == 2);
+
+        assertEquals(List.of(BlockPos.asLong(2, 0, 0), BlockPos.asLong(9, 0, 0), BlockPos.asLong(8, 0, 0)),
+                toList(merged));
+    }
+
+    @Test
+    void largeClassicVeinFillsTheLimitWithOres() {
+        SyntheticWorld world = SyntheticWorld.caves(23L, 40);
+        List<Long> targets = newClassic(world, 0, 64, 0, CLASSIC_MAX);
+        assertEquals(CLASSIC_MAX, targets.size());
+        assertTrue(targets.stream().anyMatch(pos -> world.get(pos) == ORE));
+    }
+
+    private static List<Long> newClassic(SyntheticWorld world, int x, int y, int z, int maxBlocks) {
+        long[] connected = ConnectedBlockSearch.flood(x, y, z, maxBlocks, world.is(STONE));
+        long[] ores = ConnectedBlockSearch.expand(BlockPos.asLong(x, y, z), connected, maxBlocks - 1, world.is(ORE));
+        List<Long> result = toList(ConnectedBlockSearch.appendMakingRoom(connected, ores, maxBlocks - 1,
+                world.is(ORE)));
+        result.add(BlockPos.asLong(x, y, z));
+        return result;
+    }
+
+    // --- The previous VeinMinerHandler searches, kept as the reference ---
+
+    private static List<Long> oldFlood(SyntheticWorld world, int x, int y, int z, int maxBlocks) {
+        List<Long> result = new ArrayList<>();
+        for (BlockPos pos : oldFloodSet(world, new BlockPos(x, y, z), maxBlocks)) {
+            result.add(pos.asLong());
+        }
+        return result;
+    }
+
+    private static Set<BlockPos> oldFloodSet(SyntheticWorld world, BlockPos origin, int maxBlocks) {
+        Set<BlockPos> visited = new LinkedHashSet<>();
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(origin);
+        visited.add(origin);
+        while (!queue.isEmpty() && visited.size() < maxBlocks) {
+            BlockPos current = queue.poll();
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if (dx == 0 && dy == 0 && dz == 0)
+                            continue;
+                        if (visited.size() >= maxBlocks) {
+                            visited.remove(origin);
+                            return visited;
+                        }
+                        BlockPos neighbor = new BlockPos(current.getX() + dx, current.getY() + dy,
+                                current.getZ() + dz);
+                        if (visited.contains(neighbor))
+                            continue;
+                        if (world.get(neighbor.asLong()) == STONE) {
+                            visited.add(neighbor);
+                            queue.add(neighbor);
+                        }
+                    }
+                }
+            }
+        }
+        visited.remove(origin);
+        return visited;
+    }
+
+    private static List<Long> oldClassic(SyntheticWorld world, int x, int y, int z, int maxBlocks) {
+        BlockPos origin = new BlockPos(x, y, z);
+        Set<BlockPos> targets = oldFloodSet(world, origin, maxBlocks);
+        int maxTargetsWithoutOrigin = maxBlocks - 1;
+
+        List<BlockPos> anchors = new ArrayList<>(targets.size() + 1);
+        anchors.add(origin);
+        anchors.addAll(targets);
+        Set<BlockPos> visited = new HashSet<>(anchors);
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        LinkedHashSet<BlockPos> foundOres = new LinkedHashSet<>();
+        for (BlockPos anchor : anchors) {
+            oldEnqueueOres(world, anchor, foundOres, visited, queue, maxTargetsWithoutOrigin);
+            if (foundOres.size() >= maxTargetsWithoutOrigin) {
+                break;
+            }
+        }
+        while (!queue.isEmpty() && foundOres.size() < maxTargetsWithoutOrigin) {
+            oldEnqueueOres(world, queue.poll(), foundOres, visited, queue, maxTargetsWithoutOrigin);
+        }
+        for (BlockPos ore : foundOres) {
+            if (targets.contains(ore)) {
+                continue;
+            }
+            while (targets.size() >= maxTargetsWithoutOrigin && oldRemoveLastNonOre(world, targets)) {
+                // make room
+            }
+            if (targets.size() < maxTargetsWithoutOrigin) {
+                targets.add(ore);
+            }
+        }
+        targets.add(origin);
+
+        List<Long> result = new ArrayList<>();
+        for (BlockPos pos : targets) {
+            result.add(pos.asLong());
+        }
+        return result;
+    }
+
+    private static void oldEnqueueOres(SyntheticWorld world, BlockPos current, Set<BlockPos> foundOres,
+            Set<BlockPos> visited, ArrayDeque<BlockPos> queue, int max) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx == 0 && dy == 0 && dz == 0) {
+                        continue;
+                    }
+                    if (foundOres.size() >= max) {
+                        return;
+                    }
+                    BlockPos neighbor = new BlockPos(current.getX() + dx, current.getY() + dy, current.getZ() + dz);
+                    if (!visited.add(neighbor)) {
+                        continue;
+                    }
+                    if (world.get(neighbor.asLong()) == ORE) {
+                        foundOres.add(neighbor);
+                        queue.add(neighbor);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean oldRemoveLastNonOre(SyntheticWorld world, Set<BlockPos> targets) {
+        BlockPos removable = null;
+        for (BlockPos target : targets) {
+            if (world.get(target.asLong()) != ORE) {
+                removable = target;
+            }
+        }
+        return removable != null && targets.remove(removable);
+    }
+
+    private static List<Long> toList(long[] positions) {
+        List<Long> result = new ArrayList<>(positions.length);
+        for (long pos : positions) {
+            result.add(pos);
+        }
+        return result;
+    }
+
+    /** Stone body with air pockets and scattered ore clusters; everything outside the cube is air. */
+    private static final class SyntheticWorld {
+        private final int radius;
+        private final int size;
+        private final byte[] blocks;
+
+        private SyntheticWorld(int radius) {
+            this.radius = radius;
+            this.size = 2 * radius + 1;
+            this.blocks = new byte[size * size * size];
+        }
+
+        static SyntheticWorld caves(long seed, int radius) {
+            Random random = new Random(seed);
+            SyntheticWorld world = new SyntheticWorld(radius);
+            for (int i = 0; i < world.blocks.length; i++) {
+                int roll = random.nextInt(100);
+                world.blocks[i] = (byte) (roll < 70 ? STONE : roll < 73 ? ORE : 0);
+            }
+            world.blocks[world.index(0, 64, 0)] = STONE;
+            return world;
+        }
+
+        int get(long pos) {
+            return get(BlockPos.unpackLongX(pos), BlockPos.unpackLongY(pos), BlockPos.unpackLongZ(pos));
+        }
+
+        int get(int x, int y, int z) {
+            int index = index(x, y, z);
+            return index < 0 ? 0 : blocks[index];
+        }
+
+        ConnectedBlockSearch.BlockTest is(int type) {
+            return (x, y, z) -> get(x, y, z) == type;
+        }
+
+        private int index(int x, int y, int z) {
+            int lx = x + radius;
+            int ly = y - 64 + radius;
+            int lz = z + radius;
+            if (lx < 0 || ly < 0 || lz < 0 || lx >= size || ly >= size || lz >= size) {
+                return -1;
+            }
+            return (ly * size + lz) * size + lx;
+        }
+    }
+}
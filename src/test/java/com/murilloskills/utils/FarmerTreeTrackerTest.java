@@ -0,0 +1,73 @@
+package com.murilloskills.utils;
+
+import com.mojang.serialization.JsonOps;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FarmerTreeTrackerTest {
+
+    @Test
+    void packKeepsPositionsInAChunkDistinct() {
+        Set<Integer> packed = new HashSet<>();
+        for (int y = -64; y < 320; y += 7) {
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    assertTrue(packed.add(FarmerTreeTracker.pack(new BlockPos(-32 + x, y, 48 + z))));
+                }
+            }
+        }
+        assertEquals(FarmerTreeTracker.pack(new BlockPos(3, 70, 5)), FarmerTreeTracker.pack(new BlockPos(19, 70, -11)));
+        assertNotEquals(FarmerTreeTracker.pack(new BlockPos(3, 70, 5)), FarmerTreeTracker.pack(new BlockPos(3, -70, 5)));
+    }
+
+    @Test
+    void mergeAndConsumeMatchASet() {
+        Random random = new Random(20L);
+        Set<Integer> expected = new HashSet<>();
+        FarmerTreeTracker.ChunkLogs logs = FarmerTreeTracker.ChunkLogs.of(new int[0]);
+        for (int tree = 0; tree < 50; tree++) {
+            int[] added = new int[random.nextInt(40)];
+            for (int i = 0; i < added.length; i++) {
+                added[i] = FarmerTreeTracker.pack(new BlockPos(random.nextInt(16), random.nextInt(100), random.nextInt(16)));
+                expected.add(added[i]);
+            }
+            logs = logs.with(FarmerTreeTracker.ChunkLogs.of(added));
+            assertEquals(expected.size(), logs.size());
+        }
+
+        for (int packed : expected) {
+            assertTrue(logs.contains(packed));
+        }
+        for (int packed : Set.copyOf(expected)) {
+            FarmerTreeTracker.ChunkLogs remaining = logs.without(packed);
+            assertFalse(remaining.contains(packed));
+            assertSame(remaining, remaining.without(packed));
+            logs = remaining;
+        }
+        assertTrue(logs.isEmpty());
+    }
+
+    @Test
+    void codecRoundTrip() {
+        FarmerTreeTracker.ChunkLogs logs = FarmerTreeTracker.ChunkLogs.of(new int[] {
+                FarmerTreeTracker.pack(new BlockPos(1, 64, 2)),
+                FarmerTreeTracker.pack(new BlockPos(1, 65, 2)),
+                FarmerTreeTracker.pack(new BlockPos(15, -20, 15)) });
+        var encoded = FarmerTreeTracker.ChunkLogs.CODEC.encodeStart(JsonOps.INSTANCE, logs).getOrThrow();
+        FarmerTreeTracker.ChunkLogs decoded = FarmerTreeTracker.ChunkLogs.CODEC.parse(JsonOps.INSTANCE, encoded)
+                .getOrThrow();
+        assertEquals(logs.size(), decoded.size());
+        assertTrue(decoded.contains(FarmerTreeTracker.pack(new BlockPos(15, -20, 15))));
+        assertTrue(decoded.contains(FarmerTreeTracker.pack(new BlockPos(1, 65, 2))));
+    }
+}
@@ -0,0 +1,192 @@
+package com.murilloskills.utils;
+
+import net.minecraft.util.Hand;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks the slot cursor behind {@link InventorySlotIndex} on a stand-in
+ * inventory: used-up slots are skipped, stacks added after the first scan
+ * are found by the rescan, and hand refills stop at the max stack size.
+ * Runs without a Minecraft bootstrap.
+ */
+class InventorySlotIndexTest {
+    private static final String STONE = "stone";
+    private static final String DIRT = "dirt";
+
+    @Test
+    void totalCountCoversEveryMatchingSlot() {
+        FakeInventory inventory = new FakeInventory(9);
+        inventory.put(1, STONE, 10);
+        inventory.put(4, DIRT, 64);
+        inventory.put(7, STONE, 5);
+
+        assertEquals(15, cursor(inventory, STONE).totalCount());
+        assertEquals(0, cursor(new FakeInventory(9), STONE).totalCount());
+    }
+
+    @Test
+    void exhaustedSlotIsSkippedAndTheRescanFindsNewStacks() {
+        FakeInventory inventory = new FakeInventory(9);
+        inventory.put(2, STONE, 1);
+        inventory.put(5, STONE, 1);
+        InventorySlotIndex.Cursor<FakeStack> cursor = cursor(inventory, STONE);
+
+        assertEquals(2, cursor.nextSlot());
+        inventory.get(2).count = 0;
+        assertEquals(5, cursor.nextSlot());
+        inventory.get(5).count = 0;
+
+        // Picked up after the index was built, in a slot the first scan saw empty
+        inventory.put(0, STONE, 3);
+        assertEquals(0, cursor.nextSlot());
+        assertEquals(3, cursor.totalCount());
+        inventory.get(0).count = 0;
+        assertEquals(-1, cursor.nextSlot());
+    }
+
+    @Test
+    void emptyHandIsRefilledAcrossSeveralStacks() {
+        FakeInventory inventory = new FakeInventory(9);
+        inventory.put(1, STONE, 30);
+        inventory.put(3, DIRT, 64);
+        inventory.put(4, STONE, 20);
+        inventory.put(6, STONE, 20);
+        InventorySlotIndex.Cursor<FakeStack> cursor = cursor(inventory, STONE);
+
+        FakeStack held = cursor.pullIntoHand(Hand.MAIN_HAND);
+
+        assertSame(held, inventory.inHand(Hand.MAIN_HAND));
+        assertEquals(64, held.count);
+        assertEquals(0, inventory.get(1).count);
+        assertEquals(0, inventory.get(4).count);
+        assertEquals(6, inventory.get(6).count);
+        assertEquals(64, inventory.get(3).count);
+        assertEquals(6, cursor.nextSlot());
+    }
+
+    @Test
+    void topUpStopsAtTheMaxStackSize() {
+        FakeInventory inventory = new FakeInventory(9);
+        FakeStack held = new FakeStack(STONE, 60, 64);
+        inventory.hands.put(Hand.MAIN_HAND, held);
+        inventory.put(2, STONE, 10);
+        InventorySlotIndex.Cursor<FakeStack> cursor = cursor(inventory, STONE);
+
+        assertSame(held, cursor.pullIntoHand(Hand.MAIN_HAND));
+        assertEquals(64, held.count);
+        assertEquals(6, inventory.get(2).count);
+
+        // A full hand takes nothing more
+        assertSame(held, cursor.pullIntoHand(Hand.MAIN_HAND));
+        assertEquals(64, held.count);
+        assertEquals(6, inventory.get(2).count);
+    }
+
+    @Test
+    void handHoldingSomethingElseGetsAnotherMatchingStack() {
+        FakeInventory inventory = new FakeInventory(9);
+        inventory.hands.put(Hand.MAIN_HAND, new FakeStack(DIRT, 5, 64));
+        inventory.put(8, STONE, 2);
+        InventorySlotIndex.Cursor<FakeStack> cursor = cursor(inventory, STONE);
+
+        assertSame(inventory.get(8), cursor.pullIntoHand(Hand.MAIN_HAND));
+        assertEquals(DIRT, inventory.inHand(Hand.MAIN_HAND).item);
+
+        inventory.get(8).count = 0;
+        assertNull(cursor.pullIntoHand(Hand.MAIN_HAND));
+    }
+
+    private static InventorySlotIndex.Cursor<FakeStack> cursor(FakeInventory inventory, String item) {
+        return new InventorySlotIndex.Cursor<>(inventory, stack -> stack.count > 0 && stack.item.equals(item));
+    }
+
+    private static final class FakeStack {
+        final String item;
+        final int maxCount;
+        int count;
+
+        FakeStack(String item, int count, int maxCount) {
+            this.item = item;
+            this.count = count;
+            this.maxCount = maxCount;
+        }
+    }
+
+    private static final class FakeInventory implements InventorySlotIndex.Slots<FakeStack> {
+        private final FakeStack[] stacks;
+        private final Map<Hand, FakeStack> hands = new EnumMap<>(Hand.class);
+
+        FakeInventory(int size) {
+            stacks = new FakeStack[size];
+            for (int i = 0; i < size; i++) {
+                stacks[i] = empty();
+            }
+            hands.put(Hand.MAIN_HAND, empty());
+            hands.put(Hand.OFF_HAND, empty());
+        }
+
+        void put(int slot, String item, int count) {
+            stacks[slot] = new FakeStack(item, count, 64);
+        }
+
+        private static FakeStack empty() {
+            return new FakeStack("air", 0, 64);
+        }
+
+        @Override
+        public int size() {
+            return stacks.length;
+        }
+
+        @Override
+        public FakeStack get(int slot) {
+            return stacks[slot];
+        }
+
+        @Override
+        public void clear(int slot) {
+            stacks[slot] = empty();
+        }
+
+        @Override
+        public FakeStack inHand(Hand hand) {
+            return hands.get(hand);
+        }
+
+        @Override
+        public FakeStack moveToHand(int slot, Hand hand) {
+            FakeStack moved = new FakeStack(stacks[slot].item, stacks[slot].count, stacks[slot].maxCount);
+            stacks[slot] = empty();
+            hands.put(hand, moved);
+            return moved;
+        }
+
+        @Override
+        public boolean isEmpty(FakeStack stack) {
+            return stack.count <= 0;
+        }
+
+        @Override
+        public int count(FakeStack stack) {
+            return stack.count;
+        }
+
+        @Override
+        public int maxCount(FakeStack stack) {
+            return stack.maxCount;
+        }
+
+        @Override
+        public void transfer(FakeStack from, FakeStack to, int amount) {
+            to.count += amount;
+            from.count -= amount;
+        }
+    }
+}
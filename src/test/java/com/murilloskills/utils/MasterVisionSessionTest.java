@@ -0,0 +1,143 @@
+package com.murilloskills.utils;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MasterVisionSessionTest {
+    private static final int RADIUS = 30;
+    private static final int MIN_SECTION_Y = -4;
+    private static final int MAX_SECTION_Y = 19;
+
+    @Test
+    void firstUpdateReportsEveryOreInTheCube() {
+        SyntheticOres world = SyntheticOres.random(1L, 400);
+        MasterVisionSession<Long> session = new MasterVisionSession<>();
+
+        MasterVisionSession.Delta<Long> delta = session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world);
+
+        assertEquals(world.inCube(0, 64, 0), new HashSet<>(delta.added()));
+        assertEquals(0, delta.removed().length);
+    }
+
+    @Test
+    void standingStillWithoutChangesScansNothing() {
+        SyntheticOres world = SyntheticOres.random(2L, 400);
+        MasterVisionSession<Long> session = new MasterVisionSession<>();
+        session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world);
+        world.scans = 0;
+
+        MasterVisionSession.Delta<Long> delta = session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world);
+
+        assertTrue(delta.isEmpty());
+        assertEquals(0, world.scans);
+    }
+
+    @Test
+    void changedBlockRescansOnlyItsSection() {
+        SyntheticOres world = SyntheticOres.random(3L, 400);
+        MasterVisionSession<Long> session = new MasterVisionSession<>();
+        session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world);
+        long mined = world.inCube(0, 64, 0).iterator().next();
+        long placed = BlockPos.asLong(5, 60, -7);
+        world.ores.remove(mined);
+        world.ores.add(placed);
+        session.markBlockChanged(BlockPos.unpackLongX(mined), BlockPos.unpackLongY(mined), BlockPos.unpackLongZ(mined));
+        session.markBlockChanged(5, 60, -7);
+        world.scans = 0;
+
+        MasterVisionSession.Delta<Long> delta = session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world);
+
+        assertTrue(world.scans <= 2, "rescanned " + world.scans + " sections");
+        assertEquals(List.of(placed), delta.added());
+        assertEquals(1, delta.removed().length);
+        assertEquals(mined, delta.removed()[0]);
+    }
+
+    @Test
+    void movingScansOnlyNewSectionsAndMatchesAFullScan() {
+        SyntheticOres world = SyntheticOres.random(4L, 2000);
+        MasterVisionSession<Long> session = new MasterVisionSession<>();
+        int firstScan = session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world).sectionsScanned();
+        Set<Long> shown = new HashSet<>(world.inCube(0, 64, 0));
+
+        for (int x = 1; x <= 40; x++) {
+            world.scans = 0;
+            MasterVisionSession.Delta<Long> delta = session.update(x, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y,
+                    world);
+            for (long pos : delta.removed()) {
+                assertTrue(shown.remove(pos));
+            }
+            shown.addAll(delta.added());
+            assertEquals(world.inCube(x, 64, 0), shown, "client view diverged at x=" + x);
+            assertTrue(world.scans < firstScan, "step " + x + " rescanned " + world.scans + " sections");
+        }
+    }
+
+    @Test
+    void unloadedSectionsAreRetriedUntilTheyLoad() {
+        SyntheticOres world = SyntheticOres.random(5L, 400);
+        world.unloadedChunkX = 1;
+        MasterVisionSession<Long> session = new MasterVisionSession<>();
+        session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world);
+
+        world.unloadedChunkX = Integer.MIN_VALUE;
+        MasterVisionSession.Delta<Long> delta = session.update(0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, world);
+
+        for (long pos : delta.added()) {
+            assertEquals(1, BlockPos.unpackLongX(pos) >> 4);
+        }
+        assertEquals(world.inCube(0, 64, 0), new HashSet<>(session.getVisible()));
+    }
+
+    private static final class SyntheticOres implements MasterVisionSession.SectionScan<Long> {
+        private final Set<Long> ores = new HashSet<>();
+        private int unloadedChunkX = Integer.MIN_VALUE;
+        private int scans = 0;
+
+        static SyntheticOres random(long seed, int count) {
+            Random random = new Random(seed);
+            SyntheticOres world = new SyntheticOres();
+            for (int i = 0; i < count; i++) {
+                world.ores.add(BlockPos.asLong(random.nextInt(160) - 60, random.nextInt(120) + 4,
+                        random.nextInt(120) - 60));
+            }
+            return world;
+        }
+
+        Set<Long> inCube(int cx, int cy, int cz) {
+            Set<Long> result = new HashSet<>();
+            for (long pos : ores) {
+                if (Math.abs(BlockPos.unpackLongX(pos) - cx) <= RADIUS && Math.abs(BlockPos.unpackLongY(pos) - cy) <= RADIUS
+                        && Math.abs(BlockPos.unpackLongZ(pos) - cz) <= RADIUS) {
+                    result.add(pos);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean scan(int sectionX, int sectionY, int sectionZ, MasterVisionSession.OreSink<Long> sink) {
+            scans++;
+            if (sectionX == unloadedChunkX) {
+                return false;
+            }
+            for (long pos : ores) {
+                int x = BlockPos.unpackLongX(pos);
+                int y = BlockPos.unpackLongY(pos);
+                int z = BlockPos.unpackLongZ(pos);
+                if (x >> 4 == sectionX && y >> 4 == sectionY && z >> 4 == sectionZ) {
+                    sink.accept(x, y, z, pos);
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.core.compat.CrossModCompatRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the Miner side of a block break: one read from the precomputed
+ * table must count the same XP kinds and flags as the old path, which built
+ * the registry id string and ran the identity chain plus substring checks on
+ * every break. Runs without a Minecraft bootstrap on a synthetic block
+ * registry.
+ */
+class MinerBlockTableTest {
+    private static final int BREAKS = 20_000;
+    private static final String[] VANILLA_ORES = {
+            "coal", "copper", "iron", "gold", "lapis", "redstone", "diamond", "emerald"
+    };
+
+    @Test
+    void vanillaBlocksKeepTheirXpKinds() {
+        assertEquals(MinerBlockTable.XpKind.STONE, MinerBlockTable.classifyXp("minecraft:cobbled_deepslate"));
+        assertEquals(MinerBlockTable.XpKind.DIAMOND, MinerBlockTable.classifyXp("minecraft:deepslate_diamond_ore"));
+        assertEquals(MinerBlockTable.XpKind.NETHER_GOLD, MinerBlockTable.classifyXp("minecraft:nether_gold_ore"));
+        assertEquals(MinerBlockTable.XpKind.ANCIENT_DEBRIS, MinerBlockTable.classifyXp("minecraft:ancient_debris"));
+        assertEquals(MinerBlockTable.XpKind.MODDED_ORE, MinerBlockTable.classifyXp("techreborn:bauxite_ore"));
+        assertEquals(MinerBlockTable.XpKind.MODDED_ORE, MinerBlockTable.classifyXp("minecraft:raw_iron_block"));
+        assertEquals(MinerBlockTable.XpKind.NONE, MinerBlockTable.classifyXp("minecraft:deepslate_bricks"));
+        assertEquals(MinerBlockTable.XpKind.NONE, MinerBlockTable.classifyXp("minecraft:iron_block"));
+    }
+
+    @Test
+    void flagsMatchTheOldSubstringRules() {
+        for (String id : registryIds()) {
+            int entry = MinerBlockTable.classify(id);
+            assertEquals(id.contains("_ore") || id.contains("ancient_debris"),
+                    MinerBlockTable.hasFlag(entry, MinerBlockTable.ORE), id);
+            assertEquals(id.contains("deepslate"), MinerBlockTable.hasFlag(entry, MinerBlockTable.DEEPSLATE), id);
+            assertEquals(id.contains("diamond_ore"), MinerBlockTable.hasFlag(entry, MinerBlockTable.DIAMOND_ORE), id);
+            assertEquals(id.contains("emerald_ore"), MinerBlockTable.hasFlag(entry, MinerBlockTable.EMERALD_ORE), id);
+            boolean detectable = MinerBlockTable.kindOf(entry).isOre()
+                    || CrossModCompatRules.isRawResourceBlockId(id) || MinerXpGetter.isLikelyOreId(id);
+            assertEquals(detectable, MinerBlockTable.hasFlag(entry, MinerBlockTable.DETECTABLE_ORE), id);
+        }
+        assertTrue(MinerBlockTable.hasFlag(MinerBlockTable.classify("minecraft:raw_gold_block"),
+                MinerBlockTable.RAW_RESOURCE));
+        assertFalse(MinerBlockTable.hasFlag(MinerBlockTable.classify("minecraft:stone"),
+                MinerBlockTable.DETECTABLE_ORE));
+    }
+
+    @Test
+    void tableLookupCountsTheSameBreaksAsTheOldPath() {
+        List<String> ids = registryIds();
+        SyntheticBlock[] blocks = syntheticBlocks(ids);
+        Map<SyntheticBlock, Integer> table = MinerBlockTable.build(List.of(blocks), SyntheticBlock::idString);
+        SyntheticBlock[] vanillaOres = vanillaOreBlocks(blocks);
+
+        // Mining-heavy mix: mostly stone/deepslate, some ores, the rest anything in the registry
+        Random random = new Random(8L);
+        SyntheticBlock[] breaks = new SyntheticBlock[BREAKS];
+        for (int i = 0; i < BREAKS; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 60) {
+                breaks[i] = blocks[random.nextInt(4)];
+            } else if (roll < 80) {
+                breaks[i] = vanillaOres[random.nextInt(vanillaOres.length)];
+            } else {
+                breaks[i] = blocks[random.nextInt(blocks.length)];
+            }
+        }
+
+        long[] before = oldPath(breaks, blocks, vanillaOres);
+        long[] after = tablePath(breaks, table);
+        for (int i = 0; i < before.length; i++) {
+            assertEquals(before[i], after[i], "counter " + i);
+        }
+    }
+
+    @Test
+    void remappedRawIdsKeepEveryBlocksEntry() {
+        List<SyntheticBlock> registry = new ArrayList<>(List.of(syntheticBlocks(registryIds())));
+        Map<SyntheticBlock, Integer> table = MinerBlockTable.build(registry, SyntheticBlock::idString);
+        int[] byRawId = new int[registry.size()];
+        for (SyntheticBlock block : registry) {
+            byRawId[block.rawId] = table.get(block);
+        }
+
+        // Registry sync on a modded server hands the same blocks new raw ids
+        Collections.shuffle(registry, new Random(80L));
+        int staleRawIds = 0;
+        for (int rawId = 0; rawId < registry.size(); rawId++) {
+            SyntheticBlock block = registry.get(rawId);
+            block.rawId = rawId;
+            int expected = MinerBlockTable.classify(block.idString());
+            assertEquals(expected, table.get(block), block.idString());
+            if (byRawId[rawId] != expected) {
+                staleRawIds++;
+            }
+        }
+        // A table indexed by the old raw ids would now answer for the wrong blocks
+        assertTrue(staleRawIds > 0);
+    }
+
+    /** Counters: XP-gaining breaks, total kind ordinal, ore, deepslate, diamond, emerald. */
+    private static long[] oldPath(SyntheticBlock[] breaks, SyntheticBlock[] blocks, SyntheticBlock[] vanillaOres) {
+        long[] counters = new long[6];
+        for (SyntheticBlock block : breaks) {
+            MinerBlockTable.XpKind kind = oldXpKind(block, blocks, vanillaOres);
+            if (kind == MinerBlockTable.XpKind.NONE) {
+                continue;
+            }
+            counters[0]++;
+            counters[1] += kind.ordinal();
+            String blockId = block.idString();
+            if (blockId.contains("_ore") || blockId.contains("ancient_debris")) {
+                counters[2]++;
+            }
+            if (blockId.contains("deepslate")) {
+                counters[3]++;
+            }
+            if (blockId.contains("diamond_ore")) {
+                counters[4]++;
+            }
+            if (blockId.contains("emerald_ore")) {
+                counters[5]++;
+            }
+        }
+        return counters;
+    }
+
+    private static long[] tablePath(SyntheticBlock[] breaks, Map<SyntheticBlock, Integer> table) {
+        long[] counters = new long[6];
+        for (SyntheticBlock block : breaks) {
+            int entry = table.get(block);
+            MinerBlockTable.XpKind kind = MinerBlockTable.kindOf(entry);
+            if (kind == MinerBlockTable.XpKind.NONE) {
+                continue;
+            }
+            counters[0]++;
+            counters[1] += kind.ordinal();
+            if (MinerBlockTable.hasFlag(entry, MinerBlockTable.ORE)) {
+                counters[2]++;
+            }
+            if (MinerBlockTable.hasFlag(entry, MinerBlockTable.DEEPSLATE)) {
+                counters[3]++;
+            }
+            if (MinerBlockTable.hasFlag(entry, MinerBlockTable.DIAMOND_ORE)) {
+                counters[4]++;
+            }
+            if (MinerBlockTable.hasFlag(entry, MinerBlockTable.EMERALD_ORE)) {
+                counters[5]++;
+            }
+        }
+        return counters;
+    }
+
+    /** The old identity chain: stone blocks, then two blocks per vanilla ore, then the id fallback. */
+    private static MinerBlockTable.XpKind oldXpKind(SyntheticBlock block, SyntheticBlock[] blocks,
+            SyntheticBlock[] vanillaOres) {
+        for (int i = 0; i < 4; i++) {
+            if (block == blocks[i]) {
+                return MinerBlockTable.XpKind.STONE;
+            }
+        }
+        for (int i = 0; i < vanillaOres.length; i++) {
+            if (block == vanillaOres[i]) {
+                return MinerBlockTable.XpKind.values()[MinerBlockTable.XpKind.COAL.ordinal() + i / 2];
+            }
+        }
+        if (CrossModCompatRules.isOreResourceId(block.idString())) {
+            return MinerBlockTable.XpKind.MODDED_ORE;
+        }
+        return MinerBlockTable.XpKind.NONE;
+    }
+
+    private static SyntheticBlock[] vanillaOreBlocks(SyntheticBlock[] blocks) {
+        List<String> ids = new ArrayList<>();
+        for (String ore : VANILLA_ORES) {
+            ids.add("minecraft:" + ore + "_ore");
+            ids.add("minecraft:deepslate_" + ore + "_ore");
+        }
+        ids.add("minecraft:ancient_debris");
+        ids.add("minecraft:ancient_debris");
+        ids.add("minecraft:nether_quartz_ore");
+        ids.add("minecraft:nether_quartz_ore");
+        ids.add("minecraft:nether_gold_ore");
+        ids.add("minecraft:nether_gold_ore");
+        SyntheticBlock[] result = new SyntheticBlock[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            for (SyntheticBlock block : blocks) {
+                if (block.idString().equals(ids.get(i))) {
+                    result[i] = block;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static SyntheticBlock[] syntheticBlocks(List<String> ids) {
+        SyntheticBlock[] blocks = new SyntheticBlock[ids.size()];
+        for (int rawId = 0; rawId < ids.size(); rawId++) {
+            String id = ids.get(rawId);
+            int separator = id.indexOf(':');
+            blocks[rawId] = new SyntheticBlock(rawId, id.substring(0, separator), id.substring(separator + 1));
+        }
+        return blocks;
+    }
+
+    /** Stone blocks first, then vanilla ores, then filler and modded blocks. */
+    private static List<String> registryIds() {
+        List<String> ids = new ArrayList<>(List.of("minecraft:stone", "minecraft:deepslate",
+                "minecraft:cobblestone", "minecraft:cobbled_deepslate"));
+        for (String ore : VANILLA_ORES) {
+            ids.add("minecraft:" + ore + "_ore");
+            ids.add("minecraft:deepslate_" + ore + "_ore");
+        }
+        ids.addAll(List.of("minecraft:ancient_debris", "minecraft:nether_quartz_ore", "minecraft:nether_gold_ore",
+                "minecraft:raw_iron_block", "minecraft:raw_copper_block", "minecraft:raw_gold_block",
+                "minecraft:deepslate_bricks", "minecraft:iron_block", "minecraft:amethyst_cluster"));
+        String[] materials = { "oak", "spruce", "granite", "andesite", "tuff", "basalt", "blackstone", "quartz" };
+        String[] shapes = { "planks", "stairs", "slab", "wall", "fence", "door", "bricks", "pillar" };
+        for (int i = 0; i < 900; i++) {
+            ids.add("minecraft:" + materials[i % materials.length] + "_" + shapes[(i / 8) % shapes.length] + "_" + i);
+        }
+        String[] modded = { "techreborn:bauxite_ore", "techreborn:deepslate_tin_ore", "create:zinc_ore",
+                "mekanism:osmium_ore", "ae2:quartz_cluster", "create:raw_zinc_block", "toms_storage:inventory_connector",
+                "create:andesite_casing" };
+        ids.addAll(List.of(modded));
+        return ids;
+    }
+
+    private static final class SyntheticBlock {
+        private int rawId;
+        private final String namespace;
+        private final String path;
+
+        private SyntheticBlock(int rawId, String namespace, String path) {
+            this.rawId = rawId;
+            this.namespace = namespace;
+            this.path = path;
+        }
+
+        /** Builds a fresh string each call, like {@code Identifier#toString()}. */
+        private String idString() {
+            return namespace + ":" + path;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.murilloskills.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the palette-skipping section walk against the per-position cube
+ * walk that Miner master vision used: same ores, far fewer block probes.
+ * Runs on a synthetic world so it needs no Minecraft bootstrap.
+ */
+class OreSectionScannerTest {
+    private static final int RADIUS = 30;
+    private static final int MIN_SECTION_Y = -4;
+    private static final int MAX_SECTION_Y = 19;
+
+    @Test
+    void sectionScanFindsTheSameOresWithFarFewerProbes() {
+        SyntheticWorld world = SyntheticWorld.withOreSections(42L, 0.12, 3);
+        int cx = 8;
+        int cy = 12;
+        int cz = -5;
+
+        Set<Long> expected = new HashSet<>();
+        long naiveProbes = naiveScan(world, cx, cy, cz, expected);
+
+        Set<Long> actual = new HashSet<>();
+        long sectionProbes = OreSectionScanner.scanCube(world, cx, cy, cz, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y,
+                (x, y, z) -> actual.add(key(x, y, z)));
+
+        assertEquals(expected, actual);
+        assertEquals((long) Math.pow(2 * RADIUS + 1, 3), naiveProbes);
+        assertTrue(sectionProbes * 2 < naiveProbes,
+                "section scan probed " + sectionProbes + " blocks vs " + naiveProbes);
+    }
+
+    @Test
+    void emptyPalettesCostNoBlockProbes() {
+        SyntheticWorld world = SyntheticWorld.withOreSections(7L, 0.0, 0);
+        long probes = OreSectionScanner.scanCube(world, 0, 64, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y,
+                (x, y, z) -> true);
+        assertEquals(0L, probes);
+    }
+
+    @Test
+    void visitorCanStopTheScanEarly() {
+        SyntheticWorld world = SyntheticWorld.withOreSections(42L, 0.5, 8);
+        int[] hits = { 0 };
+        OreSectionScanner.scanCube(world, 0, 0, 0, RADIUS, MIN_SECTION_Y, MAX_SECTION_Y, (x, y, z) -> ++hits[0] < 5);
+        assertEquals(5, hits[0]);
+    }
+
+    private static long naiveScan(SyntheticWorld world, int cx, int cy, int cz, Set<Long> hits) {
+        long probes = 0;
+        for (int dx = -RADIUS; dx <= RADIUS; dx++) {
+            for (int dy = -RADIUS; dy <= RADIUS; dy++) {
+                for (int dz = -RADIUS; dz <= RADIUS; dz++) {
+                    int x = cx + dx;
+                    int y = cy + dy;
+                    int z = cz + dz;
+                    probes++;
+                    if (world.isOreAt(x, y, z)) {
+                        hits.add(key(x, y, z));
+                    }
+                }
+            }
+        }
+        return probes;
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | ((long) y & 0xFFF);
+    }
+
+    private static final class SyntheticWorld implements OreSectionScanner.SectionSource {
+        private final Map<Long, Section> sections = new HashMap<>();
+
+        static SyntheticWorld withOreSections(long seed, double oreSectionChance, int oresPerSection) {
+            Random random = new Random(seed);
+            SyntheticWorld world = new SyntheticWorld();
+            for (int sx = -4; sx <= 4; sx++) {
+                for (int sz = -4; sz <= 4; sz++) {
+                    for (int sy = MIN_SECTION_Y; sy <= MAX_SECTION_Y; sy++) {
+                        Section section = new Section();
+                        if (random.nextDouble() < oreSectionChance) {
+                            for (int i = 0; i < oresPerSection; i++) {
+                                section.ores[random.nextInt(4096)] = true;
+                                section.hasOre = true;
+                            }
+                        }
+                        world.sections.put(key(sx, sy, sz), section);
+                    }
+                }
+            }
+            return world;
+        }
+
+        boolean isOreAt(int x, int y, int z) {
+            Section section = sections.get(key(x >> 4, y >> 4, z >> 4));
+            return section != null && section.matches(x & 15, y & 15, z & 15);
+        }
+
+        @Override
+        public OreSectionScanner.SectionView get(int sectionX, int sectionY, int sectionZ) {
+            return sections.get(key(sectionX, sectionY, sectionZ));
+        }
+    }
+
+    private static final class Section implements OreSectionScanner.SectionView {
+        private final boolean[] ores = new boolean[4096];
+        private boolean hasOre;
+
+        @Override
+        public boolean mayContainMatch() {
+            return hasOre;
+        }
+
+        @Override
+        public boolean matches(int localX, int localY, int localZ) {
+            return ores[(localY << 8) | (localZ << 4) | localX];
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.config.ModConfig;
+import com.murilloskills.data.PlayerSkillData;
+import com.murilloskills.network.SkillsDeltaS2CPayload;
+import com.murilloskills.network.SkillsSyncPayload;
+import com.murilloskills.skills.MurilloSkillsList;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketByteBuf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the skill sync traffic of a mining session: one full
+ * {@link SkillsSyncPayload} per XP-granting break (the old behaviour) against
+ * one {@link SkillsDeltaS2CPayload} per tick with changes. Payloads are
+ * encoded for real and their sizes compared.
+ */
+class SkillSyncBandwidthTest {
+    private static final int TICKS_PER_SECOND = 20;
+    private static final int SECONDS = 120;
+    private static final int MAX_SELECTED = 3;
+
+    @BeforeEach
+    void resetConfig() {
+        try {
+            Field configField = ModConfig.class.getDeclaredField("config");
+            configField.setAccessible(true);
+            configField.set(null, new ModConfig.ConfigData());
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to initialize ModConfig for test", e);
+        }
+    }
+
+    @Test
+    void unchangedStateProducesAnEmptyDelta() {
+        PlayerSkillData data = miner();
+        SkillSyncTracker.SkillState first = SkillSyncTracker.SkillState.capture(data, MAX_SELECTED);
+        SkillSyncTracker.SkillState second = SkillSyncTracker.SkillState.capture(data, MAX_SELECTED);
+
+        assertTrue(second.diff(first, 1, 2).isEmpty());
+    }
+
+    @Test
+    void deltaCarriesOnlyTheChangedFields() {
+        PlayerSkillData data = miner();
+        SkillSyncTracker.SkillState before = SkillSyncTracker.SkillState.capture(data, MAX_SELECTED);
+        data.getSkill(MurilloSkillsList.MINER).xp += 7;
+        data.getSkill(MurilloSkillsList.WARRIOR).lastAbilityUse = 12_345L;
+        data.markDirty();
+
+        SkillsDeltaS2CPayload delta = roundTrip(
+                SkillSyncTracker.SkillState.capture(data, MAX_SELECTED).diff(before, 4, 5));
+
+        assertEquals(4, delta.baseVersion());
+        assertEquals(5, delta.version());
+        assertEquals(2, delta.skills().size());
+        SkillsDeltaS2CPayload.SkillChange miner = delta.skills().get(0);
+        assertEquals(MurilloSkillsList.MINER, miner.skill());
+        assertEquals(SkillsDeltaS2CPayload.XP, miner.mask());
+        assertEquals(data.getSkill(MurilloSkillsList.MINER).xp, miner.xp());
+        SkillsDeltaS2CPayload.SkillChange warrior = delta.skills().get(1);
+        assertEquals(SkillsDeltaS2CPayload.LAST_ABILITY_USE, warrior.mask());
+        assertEquals(12_345L, warrior.lastAbilityUse());
+        assertNull(delta.paragonSkills());
+        assertNull(delta.selectedSkills());
+        assertEquals(-1, delta.maxSelectedSkills());
+    }
+
+    @Test
+    void selectionAndParagonChangesAreSent() {
+        PlayerSkillData data = miner();
+        SkillSyncTracker.SkillState before = SkillSyncTracker.SkillState.capture(data, MAX_SELECTED);
+        data.activateParagonSkill(MurilloSkillsList.MINER);
+        data.setSelectedSkills(List.of(MurilloSkillsList.FARMER));
+
+        SkillsDeltaS2CPayload delta = roundTrip(
+                SkillSyncTracker.SkillState.capture(data, MAX_SELECTED + 1).diff(before, 1, 2));
+
+        assertEquals("MINER", delta.paragonSkillName());
+        assertEquals(List.of(MurilloSkillsList.MINER), delta.paragonSkills());
+        assertEquals(data.selectedSkills, delta.selectedSkills());
+        assertEquals(MAX_SELECTED + 1, delta.maxSelectedSkills());
+    }
+
+    @Test
+    void miningSessionSendsFarFewerBytes() {
+        PlayerSkillData data = miner();
+        Random random = new Random(12L);
+        SkillSyncTracker.SkillState sent = SkillSyncTracker.SkillState.capture(data, MAX_SELECTED);
+        int version = 1;
+
+        long oldBytes = 0;
+        long newBytes = 0;
+        int oldPackets = 0;
+        int newPackets = 0;
+        for (int tick = 0; tick < TICKS_PER_SECOND * SECONDS; tick++) {
+            // A block every 4 ticks with an efficiency pickaxe, plus a 12-ore vein every 5 seconds
+            int breaks = tick % 4 == 0 ? 1 : 0;
+            boolean vein = tick % (5 * TICKS_PER_SECOND) == 0;
+            for (int i = 0; i < breaks; i++) {
+                data.addXpToSkill(MurilloSkillsList.MINER, 1 + random.nextInt(3));
+                oldBytes += fullSize(data, version);
+                oldPackets++;
+            }
+            if (vein) {
+                for (int i = 0; i < 12; i++) {
+                    data.addXpToSkill(MurilloSkillsList.MINER, 8);
+                }
+                // The vein already ran inside a batch: one full sync at its end
+                oldBytes += fullSize(data, version);
+                oldPackets++;
+            }
+            if (breaks == 0 && !vein) {
+                continue;
+            }
+
+            SkillSyncTracker.SkillState current = SkillSyncTracker.SkillState.capture(data, MAX_SELECTED);
+            SkillsDeltaS2CPayload delta = current.diff(sent, version, version + 1);
+            if (!delta.isEmpty()) {
+                newBytes += sizeOf(delta);
+                newPackets++;
+                version++;
+                sent = current;
+            }
+        }
+
+        assertTrue(newPackets <= oldPackets);
+        assertTrue(newBytes * 3 < oldBytes, "deltas should be a fraction of the full snapshots");
+    }
+
+    private static PlayerSkillData miner() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.setSelectedSkills(List.of(MurilloSkillsList.MINER, MurilloSkillsList.WARRIOR));
+        data.setSkill(MurilloSkillsList.MINER, 42, 120.0, -1L, 1);
+        data.setSkill(MurilloSkillsList.WARRIOR, 17, 30.0, 4_000L, 0);
+        return data;
+    }
+
+    private static int fullSize(PlayerSkillData data, int version) {
+        SkillsSyncPayload payload = SkillSyncTracker.SkillState.capture(data, MAX_SELECTED).toFullPayload(version);
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        SkillsSyncPayload.write(buf, payload);
+        return buf.readableBytes() + channelOverhead(SkillsSyncPayload.ID.id().toString());
+    }
+
+    private static int sizeOf(SkillsDeltaS2CPayload payload) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        SkillsDeltaS2CPayload.write(buf, payload);
+        return buf.readableBytes() + channelOverhead(SkillsDeltaS2CPayload.ID.id().toString());
+    }
+
+    /** Packet id plus the channel identifier every custom payload carries. */
+    private static int channelOverhead(String channel) {
+        return 1 + 1 + channel.length();
+    }
+
+    private static SkillsDeltaS2CPayload roundTrip(SkillsDeltaS2CPayload payload) {
+        PacketByteBuf buf = new PacketByteBuf(Unpooled.buffer());
+        SkillsDeltaS2CPayload.write(buf, payload);
+        return SkillsDeltaS2CPayload.read(buf);
+    }
+}
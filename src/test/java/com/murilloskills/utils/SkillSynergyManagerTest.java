@@ -0,0 +1,139 @@
+package com.murilloskills.utils;
+
+import com.murilloskills.config.ModConfig;
+import com.murilloskills.data.PlayerSkillData;
+import com.murilloskills.skills.MurilloSkillsList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the compiled synergy table against the per-call {@code containsAll}
+ * scan it replaces, for every selection and through the per-player lookup.
+ * Runs without a Minecraft bootstrap.
+ */
+class SkillSynergyManagerTest {
+    private static final MurilloSkillsList[] SKILLS = MurilloSkillsList.values();
+
+    @BeforeEach
+    void resetConfig() {
+        setConfig(new ModConfig.ConfigData());
+        bumpGeneration();
+    }
+
+    @Test
+    void tableMatchesTheScanForEverySelection() {
+        SkillSynergyManager.SynergyTable table = SkillSynergyManager.table();
+        for (int mask = 0; mask < 1 << SKILLS.length; mask++) {
+            Set<MurilloSkillsList> selected = skillsOf(mask);
+            assertEquals(SkillSynergyManager.selectionMask(selected), mask);
+            assertEquals(oldActive(selected), table.active(mask), "mask " + mask);
+            for (SkillSynergyManager.SynergyType type : SkillSynergyManager.SynergyType.values()) {
+                assertEquals(oldTotalBonus(selected, type), table.bonus(mask, type), "mask " + mask + " " + type);
+            }
+        }
+    }
+
+    @Test
+    void playerLookupFollowsSelectionAndConfigReload() {
+        PlayerSkillData data = new PlayerSkillData();
+        assertTrue(SkillSynergyManager.getActiveSynergies(data).isEmpty());
+
+        data.setSelectedSkills(List.of(MurilloSkillsList.BUILDER, MurilloSkillsList.BLACKSMITH));
+        float crafting = SkillSynergyManager.getTotalBonus(data, SkillSynergyManager.SynergyType.CRAFTING_EFFICIENCY);
+        assertEquals(SkillConfig.getSynergyMasterCrafter(), crafting);
+        assertSame(SkillSynergyManager.getActiveSynergies(data), SkillSynergyManager.getActiveSynergies(data));
+
+        // setSelectedSkills only adds; dropping a skill goes through the list and markDirty()
+        data.selectedSkills.remove(MurilloSkillsList.BLACKSMITH);
+        data.markDirty();
+        float withoutBlacksmith = SkillSynergyManager.getTotalBonus(data,
+                SkillSynergyManager.SynergyType.CRAFTING_EFFICIENCY);
+        assertNotEquals(crafting, withoutBlacksmith);
+        assertEquals(oldTotalBonus(Set.of(MurilloSkillsList.BUILDER),
+                SkillSynergyManager.SynergyType.CRAFTING_EFFICIENCY), withoutBlacksmith);
+
+        data.setSelectedSkills(List.of(MurilloSkillsList.BLACKSMITH));
+        ModConfig.ConfigData stronger = new ModConfig.ConfigData();
+        stronger.synergies.masterCrafter *= 2;
+        setConfig(stronger);
+        bumpGeneration();
+        float reloaded = SkillSynergyManager.getTotalBonus(data, SkillSynergyManager.SynergyType.CRAFTING_EFFICIENCY);
+        assertEquals(SkillConfig.getSynergyMasterCrafter(), reloaded);
+        assertEquals(crafting * 2, reloaded, 1e-6f);
+    }
+
+    @Test
+    void craftingBonusOfThreeSkillsMatchesTheScan() {
+        PlayerSkillData data = new PlayerSkillData();
+        data.setSelectedSkills(List.of(MurilloSkillsList.BUILDER, MurilloSkillsList.BLACKSMITH,
+                MurilloSkillsList.MINER));
+        SkillSynergyManager.SynergyType type = SkillSynergyManager.SynergyType.CRAFTING_EFFICIENCY;
+
+        assertEquals(oldTotalBonus(new HashSet<>(data.getSelectedSkills()), type),
+                SkillSynergyManager.getTotalBonus(data, type));
+    }
+
+    // --- The per-call scan SkillSynergyManager did before the table ---
+
+    private static List<SkillSynergyManager.SkillSynergy> oldActive(Set<MurilloSkillsList> selected) {
+        List<SkillSynergyManager.SkillSynergy> active = new ArrayList<>();
+        for (SkillSynergyManager.SkillSynergy synergy : SkillSynergyManager.getAll()) {
+            if (selected.containsAll(synergy.requiredSkills())) {
+                active.add(synergy);
+            }
+        }
+        return active;
+    }
+
+    private static float oldTotalBonus(Set<MurilloSkillsList> selected, SkillSynergyManager.SynergyType type) {
+        float total = 0f;
+        for (SkillSynergyManager.SkillSynergy synergy : oldActive(selected)) {
+            if (synergy.type() == type) {
+                total += synergy.bonusMultiplier();
+            }
+        }
+        return total;
+    }
+
+    private static Set<MurilloSkillsList> skillsOf(int mask) {
+        Set<MurilloSkillsList> skills = new HashSet<>();
+        for (MurilloSkillsList skill : SKILLS) {
+            if ((mask & (1 << skill.ordinal())) != 0) {
+                skills.add(skill);
+            }
+        }
+        return skills;
+    }
+
+    private static void setConfig(ModConfig.ConfigData config) {
+        try {
+            Field configField = ModConfig.class.getDeclaredField("config");
+            configField.setAccessible(true);
+            configField.set(null, config);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to initialize ModConfig for test", e);
+        }
+    }
+
+    /** Stands in for {@link ModConfig#load()}, which needs the Fabric loader. */
+    private static void bumpGeneration() {
+        try {
+            Field generationField = ModConfig.class.getDeclaredField("generation");
+            generationField.setAccessible(true);
+            generationField.setInt(null, generationField.getInt(null) + 1);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to bump the config generation", e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.murilloskills.utils;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreasureScanJobTest {
+    private static final int RADIUS = 128;
+
+    @Test
+    void findsTreasuresAcrossTheFullRadiusNearestFirst() {
+        SyntheticChunks world = SyntheticChunks.random(11L, 40, RADIUS);
+        TreasureScanJob job = new TreasureScanJob(0, 64, 0, RADIUS, 100);
+
+        while (!job.advance(32, world)) {
+            // keep going
+        }
+
+        List<Long> expected = world.distancesInCube(0, 64, 0, RADIUS);
+        List<Long> actual = distances(job.getResults(), 0, 64, 0);
+        assertEquals(expected, actual);
+        assertTrue(actual.get(actual.size() - 1) > 100L * 100L, "farthest hit should be well beyond the old limit");
+    }
+
+    @Test
+    void denseAreasStopOnceTheClosestHitsAreKnown() {
+        SyntheticChunks world = SyntheticChunks.random(12L, 2000, RADIUS);
+        TreasureScanJob job = new TreasureScanJob(0, 64, 0, RADIUS, 100);
+
+        while (!job.advance(8, world)) {
+            // keep going
+        }
+
+        List<Long> all = world.distancesInCube(0, 64, 0, RADIUS);
+        assertEquals(all.subList(0, 100), distances(job.getResults(), 0, 64, 0));
+        assertTrue(job.getChunksVisited() < job.getChunkCount(),
+                "visited " + job.getChunksVisited() + " of " + job.getChunkCount() + " chunks");
+    }
+
+    @Test
+    void largeRadiusIsSpreadOverSeveralCalls() {
+        SyntheticChunks world = SyntheticChunks.random(13L, 10, RADIUS);
+        TreasureScanJob job = new TreasureScanJob(0, 64, 0, RADIUS, 100);
+
+        assertFalse(job.advance(32, world));
+        assertEquals(32, job.getChunksVisited());
+        int calls = 1;
+        while (!job.advance(32, world)) {
+            calls++;
+        }
+        assertEquals(job.getChunkCount(), job.getChunksVisited());
+        assertTrue(calls > 5, "took " + calls + " calls");
+    }
+
+    @Test
+    void startTickIsRecorded() {
+        TreasureScanJob job = new TreasureScanJob(0, 64, 0, RADIUS, 100);
+        assertFalse(job.wasStartedIn(1_000L));
+
+        job.startedAt(1_000L);
+        assertTrue(job.wasStartedIn(1_000L));
+        assertFalse(job.wasStartedIn(1_001L));
+    }
+
+    @Test
+    void positionsOutsideTheCubeAreIgnored() {
+        SyntheticChunks world = new SyntheticChunks();
+        world.add(5, 64, 5);
+        world.add(5, 64 + 20, 5);
+        TreasureScanJob job = new TreasureScanJob(0, 64, 0, 10, 100);
+
+        while (!job.advance(4, world)) {
+            // keep going
+        }
+
+        assertEquals(List.of(new BlockPos(5, 64, 5)), job.getResults());
+    }
+
+    private static List<Long> distances(List<BlockPos> positions, int cx, int cy, int cz) {
+        List<Long> result = new ArrayList<>();
+        for (BlockPos pos : positions) {
+            result.add(distanceSq(pos.getX(), pos.getY(), pos.getZ(), cx, cy, cz));
+        }
+        return result;
+    }
+
+    private static long distanceSq(int x, int y, int z, int cx, int cy, int cz) {
+        long dx = x - cx;
+        long dy = y - cy;
+        long dz = z - cz;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX & 0xFFFFFFFFL) | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    private static final class SyntheticChunks implements TreasureScanJob.ChunkSource {
+        private final Map<Long, List<int[]>> chunks = new HashMap<>();
+        private final List<int[]> all = new ArrayList<>();
+
+        static SyntheticChunks random(long seed, int count, int spread) {
+            Random random = new Random(seed);
+            SyntheticChunks world = new SyntheticChunks();
+            for (int i = 0; i < count; i++) {
+                world.add(random.nextInt(2 * spread + 1) - spread, random.nextInt(120) + 4,
+                        random.nextInt(2 * spread + 1) - spread);
+            }
+            return world;
+        }
+
+        void add(int x, int y, int z) {
+            int[] pos = { x, y, z };
+            all.add(pos);
+            chunks.computeIfAbsent(chunkKey(x >> 4, z >> 4), ignored -> new ArrayList<>())
+                    .add(pos);
+        }
+
+        List<Long> distancesInCube(int cx, int cy, int cz, int radius) {
+            List<Long> result = new ArrayList<>();
+            for (int[] pos : all) {
+                if (Math.abs(pos[0] - cx) <= radius && Math.abs(pos[1] - cy) <= radius
+                        && Math.abs(pos[2] - cz) <= radius) {
+                    result.add(distanceSq(pos[0], pos[1], pos[2], cx, cy, cz));
+                }
+            }
+            result.sort(null);
+            return result.size() > 100 ? result.subList(0, 100) : result;
+        }
+
+        @Override
+        public void visit(int chunkX, int chunkZ, TreasureScanJob.PositionSink sink) {
+            List<int[]> positions = chunks.get(chunkKey(chunkX, chunkZ));
+            if (positions != null) {
+                for (int[] pos : positions) {
+                    sink.accept(pos[0], pos[1], pos[2]);
+                }
+            }
+        }
+    }
+}